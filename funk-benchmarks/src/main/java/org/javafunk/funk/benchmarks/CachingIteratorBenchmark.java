@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.iterators.FilteredIterator;
+import org.javafunk.funk.iterators.PredicatedIterator;
+import org.javafunk.funk.iterators.SubSequenceIterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import static org.javafunk.funk.benchmarks.Functions.even;
+
+/**
+ * Compares the sentinel based termination of the {@code CachingIterator}
+ * subclasses against an exception terminated baseline. On short sequences
+ * the cost of exhausting the iterator dominates; on long ones it should
+ * disappear into the noise.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CachingIteratorBenchmark {
+    @Param({"0", "1", "4", "16", "1000", "100000"})
+    public int size;
+
+    private Iterable<Integer> input;
+
+    @Setup
+    public void setUp() {
+        input = Sources.ARRAY_LIST.of(size);
+    }
+
+    @Benchmark
+    public void filteredIterator(Blackhole blackhole) {
+        consume(new FilteredIterator<Integer>(input.iterator(), even()), blackhole);
+    }
+
+    @Benchmark
+    public void filteredIteratorExceptionTerminated(Blackhole blackhole) {
+        consume(new ExceptionTerminatedFilteredIterator<Integer>(input.iterator(), even()), blackhole);
+    }
+
+    @Benchmark
+    public void predicatedIterator(Blackhole blackhole) {
+        consume(new PredicatedIterator<Integer>(input.iterator(), Functions.<Integer>always()), blackhole);
+    }
+
+    @Benchmark
+    public void subSequenceIterator(Blackhole blackhole) {
+        consume(new SubSequenceIterator<Integer>(input.iterator(), 0, size, 2), blackhole);
+    }
+
+    private static void consume(Iterator<?> iterator, Blackhole blackhole) {
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+}
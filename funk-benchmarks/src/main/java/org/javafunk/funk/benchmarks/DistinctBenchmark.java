@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.Distinctness;
+import org.javafunk.funk.Lazily;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures deduplication of a nearly sorted feed of the specified number of
+ * strings, each repeated up to three times within a few positions of its
+ * first occurrence, with each {@code Lazily.distinct} strategy and
+ * {@code Lazily.distinctAdjacent} against materialising the feed into a
+ * {@code LinkedHashSet}. Run with the GC profiler to compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DistinctBenchmark {
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private List<String> feed;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(24);
+        feed = new ArrayList<String>(size);
+        int next = 0;
+        while (feed.size() < size) {
+            String element = "element-" + next++;
+            int copies = 1 + random.nextInt(3);
+            for (int copy = 0; copy < copies && feed.size() < size; copy++) {
+                feed.add(element);
+            }
+        }
+        for (int index = 1; index < size; index += 2) {
+            if (random.nextInt(4) == 0) {
+                String swapped = feed.get(index);
+                feed.set(index, feed.get(index - 1));
+                feed.set(index - 1, swapped);
+            }
+        }
+    }
+
+    @Benchmark
+    public int exact() {
+        return count(Lazily.distinct(feed));
+    }
+
+    @Benchmark
+    public int withinLast() {
+        return count(Lazily.distinct(feed, Distinctness.withinLast(16)));
+    }
+
+    @Benchmark
+    public int approximate() {
+        return count(Lazily.distinct(feed, Distinctness.approximate(size, 0.001)));
+    }
+
+    @Benchmark
+    public int adjacent() {
+        return count(Lazily.distinctAdjacent(feed));
+    }
+
+    @Benchmark
+    public int linkedHashSet() {
+        Set<String> distinct = new LinkedHashSet<String>(feed);
+        return count(distinct);
+    }
+
+    private static int count(Iterable<String> iterable) {
+        int count = 0;
+        for (String ignored : iterable) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.Eagerly;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.javafunk.funk.benchmarks.Functions.GROUPS;
+import static org.javafunk.funk.benchmarks.Functions.doubling;
+import static org.javafunk.funk.benchmarks.Functions.even;
+import static org.javafunk.funk.benchmarks.Functions.modulo;
+import static org.javafunk.funk.benchmarks.Functions.summing;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EagerlyBenchmark {
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"ARRAY_LIST", "LINKED_LIST", "LAZY_CHAIN"})
+    public Sources source;
+
+    private Iterable<Integer> input;
+
+    @Setup
+    public void setUp() {
+        input = source.of(size);
+    }
+
+    @Benchmark
+    public Collection<Integer> map() {
+        return Eagerly.map(input, doubling());
+    }
+
+    @Benchmark
+    public Collection<Integer> mapByHand() {
+        List<Integer> result = new ArrayList<Integer>();
+        for (Integer element : input) {
+            result.add(element * 2);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Collection<Integer> filter() {
+        return Eagerly.filter(input, even());
+    }
+
+    @Benchmark
+    public Collection<Integer> filterByHand() {
+        List<Integer> result = new ArrayList<Integer>();
+        for (Integer element : input) {
+            if (element % 2 == 0) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Long reduce() {
+        return Eagerly.reduce(input, 0L, summing());
+    }
+
+    @Benchmark
+    public long reduceByHand() {
+        long result = 0L;
+        for (Integer element : input) {
+            result += element;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<Integer, Collection<Integer>> group() {
+        return Eagerly.group(input, modulo());
+    }
+
+    @Benchmark
+    public Map<Integer, Collection<Integer>> groupByHand() {
+        Map<Integer, Collection<Integer>> result = new HashMap<Integer, Collection<Integer>>();
+        for (Integer element : input) {
+            Integer key = element % GROUPS;
+            Collection<Integer> group = result.get(key);
+            if (group == null) {
+                group = new ArrayList<Integer>();
+                result.put(key, group);
+            }
+            group.add(element);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Collection<Collection<Integer>> batch() {
+        return Eagerly.batch(input, BATCH_SIZE);
+    }
+
+    @Benchmark
+    public Collection<Collection<Integer>> batchByHand() {
+        List<Collection<Integer>> result = new ArrayList<Collection<Integer>>();
+        List<Integer> current = new ArrayList<Integer>(BATCH_SIZE);
+        for (Integer element : input) {
+            current.add(element);
+            if (current.size() == BATCH_SIZE) {
+                result.add(current);
+                current = new ArrayList<Integer>(BATCH_SIZE);
+            }
+        }
+        if (!current.isEmpty()) {
+            result.add(current);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A copy of {@code FilteredIterator} as it was when {@code CachingIterator}
+ * detected exhaustion by catching the {@code NoSuchElementException} thrown
+ * from {@code findNext()}. Kept only as a baseline for
+ * {@link CachingIteratorBenchmark}.
+ */
+class ExceptionTerminatedFilteredIterator<T> implements Iterator<T> {
+    private final Iterator<? extends T> iterator;
+    private final UnaryPredicate<? super T> predicate;
+    private boolean hasMatch = false;
+    private T match;
+
+    ExceptionTerminatedFilteredIterator(Iterator<? extends T> iterator, UnaryPredicate<? super T> predicate) {
+        this.iterator = iterator;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (hasMatch) {
+            return true;
+        }
+        try {
+            match = findNext();
+            hasMatch = true;
+            return true;
+        } catch (NoSuchElementException exception) {
+            return false;
+        }
+    }
+
+    @Override
+    public T next() {
+        if (hasMatch) {
+            hasMatch = false;
+            return match;
+        }
+        return findNext();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private T findNext() {
+        while (iterator.hasNext()) {
+            T next = iterator.next();
+            if (predicate.evaluate(next)) {
+                return next;
+            }
+        }
+        throw new NoSuchElementException();
+    }
+}
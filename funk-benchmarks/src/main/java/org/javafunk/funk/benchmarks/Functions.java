@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.functors.Indexer;
+import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.Predicate;
+import org.javafunk.funk.functors.Reducer;
+import org.javafunk.funk.functors.functions.BinaryFunction;
+
+public class Functions {
+    private Functions() {}
+
+    public static final int GROUPS = 16;
+
+    public static Mapper<Integer, Integer> doubling() {
+        return new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                return input * 2;
+            }
+        };
+    }
+
+    public static Predicate<Integer> even() {
+        return new Predicate<Integer>() {
+            @Override public boolean evaluate(Integer input) {
+                return input % 2 == 0;
+            }
+        };
+    }
+
+    public static <T> Predicate<T> always() {
+        return new Predicate<T>() {
+            @Override public boolean evaluate(T input) {
+                return true;
+            }
+        };
+    }
+
+    public static Reducer<Integer, Long> summing() {
+        return new Reducer<Integer, Long>() {
+            @Override public Long accumulate(Long accumulator, Integer element) {
+                return accumulator + element;
+            }
+        };
+    }
+
+    public static Indexer<Integer, Integer> modulo() {
+        return new Indexer<Integer, Integer>() {
+            @Override public Integer index(Integer item) {
+                return item % GROUPS;
+            }
+        };
+    }
+
+    public static BinaryFunction<Integer, Integer, Integer> adding() {
+        return new BinaryFunction<Integer, Integer, Integer>() {
+            @Override public Integer call(Integer first, Integer second) {
+                return first + second;
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+
+import java.util.List;
+
+/**
+ * A copy of the multiset algebra in {@code Multisets} as it was when each
+ * input was counted into a {@code HashMultiset} of its own. Kept only as a
+ * baseline for {@link MultisetsBenchmark}.
+ */
+class HashMultisets {
+    private HashMultisets() {}
+
+    static <T> Multiset<T> concatenate(List<? extends Iterable<? extends T>> iterables) {
+        Multiset<T> concatenatedMultiset = HashMultiset.create(iterables.get(0));
+        for (Iterable<? extends T> iterable : iterables.subList(1, iterables.size())) {
+            for (T element : iterable) {
+                concatenatedMultiset.add(element);
+            }
+        }
+        return concatenatedMultiset;
+    }
+
+    static <T> Multiset<T> union(List<? extends Iterable<? extends T>> iterables) {
+        Multiset<T> unionMultiset = HashMultiset.create(iterables.get(0));
+        for (Iterable<? extends T> iterable : iterables.subList(1, iterables.size())) {
+            Multiset<T> currentMultiset = HashMultiset.create(iterable);
+            for (T element : currentMultiset.elementSet()) {
+                int numberInCurrentMultiset = currentMultiset.count(element);
+                if (unionMultiset.count(element) < numberInCurrentMultiset) {
+                    unionMultiset.setCount(element, numberInCurrentMultiset);
+                }
+            }
+        }
+        return unionMultiset;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.iterators.FilteredIterator;
+import org.javafunk.funk.iterators.MappedIterator;
+import org.javafunk.funk.iterators.SubSequenceIterator;
+import org.javafunk.funk.iterators.ZippedIterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.javafunk.funk.benchmarks.Functions.doubling;
+import static org.javafunk.funk.benchmarks.Functions.even;
+import static org.javafunk.funk.functors.adapters.MapperUnaryFunctionAdapter.mapperUnaryFunction;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IteratorsBenchmark {
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"ARRAY_LIST", "LINKED_LIST", "LAZY_CHAIN"})
+    public Sources source;
+
+    private Iterable<Integer> input;
+    private Iterable<Integer> otherInput;
+
+    @Setup
+    public void setUp() {
+        input = source.of(size);
+        otherInput = source.of(size);
+    }
+
+    @Benchmark
+    public void filteredIterator(Blackhole blackhole) {
+        consume(new FilteredIterator<Integer>(input.iterator(), even()), blackhole);
+    }
+
+    @Benchmark
+    public void mappedIterator(Blackhole blackhole) {
+        consume(new MappedIterator<Integer, Integer>(input.iterator(), mapperUnaryFunction(doubling())), blackhole);
+    }
+
+    @Benchmark
+    public void subSequenceIterator(Blackhole blackhole) {
+        consume(new SubSequenceIterator<Integer>(input.iterator(), size / 4, 3 * size / 4, 2), blackhole);
+    }
+
+    @Benchmark
+    public void zippedIterator(Blackhole blackhole) {
+        consume(new ZippedIterator(asList(input.iterator(), otherInput.iterator())), blackhole);
+    }
+
+    @Benchmark
+    public void rawIterator(Blackhole blackhole) {
+        consume(input.iterator(), blackhole);
+    }
+
+    private static void consume(Iterator<?> iterator, Blackhole blackhole) {
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+}
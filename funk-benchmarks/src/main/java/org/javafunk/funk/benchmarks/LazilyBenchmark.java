@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.Lazily;
+import org.javafunk.funk.Pipeline;
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.functors.Action;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import static org.javafunk.funk.Literals.tuple;
+import static org.javafunk.funk.benchmarks.Functions.adding;
+import static org.javafunk.funk.benchmarks.Functions.doubling;
+import static org.javafunk.funk.benchmarks.Functions.even;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LazilyBenchmark {
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"ARRAY_LIST", "LINKED_LIST", "LAZY_CHAIN"})
+    public Sources source;
+
+    private Iterable<Integer> input;
+    private Iterable<Integer> otherInput;
+    private Iterable<Integer> dimension;
+
+    @Setup
+    public void setUp() {
+        input = source.of(size);
+        otherInput = source.of(size);
+        dimension = source.of((int) Math.sqrt(size));
+    }
+
+    @Benchmark
+    public void map(Blackhole blackhole) {
+        consume(Lazily.map(input, doubling()), blackhole);
+    }
+
+    @Benchmark
+    public void mapByHand(Blackhole blackhole) {
+        for (Integer element : input) {
+            blackhole.consume(element * 2);
+        }
+    }
+
+    @Benchmark
+    public void filter(Blackhole blackhole) {
+        consume(Lazily.filter(input, even()), blackhole);
+    }
+
+    @Benchmark
+    public void filterByHand(Blackhole blackhole) {
+        for (Integer element : input) {
+            if (element % 2 == 0) {
+                blackhole.consume(element);
+            }
+        }
+    }
+
+    @Benchmark
+    public void zip(Blackhole blackhole) {
+        consume(Lazily.zip(input, otherInput), blackhole);
+    }
+
+    @Benchmark
+    public void zipByHand(Blackhole blackhole) {
+        Iterator<Integer> first = input.iterator();
+        Iterator<Integer> second = otherInput.iterator();
+        while (first.hasNext() && second.hasNext()) {
+            blackhole.consume(tuple(first.next(), second.next()));
+        }
+    }
+
+    @Benchmark
+    public void zipWith(Blackhole blackhole) {
+        consume(Lazily.zipWith(input, otherInput, adding()), blackhole);
+    }
+
+    @Benchmark
+    public void zipWithByHand(Blackhole blackhole) {
+        Iterator<Integer> first = input.iterator();
+        Iterator<Integer> second = otherInput.iterator();
+        while (first.hasNext() && second.hasNext()) {
+            blackhole.consume(first.next() + second.next());
+        }
+    }
+
+    @Benchmark
+    public void cartesianProduct(Blackhole blackhole) {
+        consume(Lazily.cartesianProduct(dimension, dimension), blackhole);
+    }
+
+    @Benchmark
+    public void cartesianProductByHand(Blackhole blackhole) {
+        for (Integer first : dimension) {
+            for (Integer second : dimension) {
+                blackhole.consume(tuple(first, second));
+            }
+        }
+    }
+
+    @Benchmark
+    public void slice(Blackhole blackhole) {
+        consume(Lazily.slice(input, size / 4, 3 * size / 4, 2), blackhole);
+    }
+
+    @Benchmark
+    public void sliceByHand(Blackhole blackhole) {
+        int index = 0;
+        for (Integer element : input) {
+            if (index >= 3 * size / 4) {
+                break;
+            }
+            if (index >= size / 4 && (index - size / 4) % 2 == 0) {
+                blackhole.consume(element);
+            }
+            index++;
+        }
+    }
+
+    @Benchmark
+    public void chain(Blackhole blackhole) {
+        consume(Lazily.take(Lazily.map(Lazily.filter(input, even()), doubling()), size / 4), blackhole);
+    }
+
+    @Benchmark
+    public void chainPipelined(final Blackhole blackhole) {
+        Pipeline.from(input).filter(even()).map(doubling()).take(size / 4).each(new Action<Integer>() {
+            @Override public void on(Integer element) {
+                blackhole.consume(element);
+            }
+        });
+    }
+
+    @Benchmark
+    public void chainByHand(Blackhole blackhole) {
+        int taken = 0;
+        for (Integer element : input) {
+            if (taken >= size / 4) {
+                break;
+            }
+            if (element % 2 == 0) {
+                blackhole.consume(element * 2);
+                taken++;
+            }
+        }
+    }
+
+    private static void consume(Iterable<?> iterable, Blackhole blackhole) {
+        for (Object element : iterable) {
+            blackhole.consume(element);
+        }
+    }
+}
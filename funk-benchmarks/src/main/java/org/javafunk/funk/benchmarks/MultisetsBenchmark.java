@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import com.google.common.collect.Multiset;
+import org.javafunk.funk.Multisets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures term frequency style merges with {@code Multisets} against the
+ * copy of its former implementation in {@link HashMultisets}. Each of four
+ * documents holds the specified number of tokens drawn from a Zipf-like
+ * vocabulary of a tenth as many distinct terms. Run with the GC profiler to
+ * compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MultisetsBenchmark {
+    @Param({"10000", "1000000"})
+    public int tokens;
+
+    private List<List<String>> documents;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(20);
+        int vocabulary = Math.max(1, tokens / 10);
+        documents = new ArrayList<List<String>>();
+        for (int document = 0; document < 4; document++) {
+            List<String> words = new ArrayList<String>(tokens);
+            for (int token = 0; token < tokens; token++) {
+                words.add("term-" + (int) (vocabulary * Math.pow(random.nextDouble(), 3)));
+            }
+            documents.add(words);
+        }
+    }
+
+    @Benchmark
+    public Multiset<String> concatenate() {
+        return Multisets.concatenate(documents);
+    }
+
+    @Benchmark
+    public Multiset<String> concatenateHashMultisets() {
+        return HashMultisets.concatenate(documents);
+    }
+
+    @Benchmark
+    public Multiset<String> union() {
+        return Multisets.union(documents);
+    }
+
+    @Benchmark
+    public Multiset<String> unionHashMultisets() {
+        return HashMultisets.union(documents);
+    }
+}
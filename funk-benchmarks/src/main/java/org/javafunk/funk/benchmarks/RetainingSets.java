@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import com.google.common.collect.Multiset;
+import org.javafunk.funk.Multisets;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.javafunk.funk.Literals.collectionFrom;
+import static org.javafunk.funk.Literals.listFrom;
+
+/**
+ * A copy of the set algebra in {@code Sets} as it was before it chose its
+ * strategy from its inputs: intersections copy the first input and retain
+ * copies of the others, and symmetric differences count every element in a
+ * multiset. Kept only as a baseline for {@link SetsBenchmark}.
+ */
+class RetainingSets {
+    private RetainingSets() {}
+
+    static <T> Set<T> union(List<? extends Iterable<? extends T>> iterables) {
+        Set<T> unionSet = new HashSet<T>();
+        for (Iterable<? extends T> iterable : iterables) {
+            unionSet.addAll(collectionFrom(iterable));
+        }
+        return unionSet;
+    }
+
+    static <T> Set<T> intersection(List<? extends Iterable<? extends T>> iterables) {
+        Set<T> intersectionSet = new HashSet<T>(collectionFrom(iterables.get(0)));
+        for (Iterable<? extends T> iterable : iterables.subList(1, iterables.size())) {
+            intersectionSet.retainAll(collectionFrom(iterable));
+        }
+        return intersectionSet;
+    }
+
+    static <T> Set<T> difference(List<? extends Iterable<? extends T>> iterables) {
+        Set<T> differenceSet = new HashSet<T>(listFrom(iterables.get(0)));
+        differenceSet.removeAll(union(iterables.subList(1, iterables.size())));
+        return differenceSet;
+    }
+
+    static <T> Set<T> symmetricDifference(List<? extends Iterable<? extends T>> iterables) {
+        Multiset<T> unionMultiset = Multisets.concatenate(iterables);
+        Set<T> symmetricDifferenceSet = new HashSet<T>();
+        for (T element : unionMultiset.elementSet()) {
+            if (unionMultiset.count(element) % 2 == 1) {
+                symmetricDifferenceSet.add(element);
+            }
+        }
+        return symmetricDifferenceSet;
+    }
+}
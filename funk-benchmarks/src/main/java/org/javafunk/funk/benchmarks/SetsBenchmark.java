@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.Sets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Measures the set algebra in {@code Sets} against the copy of its former
+ * implementation in {@link RetainingSets}, over two large inputs of the
+ * specified size which share the specified fraction of their elements and a
+ * third input a tenth of that size spread across both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SetsBenchmark {
+    public enum Inputs {
+        INTEGER_HASH_SETS {
+            @Override Collection<Object> of(List<Integer> elements) {
+                return new HashSet<Object>(elements);
+            }
+        },
+        INTEGER_TREE_SETS {
+            @Override Collection<Object> of(List<Integer> elements) {
+                return new TreeSet<Object>(elements);
+            }
+        },
+        INTEGER_LISTS {
+            @Override Collection<Object> of(List<Integer> elements) {
+                return new ArrayList<Object>(elements);
+            }
+        },
+        STRING_HASH_SETS {
+            @Override Collection<Object> of(List<Integer> elements) {
+                Set<Object> strings = new HashSet<Object>();
+                for (Integer element : elements) {
+                    strings.add("element-" + element);
+                }
+                return strings;
+            }
+        };
+
+        abstract Collection<Object> of(List<Integer> elements);
+    }
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"0.1", "0.5", "0.9"})
+    public double overlap;
+
+    @Param
+    public Inputs inputs;
+
+    private List<Collection<Object>> operands;
+
+    @Setup
+    public void setUp() {
+        int offset = (int) (size * (1 - overlap));
+        List<Integer> first = new ArrayList<Integer>(size);
+        List<Integer> second = new ArrayList<Integer>(size);
+        List<Integer> third = new ArrayList<Integer>(size / 10);
+        for (int i = 0; i < size; i++) {
+            first.add(i);
+            second.add(offset + i);
+        }
+        for (int i = 0; i < size + offset; i += 10) {
+            third.add(i);
+        }
+        operands = asList(inputs.of(first), inputs.of(second), inputs.of(third));
+    }
+
+    @Benchmark
+    public Set<Object> union() {
+        return Sets.union(operands);
+    }
+
+    @Benchmark
+    public Set<Object> unionRetaining() {
+        return RetainingSets.union(operands);
+    }
+
+    @Benchmark
+    public Set<Object> intersection() {
+        return Sets.intersection(operands);
+    }
+
+    @Benchmark
+    public Set<Object> intersectionRetaining() {
+        return RetainingSets.intersection(operands);
+    }
+
+    @Benchmark
+    public Set<Object> difference() {
+        return Sets.difference(operands);
+    }
+
+    @Benchmark
+    public Set<Object> differenceRetaining() {
+        return RetainingSets.difference(operands);
+    }
+
+    @Benchmark
+    public Set<Object> symmetricDifference() {
+        return Sets.symmetricDifference(operands);
+    }
+
+    @Benchmark
+    public Set<Object> symmetricDifferenceRetaining() {
+        return RetainingSets.symmetricDifference(operands);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import com.google.common.collect.Ordering;
+import org.javafunk.funk.Eagerly;
+import org.javafunk.funk.Lazily;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.javafunk.funk.Codecs.integerCodec;
+
+/**
+ * Measures merging the specified number of sorted shards of 1,000,000
+ * integers in total with {@code Lazily.mergeSorted} against concatenating and
+ * sorting them, and sorting the shuffled integers with
+ * {@code Lazily.externalSort} in runs of 100,000 against sorting them in
+ * memory with {@code Eagerly.sort}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SortBenchmark {
+    private static final int SIZE = 1000000;
+
+    @Param({"4", "64"})
+    public int shards;
+
+    private List<Integer> shuffled;
+    private List<List<Integer>> sortedShards;
+
+    @Setup
+    public void setUp() {
+        shuffled = new ArrayList<Integer>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            shuffled.add(i);
+        }
+        Collections.shuffle(shuffled, new Random(23));
+        sortedShards = new ArrayList<List<Integer>>();
+        int shardSize = SIZE / shards;
+        for (int from = 0; from < SIZE; from += shardSize) {
+            List<Integer> shard = new ArrayList<Integer>(shuffled.subList(from, Math.min(from + shardSize, SIZE)));
+            Collections.sort(shard);
+            sortedShards.add(shard);
+        }
+    }
+
+    @Benchmark
+    public long mergeSorted() {
+        long sum = 0;
+        for (Integer element : Lazily.mergeSorted(sortedShards)) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long concatenateAndSort() {
+        List<Integer> all = new ArrayList<Integer>(SIZE);
+        for (List<Integer> shard : sortedShards) {
+            all.addAll(shard);
+        }
+        Collections.sort(all);
+        long sum = 0;
+        for (Integer element : all) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long externalSort() {
+        long sum = 0;
+        for (Integer element : Lazily.externalSort(shuffled, Ordering.<Integer>natural(), integerCodec(), 100000)) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sortInMemory() {
+        long sum = 0;
+        for (Integer element : Eagerly.sort(shuffled)) {
+            sum += element;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.Lazily;
+import org.javafunk.funk.datastructures.IntegerRange;
+import org.javafunk.funk.functors.Mapper;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+public enum Sources {
+    ARRAY_LIST {
+        @Override public Iterable<Integer> of(int size) {
+            return fill(new ArrayList<Integer>(size), size);
+        }
+    },
+    LINKED_LIST {
+        @Override public Iterable<Integer> of(int size) {
+            return fill(new LinkedList<Integer>(), size);
+        }
+    },
+    LAZY_CHAIN {
+        @Override public Iterable<Integer> of(int size) {
+            return Lazily.map(new IntegerRange(0, size), new Mapper<Integer, Integer>() {
+                @Override public Integer map(Integer input) {
+                    return input;
+                }
+            });
+        }
+    };
+
+    public abstract Iterable<Integer> of(int size);
+
+    private static List<Integer> fill(List<Integer> list, int size) {
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import com.google.common.collect.Ordering;
+import org.javafunk.funk.Eagerly;
+import org.javafunk.funk.Lazily;
+import org.javafunk.funk.Parallelly;
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.javafunk.funk.Literals.tuple;
+
+/**
+ * Measures selection of the greatest elements of a shuffled list of the
+ * specified size with {@code Eagerly.top}, {@code Lazily.sortedTop} and
+ * {@code Parallelly.top} against sorting a copy of the list and taking its
+ * head, and the single pass {@code Eagerly.minMax} against separate calls to
+ * {@code min} and {@code max}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TopBenchmark {
+    @Param({"100000", "1000000"})
+    public int size;
+
+    @Param({"10", "1000"})
+    public int k;
+
+    private List<Integer> elements;
+
+    @Setup
+    public void setUp() {
+        elements = new ArrayList<Integer>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add(i);
+        }
+        Collections.shuffle(elements, new Random(22));
+    }
+
+    @Benchmark
+    public List<Integer> top() {
+        return Eagerly.top(elements, k);
+    }
+
+    @Benchmark
+    public Integer sortedTopFirst() {
+        return Lazily.sortedTop(elements, k).iterator().next();
+    }
+
+    @Benchmark
+    public List<Integer> parallelTop() {
+        return Parallelly.top(elements, k, Ordering.<Integer>natural());
+    }
+
+    @Benchmark
+    public List<Integer> sortAndTake() {
+        List<Integer> sorted = new ArrayList<Integer>(elements);
+        Collections.sort(sorted, Collections.<Integer>reverseOrder());
+        return new ArrayList<Integer>(sorted.subList(0, Math.min(k, sorted.size())));
+    }
+
+    @Benchmark
+    public Pair<Integer, Integer> minMax() {
+        return Eagerly.minMax(elements);
+    }
+
+    @Benchmark
+    public Pair<Integer, Integer> minMaxWithComparator() {
+        return Eagerly.minMax(elements, Ordering.<Integer>natural());
+    }
+
+    @Benchmark
+    public Pair<Integer, Integer> minThenMax() {
+        return tuple(Eagerly.min(elements), Eagerly.max(elements));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.datastructures.tuples.AbstractTuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.javafunk.funk.Literals.tuple;
+
+/**
+ * Measures {@code HashMap} workloads keyed by tuples, comparing the field by
+ * field {@code equals} and {@code hashCode} of the tuple classes against a
+ * baseline that iterates over {@code getValues()}. Lookups use keys that are
+ * equal to, but not the same instances as, the stored keys so that every hit
+ * goes through {@code equals}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TupleKeyedMapBenchmark {
+    @Param({"100", "10000"})
+    public int size;
+
+    @Param({"2", "3", "5"})
+    public int arity;
+
+    private List<AbstractTuple> keys;
+    private List<AbstractTuple> probes;
+    private List<ValueIteratingKey> valueIteratingKeys;
+    private List<ValueIteratingKey> valueIteratingProbes;
+    private Map<AbstractTuple, Integer> map;
+    private Map<ValueIteratingKey, Integer> valueIteratingMap;
+
+    @Setup
+    public void setUp() {
+        keys = tuples();
+        probes = tuples();
+        valueIteratingKeys = wrap(keys);
+        valueIteratingProbes = wrap(probes);
+        map = build(keys);
+        valueIteratingMap = build(valueIteratingKeys);
+    }
+
+    @Benchmark
+    public Map<AbstractTuple, Integer> build() {
+        return build(keys);
+    }
+
+    @Benchmark
+    public Map<ValueIteratingKey, Integer> buildValueIterating() {
+        return build(valueIteratingKeys);
+    }
+
+    @Benchmark
+    public void lookup(Blackhole blackhole) {
+        lookup(map, probes, blackhole);
+    }
+
+    @Benchmark
+    public void lookupValueIterating(Blackhole blackhole) {
+        lookup(valueIteratingMap, valueIteratingProbes, blackhole);
+    }
+
+    private List<AbstractTuple> tuples() {
+        List<AbstractTuple> tuples = new ArrayList<AbstractTuple>(size);
+        for (int i = 0; i < size; i++) {
+            tuples.add(tupleOfArity(i % 97, "key-" + i, i / 97, (long) i, i % 2 == 0, arity));
+        }
+        return tuples;
+    }
+
+    private static AbstractTuple tupleOfArity(Integer first, String second, Integer third, Long fourth, Boolean fifth, int arity) {
+        switch (arity) {
+            case 2:
+                return tuple(first, second);
+            case 3:
+                return tuple(first, second, third);
+            case 5:
+                return tuple(first, second, third, fourth, fifth);
+            default:
+                throw new IllegalArgumentException("Unsupported arity: " + arity);
+        }
+    }
+
+    private static List<ValueIteratingKey> wrap(List<AbstractTuple> tuples) {
+        List<ValueIteratingKey> keys = new ArrayList<ValueIteratingKey>(tuples.size());
+        for (AbstractTuple tuple : tuples) {
+            keys.add(new ValueIteratingKey(tuple));
+        }
+        return keys;
+    }
+
+    private static <K> Map<K, Integer> build(List<K> keys) {
+        Map<K, Integer> map = new HashMap<K, Integer>();
+        for (int i = 0; i < keys.size(); i++) {
+            map.put(keys.get(i), i);
+        }
+        return map;
+    }
+
+    private static <K> void lookup(Map<K, Integer> map, List<K> probes, Blackhole blackhole) {
+        for (K probe : probes) {
+            blackhole.consume(map.get(probe));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.javafunk.funk.datastructures.tuples.AbstractTuple;
+import org.javafunk.funk.datastructures.tuples.Pair;
+
+import static org.javafunk.funk.Lazily.zip;
+
+/**
+ * Wraps a tuple so that it is compared and hashed the way
+ * {@code AbstractTuple} did before each tuple class compared its own fields:
+ * by zipping the value iterables through an {@code EqualsBuilder} and folding
+ * them through a {@code HashCodeBuilder}. Kept only as a baseline for
+ * {@link TupleKeyedMapBenchmark}.
+ */
+final class ValueIteratingKey {
+    private final AbstractTuple tuple;
+
+    ValueIteratingKey(AbstractTuple tuple) {
+        this.tuple = tuple;
+    }
+
+    @Override public boolean equals(Object other) {
+        if (other == null) {
+            return false;
+        }
+        if (other == this) {
+            return true;
+        }
+        if (other.getClass() != getClass()) {
+            return false;
+        }
+        AbstractTuple otherTuple = ((ValueIteratingKey) other).tuple;
+        if (otherTuple.getClass() != tuple.getClass()) {
+            return false;
+        }
+
+        EqualsBuilder equalsBuilder = new EqualsBuilder();
+        for (Pair<Object, Object> values : zip(tuple.getValues(), otherTuple.getValues())) {
+            equalsBuilder.append(values.getFirst(), values.getSecond());
+        }
+        return equalsBuilder.isEquals();
+    }
+
+    @Override public int hashCode() {
+        HashCodeBuilder hashCodeBuilder = new HashCodeBuilder();
+        for (Object value : tuple.getValues()) {
+            hashCodeBuilder.append(value);
+        }
+        return hashCodeBuilder.toHashCode();
+    }
+}
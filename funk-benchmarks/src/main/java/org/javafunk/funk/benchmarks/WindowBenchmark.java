@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.Lazily;
+import org.javafunk.funk.iterators.BatchedIterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rolling sums over windows of the specified size, advancing one
+ * element at a time through 100,000 integers yielded by a plain
+ * {@code Iterable}, with {@code Lazily.window} and
+ * {@code Lazily.windowCopies} against copying each window into a fresh
+ * {@code ArrayList}, and batching a random access list with
+ * {@code Lazily.batch} against the copying {@code BatchedIterator}. Run with
+ * the GC profiler to compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WindowBenchmark {
+    private static final int SIZE = 100000;
+
+    @Param({"10", "100"})
+    public int windowSize;
+
+    private List<Integer> list;
+    private Iterable<Integer> stream;
+
+    @Setup
+    public void setUp() {
+        list = new ArrayList<Integer>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            list.add(i);
+        }
+        stream = new Iterable<Integer>() {
+            public Iterator<Integer> iterator() {
+                return list.iterator();
+            }
+        };
+    }
+
+    @Benchmark
+    public long window() {
+        return rollingSum(Lazily.window(stream, windowSize, 1));
+    }
+
+    @Benchmark
+    public long windowCopies() {
+        return rollingSum(Lazily.windowCopies(stream, windowSize, 1));
+    }
+
+    @Benchmark
+    public long copyEachWindow() {
+        long total = 0;
+        List<Integer> previous = new ArrayList<Integer>();
+        for (Integer element : stream) {
+            previous.add(element);
+            if (previous.size() > windowSize) {
+                previous.remove(0);
+            }
+            if (previous.size() == windowSize) {
+                List<Integer> window = new ArrayList<Integer>(previous);
+                for (Integer windowElement : window) {
+                    total += windowElement;
+                }
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long batch() {
+        long total = 0;
+        for (Iterable<Integer> batch : Lazily.batch(list, windowSize)) {
+            for (Integer element : batch) {
+                total += element;
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long batchCopying() {
+        long total = 0;
+        Iterator<Iterable<Integer>> batches = new BatchedIterator<Integer>(list.iterator(), windowSize);
+        while (batches.hasNext()) {
+            for (Integer element : batches.next()) {
+                total += element;
+            }
+        }
+        return total;
+    }
+
+    private static long rollingSum(Iterable<List<Integer>> windows) {
+        long total = 0;
+        for (List<Integer> window : windows) {
+            for (int index = 0; index < window.size(); index++) {
+                total += window.get(index);
+            }
+        }
+        return total;
+    }
+}
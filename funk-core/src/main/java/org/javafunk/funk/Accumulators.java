@@ -12,6 +12,7 @@ import org.javafunk.funk.functors.Reducer;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Comparator;
 
 public class Accumulators {
     private Accumulators() {}
@@ -111,4 +112,52 @@ public class Accumulators {
             }
         };
     }
+
+    public static <T> Reducer<T, Integer> integerCountingAccumulator() {
+        return new Reducer<T, Integer>() {
+            @Override public Integer accumulate(Integer accumulator, T element) {
+                return accumulator + 1;
+            }
+        };
+    }
+
+    public static <T> Reducer<T, Long> longCountingAccumulator() {
+        return new Reducer<T, Long>() {
+            @Override public Long accumulate(Long accumulator, T element) {
+                return accumulator + 1;
+            }
+        };
+    }
+
+    public static <T extends Comparable<? super T>> Reducer<T, T> maximumAccumulator() {
+        return new Reducer<T, T>() {
+            @Override public T accumulate(T accumulator, T element) {
+                return (accumulator == null || element.compareTo(accumulator) > 0) ? element : accumulator;
+            }
+        };
+    }
+
+    public static <T> Reducer<T, T> maximumAccumulator(final Comparator<? super T> comparator) {
+        return new Reducer<T, T>() {
+            @Override public T accumulate(T accumulator, T element) {
+                return (accumulator == null || comparator.compare(element, accumulator) > 0) ? element : accumulator;
+            }
+        };
+    }
+
+    public static <T extends Comparable<? super T>> Reducer<T, T> minimumAccumulator() {
+        return new Reducer<T, T>() {
+            @Override public T accumulate(T accumulator, T element) {
+                return (accumulator == null || element.compareTo(accumulator) < 0) ? element : accumulator;
+            }
+        };
+    }
+
+    public static <T> Reducer<T, T> minimumAccumulator(final Comparator<? super T> comparator) {
+        return new Reducer<T, T>() {
+            @Override public T accumulate(T accumulator, T element) {
+                return (accumulator == null || comparator.compare(element, accumulator) < 0) ? element : accumulator;
+            }
+        };
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+/**
+ * A fixed size set of bits recording the hash codes of the objects added to
+ * it, which can say that an object has certainly not been added or that it
+ * probably has. The number of bits and of hash functions are chosen so that,
+ * once the expected number of objects have been added, an object not yet added
+ * is mistaken for one that has been with about the specified probability.
+ * The hash functions are derived from {@code hashCode()}, so objects with
+ * equal hash codes are always mistaken for one another.
+ */
+class BloomFilter {
+    private static final double LN_2 = Math.log(2);
+
+    private final long[] words;
+    private final long bitCount;
+    private final int hashCount;
+
+    BloomFilter(long expectedElements, double falsePositiveRate) {
+        if (expectedElements <= 0) {
+            throw new IllegalArgumentException("Expected number of elements must be greater than zero.");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between zero and one.");
+        }
+        long bits = (long) Math.ceil(-expectedElements * Math.log(falsePositiveRate) / (LN_2 * LN_2));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+        this.words = new long[wordCount];
+        this.bitCount = 64L * wordCount;
+        this.hashCount = (int) Math.max(1, Math.round((double) bits / expectedElements * LN_2));
+    }
+
+    /**
+     * Records the supplied object, returning {@code true} if it had certainly
+     * not been recorded before and {@code false} if it probably had.
+     */
+    boolean add(Object object) {
+        long hash = mix(object == null ? 0 : object.hashCode());
+        long first = hash & 0xFFFFFFFFL;
+        long second = (hash >>> 32) | 1;
+        boolean added = false;
+        for (int function = 0; function < hashCount; function++) {
+            long bit = (first + function * second) % bitCount;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words[word] & mask) == 0) {
+                words[word] |= mask;
+                added = true;
+            }
+        }
+        return added;
+    }
+
+    boolean mightContain(Object object) {
+        long hash = mix(object == null ? 0 : object.hashCode());
+        long first = hash & 0xFFFFFFFFL;
+        long second = (hash >>> 32) | 1;
+        for (int function = 0; function < hashCount; function++) {
+            long bit = (first + function * second) % bitCount;
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    private static long mix(int hashCode) {
+        long z = hashCode * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
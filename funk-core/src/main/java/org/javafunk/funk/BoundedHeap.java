@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Retains the greatest elements offered to it, up to a fixed capacity, in a
+ * binary heap whose root is the least of the retained elements. Offering an
+ * element costs at most one comparison once the heap is full and the element
+ * is no greater than the root, and {@code O(log capacity)} otherwise. Which of
+ * several equal elements competing for the last places are retained is
+ * unspecified. Storage grows with the number of retained elements rather than
+ * being allocated up front for the full capacity.
+ */
+class BoundedHeap<T> {
+    private static final int INITIAL_STORAGE = 16;
+
+    private final int capacity;
+    private final Comparator<? super T> comparator;
+    private Object[] elements = new Object[0];
+    private int size = 0;
+
+    BoundedHeap(int capacity, Comparator<? super T> comparator) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Number of elements must not be negative.");
+        }
+        this.capacity = capacity;
+        this.comparator = comparator;
+    }
+
+    void offer(T element) {
+        if (size < capacity) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, (int) Math.min(capacity, Math.max(INITIAL_STORAGE, 2L * size)));
+            }
+            elements[size] = element;
+            siftUp(elements, size++, comparator);
+        } else if (capacity > 0 && comparator.compare(element, BoundedHeap.<T>elementAt(elements, 0)) > 0) {
+            elements[0] = element;
+            siftDown(elements, 0, size, comparator);
+        }
+    }
+
+    void offerAll(Iterable<? extends T> iterable) {
+        for (T element : iterable) {
+            offer(element);
+        }
+    }
+
+    void offerAll(BoundedHeap<? extends T> other) {
+        for (int index = 0; index < other.size; index++) {
+            offer(BoundedHeap.<T>elementAt(other.elements, index));
+        }
+    }
+
+    /**
+     * Returns the retained elements, greatest first.
+     */
+    List<T> toList() {
+        List<T> list = new ArrayList<T>(size);
+        Iterator<T> iterator = drain();
+        while (iterator.hasNext()) {
+            list.add(iterator.next());
+        }
+        return list;
+    }
+
+    /**
+     * Rearranges the retained elements into a heap whose root is the greatest,
+     * in linear time, and returns an iterator which removes them from it
+     * greatest first, so that each element yielded costs {@code O(log size)}.
+     * The heap is empty once the iterator is exhausted.
+     */
+    Iterator<T> drain() {
+        final Object[] heap = elements;
+        final Comparator<T> reversed = Collections.reverseOrder(BoundedHeap.<T>widen(comparator));
+        final int count = size;
+        for (int index = count / 2 - 1; index >= 0; index--) {
+            siftDown(heap, index, count, reversed);
+        }
+        elements = new Object[0];
+        size = 0;
+        return new Iterator<T>() {
+            private int remaining = count;
+
+            @Override public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override public T next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                T greatest = elementAt(heap, 0);
+                remaining--;
+                heap[0] = heap[remaining];
+                heap[remaining] = null;
+                siftDown(heap, 0, remaining, reversed);
+                return greatest;
+            }
+
+            @Override public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private static <T> void siftUp(Object[] heap, int index, Comparator<? super T> comparator) {
+        T element = elementAt(heap, index);
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            T parentElement = elementAt(heap, parent);
+            if (comparator.compare(element, parentElement) >= 0) {
+                break;
+            }
+            heap[index] = parentElement;
+            index = parent;
+        }
+        heap[index] = element;
+    }
+
+    private static <T> void siftDown(Object[] heap, int index, int size, Comparator<? super T> comparator) {
+        T element = elementAt(heap, index);
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            T childElement = elementAt(heap, child);
+            int right = child + 1;
+            if (right < size && comparator.compare(BoundedHeap.<T>elementAt(heap, right), childElement) < 0) {
+                child = right;
+                childElement = elementAt(heap, child);
+            }
+            if (comparator.compare(element, childElement) <= 0) {
+                break;
+            }
+            heap[index] = childElement;
+            index = child;
+        }
+        heap[index] = element;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Comparator<T> widen(Comparator<? super T> comparator) {
+        return (Comparator<T>) comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T elementAt(Object[] heap, int index) {
+        return (T) heap[index];
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.behaviours.Codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+public class Codecs {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private Codecs() {}
+
+    public static Codec<String> stringCodec() {
+        return new Codec<String>() {
+            @Override public void encode(String element, DataOutput output) throws IOException {
+                byte[] bytes = element.getBytes(UTF_8);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+
+            @Override public String decode(DataInput input) throws IOException {
+                byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                return new String(bytes, UTF_8);
+            }
+        };
+    }
+
+    public static Codec<Integer> integerCodec() {
+        return new Codec<Integer>() {
+            @Override public void encode(Integer element, DataOutput output) throws IOException {
+                output.writeInt(element);
+            }
+
+            @Override public Integer decode(DataInput input) throws IOException {
+                return input.readInt();
+            }
+        };
+    }
+
+    public static Codec<Long> longCodec() {
+        return new Codec<Long>() {
+            @Override public void encode(Long element, DataOutput output) throws IOException {
+                output.writeLong(element);
+            }
+
+            @Override public Long decode(DataInput input) throws IOException {
+                return input.readLong();
+            }
+        };
+    }
+
+    public static Codec<Double> doubleCodec() {
+        return new Codec<Double>() {
+            @Override public void encode(Double element, DataOutput output) throws IOException {
+                output.writeDouble(element);
+            }
+
+            @Override public Double decode(DataInput input) throws IOException {
+                return input.readDouble();
+            }
+        };
+    }
+}
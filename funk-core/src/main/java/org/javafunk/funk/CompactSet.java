@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static java.lang.Math.max;
+
+/**
+ * A mutable {@code Set} which stores small, non-negative integers as bits in a
+ * {@code BitSet} rather than as hashed, boxed entries. The first time an
+ * element is added that cannot be stored that way, whether it is not an
+ * {@code Integer}, is negative or is so large that the bits would be mostly
+ * empty, every element is moved across to a {@code HashSet} which is used from
+ * then on. While the elements are stored as bits they are iterated in
+ * ascending order. Like {@code HashSet}, it is serializable and its iterators
+ * fail fast with a {@code ConcurrentModificationException} when the set is
+ * modified other than through the iterator.
+ */
+@SuppressWarnings("serial")
+class CompactSet<T> extends AbstractSet<T> implements Serializable {
+    private static final int MINIMUM_BIT_CAPACITY = 1024;
+    private static final int MAXIMUM_BITS_PER_ELEMENT = 64;
+
+    private BitSet bits = new BitSet();
+    private int bitCount = 0;
+    private Set<T> elements = null;
+    private transient int modifications = 0;
+
+    boolean isStoredAsBits() {
+        return elements == null;
+    }
+
+    @Override public int size() {
+        return isStoredAsBits() ? bitCount : elements.size();
+    }
+
+    @Override public boolean contains(Object element) {
+        if (!isStoredAsBits()) {
+            return elements.contains(element);
+        }
+        return element instanceof Integer && (Integer) element >= 0 && bits.get((Integer) element);
+    }
+
+    @Override public boolean add(T element) {
+        if (isStoredAsBits()) {
+            if (fitsInBits(element)) {
+                int bit = (Integer) element;
+                if (bits.get(bit)) {
+                    return false;
+                }
+                bits.set(bit);
+                bitCount++;
+                modifications++;
+                return true;
+            }
+            moveToElements();
+        }
+        return elements.add(element);
+    }
+
+    @Override public boolean remove(Object element) {
+        if (!isStoredAsBits()) {
+            return elements.remove(element);
+        }
+        if (!contains(element)) {
+            return false;
+        }
+        bits.clear((Integer) element);
+        bitCount--;
+        modifications++;
+        return true;
+    }
+
+    @Override public void clear() {
+        bits = new BitSet();
+        bitCount = 0;
+        elements = null;
+        modifications++;
+    }
+
+    @Override public Iterator<T> iterator() {
+        if (!isStoredAsBits()) {
+            return elements.iterator();
+        }
+        return new Iterator<T>() {
+            private int next = bits.nextSetBit(0);
+            private int last = -1;
+            private int expectedModifications = modifications;
+
+            @Override public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override public T next() {
+                checkForComodification();
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                last = next;
+                next = bits.nextSetBit(next + 1);
+                return asElement(last);
+            }
+
+            @Override public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+                checkForComodification();
+                bits.clear(last);
+                bitCount--;
+                last = -1;
+                expectedModifications = ++modifications;
+            }
+
+            private void checkForComodification() {
+                if (modifications != expectedModifications) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        };
+    }
+
+    private boolean fitsInBits(T element) {
+        if (!(element instanceof Integer)) {
+            return false;
+        }
+        int value = (Integer) element;
+        return value >= 0 && value < max(MINIMUM_BIT_CAPACITY, (long) MAXIMUM_BITS_PER_ELEMENT * (bitCount + 1));
+    }
+
+    private void moveToElements() {
+        Set<T> moved = new HashSet<T>(max(16, (int) (bitCount / .75f) + 1));
+        for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1)) {
+            moved.add(CompactSet.<T>asElement(bit));
+        }
+        elements = moved;
+        bits = null;
+        bitCount = 0;
+        modifications++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T asElement(int bit) {
+        return (T) Integer.valueOf(bit);
+    }
+}
@@ -0,0 +1,455 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.javafunk.funk.monads.Either;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.javafunk.funk.functors.adapters.MapperUnaryFunctionAdapter.mapperUnaryFunction;
+
+/**
+ * A concurrent counterpart to {@link Lazily#map(Iterable, UnaryFunction)} for
+ * functions that spend most of their time blocked, such as those making remote
+ * calls. Each element is mapped in a task submitted to an {@code Executor},
+ * keeping at most a fixed number of tasks in flight, and the results are
+ * yielded lazily, either in the order of the input or in the order in which
+ * the tasks complete.
+ *
+ * <p>Each result is yielded as an {@code Either}, holding the mapped value in
+ * its right slot or, if the function threw, the {@code Throwable} it threw in
+ * its left slot, so that one failure does not prevent the remaining elements
+ * from being mapped.</p>
+ *
+ * <p>The input {@code Iterable} is only ever iterated by the thread iterating
+ * the returned {@code Iterable} and tasks are only submitted as the returned
+ * {@code Iterable} is iterated, so an infinite input may be mapped. Each call
+ * to {@code iterator()} maps the input afresh.</p>
+ *
+ * <p>Unless an {@code Executor} is supplied explicitly, tasks are run on a
+ * shared, unbounded pool of daemon threads. On runtimes providing them, an
+ * executor creating a virtual thread per task is a good fit for blocking
+ * functions.</p>
+ *
+ * @since 1.0
+ */
+public class Concurrently {
+    private Concurrently() {
+    }
+
+    /**
+     * Lazily maps the supplied {@code Iterable} using the supplied
+     * {@code UnaryFunction}, running at most {@code maximumInFlight} calls of the
+     * function at a time on the shared pool and yielding the results in the order
+     * of the corresponding input elements.
+     *
+     * <p>For further documentation, see
+     * {@link #map(Iterable, UnaryFunction, int, Executor)}.</p>
+     *
+     * @param iterable        The {@code Iterable} of elements to be mapped.
+     * @param function        A thread safe {@code UnaryFunction} mapping each element.
+     * @param maximumInFlight The maximum number of calls of the function to run at
+     *                        a time; must be greater than zero.
+     * @param <S>             The type of the input elements.
+     * @param <T>             The type of the mapped elements.
+     * @return An {@code Iterable} of the outcome of mapping each input element, in
+     *         input order.
+     */
+    public static <S, T> Iterable<Either<Throwable, T>> map(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, ? extends T> function,
+            int maximumInFlight) {
+        return map(iterable, function, maximumInFlight, defaultExecutor());
+    }
+
+    /**
+     * Lazily maps the supplied {@code Iterable} using the supplied
+     * {@code UnaryFunction}, running at most {@code maximumInFlight} calls of the
+     * function at a time on the supplied {@code Executor} and yielding the results
+     * in the order of the corresponding input elements.
+     *
+     * <p>As the returned {@code Iterable} is iterated, tasks are submitted for up to
+     * {@code maximumInFlight} elements ahead of the element to be yielded next, and
+     * a further task is submitted as each result is yielded. Yielding a result
+     * blocks until the task for that element has completed, even if tasks for later
+     * elements have already completed.</p>
+     *
+     * <h4>Example Usage:</h4>
+     * Given an {@code Iterable} of customer identifiers and a remote service, the
+     * customers can be looked up eight at a time as follows:
+     * <blockquote>
+     * <pre>
+     *   Iterable&lt;Either&lt;Throwable, Customer&gt;&gt; customers = Concurrently.map(customerIds,
+     *       new UnaryFunction&lt;Long, Customer&gt;() {
+     *           &#64;Override public Customer call(Long customerId) {
+     *               return customerService.lookup(customerId);
+     *           }
+     *       }, 8, executor);
+     *   Iterable&lt;Customer&gt; found = Eithers.rights(customers);
+     * </pre>
+     * </blockquote>
+     *
+     * @param iterable        The {@code Iterable} of elements to be mapped.
+     * @param function        A thread safe {@code UnaryFunction} mapping each element.
+     * @param maximumInFlight The maximum number of calls of the function to run at
+     *                        a time; must be greater than zero.
+     * @param executor        The {@code Executor} on which to call the function.
+     * @param <S>             The type of the input elements.
+     * @param <T>             The type of the mapped elements.
+     * @return An {@code Iterable} of the outcome of mapping each input element, in
+     *         input order.
+     * @throws IllegalArgumentException if the supplied {@code maximumInFlight} is not
+     *                                  greater than zero.
+     */
+    public static <S, T> Iterable<Either<Throwable, T>> map(
+            final Iterable<S> iterable,
+            final UnaryFunction<? super S, ? extends T> function,
+            final int maximumInFlight,
+            final Executor executor) {
+        checkArguments(iterable, function, maximumInFlight, executor);
+        return new Iterable<Either<Throwable, T>>() {
+            @Override public Iterator<Either<Throwable, T>> iterator() {
+                return new InputOrderIterator<S, T>(iterable.iterator(), function, maximumInFlight, executor);
+            }
+        };
+    }
+
+    /**
+     * Lazily maps the supplied {@code Iterable} using the supplied {@code Mapper},
+     * running at most {@code maximumInFlight} calls of the mapper at a time on the
+     * shared pool and yielding the results in input order.
+     *
+     * <p>For further documentation, see
+     * {@link #map(Iterable, UnaryFunction, int, Executor)}.</p>
+     *
+     * @param iterable        The {@code Iterable} of elements to be mapped.
+     * @param mapper          A thread safe {@code Mapper} mapping each element.
+     * @param maximumInFlight The maximum number of calls of the mapper to run at a
+     *                        time; must be greater than zero.
+     * @param <S>             The type of the input elements.
+     * @param <T>             The type of the mapped elements.
+     * @return An {@code Iterable} of the outcome of mapping each input element, in
+     *         input order.
+     */
+    public static <S, T> Iterable<Either<Throwable, T>> map(
+            Iterable<S> iterable,
+            Mapper<? super S, T> mapper,
+            int maximumInFlight) {
+        return map(iterable, mapperUnaryFunction(mapper), maximumInFlight);
+    }
+
+    /**
+     * Lazily maps the supplied {@code Iterable} using the supplied {@code Mapper},
+     * running at most {@code maximumInFlight} calls of the mapper at a time on the
+     * supplied {@code Executor} and yielding the results in input order.
+     *
+     * <p>For further documentation, see
+     * {@link #map(Iterable, UnaryFunction, int, Executor)}.</p>
+     *
+     * @param iterable        The {@code Iterable} of elements to be mapped.
+     * @param mapper          A thread safe {@code Mapper} mapping each element.
+     * @param maximumInFlight The maximum number of calls of the mapper to run at a
+     *                        time; must be greater than zero.
+     * @param executor        The {@code Executor} on which to call the mapper.
+     * @param <S>             The type of the input elements.
+     * @param <T>             The type of the mapped elements.
+     * @return An {@code Iterable} of the outcome of mapping each input element, in
+     *         input order.
+     */
+    public static <S, T> Iterable<Either<Throwable, T>> map(
+            Iterable<S> iterable,
+            Mapper<? super S, T> mapper,
+            int maximumInFlight,
+            Executor executor) {
+        return map(iterable, mapperUnaryFunction(mapper), maximumInFlight, executor);
+    }
+
+    /**
+     * Lazily maps the supplied {@code Iterable} using the supplied
+     * {@code UnaryFunction}, running at most {@code maximumInFlight} calls of the
+     * function at a time on the shared pool and yielding the results in the order
+     * in which the calls complete.
+     *
+     * <p>For further documentation, see
+     * {@link #mapInCompletionOrder(Iterable, UnaryFunction, int, Executor)}.</p>
+     *
+     * @param iterable        The {@code Iterable} of elements to be mapped.
+     * @param function        A thread safe {@code UnaryFunction} mapping each element.
+     * @param maximumInFlight The maximum number of calls of the function to run at
+     *                        a time; must be greater than zero.
+     * @param <S>             The type of the input elements.
+     * @param <T>             The type of the mapped elements.
+     * @return An {@code Iterable} of the outcome of mapping each input element, in
+     *         completion order.
+     */
+    public static <S, T> Iterable<Either<Throwable, T>> mapInCompletionOrder(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, ? extends T> function,
+            int maximumInFlight) {
+        return mapInCompletionOrder(iterable, function, maximumInFlight, defaultExecutor());
+    }
+
+    /**
+     * Lazily maps the supplied {@code Iterable} using the supplied
+     * {@code UnaryFunction}, running at most {@code maximumInFlight} calls of the
+     * function at a time on the supplied {@code Executor} and yielding the results
+     * in the order in which the calls complete.
+     *
+     * <p>Unlike {@link #map(Iterable, UnaryFunction, int, Executor)}, a slow call
+     * does not hold up the results of calls for later elements, so as many calls
+     * as allowed are kept running at all times at the cost of losing the
+     * correspondence between the position of a result and that of its input
+     * element.</p>
+     *
+     * @param iterable        The {@code Iterable} of elements to be mapped.
+     * @param function        A thread safe {@code UnaryFunction} mapping each element.
+     * @param maximumInFlight The maximum number of calls of the function to run at
+     *                        a time; must be greater than zero.
+     * @param executor        The {@code Executor} on which to call the function.
+     * @param <S>             The type of the input elements.
+     * @param <T>             The type of the mapped elements.
+     * @return An {@code Iterable} of the outcome of mapping each input element, in
+     *         completion order.
+     * @throws IllegalArgumentException if the supplied {@code maximumInFlight} is not
+     *                                  greater than zero.
+     */
+    public static <S, T> Iterable<Either<Throwable, T>> mapInCompletionOrder(
+            final Iterable<S> iterable,
+            final UnaryFunction<? super S, ? extends T> function,
+            final int maximumInFlight,
+            final Executor executor) {
+        checkArguments(iterable, function, maximumInFlight, executor);
+        return new Iterable<Either<Throwable, T>>() {
+            @Override public Iterator<Either<Throwable, T>> iterator() {
+                return new CompletionOrderIterator<S, T>(iterable.iterator(), function, maximumInFlight, executor);
+            }
+        };
+    }
+
+    /**
+     * Lazily maps the supplied {@code Iterable} using the supplied {@code Mapper},
+     * running at most {@code maximumInFlight} calls of the mapper at a time on the
+     * shared pool and yielding the results in completion order.
+     *
+     * <p>For further documentation, see
+     * {@link #mapInCompletionOrder(Iterable, UnaryFunction, int, Executor)}.</p>
+     *
+     * @param iterable        The {@code Iterable} of elements to be mapped.
+     * @param mapper          A thread safe {@code Mapper} mapping each element.
+     * @param maximumInFlight The maximum number of calls of the mapper to run at a
+     *                        time; must be greater than zero.
+     * @param <S>             The type of the input elements.
+     * @param <T>             The type of the mapped elements.
+     * @return An {@code Iterable} of the outcome of mapping each input element, in
+     *         completion order.
+     */
+    public static <S, T> Iterable<Either<Throwable, T>> mapInCompletionOrder(
+            Iterable<S> iterable,
+            Mapper<? super S, T> mapper,
+            int maximumInFlight) {
+        return mapInCompletionOrder(iterable, mapperUnaryFunction(mapper), maximumInFlight);
+    }
+
+    /**
+     * Lazily maps the supplied {@code Iterable} using the supplied {@code Mapper},
+     * running at most {@code maximumInFlight} calls of the mapper at a time on the
+     * supplied {@code Executor} and yielding the results in completion order.
+     *
+     * <p>For further documentation, see
+     * {@link #mapInCompletionOrder(Iterable, UnaryFunction, int, Executor)}.</p>
+     *
+     * @param iterable        The {@code Iterable} of elements to be mapped.
+     * @param mapper          A thread safe {@code Mapper} mapping each element.
+     * @param maximumInFlight The maximum number of calls of the mapper to run at a
+     *                        time; must be greater than zero.
+     * @param executor        The {@code Executor} on which to call the mapper.
+     * @param <S>             The type of the input elements.
+     * @param <T>             The type of the mapped elements.
+     * @return An {@code Iterable} of the outcome of mapping each input element, in
+     *         completion order.
+     */
+    public static <S, T> Iterable<Either<Throwable, T>> mapInCompletionOrder(
+            Iterable<S> iterable,
+            Mapper<? super S, T> mapper,
+            int maximumInFlight,
+            Executor executor) {
+        return mapInCompletionOrder(iterable, mapperUnaryFunction(mapper), maximumInFlight, executor);
+    }
+
+    private static Executor defaultExecutor() {
+        return BackgroundThreads.sharedExecutor();
+    }
+
+    private static void checkArguments(
+            Iterable<?> iterable,
+            UnaryFunction<?, ?> function,
+            int maximumInFlight,
+            Executor executor) {
+        checkNotNull(iterable);
+        checkNotNull(function);
+        checkNotNull(executor);
+        if (maximumInFlight <= 0) {
+            throw new IllegalArgumentException("Maximum in flight must be greater than zero.");
+        }
+    }
+
+    private static <S, T> Callable<T> callOf(final UnaryFunction<? super S, ? extends T> function, final S element) {
+        return new Callable<T>() {
+            @Override public T call() throws Exception {
+                return function.call(element);
+            }
+        };
+    }
+
+    private static <T> Either<Throwable, T> outcomeOf(Future<T> future) {
+        try {
+            return Either.right(getUninterruptibly(future));
+        } catch (ExecutionException exception) {
+            return Either.left(exception.getCause());
+        }
+    }
+
+    private static <T> T getUninterruptibly(Future<T> future) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static class InputOrderIterator<S, T> implements Iterator<Either<Throwable, T>> {
+        private final Iterator<S> elements;
+        private final UnaryFunction<? super S, ? extends T> function;
+        private final int maximumInFlight;
+        private final Executor executor;
+        private final Queue<FutureTask<T>> inFlight = new LinkedList<FutureTask<T>>();
+
+        InputOrderIterator(
+                Iterator<S> elements,
+                UnaryFunction<? super S, ? extends T> function,
+                int maximumInFlight,
+                Executor executor) {
+            this.elements = elements;
+            this.function = function;
+            this.maximumInFlight = maximumInFlight;
+            this.executor = executor;
+        }
+
+        @Override public boolean hasNext() {
+            fill();
+            return !inFlight.isEmpty();
+        }
+
+        @Override public Either<Throwable, T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Either<Throwable, T> outcome = outcomeOf(inFlight.peek());
+            inFlight.remove();
+            fill();
+            return outcome;
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private void fill() {
+            while (inFlight.size() < maximumInFlight && elements.hasNext()) {
+                FutureTask<T> task = new FutureTask<T>(Concurrently.<S, T>callOf(function, elements.next()));
+                executor.execute(task);
+                inFlight.add(task);
+            }
+        }
+    }
+
+    private static class CompletionOrderIterator<S, T> implements Iterator<Either<Throwable, T>> {
+        private final Iterator<S> elements;
+        private final UnaryFunction<? super S, ? extends T> function;
+        private final int maximumInFlight;
+        private final CompletionService<T> completionService;
+        private int inFlight = 0;
+
+        CompletionOrderIterator(
+                Iterator<S> elements,
+                UnaryFunction<? super S, ? extends T> function,
+                int maximumInFlight,
+                Executor executor) {
+            this.elements = elements;
+            this.function = function;
+            this.maximumInFlight = maximumInFlight;
+            this.completionService = new ExecutorCompletionService<T>(executor);
+        }
+
+        @Override public boolean hasNext() {
+            fill();
+            return inFlight > 0;
+        }
+
+        @Override public Either<Throwable, T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Either<Throwable, T> outcome = outcomeOf(takeUninterruptibly());
+            inFlight--;
+            fill();
+            return outcome;
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private void fill() {
+            while (inFlight < maximumInFlight && elements.hasNext()) {
+                completionService.submit(Concurrently.<S, T>callOf(function, elements.next()));
+                inFlight++;
+            }
+        }
+
+        private Future<T> takeUninterruptibly() {
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    try {
+                        return completionService.take();
+                    } catch (InterruptedException exception) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
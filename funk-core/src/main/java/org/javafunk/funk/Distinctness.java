@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.Factory;
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Strategies for deciding which elements have been seen before, for use with
+ * {@link Lazily#distinct(Iterable, Factory)} and
+ * {@link Lazily#distinctBy(Iterable, org.javafunk.funk.functors.Indexer, Factory)}.
+ * Each strategy creates, for each iteration, a {@code UnaryPredicate} which is
+ * satisfied by a key the first time it is seen and which records it.
+ */
+public class Distinctness {
+    private Distinctness() {}
+
+    /**
+     * Remembers every key seen in a hash set, so that no key is ever yielded
+     * twice, at the cost of memory proportional to the number of distinct keys.
+     */
+    public static Factory<UnaryPredicate<Object>> exact() {
+        return new Factory<UnaryPredicate<Object>>() {
+            @Override public UnaryPredicate<Object> create() {
+                final Set<Object> seen = new HashSet<Object>();
+                return new UnaryPredicate<Object>() {
+                    @Override public boolean evaluate(Object key) {
+                        return seen.add(key);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Remembers only the specified number of most recently seen keys, where
+     * seeing a key again makes it the most recent, so that a key is yielded
+     * again only if more than that number of other distinct keys have been seen
+     * since it was last seen. Suited to feeds in which duplicates arrive close
+     * together, such as nearly sorted ones, in memory proportional to the
+     * specified number of keys.
+     *
+     * @throws IllegalArgumentException if the specified number of keys is not
+     *                                  positive.
+     */
+    public static Factory<UnaryPredicate<Object>> withinLast(final int numberOfKeys) {
+        if (numberOfKeys <= 0) {
+            throw new IllegalArgumentException("Number of keys must be greater than zero.");
+        }
+        return new Factory<UnaryPredicate<Object>>() {
+            @Override public UnaryPredicate<Object> create() {
+                final Map<Object, Boolean> recentlySeen = new LinkedHashMap<Object, Boolean>(16, 0.75f, true) {
+                    @Override protected boolean removeEldestEntry(Map.Entry<Object, Boolean> eldest) {
+                        return size() > numberOfKeys;
+                    }
+                };
+                return new UnaryPredicate<Object>() {
+                    @Override public boolean evaluate(Object key) {
+                        return recentlySeen.put(key, Boolean.TRUE) == null;
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Records keys in a Bloom filter of fixed size, chosen so that, once the
+     * expected number of distinct keys have been seen, an unseen key is
+     * mistaken for a seen one, and so dropped, with about the specified
+     * probability. No key is ever yielded twice. Keys are recorded by their hash
+     * codes, so distinct keys with equal hash codes are always mistaken for one
+     * another, and the false positive rate rises beyond the specified one once
+     * more than the expected number of keys have been seen.
+     *
+     * @throws IllegalArgumentException if the expected number of keys is not
+     *                                  positive or the false positive rate is not
+     *                                  strictly between zero and one.
+     */
+    public static Factory<UnaryPredicate<Object>> approximate(final long expectedKeys, final double falsePositiveRate) {
+        if (expectedKeys <= 0) {
+            throw new IllegalArgumentException("Expected number of keys must be greater than zero.");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between zero and one.");
+        }
+        return new Factory<UnaryPredicate<Object>>() {
+            @Override public UnaryPredicate<Object> create() {
+                final BloomFilter seen = new BloomFilter(expectedKeys, falsePositiveRate);
+                return new UnaryPredicate<Object>() {
+                    @Override public boolean evaluate(Object key) {
+                        return seen.add(key);
+                    }
+                };
+            }
+        };
+    }
+}
@@ -8,19 +8,23 @@
  */
 package org.javafunk.funk;
 
-import org.javafunk.funk.datastructures.IntegerRange;
+import com.google.common.collect.Ordering;
+import org.javafunk.funk.behaviours.Codec;
 import org.javafunk.funk.datastructures.tuples.Nonuple;
 import org.javafunk.funk.datastructures.tuples.Octuple;
 import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.datastructures.tuples.PairColumns;
 import org.javafunk.funk.datastructures.tuples.Quadruple;
 import org.javafunk.funk.datastructures.tuples.Quintuple;
 import org.javafunk.funk.datastructures.tuples.Septuple;
 import org.javafunk.funk.datastructures.tuples.Sextuple;
 import org.javafunk.funk.datastructures.tuples.Triple;
+import org.javafunk.funk.datastructures.tuples.TripleColumns;
 import org.javafunk.funk.functors.Action;
 import org.javafunk.funk.functors.Equivalence;
 import org.javafunk.funk.functors.Indexer;
 import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.Predicate;
 import org.javafunk.funk.functors.Reducer;
 import org.javafunk.funk.functors.functions.BinaryFunction;
 import org.javafunk.funk.functors.functions.UnaryFunction;
@@ -36,14 +40,21 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static org.javafunk.funk.Checks.returnOrThrowIfNull;
 import static org.javafunk.funk.Iterables.materialize;
 import static org.javafunk.funk.Iterators.asIterable;
-import static org.javafunk.funk.Literals.collectionFrom;
+import static org.javafunk.funk.ListViews.cartesianProductColumn;
+import static org.javafunk.funk.ListViews.hasAddressableCartesianProduct;
+import static org.javafunk.funk.ListViews.indices;
+import static org.javafunk.funk.ListViews.isRandomAccessList;
 import static org.javafunk.funk.Literals.tuple;
 import static org.javafunk.funk.functors.adapters.ActionUnaryProcedureAdapter.actionUnaryProcedure;
 import static org.javafunk.funk.functors.adapters.EquivalenceBinaryPredicateAdapter.equivalenceBinaryPredicate;
@@ -157,6 +168,167 @@ public class Eagerly {
         }), new NoSuchElementException("Minimum value is undefined if all values in the supplied Iterable are null."));
     }
 
+    /**
+     * Returns the minimum and maximum elements of the supplied {@code Iterable},
+     * according to the supplied {@code Comparator}, as a {@code Pair} in a single
+     * pass. Elements are taken two at a time and compared with each other before
+     * only the lesser is compared with the minimum so far and only the greater
+     * with the maximum so far, so that about one and a half comparisons are made
+     * per element rather than the two needed by separate calls to
+     * {@link #min(Iterable, Comparator)} and {@link #max(Iterable, Comparator)}.
+     * Where several elements are equally minimal or maximal, the first of them
+     * is returned, as for {@code min} and {@code max}.
+     *
+     * @param iterable   The {@code Iterable} whose extremes are required.
+     * @param comparator The {@code Comparator} defining the order of the elements.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code Pair} of the minimum element followed by the maximum element.
+     * @throws NoSuchElementException if the supplied {@code Iterable} is empty.
+     */
+    public static <T> Pair<T, T> minMax(Iterable<T> iterable, Comparator<? super T> comparator) {
+        checkNotNull(comparator);
+        Iterator<T> iterator = iterable.iterator();
+        T min = iterator.next();
+        T max = min;
+        while (iterator.hasNext()) {
+            T first = iterator.next();
+            if (!iterator.hasNext()) {
+                if (comparator.compare(first, min) < 0) {
+                    min = first;
+                } else if (comparator.compare(first, max) > 0) {
+                    max = first;
+                }
+                break;
+            }
+            T second = iterator.next();
+            int comparison = comparator.compare(first, second);
+            T lesser = comparison <= 0 ? first : second;
+            T greater = comparison >= 0 ? first : second;
+            if (comparator.compare(lesser, min) < 0) {
+                min = lesser;
+            }
+            if (comparator.compare(greater, max) > 0) {
+                max = greater;
+            }
+        }
+        return tuple(min, max);
+    }
+
+    /**
+     * Returns the minimum and maximum elements of the supplied {@code Iterable}
+     * of {@code Comparable} elements as a {@code Pair} in a single pass, ignoring
+     * any {@code null} elements.
+     *
+     * <p>For further documentation, see {@link #minMax(Iterable, Comparator)}.</p>
+     *
+     * @param iterable The {@code Iterable} whose extremes are required.
+     * @param <T>      The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code Pair} of the minimum element followed by the maximum element.
+     * @throws NoSuchElementException if the supplied {@code Iterable} contains no
+     *                                non-{@code null} elements.
+     */
+    public static <T extends Comparable<T>> Pair<T, T> minMax(Iterable<T> iterable) {
+        Iterator<T> elements = Lazily.filter(iterable, new Predicate<T>() {
+            @Override public boolean evaluate(T element) {
+                return element != null;
+            }
+        }).iterator();
+        if (!elements.hasNext()) {
+            throw new NoSuchElementException(
+                    "Minimum and maximum values are undefined if all values in the supplied Iterable are null.");
+        }
+        return minMax(asIterable(elements), Ordering.<T>natural());
+    }
+
+    /**
+     * Returns the greatest {@code n} elements of the supplied {@code Iterable},
+     * according to the supplied {@code Comparator}, greatest first. If the
+     * {@code Iterable} has fewer than {@code n} elements, all of them are
+     * returned.
+     *
+     * <p>Rather than sorting the whole input, the greatest elements seen so far
+     * are retained in a binary heap bounded to {@code n} elements, so that
+     * selection takes {@code O(size * log n)} time and {@code O(n)} space.
+     * Which of several equal elements competing for the last places are
+     * returned is unspecified.</p>
+     *
+     * @param iterable   The {@code Iterable} from which to select elements.
+     * @param n          The number of elements to select; must not be negative.
+     * @param comparator The {@code Comparator} defining the order of the elements.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code List} of at most {@code n} elements, greatest first.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public static <T> List<T> top(Iterable<T> iterable, int n, Comparator<? super T> comparator) {
+        checkNotNull(iterable);
+        checkNotNull(comparator);
+        BoundedHeap<T> heap = new BoundedHeap<T>(n, comparator);
+        heap.offerAll(iterable);
+        return Collections.unmodifiableList(heap.toList());
+    }
+
+    /**
+     * Returns the greatest {@code n} elements of the supplied {@code Iterable} of
+     * {@code Comparable} elements, greatest first.
+     *
+     * <p>For further documentation, see {@link #top(Iterable, int, Comparator)}.</p>
+     */
+    public static <T extends Comparable<T>> List<T> top(Iterable<T> iterable, int n) {
+        return top(iterable, n, Ordering.<T>natural());
+    }
+
+    /**
+     * Returns the least {@code n} elements of the supplied {@code Iterable},
+     * according to the supplied {@code Comparator}, least first.
+     *
+     * <p>For further documentation, see {@link #top(Iterable, int, Comparator)}.</p>
+     */
+    public static <T> List<T> bottom(Iterable<T> iterable, int n, Comparator<? super T> comparator) {
+        return top(iterable, n, Collections.reverseOrder(checkNotNull(comparator)));
+    }
+
+    /**
+     * Returns the least {@code n} elements of the supplied {@code Iterable} of
+     * {@code Comparable} elements, least first.
+     *
+     * <p>For further documentation, see {@link #top(Iterable, int, Comparator)}.</p>
+     */
+    public static <T extends Comparable<T>> List<T> bottom(Iterable<T> iterable, int n) {
+        return bottom(iterable, n, Ordering.<T>natural());
+    }
+
+    /**
+     * Returns a {@code List} of the elements of the supplied {@code Iterable}
+     * sorted according to the supplied {@code Comparator}. The sort is stable, so
+     * equal elements retain their relative order. The supplied {@code Iterable}
+     * is not modified.
+     *
+     * <p>All elements are held in memory. To sort more elements than fit in
+     * memory, see {@link Lazily#externalSort(Iterable, Comparator, Codec, int)}.</p>
+     *
+     * @param iterable   The {@code Iterable} whose elements should be sorted.
+     * @param comparator The {@code Comparator} defining the order of the elements.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return A new {@code List} of the elements of the supplied {@code Iterable}
+     *         in sorted order.
+     */
+    public static <T> List<T> sort(Iterable<T> iterable, Comparator<? super T> comparator) {
+        checkNotNull(comparator);
+        List<T> sorted = new ArrayList<T>(materialize(iterable));
+        Collections.sort(sorted, comparator);
+        return Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Returns a {@code List} of the elements of the supplied {@code Iterable} of
+     * {@code Comparable} elements in their natural order.
+     *
+     * <p>For further documentation, see {@link #sort(Iterable, Comparator)}.</p>
+     */
+    public static <T extends Comparable<T>> List<T> sort(Iterable<T> iterable) {
+        return sort(iterable, Ordering.<T>natural());
+    }
+
     /**
      * Maps an {@code Iterable} of elements of type {@code S} into a {@code Collection}
      * of elements of type {@code T} using the supplied {@code UnaryFunction}. The
@@ -265,7 +437,12 @@ public class Eagerly {
     public static <S, T> Collection<T> map(
             Iterable<S> iterable,
             UnaryFunction<? super S, T> function) {
-        return materialize(Lazily.map(iterable, function));
+        checkNotNull(function);
+        List<T> outputs = listSizedFor(iterable);
+        for (S element : iterable) {
+            outputs.add(function.call(element));
+        }
+        return Collections.unmodifiableList(outputs);
     }
 
     /**
@@ -358,7 +535,17 @@ public class Eagerly {
     public static <R, S> Collection<Pair<R, S>> zip(
             Iterable<R> first,
             Iterable<S> second) {
-        return materialize(Lazily.zip(first, second));
+        checkNotNull(first);
+        checkNotNull(second);
+        List<R> firsts = listSizedFor(first);
+        List<S> seconds = listSizedFor(second);
+        Iterator<R> firstIterator = first.iterator();
+        Iterator<S> secondIterator = second.iterator();
+        while (firstIterator.hasNext() && secondIterator.hasNext()) {
+            firsts.add(firstIterator.next());
+            seconds.add(secondIterator.next());
+        }
+        return new PairColumns<R, S>(firsts, seconds);
     }
 
     /**
@@ -398,7 +585,21 @@ public class Eagerly {
             Iterable<R> first,
             Iterable<S> second,
             Iterable<T> third) {
-        return materialize(Lazily.zip(first, second, third));
+        checkNotNull(first);
+        checkNotNull(second);
+        checkNotNull(third);
+        List<R> firsts = listSizedFor(first);
+        List<S> seconds = listSizedFor(second);
+        List<T> thirds = listSizedFor(third);
+        Iterator<R> firstIterator = first.iterator();
+        Iterator<S> secondIterator = second.iterator();
+        Iterator<T> thirdIterator = third.iterator();
+        while (firstIterator.hasNext() && secondIterator.hasNext() && thirdIterator.hasNext()) {
+            firsts.add(firstIterator.next());
+            seconds.add(secondIterator.next());
+            thirds.add(thirdIterator.next());
+        }
+        return new TripleColumns<R, S, T>(firsts, seconds, thirds);
     }
 
     /**
@@ -441,7 +642,7 @@ public class Eagerly {
             Iterable<S> second,
             Iterable<T> third,
             Iterable<U> fourth) {
-        return materialize(Lazily.zip(first, second, third, fourth));
+        return presized(Lazily.zip(first, second, third, fourth));
     }
 
     /**
@@ -487,7 +688,7 @@ public class Eagerly {
             Iterable<T> third,
             Iterable<U> fourth,
             Iterable<V> fifth) {
-        return materialize(Lazily.zip(first, second, third, fourth, fifth));
+        return presized(Lazily.zip(first, second, third, fourth, fifth));
     }
 
     /**
@@ -536,7 +737,7 @@ public class Eagerly {
             Iterable<U> fourth,
             Iterable<V> fifth,
             Iterable<W> sixth) {
-        return materialize(Lazily.zip(first, second, third, fourth, fifth, sixth));
+        return presized(Lazily.zip(first, second, third, fourth, fifth, sixth));
     }
 
     /**
@@ -588,7 +789,7 @@ public class Eagerly {
             Iterable<V> fifth,
             Iterable<W> sixth,
             Iterable<X> seventh) {
-        return materialize(Lazily.zip(first, second, third, fourth, fifth, sixth, seventh));
+        return presized(Lazily.zip(first, second, third, fourth, fifth, sixth, seventh));
     }
 
     /**
@@ -643,7 +844,7 @@ public class Eagerly {
             Iterable<W> sixth,
             Iterable<X> seventh,
             Iterable<Y> eighth) {
-        return materialize(Lazily.zip(first, second, third, fourth, fifth, sixth, seventh, eighth));
+        return presized(Lazily.zip(first, second, third, fourth, fifth, sixth, seventh, eighth));
     }
 
     /**
@@ -701,7 +902,7 @@ public class Eagerly {
             Iterable<X> seventh,
             Iterable<Y> eighth,
             Iterable<Z> ninth) {
-        return materialize(Lazily.zip(first, second, third, fourth, fifth, sixth, seventh, eighth, ninth));
+        return presized(Lazily.zip(first, second, third, fourth, fifth, sixth, seventh, eighth, ninth));
     }
 
     /**
@@ -762,11 +963,42 @@ public class Eagerly {
     public static Collection<Collection<?>> zip(Iterable<? extends Iterable<?>> iterables) {
         return Eagerly.map(Lazily.zip(iterables), new Mapper<Iterable<?>, Collection<?>>() {
             @Override public Collection<?> map(Iterable<?> iterable) {
-                return collectionFrom(iterable);
+                return (Collection<?>) iterable;
             }
         });
     }
 
+    /**
+     * Zips the elements from the two supplied {@code Iterable} instances,
+     * combining each pair of elements using the supplied {@code BinaryFunction}
+     * and returning a {@code Collection} of the results. No intermediate tuple
+     * is constructed, making this equivalent to but cheaper than mapping over
+     * the result of {@link #zip(Iterable, Iterable)}. The zip is complete when
+     * one or both of the supplied {@code Iterable} instances is exhausted.
+     *
+     * <p>Since a {@code Collection} is returned, the zipping is performed
+     * eagerly, i.e., the supplied {@code Iterable} instances are iterated
+     * immediately. For a lazy equivalent see
+     * {@link Lazily#zipWith(Iterable, Iterable, BinaryFunction)}.</p>
+     *
+     * @param first    The first {@code Iterable} from which to construct a zip.
+     * @param second   The second {@code Iterable} from which to construct a zip.
+     * @param function A {@code BinaryFunction} combining an element from each
+     *                 of the supplied {@code Iterable} instances.
+     * @param <R>      The type of the elements in the first {@code Iterable}.
+     * @param <S>      The type of the elements in the second {@code Iterable}.
+     * @param <T>      The type of the values returned by the supplied
+     *                 {@code BinaryFunction}.
+     * @return A {@code Collection} containing the result of combining each pair
+     *         of zipped elements using the supplied {@code BinaryFunction}.
+     */
+    public static <R, S, T> Collection<T> zipWith(
+            Iterable<R> first,
+            Iterable<S> second,
+            BinaryFunction<? super R, ? super S, T> function) {
+        return presized(Lazily.zipWith(first, second, function));
+    }
+
     /**
      * Takes the cartesian product of the two supplied {@code Iterable}
      * instances generating a {@code Collection} of tuples of size two. The
@@ -823,7 +1055,15 @@ public class Eagerly {
     public static <R, S> Collection<Pair<R, S>> cartesianProduct(
             Iterable<R> first,
             Iterable<S> second) {
-        return materialize(Lazily.cartesianProduct(first, second));
+        List<R> firsts = copyOf(first);
+        List<S> seconds = copyOf(second);
+        if (!hasAddressableCartesianProduct(Literals.<List<?>>listWith(firsts, seconds))) {
+            return presized(Lazily.cartesianProduct(firsts, seconds));
+        }
+        int size = firsts.size() * seconds.size();
+        return new PairColumns<R, S>(
+                cartesianProductColumn(firsts, seconds.size(), size),
+                cartesianProductColumn(seconds, 1, size));
     }
 
     /**
@@ -867,7 +1107,17 @@ public class Eagerly {
             Iterable<R> first,
             Iterable<S> second,
             Iterable<T> third) {
-        return materialize(Lazily.cartesianProduct(first, second, third));
+        List<R> firsts = copyOf(first);
+        List<S> seconds = copyOf(second);
+        List<T> thirds = copyOf(third);
+        if (!hasAddressableCartesianProduct(Literals.<List<?>>listWith(firsts, seconds, thirds))) {
+            return presized(Lazily.cartesianProduct(firsts, seconds, thirds));
+        }
+        int size = firsts.size() * seconds.size() * thirds.size();
+        return new TripleColumns<R, S, T>(
+                cartesianProductColumn(firsts, seconds.size() * thirds.size(), size),
+                cartesianProductColumn(seconds, thirds.size(), size),
+                cartesianProductColumn(thirds, 1, size));
     }
 
     /**
@@ -914,7 +1164,11 @@ public class Eagerly {
             Iterable<S> second,
             Iterable<T> third,
             Iterable<U> fourth) {
-        return materialize(Lazily.cartesianProduct(first, second, third, fourth));
+        return presized(Lazily.cartesianProduct(
+                dimension(first),
+                dimension(second),
+                dimension(third),
+                dimension(fourth)));
     }
 
     /**
@@ -964,7 +1218,12 @@ public class Eagerly {
             Iterable<T> third,
             Iterable<U> fourth,
             Iterable<V> fifth) {
-        return materialize(Lazily.cartesianProduct(first, second, third, fourth, fifth));
+        return presized(Lazily.cartesianProduct(
+                dimension(first),
+                dimension(second),
+                dimension(third),
+                dimension(fourth),
+                dimension(fifth)));
     }
 
     /**
@@ -1017,7 +1276,13 @@ public class Eagerly {
             Iterable<U> fourth,
             Iterable<V> fifth,
             Iterable<W> sixth) {
-        return materialize(Lazily.cartesianProduct(first, second, third, fourth, fifth, sixth));
+        return presized(Lazily.cartesianProduct(
+                dimension(first),
+                dimension(second),
+                dimension(third),
+                dimension(fourth),
+                dimension(fifth),
+                dimension(sixth)));
     }
 
     /**
@@ -1073,7 +1338,14 @@ public class Eagerly {
             Iterable<V> fifth,
             Iterable<W> sixth,
             Iterable<X> seventh) {
-        return materialize(Lazily.cartesianProduct(first, second, third, fourth, fifth, sixth, seventh));
+        return presized(Lazily.cartesianProduct(
+                dimension(first),
+                dimension(second),
+                dimension(third),
+                dimension(fourth),
+                dimension(fifth),
+                dimension(sixth),
+                dimension(seventh)));
     }
 
     /**
@@ -1132,7 +1404,15 @@ public class Eagerly {
             Iterable<W> sixth,
             Iterable<X> seventh,
             Iterable<Y> eighth) {
-        return materialize(Lazily.cartesianProduct(first, second, third, fourth, fifth, sixth, seventh, eighth));
+        return presized(Lazily.cartesianProduct(
+                dimension(first),
+                dimension(second),
+                dimension(third),
+                dimension(fourth),
+                dimension(fifth),
+                dimension(sixth),
+                dimension(seventh),
+                dimension(eighth)));
     }
 
     /**
@@ -1194,7 +1474,16 @@ public class Eagerly {
             Iterable<X> seventh,
             Iterable<Y> eighth,
             Iterable<Z> ninth) {
-        return materialize(Lazily.cartesianProduct(first, second, third, fourth, fifth, sixth, seventh, eighth, ninth));
+        return presized(Lazily.cartesianProduct(
+                dimension(first),
+                dimension(second),
+                dimension(third),
+                dimension(fourth),
+                dimension(fifth),
+                dimension(sixth),
+                dimension(seventh),
+                dimension(eighth),
+                dimension(ninth)));
     }
 
     /**
@@ -1262,9 +1551,13 @@ public class Eagerly {
      *         cartesian product of the supplied {@code Iterable} of {@code Iterable}s.
      */
     public static Collection<Collection<?>> cartesianProduct(Iterable<? extends Iterable<?>> iterables) {
-        return Eagerly.map(Lazily.cartesianProduct(iterables), new Mapper<Iterable<?>, Collection<?>>() {
+        List<List<?>> dimensions = new ArrayList<List<?>>();
+        for (Iterable<?> iterable : iterables) {
+            dimensions.add(dimension(iterable));
+        }
+        return Eagerly.map(Lazily.cartesianProduct(dimensions), new Mapper<Iterable<?>, Collection<?>>() {
             @Override public Collection<?> map(Iterable<?> iterable) {
-                return collectionFrom(iterable);
+                return (Collection<?>) iterable;
             }
         });
     }
@@ -1302,7 +1595,8 @@ public class Eagerly {
      *         index in that {@code Iterable}.
      */
     public static <T> Collection<Pair<Integer, T>> enumerate(Iterable<T> iterable) {
-        return materialize(Lazily.enumerate(iterable));
+        List<T> elements = copyOf(iterable);
+        return new PairColumns<Integer, T>(indices(elements.size()), elements);
     }
 
     /**
@@ -1432,7 +1726,14 @@ public class Eagerly {
     public static <S, T> Collection<Pair<T, S>> index(
             Iterable<S> iterable,
             UnaryFunction<? super S, T> function) {
-        return materialize(Lazily.index(iterable, function));
+        checkNotNull(function);
+        List<T> indices = listSizedFor(iterable);
+        List<S> elements = listSizedFor(iterable);
+        for (S element : iterable) {
+            indices.add(function.call(element));
+            elements.add(element);
+        }
+        return new PairColumns<T, S>(indices, elements);
     }
 
     /**
@@ -1477,10 +1778,12 @@ public class Eagerly {
         Map<T, Collection<S>> groupedElements = new HashMap<T, Collection<S>>();
         for (S element : iterable) {
             T index = indexer.call(element);
-            if (!groupedElements.containsKey(index)) {
-                groupedElements.put(index, new ArrayList<S>());
+            Collection<S> group = groupedElements.get(index);
+            if (group == null) {
+                group = new ArrayList<S>();
+                groupedElements.put(index, group);
             }
-            groupedElements.get(index).add(element);
+            group.add(element);
         }
         return groupedElements;
     }
@@ -1491,6 +1794,177 @@ public class Eagerly {
         return group(iterable, indexerUnaryFunction(indexer));
     }
 
+    /**
+     * Groups the elements of the supplied {@code Iterable} by the value returned
+     * by the supplied indexing function and reduces the elements of each group,
+     * in the order in which they are yielded, using the supplied
+     * {@code BinaryFunction} starting from the supplied initial value. A
+     * {@code HashMap} from each group value to the reduction of the elements in
+     * that group is returned.
+     *
+     * <p>Unlike reducing the values of the {@code Map} returned by
+     * {@link #group(Iterable, UnaryFunction)}, the elements of each group are never
+     * collected; each element is folded into the running reduction of its group
+     * as soon as it is yielded, looking that reduction up only once. The same
+     * initial value is used to start the reduction of every group and so should
+     * be immutable.</p>
+     *
+     * <h4>Example Usage:</h4>
+     * Given an {@code Iterable} of words, the number of words of each length can be
+     * counted as follows:
+     * <blockquote>
+     * <pre>
+     *     Map&lt;Integer, Integer&gt; wordCountsByLength = groupReduce(words,
+     *         new Indexer&lt;String, Integer&gt;() {
+     *             &#64;Override public Integer index(String word) {
+     *                 return word.length();
+     *             }
+     *         }, 0, Accumulators.&lt;String&gt;integerCountingAccumulator());
+     * </pre>
+     * </blockquote>
+     *
+     * @param iterable     The {@code Iterable} to be grouped and reduced.
+     * @param indexer      A {@code UnaryFunction} returning the group of an element.
+     * @param initialValue The value from which the reduction of each group starts.
+     * @param function     A {@code BinaryFunction} folding an element into the
+     *                     reduction of its group.
+     * @param <S>          The type of the elements in the supplied {@code Iterable}.
+     * @param <K>          The type of the group values.
+     * @param <V>          The type of the reductions.
+     * @return A {@code Map} from each group value to the reduction of the elements
+     *         in that group.
+     */
+    public static <S, K, V> Map<K, V> groupReduce(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, K> indexer,
+            V initialValue,
+            BinaryFunction<V, ? super S, V> function) {
+        checkNotNull(indexer);
+        checkNotNull(function);
+        Map<K, Reduction<V>> reductions = new HashMap<K, Reduction<V>>();
+        for (S element : iterable) {
+            K group = indexer.call(element);
+            Reduction<V> reduction = reductions.get(group);
+            if (reduction == null) {
+                reduction = new Reduction<V>(initialValue);
+                reductions.put(group, reduction);
+            }
+            reduction.value = function.call(reduction.value, element);
+        }
+        Map<K, V> result = new HashMap<K, V>();
+        for (Map.Entry<K, Reduction<V>> entry : reductions.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().value);
+        }
+        return result;
+    }
+
+    /**
+     * Groups the elements of the supplied {@code Iterable} by the value returned
+     * by the supplied {@code Indexer} and reduces the elements of each group using
+     * the supplied {@code Reducer} starting from the supplied initial value.
+     *
+     * <p>For further documentation, see
+     * {@link #groupReduce(Iterable, UnaryFunction, Object, BinaryFunction)}.</p>
+     *
+     * @param iterable     The {@code Iterable} to be grouped and reduced.
+     * @param indexer      An {@code Indexer} returning the group of an element.
+     * @param initialValue The value from which the reduction of each group starts.
+     * @param reducer      A {@code Reducer} folding an element into the reduction of
+     *                     its group.
+     * @param <S>          The type of the elements in the supplied {@code Iterable}.
+     * @param <K>          The type of the group values.
+     * @param <V>          The type of the reductions.
+     * @return A {@code Map} from each group value to the reduction of the elements
+     *         in that group.
+     */
+    public static <S, K, V> Map<K, V> groupReduce(
+            Iterable<S> iterable,
+            Indexer<? super S, K> indexer,
+            V initialValue,
+            Reducer<? super S, V> reducer) {
+        return groupReduce(iterable, indexerUnaryFunction(indexer), initialValue, reducerBinaryFunction(reducer));
+    }
+
+    /**
+     * Groups the elements of the supplied {@code Iterable} by the value returned
+     * by the supplied indexing function and reduces the elements of each group
+     * using the supplied {@code BinaryFunction}, putting the reduction of each
+     * group into the supplied {@code Map}, which is returned.
+     *
+     * <p>This overload of {@link #groupReduce(Iterable, UnaryFunction, Object, BinaryFunction)}
+     * allows the kind of {@code Map} holding the result to be chosen, for example
+     * a {@code TreeMap} to order the groups, an {@code EnumMap} for enumerated
+     * group values or a {@code HashMap} presized for the expected number of groups.
+     * Elements are reduced directly into the supplied {@code Map}, so groups are
+     * identified in the same way as its keys, for example by the comparator of a
+     * {@code TreeMap}, and a group which the supplied {@code Map} already
+     * contains continues to be reduced from its existing value rather than from
+     * the initial value.</p>
+     *
+     * @param iterable     The {@code Iterable} to be grouped and reduced.
+     * @param indexer      A {@code UnaryFunction} returning the group of an element.
+     * @param initialValue The value from which the reduction of each group starts.
+     * @param function     A {@code BinaryFunction} folding an element into the
+     *                     reduction of its group.
+     * @param result       The {@code Map} into which to put the reductions.
+     * @param <S>          The type of the elements in the supplied {@code Iterable}.
+     * @param <K>          The type of the group values.
+     * @param <V>          The type of the reductions.
+     * @param <M>          The type of the supplied {@code Map}.
+     * @return The supplied {@code Map}, containing the reduction of the elements in
+     *         each group.
+     */
+    public static <S, K, V, M extends Map<K, V>> M groupReduce(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, K> indexer,
+            V initialValue,
+            BinaryFunction<V, ? super S, V> function,
+            M result) {
+        checkNotNull(indexer);
+        checkNotNull(function);
+        checkNotNull(result);
+        for (S element : iterable) {
+            K group = indexer.call(element);
+            V reduction = result.get(group);
+            if (reduction == null && !result.containsKey(group)) {
+                reduction = initialValue;
+            }
+            result.put(group, function.call(reduction, element));
+        }
+        return result;
+    }
+
+    /**
+     * Groups the elements of the supplied {@code Iterable} by the value returned
+     * by the supplied {@code Indexer} and reduces the elements of each group using
+     * the supplied {@code Reducer}, putting the reduction of each group into the
+     * supplied {@code Map}, which is returned.
+     *
+     * <p>For further documentation, see
+     * {@link #groupReduce(Iterable, UnaryFunction, Object, BinaryFunction, Map)}.</p>
+     *
+     * @param iterable     The {@code Iterable} to be grouped and reduced.
+     * @param indexer      An {@code Indexer} returning the group of an element.
+     * @param initialValue The value from which the reduction of each group starts.
+     * @param reducer      A {@code Reducer} folding an element into the reduction of
+     *                     its group.
+     * @param result       The {@code Map} into which to put the reductions.
+     * @param <S>          The type of the elements in the supplied {@code Iterable}.
+     * @param <K>          The type of the group values.
+     * @param <V>          The type of the reductions.
+     * @param <M>          The type of the supplied {@code Map}.
+     * @return The supplied {@code Map}, containing the reduction of the elements in
+     *         each group.
+     */
+    public static <S, K, V, M extends Map<K, V>> M groupReduce(
+            Iterable<S> iterable,
+            Indexer<? super S, K> indexer,
+            V initialValue,
+            Reducer<? super S, V> reducer,
+            M result) {
+        return groupReduce(iterable, indexerUnaryFunction(indexer), initialValue, reducerBinaryFunction(reducer), result);
+    }
+
     /**
      * Applies the supplied {@code UnaryProcedure} to each element in the
      * supplied {@code Iterable}. Each element in the supplied {@code Iterable} is
@@ -2145,7 +2619,19 @@ public class Eagerly {
      *         {@code Iterable}.
      */
     public static <T> Option<T> last(Iterable<? extends T> iterable) {
-        return first(slice(iterable, -1, null));
+        if (iterable instanceof List) {
+            List<? extends T> list = (List<? extends T>) iterable;
+            return list.isEmpty() ? Option.<T>none() : Option.<T>some(list.get(list.size() - 1));
+        }
+        Iterator<? extends T> iterator = iterable.iterator();
+        if (!iterator.hasNext()) {
+            return Option.none();
+        }
+        T lastElement = iterator.next();
+        while (iterator.hasNext()) {
+            lastElement = iterator.next();
+        }
+        return Option.some(lastElement);
     }
 
     /**
@@ -2479,6 +2965,14 @@ public class Eagerly {
      *                                  is negative.
      */
     public static <T> Collection<T> take(Iterable<T> iterable, int numberToTake) {
+        if (iterable instanceof List) {
+            if (numberToTake < 0) {
+                throw new IllegalArgumentException("Cannot take a negative number of elements.");
+            }
+            List<T> list = (List<T>) iterable;
+            return Collections.unmodifiableList(
+                    new ArrayList<T>(list.subList(0, Math.min(numberToTake, list.size()))));
+        }
         return materialize(Lazily.take(iterable, numberToTake));
     }
 
@@ -2723,6 +3217,14 @@ public class Eagerly {
      *                                  is negative.
      */
     public static <T> Collection<T> drop(Iterable<T> iterable, int numberToDrop) {
+        if (iterable instanceof List) {
+            if (numberToDrop < 0) {
+                throw new IllegalArgumentException("Cannot drop a negative number of elements.");
+            }
+            List<T> list = (List<T>) iterable;
+            return Collections.unmodifiableList(
+                    new ArrayList<T>(list.subList(Math.min(numberToDrop, list.size()), list.size())));
+        }
         return materialize(Lazily.drop(iterable, numberToDrop));
     }
 
@@ -2982,8 +3484,121 @@ public class Eagerly {
     public static <T> Pair<Collection<T>, Collection<T>> partition(
             Iterable<T> iterable,
             UnaryPredicate<? super T> predicate) {
-        Pair<Iterable<T>, Iterable<T>> partition = Lazily.partition(iterable, predicate);
-        return tuple(materialize(partition.getFirst()), materialize(partition.getSecond()));
+        checkNotNull(predicate);
+        List<T> matching = new ArrayList<T>();
+        List<T> nonMatching = new ArrayList<T>();
+        for (T element : iterable) {
+            if (predicate.evaluate(element)) {
+                matching.add(element);
+            } else {
+                nonMatching.add(element);
+            }
+        }
+        return tuple(
+                (Collection<T>) Collections.unmodifiableList(matching),
+                (Collection<T>) Collections.unmodifiableList(nonMatching));
+    }
+
+    /**
+     * Partitions the supplied {@code Iterable} into the specified number of
+     * partitions, placing each element in the partition whose index is returned
+     * by the supplied {@code UnaryFunction} when passed that element. A {@code List}
+     * containing one {@code Collection} per partition is returned, the partition at
+     * each index containing the elements routed to that index in the order in
+     * which they are yielded from the supplied {@code Iterable}.
+     *
+     * <p>Since a {@code List} of {@code Collection} instances is returned, the
+     * partitioning is performed eagerly, i.e., the {@code UnaryFunction} is applied
+     * once to each element in the input {@code Iterable} immediately, in a single
+     * traversal.</p>
+     *
+     * <p>If the supplied number of partitions is not positive, or the
+     * {@code UnaryFunction} returns an index outside of the range of partitions
+     * for some element, an {@code IllegalArgumentException} is thrown.</p>
+     *
+     * <h4>Example Usage:</h4>
+     * Given an {@code Iterable} of {@code Order} instances, we can spread them across
+     * four workers by customer as follows:
+     * <blockquote>
+     * <pre>
+     *     Iterable&lt;Order&gt; orders = orderRepository.getOutstandingOrders();
+     *     List&lt;Collection&lt;Order&gt;&gt; workloads = partitionBy(orders, new UnaryFunction&lt;Order, Integer&gt;() {
+     *         &#64;Override public Integer call(Order order) {
+     *             return Math.abs(order.getCustomerId().hashCode() % 4);
+     *         }
+     *     }, 4);
+     * </pre>
+     * </blockquote>
+     *
+     * @param iterable           An {@code Iterable} of elements to be partitioned.
+     * @param function           A {@code UnaryFunction} returning the index of the
+     *                           partition in which each element should reside.
+     * @param numberOfPartitions The number of partitions required.
+     * @param <T>                The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code List} of the required number of {@code Collection} instances
+     *         each containing the elements routed to its index.
+     * @throws IllegalArgumentException if the required number of partitions is not
+     *                                  positive or an element is routed outside of
+     *                                  the range of partitions.
+     */
+    public static <T> List<Collection<T>> partitionBy(
+            Iterable<T> iterable,
+            UnaryFunction<? super T, Integer> function,
+            int numberOfPartitions) {
+        checkNotNull(function);
+        if (numberOfPartitions <= 0) {
+            throw new IllegalArgumentException("Number of partitions must be greater than zero.");
+        }
+        List<List<T>> buffers = new ArrayList<List<T>>(numberOfPartitions);
+        for (int i = 0; i < numberOfPartitions; i++) {
+            buffers.add(new ArrayList<T>());
+        }
+        for (T element : iterable) {
+            Integer partition = function.call(element);
+            if (partition == null || partition < 0 || partition >= numberOfPartitions) {
+                throw new IllegalArgumentException(format(
+                        "Partition index %s is outside of the range [0, %d).", partition, numberOfPartitions));
+            }
+            buffers.get(partition).add(element);
+        }
+        List<Collection<T>> partitions = new ArrayList<Collection<T>>(numberOfPartitions);
+        for (List<T> buffer : buffers) {
+            partitions.add(Collections.unmodifiableList(buffer));
+        }
+        return Collections.unmodifiableList(partitions);
+    }
+
+    /**
+     * Partitions the supplied {@code Iterable} into the specified number of
+     * partitions, placing each element in the partition whose index is returned
+     * by the supplied {@code Indexer} when passed that element.
+     *
+     * <p>This overload of {@link #partitionBy(Iterable, UnaryFunction, int)} is
+     * provided to allow an {@code Indexer} to be used in place of a
+     * {@code UnaryFunction} to enhance readability and better express intent. The
+     * contract of the function is identical to that of the {@code UnaryFunction}
+     * version of {@code partitionBy}.</p>
+     *
+     * <p>For example usage and further documentation, see
+     * {@link #partitionBy(Iterable, UnaryFunction, int)}.</p>
+     *
+     * @param iterable           An {@code Iterable} of elements to be partitioned.
+     * @param indexer            An {@code Indexer} returning the index of the
+     *                           partition in which each element should reside.
+     * @param numberOfPartitions The number of partitions required.
+     * @param <T>                The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code List} of the required number of {@code Collection} instances
+     *         each containing the elements routed to its index.
+     * @throws IllegalArgumentException if the required number of partitions is not
+     *                                  positive or an element is routed outside of
+     *                                  the range of partitions.
+     * @see #partitionBy(Iterable, UnaryFunction, int)
+     */
+    public static <T> List<Collection<T>> partitionBy(
+            Iterable<T> iterable,
+            Indexer<? super T, Integer> indexer,
+            int numberOfPartitions) {
+        return partitionBy(iterable, indexerUnaryFunction(indexer), numberOfPartitions);
     }
 
     /**
@@ -3119,29 +3734,16 @@ public class Eagerly {
      *         from the supplied {@code Iterable} specified by the supplied
      *         start and stop indices and the supplied step size.
      */
+    @SuppressWarnings("unchecked")
     public static <T> Collection<T> slice(
             Iterable<T> iterable,
             Integer start,
             Integer stop,
             Integer step) {
-        List<? extends T> inputCollection = Iterables.asList(iterable);
-
-        if (inputCollection.size() == 0) {
-            return Collections.emptyList();
+        if (iterable instanceof List) {
+            return SliceHelper.sliceList((List<T>) iterable, start, stop, step);
         }
-
-        int startIndex = SliceHelper.resolveStartIndex(start, inputCollection.size());
-        int stopIndex = SliceHelper.resolveStopIndex(stop, inputCollection.size());
-        int stepSize = SliceHelper.resolveStepSize(step);
-
-        IntegerRange requiredElementIndices = new IntegerRange(startIndex, stopIndex, stepSize);
-        List<T> outputCollection = new ArrayList<T>();
-
-        for (Integer elementIndex : requiredElementIndices) {
-            outputCollection.add(inputCollection.get(elementIndex));
-        }
-
-        return outputCollection;
+        return SliceHelper.sliceSequence(iterable.iterator(), start, stop, step);
     }
 
     /**
@@ -3217,12 +3819,182 @@ public class Eagerly {
         return materialize(Lazily.repeat(iterable, numberOfTimesToRepeat));
     }
 
+    private static <T> List<T> listSizedFor(Iterable<?> iterable) {
+        if (iterable instanceof Collection) {
+            return new ArrayList<T>(((Collection<?>) iterable).size());
+        }
+        return new ArrayList<T>();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> dimension(Iterable<T> iterable) {
+        if (isRandomAccessList(iterable)) {
+            return (List<T>) iterable;
+        }
+        return new ArrayList<T>(materialize(iterable));
+    }
+
+    private static <T> List<T> copyOf(Iterable<T> iterable) {
+        List<T> copy = listSizedFor(iterable);
+        for (T element : iterable) {
+            copy.add(element);
+        }
+        return copy;
+    }
+
+    private static <T> Collection<T> presized(Iterable<T> iterable) {
+        List<T> outputs = listSizedFor(iterable);
+        for (T element : iterable) {
+            outputs.add(element);
+        }
+        return Collections.unmodifiableList(outputs);
+    }
+
     static <T> Option<T> second(Iterable<? extends T> iterable) {
         return first(Lazily.rest(iterable));
     }
 
+    /**
+     * Slices lists by index and any other {@code Iterable} in a single pass,
+     * retaining only those elements which could fall within the slice. For a
+     * positive step and a non-negative start, the slice itself is the only
+     * buffer. Otherwise a {@code RingBuffer} holds a window of elements whose
+     * width depends on the supplied indices rather than the length of the
+     * {@code Iterable}, e.g., {@code slice(iterable, -5, null)} holds at most
+     * five elements however many are iterated.
+     */
     private static class SliceHelper {
-        private static int resolveStartIndex(Integer start, Integer numberOfElements) {
+        private static <T> List<T> sliceList(List<T> list, Integer start, Integer stop, Integer step) {
+            if (list.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            long startIndex = resolveStartIndex(start, list.size());
+            long stopIndex = resolveStopIndex(stop, list.size());
+            int stepSize = resolveStepSize(step);
+
+            List<T> outputCollection = new ArrayList<T>((int) resolveLength(startIndex, stopIndex, stepSize));
+
+            if (stepSize == 1) {
+                if (startIndex < stopIndex) {
+                    outputCollection.addAll(list.subList((int) startIndex, (int) stopIndex));
+                }
+            } else if (list instanceof RandomAccess) {
+                for (long elementIndex = startIndex;
+                     (stepSize > 0) ? elementIndex < stopIndex : elementIndex > stopIndex;
+                     elementIndex += stepSize) {
+                    outputCollection.add(list.get((int) elementIndex));
+                }
+            } else if (stepSize > 0) {
+                ListIterator<T> iterator = list.listIterator((int) startIndex);
+                for (long elementIndex = startIndex; elementIndex < stopIndex; elementIndex += stepSize) {
+                    outputCollection.add(iterator.next());
+                    for (int skipped = 1; skipped < stepSize && iterator.hasNext(); skipped++) {
+                        iterator.next();
+                    }
+                }
+            } else if (startIndex > stopIndex) {
+                ListIterator<T> iterator = list.listIterator((int) startIndex + 1);
+                for (long elementIndex = startIndex; elementIndex > stopIndex; elementIndex += stepSize) {
+                    outputCollection.add(iterator.previous());
+                    for (int skipped = -1; skipped > stepSize && iterator.hasPrevious(); skipped--) {
+                        iterator.previous();
+                    }
+                }
+            }
+
+            return outputCollection;
+        }
+
+        private static <T> List<T> sliceSequence(Iterator<T> iterator, Integer start, Integer stop, Integer step) {
+            if (!iterator.hasNext()) {
+                return Collections.emptyList();
+            }
+
+            int stepSize = resolveStepSize(step);
+
+            if (stepSize > 0 && (start == null || start >= 0)) {
+                return sliceForwards(iterator, (start == null) ? 0 : start, stop, stepSize);
+            }
+            return sliceWindow(iterator, start, stop, stepSize);
+        }
+
+        private static <T> List<T> sliceForwards(Iterator<T> iterator, int start, Integer stop, int stepSize) {
+            List<T> outputCollection = new ArrayList<T>();
+            long numberOfElements = 0;
+            T lastElement = null;
+            while (iterator.hasNext()) {
+                if (stop != null && stop >= 0 && numberOfElements == stop) {
+                    numberOfElements++;
+                    break;
+                }
+                T element = iterator.next();
+                if (numberOfElements >= start && (numberOfElements - start) % stepSize == 0) {
+                    outputCollection.add(element);
+                }
+                lastElement = element;
+                numberOfElements++;
+            }
+
+            long stopIndex = resolveStopIndex(stop, numberOfElements);
+            if (start > numberOfElements) {
+                if (numberOfElements - 1 < stopIndex) {
+                    outputCollection.add(lastElement);
+                }
+                return outputCollection;
+            }
+
+            long length = resolveLength(start, stopIndex, stepSize);
+            if (length < outputCollection.size()) {
+                outputCollection.subList((int) length, outputCollection.size()).clear();
+            }
+            return outputCollection;
+        }
+
+        private static <T> List<T> sliceWindow(Iterator<T> iterator, Integer start, Integer stop, int stepSize) {
+            long lowestIndex = 0;
+            long indexLimit = Long.MAX_VALUE;
+            long capacity;
+            if (stepSize > 0) {
+                capacity = -(long) start;
+            } else {
+                if (start == null || start >= 0) {
+                    indexLimit = (start == null) ? 1 : start + 1L;
+                }
+                if (stop == null) {
+                    capacity = 0;
+                } else if (stop >= 0) {
+                    lowestIndex = stop + 1L;
+                    capacity = Integer.MAX_VALUE;
+                } else {
+                    capacity = -(long) stop - 1;
+                }
+            }
+
+            RingBuffer<T> window = new RingBuffer<T>((int) Math.min(capacity, Integer.MAX_VALUE));
+            long numberOfElements = 0;
+            while (iterator.hasNext()) {
+                T element = iterator.next();
+                if (numberOfElements >= lowestIndex && numberOfElements < indexLimit) {
+                    window.add(element);
+                }
+                numberOfElements++;
+            }
+
+            long windowStart = Math.min(numberOfElements, indexLimit) - window.size();
+            long startIndex = resolveStartIndex(start, numberOfElements);
+            long stopIndex = resolveStopIndex(stop, numberOfElements);
+
+            List<T> outputCollection = new ArrayList<T>((int) resolveLength(startIndex, stopIndex, stepSize));
+            for (long elementIndex = startIndex;
+                 (stepSize > 0) ? elementIndex < stopIndex : elementIndex > stopIndex;
+                 elementIndex += stepSize) {
+                outputCollection.add(window.get(elementIndex - windowStart));
+            }
+            return outputCollection;
+        }
+
+        private static long resolveStartIndex(Integer start, long numberOfElements) {
             if (start == null || start + numberOfElements < 0) {
                 return 0;
             } else if (start < 0) {
@@ -3234,7 +4006,7 @@ public class Eagerly {
             }
         }
 
-        private static int resolveStopIndex(Integer stop, Integer numberOfElements) {
+        private static long resolveStopIndex(Integer stop, long numberOfElements) {
             if (stop == null || stop > numberOfElements) {
                 return numberOfElements;
             } else if (stop + numberOfElements < 0) {
@@ -3246,6 +4018,14 @@ public class Eagerly {
             }
         }
 
+        private static long resolveLength(long startIndex, long stopIndex, int stepSize) {
+            long distance = (stepSize > 0)
+                    ? stopIndex - startIndex
+                    : startIndex - stopIndex;
+            long magnitude = Math.abs((long) stepSize);
+            return (distance <= 0) ? 0 : (distance + magnitude - 1) / magnitude;
+        }
+
         private static int resolveStepSize(Integer step) {
             if (step == null) {
                 return 1;
@@ -3256,4 +4036,12 @@ public class Eagerly {
             }
         }
     }
+
+    private static class Reduction<T> {
+        private T value;
+
+        Reduction(T value) {
+            this.value = value;
+        }
+    }
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.javafunk.funk.functors.adapters.MapperUnaryFunctionAdapter.mapperUnaryFunction;
+
+/**
+ * An immutable description of how to join the elements of an
+ * {@code Iterable} into text, obtained from {@link Strings#joining(String)}.
+ * Elements are written one at a time, separated by the separator and
+ * surrounded by the optional prefix and suffix, straight into any
+ * {@code Appendable}, so neither the elements nor the joined text are ever
+ * held in memory unless the {@code Appendable} itself holds them. Each element
+ * is written as its {@code toString()}, or as that of the result of the
+ * formatter if one has been supplied, with {@code null}s written as empty
+ * text.
+ *
+ * <p>When a maximum length has been set, no more than that many characters
+ * are written in total. If the joined text would be longer, as much of it as
+ * fits is followed by the truncation indicator and then the suffix, and no
+ * further elements are retrieved from the {@code Iterable}, which may
+ * therefore be infinite.</p>
+ *
+ * @param <T> The type of the elements that can be joined.
+ */
+public final class Joining<T> {
+    private static final String DEFAULT_TRUNCATION_INDICATOR = "...";
+
+    private final String separator;
+    private final String prefix;
+    private final String suffix;
+    private final UnaryFunction<? super T, ?> formatter;
+    private final long maximumLength;
+    private final String truncationIndicator;
+
+    Joining(String separator) {
+        this(separator == null ? "" : separator, "", "", null, Long.MAX_VALUE, "");
+    }
+
+    private Joining(
+            String separator, String prefix, String suffix,
+            UnaryFunction<? super T, ?> formatter,
+            long maximumLength, String truncationIndicator) {
+        this.separator = separator;
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.formatter = formatter;
+        this.maximumLength = maximumLength;
+        this.truncationIndicator = truncationIndicator;
+    }
+
+    public Joining<T> withPrefix(String prefix) {
+        return new Joining<T>(separator, checkNotNull(prefix), suffix, formatter, maximumLength, truncationIndicator);
+    }
+
+    public Joining<T> withSuffix(String suffix) {
+        return new Joining<T>(separator, prefix, checkNotNull(suffix), formatter, maximumLength, truncationIndicator);
+    }
+
+    public <S> Joining<S> formattedWith(UnaryFunction<? super S, ?> formatter) {
+        return new Joining<S>(separator, prefix, suffix, checkNotNull(formatter), maximumLength, truncationIndicator);
+    }
+
+    public <S> Joining<S> formattedWith(Mapper<? super S, ?> formatter) {
+        return formattedWith(mapperUnaryFunction(checkNotNull(formatter)));
+    }
+
+    public Joining<T> truncatedTo(int maximumLength) {
+        return truncatedTo(maximumLength, DEFAULT_TRUNCATION_INDICATOR);
+    }
+
+    public Joining<T> truncatedTo(int maximumLength, String truncationIndicator) {
+        if (maximumLength < 0) {
+            throw new IllegalArgumentException("Maximum length must not be negative.");
+        }
+        return new Joining<T>(separator, prefix, suffix, formatter, maximumLength, checkNotNull(truncationIndicator));
+    }
+
+    public String join(Iterable<? extends T> iterable) {
+        return appendTo(new StringBuilder(), iterable).toString();
+    }
+
+    public StringBuilder appendTo(StringBuilder builder, Iterable<? extends T> iterable) {
+        try {
+            return appendTo(builder, iterable, builder);
+        } catch (IOException exception) {
+            throw new IllegalStateException("A StringBuilder threw an IOException.", exception);
+        }
+    }
+
+    public <A extends Appendable> A appendTo(A appendable, Iterable<? extends T> iterable) throws IOException {
+        return appendTo(appendable, iterable, appendable instanceof StringBuilder ? (StringBuilder) appendable : null);
+    }
+
+    private <A extends Appendable> A appendTo(
+            A appendable, Iterable<? extends T> iterable, StringBuilder presizable) throws IOException {
+        checkNotNull(appendable);
+        checkNotNull(iterable);
+        long bodyLength = maximumLength - prefix.length() - suffix.length();
+        if (bodyLength < truncationIndicator.length()) {
+            throw new IllegalArgumentException(
+                    "Maximum length must be at least the combined length of the prefix, suffix and truncation indicator.");
+        }
+
+        int start = presizable == null ? 0 : presizable.length();
+        appendable.append(prefix);
+        BoundedAppender body = new BoundedAppender(appendable, bodyLength, truncationIndicator.length());
+        Iterator<? extends T> elements = iterable.iterator();
+        boolean first = true;
+        while (elements.hasNext() && !body.isTruncated()) {
+            if (!first) {
+                body.append(separator);
+            }
+            CharSequence element = format(elements.next());
+            body.append(element);
+            if (first && presizable != null && iterable instanceof Collection) {
+                presize(presizable, start, element.length(), ((Collection<?>) iterable).size());
+            }
+            first = false;
+        }
+        body.finish(truncationIndicator);
+        appendable.append(suffix);
+        return appendable;
+    }
+
+    /**
+     * Estimates the final length from the length of the first element, so
+     * that a {@code StringBuilder} is grown once rather than repeatedly. Any
+     * text the builder held before joining started is counted once, as it is.
+     */
+    private void presize(StringBuilder builder, int start, int firstLength, int size) {
+        long joinedLength = prefix.length() + firstLength + (long) (firstLength + separator.length()) * (size - 1)
+                + suffix.length();
+        long estimate = start + Math.min(joinedLength, maximumLength);
+        builder.ensureCapacity((int) Math.min(estimate, Integer.MAX_VALUE - 8));
+    }
+
+    private CharSequence format(T element) {
+        Object formatted = formatter == null ? element : formatter.call(element);
+        if (formatted == null) {
+            return "";
+        }
+        return formatted instanceof CharSequence ? (CharSequence) formatted : formatted.toString();
+    }
+
+    /**
+     * Writes through to an {@code Appendable} until within reserve characters
+     * of a limit, then holds back what follows until it is known whether the
+     * limit is exceeded, in which case the reserve is used for the truncation
+     * indicator instead.
+     */
+    private static class BoundedAppender {
+        private final Appendable appendable;
+        private final long limit;
+        private final long reserve;
+        private final StringBuilder heldBack = new StringBuilder();
+        private long written = 0;
+        private boolean truncated = false;
+
+        BoundedAppender(Appendable appendable, long limit, long reserve) {
+            this.appendable = appendable;
+            this.limit = limit;
+            this.reserve = reserve;
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+
+        void append(CharSequence text) throws IOException {
+            if (truncated) {
+                return;
+            }
+            long room = limit - reserve - written;
+            if (text.length() <= room) {
+                appendable.append(text);
+                written += text.length();
+                return;
+            }
+            int direct = (int) Math.max(0, room);
+            appendable.append(text, 0, direct);
+            written += direct;
+            heldBack.append(text, direct, (int) Math.min(text.length(), direct + reserve + 1));
+            if (written + heldBack.length() > limit) {
+                truncated = true;
+            }
+        }
+
+        void finish(String truncationIndicator) throws IOException {
+            appendable.append(truncated ? truncationIndicator : heldBack);
+        }
+    }
+}
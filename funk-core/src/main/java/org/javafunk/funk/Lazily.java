@@ -8,6 +8,8 @@
  */
 package org.javafunk.funk;
 
+import com.google.common.collect.Ordering;
+import org.javafunk.funk.behaviours.Codec;
 import org.javafunk.funk.datastructures.tuples.Nonuple;
 import org.javafunk.funk.datastructures.tuples.Octuple;
 import org.javafunk.funk.datastructures.tuples.Pair;
@@ -18,30 +20,46 @@ import org.javafunk.funk.datastructures.tuples.Sextuple;
 import org.javafunk.funk.datastructures.tuples.Triple;
 import org.javafunk.funk.functors.Action;
 import org.javafunk.funk.functors.Equivalence;
+import org.javafunk.funk.functors.Factory;
 import org.javafunk.funk.functors.Indexer;
 import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.functions.BinaryFunction;
 import org.javafunk.funk.functors.functions.UnaryFunction;
 import org.javafunk.funk.functors.predicates.BinaryPredicate;
 import org.javafunk.funk.functors.predicates.UnaryPredicate;
 import org.javafunk.funk.functors.procedures.UnaryProcedure;
+import org.javafunk.funk.iterators.AbstractZippedIterator;
 import org.javafunk.funk.iterators.BatchedIterator;
+import org.javafunk.funk.iterators.CartesianProductIterator;
 import org.javafunk.funk.iterators.ChainedIterator;
 import org.javafunk.funk.iterators.CyclicIterator;
 import org.javafunk.funk.iterators.EachIterator;
+import org.javafunk.funk.iterators.ExternallySortedIterator;
 import org.javafunk.funk.iterators.FilteredIterator;
 import org.javafunk.funk.iterators.MappedIterator;
+import org.javafunk.funk.iterators.MergedIterator;
 import org.javafunk.funk.iterators.PredicatedIterator;
+import org.javafunk.funk.iterators.PrefetchingIterator;
 import org.javafunk.funk.iterators.SubSequenceIterator;
 import org.javafunk.funk.iterators.ZippedIterator;
 import org.javafunk.funk.predicates.NotPredicate;
 
+import java.io.File;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static org.javafunk.funk.Eagerly.first;
-import static org.javafunk.funk.Iterables.concat;
-import static org.javafunk.funk.Literals.iterableBuilderWith;
+import static org.javafunk.funk.ListViews.areRandomAccessLists;
+import static org.javafunk.funk.ListViews.batched;
+import static org.javafunk.funk.ListViews.enumerated;
+import static org.javafunk.funk.ListViews.hasAddressableCartesianProduct;
+import static org.javafunk.funk.ListViews.isRandomAccessList;
+import static org.javafunk.funk.ListViews.mapped;
+import static org.javafunk.funk.ListViews.sliced;
+import static org.javafunk.funk.ListViews.windowed;
+import static org.javafunk.funk.ListViews.zipped;
 import static org.javafunk.funk.Literals.iterableWith;
 import static org.javafunk.funk.Literals.listFrom;
 import static org.javafunk.funk.Literals.tuple;
@@ -128,6 +146,11 @@ public class Lazily {
      * the supplied batch size is not positive, an {@code IllegalArgumentException}
      * will be thrown.</p>
      *
+     * <p>If the supplied {@code Iterable} is a random access {@code List}, each
+     * batch is a read-only view of the corresponding sub-list rather than a copy.
+     * Otherwise each batch is copied from the supplied {@code Iterable} as it is
+     * retrieved.</p>
+     *
      * <p>As an example, the following two {@code Iterable} instances
      * are effectively equivalent:
      * <blockquote>
@@ -153,6 +176,9 @@ public class Lazily {
         if (batchSize <= 0) {
             throw new IllegalArgumentException("Batch size must be greater than zero.");
         }
+        if (isRandomAccessList(iterable)) {
+            return batched((List<T>) iterable, batchSize);
+        }
         return new Iterable<Iterable<T>>() {
             public Iterator<Iterable<T>> iterator() {
                 return new BatchedIterator<T>(iterable.iterator(), batchSize);
@@ -160,6 +186,78 @@ public class Lazily {
         };
     }
 
+    /**
+     * Returns a lazy {@code Iterable} of the windows of the specified number of
+     * consecutive elements of the supplied {@code Iterable}, each window starting
+     * the specified step after the start of the previous one. A step smaller than
+     * the size gives overlapping, sliding windows, a step equal to the size gives
+     * adjacent, tumbling windows and a larger step skips the elements between
+     * windows. Only full windows are yielded, so trailing elements too few to fill
+     * a window are not.
+     *
+     * <p>No elements are copied. If the supplied {@code Iterable} is a random
+     * access {@code List}, each window is a read-only view of the corresponding
+     * sub-list. Otherwise, elements are read into a single ring buffer with room
+     * for one window plus one step, and each window is a read-only view over that
+     * buffer. Such a view remains valid until the iterator is advanced beyond the
+     * following window, so a window may be used alongside the one after it, but
+     * thereafter fails with an {@code IllegalStateException}. Callers that keep
+     * windows for longer should use {@link #windowCopies(Iterable, int, int)}
+     * instead.</p>
+     *
+     * <h4>Example Usage</h4>
+     * <blockquote>
+     * <pre>
+     *   Lazily.window(iterableWith(1, 2, 3, 4, 5), 3, 1); // => [1, 2, 3], [2, 3, 4], [3, 4, 5]
+     *   Lazily.window(iterableWith(1, 2, 3, 4, 5), 2, 2); // => [1, 2], [3, 4]
+     * </pre>
+     * </blockquote>
+     *
+     * @param iterable The {@code Iterable} over which to slide a window.
+     * @param size     The number of elements in each window; must be greater than
+     *                 zero.
+     * @param step     The number of elements by which each window advances; must be
+     *                 greater than zero.
+     * @param <T>      The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Iterable} of read-only {@code List} views of each window.
+     * @throws IllegalArgumentException if the size or step is not positive.
+     */
+    public static <T> Iterable<List<T>> window(Iterable<T> iterable, int size, int step) {
+        return window(iterable, size, step, false);
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} of copies of the windows of the specified
+     * number of consecutive elements of the supplied {@code Iterable}, each window
+     * starting the specified step after the start of the previous one. Each window
+     * is copied into its own read-only {@code List} as it is retrieved, so windows
+     * may be kept indefinitely.
+     *
+     * <p>For further documentation, see {@link #window(Iterable, int, int)}.</p>
+     */
+    public static <T> Iterable<List<T>> windowCopies(Iterable<T> iterable, int size, int step) {
+        return window(iterable, size, step, true);
+    }
+
+    private static <T> Iterable<List<T>> window(
+            final Iterable<T> iterable, final int size, final int step, final boolean copying) {
+        checkNotNull(iterable);
+        if (size <= 0) {
+            throw new IllegalArgumentException("Window size must be greater than zero.");
+        }
+        if (step <= 0) {
+            throw new IllegalArgumentException("Step must be greater than zero.");
+        }
+        if (isRandomAccessList(iterable)) {
+            return windowed((List<T>) iterable, size, step, copying);
+        }
+        return new Iterable<List<T>>() {
+            public Iterator<List<T>> iterator() {
+                return new WindowedIterator<T>(iterable.iterator(), size, step, copying);
+            }
+        };
+    }
+
     /**
      * Returns an infinite lazy {@code Iterable} which repeatedly cycles through the
      * elements in the supplied {@code Iterable} in the order in which they are
@@ -234,6 +332,363 @@ public class Lazily {
         };
     }
 
+    /**
+     * Returns a lazy {@code Iterable} which evaluates the supplied {@code Iterable}
+     * at most once and retains each element as it is evaluated so that repeated
+     * iterations of the returned {@code Iterable} share the same elements.
+     *
+     * <p>Lazy {@code Iterable} instances, such as those returned by
+     * {@link #map(Iterable, UnaryFunction)} or {@link #filter(Iterable, UnaryPredicate)},
+     * re-evaluate their whole chain of functors every time they are iterated.
+     * Memoizing such an {@code Iterable} ensures each functor is applied only once
+     * per element regardless of how many times, or by how many threads, the
+     * returned {@code Iterable} is iterated. The returned {@code Iterable} is safe
+     * to iterate concurrently from multiple threads although each of its iterators
+     * should only be used by one thread at a time.</p>
+     *
+     * <p>Elements are not evaluated until some iterator of the returned {@code Iterable}
+     * first reaches them. All evaluated elements are retained until the returned
+     * {@code Iterable} is discarded so memoizing an infinite {@code Iterable} will
+     * eventually exhaust the available memory if it is iterated indefinitely; see
+     * {@link #memoize(Iterable, int)} for a bounded alternative. Once the supplied
+     * {@code Iterable} is exhausted, the retained elements are compacted into an
+     * array and the supplied {@code Iterable} is released.</p>
+     *
+     * <h4>Example Usage:</h4>
+     * Given an expensive lookup performed lazily over some identifiers:
+     * <blockquote>
+     * <pre>
+     *     Iterable&lt;Account&gt; accounts = memoize(map(accountIds, new Mapper&lt;Long, Account&gt;() {
+     *         &#64;Override public Account map(Long accountId) {
+     *             return accountRepository.findById(accountId);
+     *         }
+     *     }));
+     * </pre>
+     * </blockquote>
+     * the repository will be queried at most once per identifier no matter how many
+     * times {@code accounts} is iterated.
+     *
+     * <p>Removal of elements using the iterators of the returned {@code Iterable}
+     * is not supported.</p>
+     *
+     * @param iterable The {@code Iterable} to memoize.
+     * @param <T>      The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Iterable} instance yielding the same elements as the
+     *         supplied {@code Iterable} but evaluating them at most once.
+     */
+    public static <T> Iterable<T> memoize(Iterable<T> iterable) {
+        checkNotNull(iterable);
+        return MemoizedIterable.unbounded(iterable);
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} which evaluates the supplied {@code Iterable}
+     * at most once and retains only the most recently evaluated elements, up to the
+     * specified window size, so that iterators progressing roughly in step with one
+     * another share the same elements.
+     *
+     * <p>This overload of {@link #memoize(Iterable)} bounds the memory used by the
+     * memoization, making it suitable for very large or infinite {@code Iterable}
+     * instances consumed by several iterators which never drift far apart. If an
+     * iterator of the returned {@code Iterable} attempts to retrieve an element
+     * which is more than the window size behind the furthest evaluated element, an
+     * {@code IllegalStateException} is thrown since that element can no longer be
+     * replayed.</p>
+     *
+     * <p>For further documentation, see {@link #memoize(Iterable)}.</p>
+     *
+     * @param iterable   The {@code Iterable} to memoize.
+     * @param windowSize The maximum number of the most recently evaluated elements
+     *                   to retain.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Iterable} instance yielding the same elements as the
+     *         supplied {@code Iterable} but evaluating them at most once.
+     * @throws IllegalArgumentException if the specified window size is not positive.
+     * @see #memoize(Iterable)
+     */
+    public static <T> Iterable<T> memoize(Iterable<T> iterable, int windowSize) {
+        checkNotNull(iterable);
+        return MemoizedIterable.windowed(iterable, windowSize);
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} which, each time it is iterated, retrieves the
+     * elements of the supplied {@code Iterable} on a background thread ahead of the
+     * consumer, buffering up to the specified number of them.
+     *
+     * <p>Iterating a lazy {@code Iterable} normally pulls each element from its
+     * source only when the consumer asks for it, so the time spent waiting on a
+     * slow source, such as a database cursor or a file being parsed, and the time
+     * spent processing the elements add up. Prefetching lets the two overlap. The
+     * background work is run on a shared pool of daemon threads; see
+     * {@link #prefetch(Iterable, int, Executor)} to supply an {@code Executor}.</p>
+     *
+     * <p>Any exception thrown while retrieving elements is rethrown to the consumer
+     * once the elements retrieved before it have been consumed. The iterators of
+     * the returned {@code Iterable} are {@link PrefetchingIterator} instances.
+     * Passing the returned {@code Iterable} directly to
+     * {@link #take(Iterable, int)} or {@link #slice(Iterable, Integer, Integer, Integer)}
+     * stops the background retrieval as soon as the bound is reached. Any other
+     * consumer that stops iterating before the end should call
+     * {@link PrefetchingIterator#cancel()} on its iterator; otherwise the
+     * background retrieval is only stopped on a best effort basis once the
+     * iterator has been garbage collected, and may keep a thread busy until
+     * then. {@code PrefetchingIterator} also exposes how often either side had
+     * to wait for the other, to help with tuning the buffer size.</p>
+     *
+     * <h4>Example Usage:</h4>
+     * <blockquote>
+     * <pre>
+     *     Iterable&lt;Record&gt; records = prefetch(recordReader.readAll(), 256);
+     *     Iterable&lt;Summary&gt; summaries = map(records, toSummary());
+     * </pre>
+     * </blockquote>
+     *
+     * @param iterable   The {@code Iterable} whose elements should be prefetched.
+     * @param bufferSize The maximum number of elements to retrieve ahead of the
+     *                   consumer.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Iterable} yielding the elements of the supplied
+     *         {@code Iterable}, retrieved in the background.
+     * @throws IllegalArgumentException if the specified buffer size is not positive.
+     */
+    public static <T> Iterable<T> prefetch(Iterable<T> iterable, int bufferSize) {
+        return prefetch(iterable, bufferSize, BackgroundThreads.sharedExecutor());
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} which, each time it is iterated, retrieves the
+     * elements of the supplied {@code Iterable} ahead of the consumer in a task
+     * executed by the supplied {@code Executor}, buffering up to the specified
+     * number of them.
+     *
+     * <p>Each iteration occupies a thread of the supplied {@code Executor} until the
+     * supplied {@code Iterable} is exhausted or the iteration is cancelled, so an
+     * {@code Executor} with too few threads delays the start of later iterations.</p>
+     *
+     * <p>For further documentation, see {@link #prefetch(Iterable, int)}.</p>
+     *
+     * @param iterable   The {@code Iterable} whose elements should be prefetched.
+     * @param bufferSize The maximum number of elements to retrieve ahead of the
+     *                   consumer.
+     * @param executor   The {@code Executor} on which to retrieve the elements.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Iterable} yielding the elements of the supplied
+     *         {@code Iterable}, retrieved in the background.
+     * @throws IllegalArgumentException if the specified buffer size is not positive.
+     * @see #prefetch(Iterable, int)
+     */
+    public static <T> Iterable<T> prefetch(final Iterable<T> iterable, final int bufferSize, final Executor executor) {
+        checkNotNull(iterable);
+        checkNotNull(executor);
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be greater than zero.");
+        }
+        return new Iterable<T>() {
+            public Iterator<T> iterator() {
+                return new PrefetchingIterator<T>(iterable.iterator(), bufferSize, executor);
+            }
+        };
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} yielding the greatest {@code n} elements of
+     * the supplied {@code Iterable}, according to the supplied {@code Comparator},
+     * greatest first.
+     *
+     * <p>Nothing is evaluated until an iterator of the returned {@code Iterable}
+     * is first asked for an element. The supplied {@code Iterable} is then
+     * traversed once, retaining the greatest elements in a binary heap bounded to
+     * {@code n} elements, which is rearranged in linear time so that each
+     * selected element is only put in its place when it is requested. A consumer
+     * that stops after the first few of the {@code n} elements therefore avoids
+     * most of the cost of sorting them. Each iterator of the returned
+     * {@code Iterable} traverses the supplied {@code Iterable} afresh.</p>
+     *
+     * <p>For the eager equivalent, see {@link Eagerly#top(Iterable, int, Comparator)}.</p>
+     *
+     * @param iterable   The {@code Iterable} from which to select elements.
+     * @param n          The number of elements to select; must not be negative.
+     * @param comparator The {@code Comparator} defining the order of the elements.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Iterable} of at most {@code n} elements, greatest first.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public static <T> Iterable<T> sortedTop(
+            final Iterable<T> iterable, final int n, final Comparator<? super T> comparator) {
+        checkNotNull(iterable);
+        checkNotNull(comparator);
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of elements must not be negative.");
+        }
+        return new Iterable<T>() {
+            public Iterator<T> iterator() {
+                return new Iterator<T>() {
+                    private Iterator<T> selected;
+
+                    @Override public boolean hasNext() {
+                        return selected().hasNext();
+                    }
+
+                    @Override public T next() {
+                        return selected().next();
+                    }
+
+                    @Override public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    private Iterator<T> selected() {
+                        if (selected == null) {
+                            BoundedHeap<T> heap = new BoundedHeap<T>(n, comparator);
+                            heap.offerAll(iterable);
+                            selected = heap.drain();
+                        }
+                        return selected;
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} yielding the greatest {@code n} elements of
+     * the supplied {@code Iterable} of {@code Comparable} elements, greatest first.
+     *
+     * <p>For further documentation, see {@link #sortedTop(Iterable, int, Comparator)}.</p>
+     */
+    public static <T extends Comparable<T>> Iterable<T> sortedTop(Iterable<T> iterable, int n) {
+        return sortedTop(iterable, n, Ordering.<T>natural());
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} merging the supplied {@code Iterable}s, each
+     * of which must yield its elements in the order defined by the supplied
+     * {@code Comparator}, into a single {@code Iterable} yielding all of their
+     * elements in that order.
+     *
+     * <p>The next element of each supplied {@code Iterable} is held in a binary
+     * heap, so that each element costs {@code O(log k)} comparisons for
+     * {@code k} supplied {@code Iterable}s and no more than {@code k} elements are
+     * held at once. The merge is stable: equal elements are yielded in the order
+     * of the {@code Iterable}s that supplied them. If any of the supplied
+     * {@code Iterable}s is not sorted, the order of the returned {@code Iterable}
+     * is unspecified.</p>
+     *
+     * <h4>Example Usage</h4>
+     * <blockquote>
+     * <pre>
+     *   Iterable&lt;Integer&gt; merged = Lazily.mergeSorted(
+     *           iterableWith(iterableWith(1, 4, 7), iterableWith(2, 5), iterableWith(3, 6)),
+     *           Ordering.&lt;Integer&gt;natural());
+     *   merged; // => 1, 2, 3, 4, 5, 6, 7
+     * </pre>
+     * </blockquote>
+     *
+     * @param iterables  The sorted {@code Iterable}s to merge.
+     * @param comparator The {@code Comparator} by which each supplied
+     *                   {@code Iterable} is sorted.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}s.
+     * @return An {@code Iterable} yielding the elements of all of the supplied
+     *         {@code Iterable}s in sorted order.
+     */
+    public static <T> Iterable<T> mergeSorted(
+            final Iterable<? extends Iterable<? extends T>> iterables, final Comparator<? super T> comparator) {
+        checkNotNull(iterables);
+        checkNotNull(comparator);
+        return new Iterable<T>() {
+            public Iterator<T> iterator() {
+                return new MergedIterator<T>(map(iterables, Mappers.<T>toIterators()), comparator);
+            }
+        };
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} merging the supplied {@code Iterable}s of
+     * {@code Comparable} elements, each in natural order, into a single
+     * {@code Iterable} yielding all of their elements in natural order.
+     *
+     * <p>For further documentation, see {@link #mergeSorted(Iterable, Comparator)}.</p>
+     */
+    public static <T extends Comparable<T>> Iterable<T> mergeSorted(Iterable<? extends Iterable<? extends T>> iterables) {
+        return mergeSorted(iterables, Ordering.<T>natural());
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} yielding the elements of the supplied
+     * {@code Iterable} sorted according to the supplied {@code Comparator}, holding
+     * no more than {@code runSize} elements in memory at once.
+     *
+     * <p>Nothing is evaluated until an iterator of the returned {@code Iterable}
+     * is first asked for an element. The supplied {@code Iterable} is then read in
+     * runs of {@code runSize} elements, each of which is sorted in memory and,
+     * unless it is the last, written to a temporary file using the supplied
+     * {@code Codec}. The runs are then merged as described in
+     * {@link #mergeSorted(Iterable, Comparator)} as elements are requested, with
+     * each run file deleted once it has been read. Input of no more than
+     * {@code runSize} elements is sorted entirely in memory. Where there are very
+     * many runs, groups of them are first merged into longer runs, so that a
+     * bounded number of files is open at once.</p>
+     *
+     * <p>The sort is stable. Each iterator of the returned {@code Iterable} sorts
+     * the supplied {@code Iterable} afresh. The iterators are
+     * {@link ExternallySortedIterator} instances. Passing the returned
+     * {@code Iterable} directly to {@link #take(Iterable, int)} or
+     * {@link #slice(Iterable, Integer, Integer, Integer)} cancels the sort once
+     * the bound is reached. Any other consumer that stops before the end must
+     * call {@link ExternallySortedIterator#cancel()} on its iterator to close and
+     * delete the run files that have not been read. If the sort
+     * fails, its run files are deleted before the failure is rethrown, with
+     * failures to write or read run files rethrown as
+     * {@code RuntimeException}s.</p>
+     *
+     * @param iterable   The {@code Iterable} whose elements should be sorted.
+     * @param comparator The {@code Comparator} defining the order of the elements.
+     * @param codec      The {@code Codec} with which to write elements to and read
+     *                   them from run files.
+     * @param runSize    The maximum number of elements to sort in memory at once;
+     *                   must be greater than zero.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Iterable} yielding the elements of the supplied
+     *         {@code Iterable} in sorted order.
+     * @throws IllegalArgumentException if the specified run size is not positive.
+     */
+    public static <T> Iterable<T> externalSort(
+            Iterable<T> iterable, Comparator<? super T> comparator, Codec<T> codec, int runSize) {
+        return externalSort(iterable, comparator, codec, runSize, null);
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} yielding the elements of the supplied
+     * {@code Iterable} sorted according to the supplied {@code Comparator}, holding
+     * no more than {@code runSize} elements in memory at once and writing run
+     * files to the supplied directory.
+     *
+     * <p>For further documentation, see
+     * {@link #externalSort(Iterable, Comparator, Codec, int)}.</p>
+     *
+     * @param directory The directory in which to create run files, or {@code null}
+     *                  to use the default temporary file directory.
+     */
+    public static <T> Iterable<T> externalSort(
+            final Iterable<T> iterable,
+            final Comparator<? super T> comparator,
+            final Codec<T> codec,
+            final int runSize,
+            final File directory) {
+        checkNotNull(iterable);
+        checkNotNull(comparator);
+        checkNotNull(codec);
+        if (runSize <= 0) {
+            throw new IllegalArgumentException("Run size must be greater than zero.");
+        }
+        return new Iterable<T>() {
+            public Iterator<T> iterator() {
+                return new ExternallySortedIterator<T>(iterable.iterator(), comparator, codec, runSize, directory);
+            }
+        };
+    }
+
     /**
      * Takes the first <em>n</em> elements from the supplied {@code Iterable} where <em>n</em>
      * is given by the supplied integer value and returns them in an {@code Iterable}. If the
@@ -938,6 +1393,9 @@ public class Lazily {
      *         {@code Iterable} using {@code Pair} instances.
      */
     public static <T> Iterable<Pair<Integer, T>> enumerate(final Iterable<T> iterable) {
+        if (isRandomAccessList(iterable)) {
+            return enumerated((List<T>) iterable);
+        }
         return zip(integers(increasing()), iterable);
     }
 
@@ -1126,6 +1584,9 @@ public class Lazily {
      */
     public static <S, T> Iterable<T> map(final Iterable<S> iterable, final UnaryFunction<? super S, T> function) {
         checkNotNull(function);
+        if (isRandomAccessList(iterable)) {
+            return mapped((List<S>) iterable, function);
+        }
         return new Iterable<T>() {
             public Iterator<T> iterator() {
                 return new MappedIterator<S, T>(iterable.iterator(), function);
@@ -1503,6 +1964,218 @@ public class Lazily {
         };
     }
 
+    /**
+     * Lazily removes repeated elements from the supplied {@code Iterable}, yielding
+     * each distinct element, as determined by {@code equals} and {@code hashCode},
+     * the first time it occurs. Every distinct element is remembered for the
+     * duration of each iteration of the returned {@code Iterable}.
+     *
+     * <p>For other strategies for remembering elements, see
+     * {@link #distinct(Iterable, Factory)}.</p>
+     *
+     * <h4>Example Usage</h4>
+     * <blockquote>
+     * <pre>
+     *   Lazily.distinct(iterableWith(3, 1, 3, 2, 1)); // => 3, 1, 2
+     * </pre>
+     * </blockquote>
+     *
+     * @param iterable The {@code Iterable} from which to remove repeated elements.
+     * @param <T>      The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Iterable} yielding each distinct element of the supplied
+     *         {@code Iterable} once, in order of first occurrence.
+     */
+    public static <T> Iterable<T> distinct(Iterable<T> iterable) {
+        return distinct(iterable, Distinctness.exact());
+    }
+
+    /**
+     * Lazily removes repeated elements from the supplied {@code Iterable}, using
+     * the supplied strategy, a number of which are available from
+     * {@link Distinctness}, to decide whether an element has been seen before. A
+     * fresh {@code UnaryPredicate} is created by the strategy for each iteration
+     * of the returned {@code Iterable} and each element is yielded if it
+     * satisfies that predicate.
+     *
+     * <h4>Example Usage</h4>
+     * <blockquote>
+     * <pre>
+     *   Lazily.distinct(feed, Distinctness.withinLast(1000));
+     *   Lazily.distinct(feed, Distinctness.approximate(10000000, 0.001));
+     * </pre>
+     * </blockquote>
+     *
+     * @param iterable      The {@code Iterable} from which to remove repeated
+     *                      elements.
+     * @param firstSighting A {@code Factory} of {@code UnaryPredicate}s satisfied by
+     *                      an element the first time it is seen.
+     * @param <T>           The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Iterable} yielding those elements of the supplied
+     *         {@code Iterable} not judged to have been seen before.
+     */
+    public static <T> Iterable<T> distinct(
+            final Iterable<T> iterable, final Factory<? extends UnaryPredicate<? super T>> firstSighting) {
+        checkNotNull(iterable);
+        checkNotNull(firstSighting);
+        return new Iterable<T>() {
+            public Iterator<T> iterator() {
+                return new FilteredIterator<T>(iterable.iterator(), firstSighting.create());
+            }
+        };
+    }
+
+    /**
+     * Lazily removes elements from the supplied {@code Iterable} whose key, as
+     * returned by the supplied {@code UnaryFunction}, has been seen before,
+     * yielding the first element with each distinct key. Every distinct key is
+     * remembered for the duration of each iteration of the returned
+     * {@code Iterable}.
+     *
+     * <p>For further documentation, see {@link #distinctBy(Iterable, UnaryFunction, Factory)}.</p>
+     */
+    public static <T, K> Iterable<T> distinctBy(Iterable<T> iterable, UnaryFunction<? super T, K> function) {
+        return distinctBy(iterable, function, Distinctness.exact());
+    }
+
+    /**
+     * Lazily removes elements from the supplied {@code Iterable} whose key, as
+     * returned by the supplied {@code UnaryFunction}, is judged by the supplied
+     * strategy to have been seen before. Only the keys are remembered, so the
+     * memory used depends on the keys rather than the elements.
+     *
+     * <p>For further documentation, see {@link #distinct(Iterable, Factory)}.</p>
+     *
+     * <h4>Example Usage</h4>
+     * <blockquote>
+     * <pre>
+     *   Lazily.distinctBy(orders, new UnaryFunction&lt;Order, String&gt;() {
+     *       &#64;Override public String call(Order order) {
+     *           return order.getId();
+     *       }
+     *   }, Distinctness.withinLast(1000));
+     * </pre>
+     * </blockquote>
+     *
+     * @param iterable      The {@code Iterable} from which to remove elements with
+     *                      repeated keys.
+     * @param function      A {@code UnaryFunction} returning the key of each element.
+     * @param firstSighting A {@code Factory} of {@code UnaryPredicate}s satisfied by
+     *                      a key the first time it is seen.
+     * @param <T>           The type of the elements in the supplied {@code Iterable}.
+     * @param <K>           The type of the keys of the elements.
+     * @return An {@code Iterable} yielding those elements of the supplied
+     *         {@code Iterable} whose keys are not judged to have been seen before.
+     */
+    public static <T, K> Iterable<T> distinctBy(
+            final Iterable<T> iterable,
+            final UnaryFunction<? super T, K> function,
+            final Factory<? extends UnaryPredicate<? super K>> firstSighting) {
+        checkNotNull(iterable);
+        checkNotNull(function);
+        checkNotNull(firstSighting);
+        return new Iterable<T>() {
+            public Iterator<T> iterator() {
+                final UnaryPredicate<? super K> firstSightingOfKey = firstSighting.create();
+                return new FilteredIterator<T>(iterable.iterator(), new UnaryPredicate<T>() {
+                    @Override public boolean evaluate(T element) {
+                        return firstSightingOfKey.evaluate(function.call(element));
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Lazily removes elements from the supplied {@code Iterable} whose key, as
+     * returned by the supplied {@code Indexer}, has been seen before.
+     *
+     * <p>For further documentation, see {@link #distinctBy(Iterable, UnaryFunction, Factory)}.</p>
+     */
+    public static <T, K> Iterable<T> distinctBy(Iterable<T> iterable, Indexer<? super T, K> indexer) {
+        return distinctBy(iterable, indexerUnaryFunction(checkNotNull(indexer)));
+    }
+
+    /**
+     * Lazily removes elements from the supplied {@code Iterable} whose key, as
+     * returned by the supplied {@code Indexer}, is judged by the supplied strategy
+     * to have been seen before.
+     *
+     * <p>For further documentation, see {@link #distinctBy(Iterable, UnaryFunction, Factory)}.</p>
+     */
+    public static <T, K> Iterable<T> distinctBy(
+            Iterable<T> iterable,
+            Indexer<? super T, K> indexer,
+            Factory<? extends UnaryPredicate<? super K>> firstSighting) {
+        return distinctBy(iterable, indexerUnaryFunction(checkNotNull(indexer)), firstSighting);
+    }
+
+    /**
+     * Lazily removes each element of the supplied {@code Iterable} that is equal to
+     * the element immediately before it, so that runs of equal elements are
+     * collapsed to their first element. Only the previous element is remembered,
+     * so duplicates are removed in constant memory from input in which they are
+     * adjacent, such as sorted input.
+     *
+     * <h4>Example Usage</h4>
+     * <blockquote>
+     * <pre>
+     *   Lazily.distinctAdjacent(iterableWith(1, 1, 2, 3, 3, 3, 1)); // => 1, 2, 3, 1
+     * </pre>
+     * </blockquote>
+     *
+     * @param iterable The {@code Iterable} from which to remove adjacent repeated
+     *                 elements.
+     * @param <T>      The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Iterable} yielding the first element of each run of equal
+     *         elements in the supplied {@code Iterable}.
+     */
+    public static <T> Iterable<T> distinctAdjacent(Iterable<T> iterable) {
+        return distinctAdjacent(iterable, new BinaryPredicate<T, T>() {
+            @Override public boolean evaluate(T first, T second) {
+                return first == null ? second == null : first.equals(second);
+            }
+        });
+    }
+
+    /**
+     * Lazily removes each element of the supplied {@code Iterable} that is
+     * equivalent, according to the supplied {@code BinaryPredicate}, to the
+     * element immediately before it.
+     *
+     * <p>For further documentation, see {@link #distinctAdjacent(Iterable)}.</p>
+     */
+    public static <T> Iterable<T> distinctAdjacent(
+            final Iterable<T> iterable, final BinaryPredicate<? super T, ? super T> predicate) {
+        checkNotNull(iterable);
+        checkNotNull(predicate);
+        return new Iterable<T>() {
+            public Iterator<T> iterator() {
+                return new FilteredIterator<T>(iterable.iterator(), new UnaryPredicate<T>() {
+                    private boolean first = true;
+                    private T previous;
+
+                    @Override public boolean evaluate(T element) {
+                        boolean repeated = !first && predicate.evaluate(previous, element);
+                        first = false;
+                        previous = element;
+                        return !repeated;
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Lazily removes each element of the supplied {@code Iterable} that is
+     * equivalent, according to the supplied {@code Equivalence}, to the element
+     * immediately before it.
+     *
+     * <p>For further documentation, see {@link #distinctAdjacent(Iterable)}.</p>
+     */
+    public static <T> Iterable<T> distinctAdjacent(Iterable<T> iterable, Equivalence<? super T> equivalence) {
+        return distinctAdjacent(iterable, equivalenceBinaryPredicate(checkNotNull(equivalence)));
+    }
+
     /**
      * Lazily partitions the supplied {@code Iterable} into those elements that
      * satisfy the supplied {@code UnaryPredicate} and those elements that do not
@@ -1516,7 +2189,12 @@ public class Lazily {
      * <p>Since a {@code Pair} containing lazy {@code Iterable} instances is returned,
      * the partitioning is performed lazily, i.e., the {@code UnaryPredicate} is not
      * applied to each element in the input {@code Iterable} until the returned
-     * {@code Iterable} instances are iterated.</p>
+     * {@code Iterable} instances are iterated. The first iteration of both sides
+     * of the partition shares a single traversal of the supplied {@code Iterable},
+     * applying the {@code UnaryPredicate} once to each element, with elements
+     * reached while iterating one side being buffered for the other until they
+     * have been read from it. Any subsequent iteration of either side traverses
+     * the supplied {@code Iterable} again.</p>
      *
      * <p>If no elements in the supplied {@code Iterable} satisfy the supplied
      * {@code UnaryPredicate}, the first slot in the returned {@code Pair}
@@ -1571,9 +2249,102 @@ public class Lazily {
      *         the supplied {@code Iterable} which do not satisfy the supplied
      *         {@code UnaryPredicate} in the second slot.
      */
-    public static <T> Pair<Iterable<T>, Iterable<T>> partition(Iterable<T> iterable, UnaryPredicate<? super T> predicate) {
+    public static <T> Pair<Iterable<T>, Iterable<T>> partition(Iterable<T> iterable, final UnaryPredicate<? super T> predicate) {
         checkNotNull(predicate);
-        return tuple(filter(iterable, predicate), reject(iterable, predicate));
+        List<Iterable<T>> partitions = new Partitioner<T>(iterable, new UnaryFunction<T, Integer>() {
+            @Override public Integer call(T element) {
+                return predicate.evaluate(element) ? 0 : 1;
+            }
+        }, 2).partitions();
+        return tuple(partitions.get(0), partitions.get(1));
+    }
+
+    /**
+     * Lazily partitions the supplied {@code Iterable} into the specified number of
+     * partitions, routing each element to the partition whose index is returned
+     * by the supplied {@code UnaryFunction} when passed that element. A {@code List}
+     * containing one {@code Iterable} per partition is returned, the partition at
+     * each index containing the elements routed to that index in the order in
+     * which they are yielded from the supplied {@code Iterable}.
+     *
+     * <p>Since a {@code List} of lazy {@code Iterable} instances is returned, the
+     * partitioning is performed lazily, i.e., the {@code UnaryFunction} is not
+     * applied to each element in the input {@code Iterable} until the returned
+     * {@code Iterable} instances are iterated. The first iteration of each
+     * partition shares a single traversal of the supplied {@code Iterable},
+     * applying the {@code UnaryFunction} once to each element regardless of the
+     * number of partitions, with elements reached while iterating one partition
+     * being buffered for the others until they have been read from them. Any
+     * subsequent iteration of a partition traverses the supplied
+     * {@code Iterable} again.</p>
+     *
+     * <p>If the supplied number of partitions is not positive, an
+     * {@code IllegalArgumentException} is thrown. If the {@code UnaryFunction}
+     * returns an index outside of the range of partitions for some element, an
+     * {@code IllegalArgumentException} is thrown when that element is reached.</p>
+     *
+     * <h4>Example Usage:</h4>
+     * Given an {@code Iterable} of {@code Order} instances, we can spread them across
+     * four workers by customer as follows:
+     * <blockquote>
+     * <pre>
+     *     Iterable&lt;Order&gt; orders = orderRepository.getOutstandingOrders();
+     *     List&lt;Iterable&lt;Order&gt;&gt; workloads = partitionBy(orders, new UnaryFunction&lt;Order, Integer&gt;() {
+     *         &#64;Override public Integer call(Order order) {
+     *             return Math.abs(order.getCustomerId().hashCode() % 4);
+     *         }
+     *     }, 4);
+     * </pre>
+     * </blockquote>
+     *
+     * @param iterable           An {@code Iterable} of elements to be partitioned.
+     * @param function           A {@code UnaryFunction} returning the index of the
+     *                           partition in which each element should reside.
+     * @param numberOfPartitions The number of partitions required.
+     * @param <T>                The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code List} of the required number of {@code Iterable} instances
+     *         each effectively containing the elements routed to its index.
+     * @throws IllegalArgumentException if the required number of partitions is not
+     *                                  positive.
+     */
+    public static <T> List<Iterable<T>> partitionBy(
+            Iterable<T> iterable,
+            UnaryFunction<? super T, Integer> function,
+            int numberOfPartitions) {
+        checkNotNull(function);
+        return new Partitioner<T>(iterable, function, numberOfPartitions).partitions();
+    }
+
+    /**
+     * Lazily partitions the supplied {@code Iterable} into the specified number of
+     * partitions, routing each element to the partition whose index is returned
+     * by the supplied {@code Indexer} when passed that element.
+     *
+     * <p>This overload of {@link #partitionBy(Iterable, UnaryFunction, int)} is
+     * provided to allow an {@code Indexer} to be used in place of a
+     * {@code UnaryFunction} to enhance readability and better express intent. The
+     * contract of the function is identical to that of the {@code UnaryFunction}
+     * version of {@code partitionBy}.</p>
+     *
+     * <p>For example usage and further documentation, see
+     * {@link #partitionBy(Iterable, UnaryFunction, int)}.</p>
+     *
+     * @param iterable           An {@code Iterable} of elements to be partitioned.
+     * @param indexer            An {@code Indexer} returning the index of the
+     *                           partition in which each element should reside.
+     * @param numberOfPartitions The number of partitions required.
+     * @param <T>                The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code List} of the required number of {@code Iterable} instances
+     *         each effectively containing the elements routed to its index.
+     * @throws IllegalArgumentException if the required number of partitions is not
+     *                                  positive.
+     * @see #partitionBy(Iterable, UnaryFunction, int)
+     */
+    public static <T> List<Iterable<T>> partitionBy(
+            Iterable<T> iterable,
+            Indexer<? super T, Integer> indexer,
+            int numberOfPartitions) {
+        return partitionBy(iterable, indexerUnaryFunction(indexer), numberOfPartitions);
     }
 
     /**
@@ -1691,6 +2462,12 @@ public class Lazily {
      *         supplied start and stop indices and the supplied step size.
      */
     public static <T> Iterable<T> slice(final Iterable<T> iterable, final Integer start, final Integer stop, final Integer step) {
+        if (isRandomAccessList(iterable) && areValidSliceBounds(start, stop, step)) {
+            return sliced((List<T>) iterable,
+                    start == null ? 0 : start,
+                    stop == null ? Integer.MAX_VALUE : stop,
+                    step == null ? 1 : step);
+        }
         return new Iterable<T>() {
             public Iterator<T> iterator() {
                 return new SubSequenceIterator<T>(iterable.iterator(), start, stop, step);
@@ -1698,6 +2475,13 @@ public class Lazily {
         };
     }
 
+    private static boolean areValidSliceBounds(Integer start, Integer stop, Integer step) {
+        return (start == null || start >= 0)
+                && (stop == null || stop >= 0)
+                && (start == null || stop == null || stop >= start)
+                && (step == null || step >= 1);
+    }
+
     /**
      * Lazily takes the cartesian product of the two supplied {@code Iterable}
      * instances generating an {@code Iterable} of tuples of size two. The
@@ -2277,26 +3061,17 @@ public class Lazily {
         return cartesianProduct(listFrom(iterables));
     }
 
+    @SuppressWarnings("unchecked")
     private static Iterable<? extends Iterable<?>> cartesianProduct(final List<? extends Iterable<?>> iterables) {
-        if (iterables.size() == 2) {
-            final Iterable<?> first = first(iterables).get();
-            final Iterable<?> second = first(rest(iterables)).get();
-            return concat(map(first, new Mapper<Object, Iterable<? extends Iterable<?>>>() {
-                public Iterable<? extends Iterable<?>> map(Object input) {
-                    return zip(cycle(iterableWith(input)), second);
-                }
-            }));
+        if (areRandomAccessLists(iterables)
+                && hasAddressableCartesianProduct((List<? extends List<?>>) iterables)) {
+            return ListViews.cartesianProduct((List<? extends List<?>>) iterables);
         }
-
-        Iterable<? extends Pair<?, ? extends Iterable<?>>> pairs = cartesianProduct(
-                first(iterables).get(),
-                cartesianProduct(rest(iterables)));
-
-        return map(pairs, new Mapper<Pair<?, ? extends Iterable<?>>, Iterable<?>>() {
-            public Iterable<?> map(Pair<?, ? extends Iterable<?>> input) {
-                return iterableBuilderWith(input.getFirst()).and(input.getSecond()).build();
+        return new Iterable<Iterable<?>>() {
+            public Iterator<Iterable<?>> iterator() {
+                return new CartesianProductIterator(iterables);
             }
-        });
+        };
     }
 
     /**
@@ -2362,7 +3137,7 @@ public class Lazily {
     public static <R, S> Iterable<Pair<R, S>> zip(
             Iterable<R> first,
             Iterable<S> second) {
-        return map(zip(iterableWith(first, second)), Mappers.<R, S>toPair());
+        return zipInto(Literals.<Iterable<?>>listWith(first, second), Lazily.<R, S>pairs());
     }
 
     /**
@@ -2406,7 +3181,7 @@ public class Lazily {
             Iterable<R> first,
             Iterable<S> second,
             Iterable<T> third) {
-        return map(zip(iterableWith(first, second, third)), Mappers.<R, S, T>toTriple());
+        return zipInto(Literals.<Iterable<?>>listWith(first, second, third), Lazily.<R, S, T>triples());
     }
 
     /**
@@ -2453,7 +3228,7 @@ public class Lazily {
             Iterable<S> second,
             Iterable<T> third,
             Iterable<U> fourth) {
-        return map(zip(iterableWith(first, second, third, fourth)), Mappers.<R, S, T, U>toQuadruple());
+        return zipInto(Literals.<Iterable<?>>listWith(first, second, third, fourth), Lazily.<R, S, T, U>quadruples());
     }
 
     /**
@@ -2503,7 +3278,7 @@ public class Lazily {
             Iterable<T> third,
             Iterable<U> fourth,
             Iterable<V> fifth) {
-        return map(zip(iterableWith(first, second, third, fourth, fifth)), Mappers.<R, S, T, U, V>toQuintuple());
+        return zipInto(Literals.<Iterable<?>>listWith(first, second, third, fourth, fifth), Lazily.<R, S, T, U, V>quintuples());
     }
 
     /**
@@ -2556,7 +3331,7 @@ public class Lazily {
             Iterable<U> fourth,
             Iterable<V> fifth,
             Iterable<W> sixth) {
-        return map(zip(iterableWith(first, second, third, fourth, fifth, sixth)), Mappers.<R, S, T, U, V, W>toSextuple());
+        return zipInto(Literals.<Iterable<?>>listWith(first, second, third, fourth, fifth, sixth), Lazily.<R, S, T, U, V, W>sextuples());
     }
 
     /**
@@ -2612,7 +3387,7 @@ public class Lazily {
             Iterable<V> fifth,
             Iterable<W> sixth,
             Iterable<X> seventh) {
-        return map(zip(iterableWith(first, second, third, fourth, fifth, sixth, seventh)), Mappers.<R, S, T, U, V, W, X>toSeptuple());
+        return zipInto(Literals.<Iterable<?>>listWith(first, second, third, fourth, fifth, sixth, seventh), Lazily.<R, S, T, U, V, W, X>septuples());
     }
 
     /**
@@ -2671,7 +3446,7 @@ public class Lazily {
             Iterable<W> sixth,
             Iterable<X> seventh,
             Iterable<Y> eighth) {
-        return map(zip(iterableWith(first, second, third, fourth, fifth, sixth, seventh, eighth)), Mappers.<R, S, T, U, V, W, X, Y>toOctuple());
+        return zipInto(Literals.<Iterable<?>>listWith(first, second, third, fourth, fifth, sixth, seventh, eighth), Lazily.<R, S, T, U, V, W, X, Y>octuples());
     }
 
     /**
@@ -2733,7 +3508,7 @@ public class Lazily {
             Iterable<X> seventh,
             Iterable<Y> eighth,
             Iterable<Z> ninth) {
-        return map(zip(iterableWith(first, second, third, fourth, fifth, sixth, seventh, eighth, ninth)), Mappers.<R, S, T, U, V, W, X, Y, Z>toNonuple());
+        return zipInto(Literals.<Iterable<?>>listWith(first, second, third, fourth, fifth, sixth, seventh, eighth, ninth), Lazily.<R, S, T, U, V, W, X, Y, Z>nonuples());
     }
 
     /**
@@ -2797,7 +3572,11 @@ public class Lazily {
      * @return An {@code Iterable} of {@code Iterable} instances representing the
      *         zipped contents of the supplied {@code Iterable} of {@code Iterable}s.
      */
+    @SuppressWarnings("unchecked")
     public static Iterable<? extends Iterable<?>> zip(final Iterable<? extends Iterable<?>> iterables) {
+        if (areRandomAccessLists(iterables)) {
+            return zipped((List<? extends List<?>>) iterables);
+        }
         return new Iterable<Iterable<?>>() {
             public Iterator<Iterable<?>> iterator() {
                 final Iterable<? extends Iterator<?>> iterators = Eagerly.map(iterables, toIterators());
@@ -2805,4 +3584,189 @@ public class Lazily {
             }
         };
     }
+
+    /**
+     * Lazily zips the elements from the two supplied {@code Iterable} instances,
+     * combining each pair of elements using the supplied {@code BinaryFunction}.
+     * On iteration of the returned {@code Iterable}, the {@code BinaryFunction}
+     * is called with an element from the first supplied {@code Iterable} and
+     * the element at the same position in the second supplied {@code Iterable}
+     * and the value it returns is yielded. No intermediate tuple is constructed,
+     * making this equivalent to but cheaper than mapping over the result of
+     * {@link #zip(Iterable, Iterable)}. The iteration is complete when one or
+     * both of the supplied {@code Iterable} instances is exhausted.
+     *
+     * <p>Since a lazy {@code Iterable} is returned, the zipping is also
+     * performed lazily, i.e., none of the supplied {@code Iterable} instances
+     * is iterated until elements are yielded from the returned
+     * {@code Iterable}.</p>
+     *
+     * <h4>Example Usage:</h4>
+     * Given two {@code Iterable} instances of prices and quantities:
+     * <blockquote>
+     * <pre>
+     *     Iterable&lt;BigDecimal&gt; prices = iterableWith(new BigDecimal("1.50"), new BigDecimal("0.25"));
+     *     Iterable&lt;Integer&gt; quantities = iterableWith(4, 10);
+     * </pre>
+     * </blockquote>
+     * the line totals can be obtained as follows:
+     * <blockquote>
+     * <pre>
+     *     Iterable&lt;BigDecimal&gt; totals = zipWith(prices, quantities, new BinaryFunction&lt;BigDecimal, Integer, BigDecimal&gt;() {
+     *         &#64;Override public BigDecimal call(BigDecimal price, Integer quantity) {
+     *             return price.multiply(new BigDecimal(quantity));
+     *         }
+     *     });
+     * </pre>
+     * </blockquote>
+     * This is effectively equivalent to the following:
+     * <blockquote>
+     * <pre>
+     *     Iterable&lt;BigDecimal&gt; totals = iterableWith(new BigDecimal("6.00"), new BigDecimal("2.50"));
+     * </pre>
+     * </blockquote>
+     *
+     * @param first    The first {@code Iterable} from which to construct a zip.
+     * @param second   The second {@code Iterable} from which to construct a zip.
+     * @param function A {@code BinaryFunction} combining an element from each
+     *                 of the supplied {@code Iterable} instances.
+     * @param <R>      The type of the elements in the first {@code Iterable}.
+     * @param <S>      The type of the elements in the second {@code Iterable}.
+     * @param <T>      The type of the values returned by the supplied
+     *                 {@code BinaryFunction}.
+     * @return An {@code Iterable} containing the result of combining each pair
+     *         of zipped elements using the supplied {@code BinaryFunction}.
+     */
+    public static <R, S, T> Iterable<T> zipWith(
+            Iterable<R> first,
+            Iterable<S> second,
+            final BinaryFunction<? super R, ? super S, T> function) {
+        checkNotNull(function);
+        return zipInto(Literals.<Iterable<?>>listWith(first, second), new UnaryFunction<Object[], T>() {
+            @SuppressWarnings("unchecked")
+            public T call(Object[] elements) {
+                return function.call((R) elements[0], (S) elements[1]);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Iterable<T> zipInto(
+            final List<? extends Iterable<?>> iterables,
+            final UnaryFunction<Object[], ? extends T> combiner) {
+        if (areRandomAccessLists(iterables)) {
+            return zipped((List<? extends List<?>>) iterables, combiner);
+        }
+        return new Iterable<T>() {
+            public Iterator<T> iterator() {
+                return new AbstractZippedIterator<T>(Eagerly.map(iterables, toIterators())) {
+                    @Override protected T combine(Object[] elements) {
+                        return combiner.call(elements);
+                    }
+                };
+            }
+        };
+    }
+
+    private static <R, S> UnaryFunction<Object[], Pair<R, S>> pairs() {
+        return new UnaryFunction<Object[], Pair<R, S>>() {
+            @SuppressWarnings("unchecked")
+            public Pair<R, S> call(Object[] elements) {
+                return tuple((R) elements[0], (S) elements[1]);
+            }
+        };
+    }
+
+    private static <R, S, T> UnaryFunction<Object[], Triple<R, S, T>> triples() {
+        return new UnaryFunction<Object[], Triple<R, S, T>>() {
+            @SuppressWarnings("unchecked")
+            public Triple<R, S, T> call(Object[] elements) {
+                return tuple((R) elements[0], (S) elements[1], (T) elements[2]);
+            }
+        };
+    }
+
+    private static <R, S, T, U> UnaryFunction<Object[], Quadruple<R, S, T, U>> quadruples() {
+        return new UnaryFunction<Object[], Quadruple<R, S, T, U>>() {
+            @SuppressWarnings("unchecked")
+            public Quadruple<R, S, T, U> call(Object[] elements) {
+                return tuple((R) elements[0], (S) elements[1], (T) elements[2], (U) elements[3]);
+            }
+        };
+    }
+
+    private static <R, S, T, U, V> UnaryFunction<Object[], Quintuple<R, S, T, U, V>> quintuples() {
+        return new UnaryFunction<Object[], Quintuple<R, S, T, U, V>>() {
+            @SuppressWarnings("unchecked")
+            public Quintuple<R, S, T, U, V> call(Object[] elements) {
+                return tuple((R) elements[0], (S) elements[1], (T) elements[2], (U) elements[3], (V) elements[4]);
+            }
+        };
+    }
+
+    private static <R, S, T, U, V, W> UnaryFunction<Object[], Sextuple<R, S, T, U, V, W>> sextuples() {
+        return new UnaryFunction<Object[], Sextuple<R, S, T, U, V, W>>() {
+            @SuppressWarnings("unchecked")
+            public Sextuple<R, S, T, U, V, W> call(Object[] elements) {
+                return tuple(
+                        (R) elements[0],
+                        (S) elements[1],
+                        (T) elements[2],
+                        (U) elements[3],
+                        (V) elements[4],
+                        (W) elements[5]);
+            }
+        };
+    }
+
+    private static <R, S, T, U, V, W, X> UnaryFunction<Object[], Septuple<R, S, T, U, V, W, X>> septuples() {
+        return new UnaryFunction<Object[], Septuple<R, S, T, U, V, W, X>>() {
+            @SuppressWarnings("unchecked")
+            public Septuple<R, S, T, U, V, W, X> call(Object[] elements) {
+                return tuple(
+                        (R) elements[0],
+                        (S) elements[1],
+                        (T) elements[2],
+                        (U) elements[3],
+                        (V) elements[4],
+                        (W) elements[5],
+                        (X) elements[6]);
+            }
+        };
+    }
+
+    private static <R, S, T, U, V, W, X, Y> UnaryFunction<Object[], Octuple<R, S, T, U, V, W, X, Y>> octuples() {
+        return new UnaryFunction<Object[], Octuple<R, S, T, U, V, W, X, Y>>() {
+            @SuppressWarnings("unchecked")
+            public Octuple<R, S, T, U, V, W, X, Y> call(Object[] elements) {
+                return tuple(
+                        (R) elements[0],
+                        (S) elements[1],
+                        (T) elements[2],
+                        (U) elements[3],
+                        (V) elements[4],
+                        (W) elements[5],
+                        (X) elements[6],
+                        (Y) elements[7]);
+            }
+        };
+    }
+
+    private static <R, S, T, U, V, W, X, Y, Z> UnaryFunction<Object[], Nonuple<R, S, T, U, V, W, X, Y, Z>> nonuples() {
+        return new UnaryFunction<Object[], Nonuple<R, S, T, U, V, W, X, Y, Z>>() {
+            @SuppressWarnings("unchecked")
+            public Nonuple<R, S, T, U, V, W, X, Y, Z> call(Object[] elements) {
+                return tuple(
+                        (R) elements[0],
+                        (S) elements[1],
+                        (T) elements[2],
+                        (U) elements[3],
+                        (V) elements[4],
+                        (W) elements[5],
+                        (X) elements[6],
+                        (Y) elements[7],
+                        (Z) elements[8]);
+            }
+        };
+    }
 }
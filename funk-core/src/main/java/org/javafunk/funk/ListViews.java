@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.javafunk.funk.iterators.CartesianProductIterator;
+import org.javafunk.funk.iterators.MappedIterator;
+import org.javafunk.funk.iterators.SubSequenceIterator;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static org.javafunk.funk.Literals.tuple;
+
+/**
+ * Read-only, random access views backing the lazy operations in {@link Lazily}
+ * when all of their inputs are themselves random access lists. Each element is
+ * computed from the underlying lists on access so the views are exactly as lazy
+ * as the iterator based implementations, but since they know their size and
+ * can compute any element by index they can be split for parallel processing,
+ * whether by {@link Parallelly} or by the {@code Spliterator} a JDK 8 or later
+ * runtime provides for any {@code List}.
+ *
+ * <p>The views keep the identity equality of the {@code Iterable}s they
+ * replace, and the mapped and sliced views iterate with the same iterators
+ * as before, so that removal through them still reaches the underlying
+ * list.</p>
+ */
+class ListViews {
+    private ListViews() {
+    }
+
+    static boolean isRandomAccessList(Object object) {
+        return object instanceof List && object instanceof RandomAccess;
+    }
+
+    static boolean areRandomAccessLists(Iterable<?> iterables) {
+        if (!(iterables instanceof List)) {
+            return false;
+        }
+        for (Object iterable : iterables) {
+            if (!isRandomAccessList(iterable)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static <S, T> List<T> mapped(final List<S> list, final UnaryFunction<? super S, T> function) {
+        return new ReadOnlyRandomAccessList<T>() {
+            @Override public T get(int index) {
+                return function.call(list.get(index));
+            }
+
+            @Override public Iterator<T> iterator() {
+                return new MappedIterator<S, T>(list.iterator(), function);
+            }
+
+            @Override public int size() {
+                return list.size();
+            }
+        };
+    }
+
+    static <T> List<Pair<Integer, T>> enumerated(final List<T> list) {
+        return new ReadOnlyRandomAccessList<Pair<Integer, T>>() {
+            @Override public Pair<Integer, T> get(int index) {
+                return tuple(index, list.get(index));
+            }
+
+            @Override public int size() {
+                return list.size();
+            }
+        };
+    }
+
+    static List<Iterable<?>> zipped(final List<? extends List<?>> lists) {
+        return new ReadOnlyRandomAccessList<Iterable<?>>() {
+            @Override public Iterable<?> get(int index) {
+                checkIndex(index, size());
+                Object[] elements = new Object[lists.size()];
+                for (int i = 0; i < elements.length; i++) {
+                    elements[i] = lists.get(i).get(index);
+                }
+                return Collections.unmodifiableList(Arrays.asList(elements));
+            }
+
+            @Override public int size() {
+                return smallestSizeOf(lists);
+            }
+        };
+    }
+
+    static <T> List<T> zipped(
+            final List<? extends List<?>> lists,
+            final UnaryFunction<Object[], ? extends T> combiner) {
+        return new ReadOnlyRandomAccessList<T>() {
+            @Override public T get(int index) {
+                checkIndex(index, size());
+                Object[] elements = new Object[lists.size()];
+                for (int i = 0; i < elements.length; i++) {
+                    elements[i] = lists.get(i).get(index);
+                }
+                return combiner.call(elements);
+            }
+
+            @Override public int size() {
+                return smallestSizeOf(lists);
+            }
+        };
+    }
+
+    static <T> List<T> sliced(final List<T> list, final int start, final int stop, final int step) {
+        return new ReadOnlyRandomAccessList<T>() {
+            @Override public T get(int index) {
+                checkIndex(index, size());
+                return list.get(start + index * step);
+            }
+
+            @Override public Iterator<T> iterator() {
+                return new SubSequenceIterator<T>(list.iterator(), start, stop, step);
+            }
+
+            @Override public int size() {
+                long limit = Math.min(stop, list.size());
+                if ((long) start + step > stop || start >= limit) {
+                    return 0;
+                }
+                return (int) ((limit - start + step - 1) / step);
+            }
+        };
+    }
+
+    static <T> List<Iterable<T>> batched(final List<T> list, final int batchSize) {
+        return new ReadOnlyRandomAccessList<Iterable<T>>() {
+            @Override public Iterable<T> get(int index) {
+                checkIndex(index, size());
+                int start = index * batchSize;
+                return Collections.unmodifiableList(list.subList(start, (int) Math.min(list.size(), (long) start + batchSize)));
+            }
+
+            @Override public int size() {
+                return (int) (((long) list.size() + batchSize - 1) / batchSize);
+            }
+        };
+    }
+
+    static <T> List<List<T>> windowed(final List<T> list, final int size, final int step, final boolean copying) {
+        return new ReadOnlyRandomAccessList<List<T>>() {
+            @Override public List<T> get(int index) {
+                checkIndex(index, size());
+                int start = index * step;
+                List<T> window = list.subList(start, start + size);
+                return Collections.unmodifiableList(copying ? new ArrayList<T>(window) : window);
+            }
+
+            @Override public int size() {
+                if (list.size() < size) {
+                    return 0;
+                }
+                return (list.size() - size) / step + 1;
+            }
+        };
+    }
+
+    static boolean hasAddressableCartesianProduct(List<? extends List<?>> lists) {
+        long size = 1;
+        for (List<?> list : lists) {
+            size *= list.size();
+            if (size > Integer.MAX_VALUE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static List<Iterable<?>> cartesianProduct(final List<? extends List<?>> lists) {
+        return new ReadOnlyRandomAccessList<Iterable<?>>() {
+            @Override public Iterable<?> get(int index) {
+                checkIndex(index, size());
+                Object[] elements = new Object[lists.size()];
+                int remainder = index;
+                for (int i = elements.length - 1; i >= 0; i--) {
+                    List<?> dimension = lists.get(i);
+                    elements[i] = dimension.get(remainder % dimension.size());
+                    remainder = remainder / dimension.size();
+                }
+                return Collections.unmodifiableList(Arrays.asList(elements));
+            }
+
+            @Override public Iterator<Iterable<?>> iterator() {
+                return new CartesianProductIterator(lists);
+            }
+
+            @Override public int size() {
+                int size = 1;
+                for (List<?> list : lists) {
+                    size *= list.size();
+                }
+                return size;
+            }
+        };
+    }
+
+    static List<Integer> indices(final int size) {
+        return new ReadOnlyRandomAccessList<Integer>() {
+            @Override public Integer get(int index) {
+                checkIndex(index, size);
+                return index;
+            }
+
+            @Override public int size() {
+                return size;
+            }
+        };
+    }
+
+    static <T> List<T> cartesianProductColumn(final List<T> dimension, final int stride, final int size) {
+        return new ReadOnlyRandomAccessList<T>() {
+            @Override public T get(int index) {
+                checkIndex(index, size);
+                return dimension.get((index / stride) % dimension.size());
+            }
+
+            @Override public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static int smallestSizeOf(List<? extends List<?>> lists) {
+        if (lists.isEmpty()) {
+            return 0;
+        }
+        int smallestSize = Integer.MAX_VALUE;
+        for (List<?> list : lists) {
+            smallestSize = Math.min(smallestSize, list.size());
+        }
+        return smallestSize;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static abstract class ReadOnlyRandomAccessList<T> extends AbstractList<T> implements RandomAccess {
+        // The views stand in for the lazy Iterables Lazily returned before they
+        // existed, so they keep identity equality rather than that of a List.
+        @Override public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
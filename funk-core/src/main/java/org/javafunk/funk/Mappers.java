@@ -20,8 +20,6 @@ import org.javafunk.funk.functors.Mapper;
 
 import java.util.Iterator;
 
-import static org.javafunk.funk.Eagerly.first;
-import static org.javafunk.funk.Lazily.rest;
 import static org.javafunk.funk.Literals.tuple;
 
 public class Mappers {
@@ -31,9 +29,10 @@ public class Mappers {
     public static <S, T> Mapper<? super Iterable<?>, Pair<S, T>> toPair() {
         return new Mapper<Iterable<?>, Pair<S, T>>() {
             public Pair<S, T> map(Iterable<?> input) {
+                Iterator<?> elements = input.iterator();
                 return tuple(
-                        (S) first(input).get(),
-                        (T) first(rest(input)).get());
+                        (S) elements.next(),
+                        (T) elements.next());
             }
         };
     }
@@ -42,10 +41,11 @@ public class Mappers {
     public static <S, T, V> Mapper<? super Iterable<?>, Triple<S, T, V>> toTriple() {
         return new Mapper<Iterable<?>, Triple<S, T, V>>() {
             public Triple<S, T, V> map(Iterable<?> input) {
+                Iterator<?> elements = input.iterator();
                 return tuple(
-                        (S) first(input).get(),
-                        (T) first(rest(input)).get(),
-                        (V) first(rest(rest(input))).get());
+                        (S) elements.next(),
+                        (T) elements.next(),
+                        (V) elements.next());
             }
         };
     }
@@ -54,11 +54,12 @@ public class Mappers {
     public static <S, T, U, V> Mapper<? super Iterable<?>, Quadruple<S, T, U, V>> toQuadruple() {
         return new Mapper<Iterable<?>, Quadruple<S, T, U, V>>() {
             public Quadruple<S, T, U, V> map(Iterable<?> iterable) {
+                Iterator<?> elements = iterable.iterator();
                 return tuple(
-                        (S) first(iterable).get(),
-                        (T) first(rest(iterable)).get(),
-                        (U) first(rest(rest(iterable))).get(),
-                        (V) first(rest(rest(rest(iterable)))).get());
+                        (S) elements.next(),
+                        (T) elements.next(),
+                        (U) elements.next(),
+                        (V) elements.next());
             }
         };
     }
@@ -67,12 +68,13 @@ public class Mappers {
     public static <R, S, T, U, V> Mapper<? super Iterable<?>, Quintuple<R, S, T, U, V>> toQuintuple() {
         return new Mapper<Iterable<?>, Quintuple<R, S, T, U, V>>() {
             @Override public Quintuple<R, S, T, U, V> map(Iterable<?> iterable) {
+                Iterator<?> elements = iterable.iterator();
                 return tuple(
-                        (R) first(iterable).get(),
-                        (S) first(rest(iterable)).get(),
-                        (T) first(rest(rest(iterable))).get(),
-                        (U) first(rest(rest(rest(iterable)))).get(),
-                        (V) first(rest(rest(rest(rest(iterable))))).get());
+                        (R) elements.next(),
+                        (S) elements.next(),
+                        (T) elements.next(),
+                        (U) elements.next(),
+                        (V) elements.next());
             }
         };
     }
@@ -81,13 +83,14 @@ public class Mappers {
     public static <R, S, T, U, V, W> Mapper<? super Iterable<?>, Sextuple<R, S, T, U, V, W>> toSextuple() {
         return new Mapper<Iterable<?>, Sextuple<R, S, T, U, V, W>>() {
             @Override public Sextuple<R, S, T, U, V, W> map(Iterable<?> iterable) {
+                Iterator<?> elements = iterable.iterator();
                 return tuple(
-                        (R) first(iterable).get(),
-                        (S) first(rest(iterable)).get(),
-                        (T) first(rest(rest(iterable))).get(),
-                        (U) first(rest(rest(rest(iterable)))).get(),
-                        (V) first(rest(rest(rest(rest(iterable))))).get(),
-                        (W) first(rest(rest(rest(rest(rest(iterable)))))).get());
+                        (R) elements.next(),
+                        (S) elements.next(),
+                        (T) elements.next(),
+                        (U) elements.next(),
+                        (V) elements.next(),
+                        (W) elements.next());
             }
         };
     }
@@ -96,14 +99,15 @@ public class Mappers {
     public static <R, S, T, U, V, W, X> Mapper<? super Iterable<?>, Septuple<R, S, T, U, V, W, X>> toSeptuple() {
         return new Mapper<Iterable<?>, Septuple<R, S, T, U, V, W, X>>() {
             @Override public Septuple<R, S, T, U, V, W, X> map(Iterable<?> iterable) {
+                Iterator<?> elements = iterable.iterator();
                 return tuple(
-                        (R) first(iterable).get(),
-                        (S) first(rest(iterable)).get(),
-                        (T) first(rest(rest(iterable))).get(),
-                        (U) first(rest(rest(rest(iterable)))).get(),
-                        (V) first(rest(rest(rest(rest(iterable))))).get(),
-                        (W) first(rest(rest(rest(rest(rest(iterable)))))).get(),
-                        (X) first(rest(rest(rest(rest(rest(rest(iterable))))))).get());
+                        (R) elements.next(),
+                        (S) elements.next(),
+                        (T) elements.next(),
+                        (U) elements.next(),
+                        (V) elements.next(),
+                        (W) elements.next(),
+                        (X) elements.next());
             }
         };
     }
@@ -112,15 +116,16 @@ public class Mappers {
     public static <R, S, T, U, V, W, X, Y> Mapper<? super Iterable<?>, Octuple<R, S, T, U, V, W, X, Y>> toOctuple() {
         return new Mapper<Iterable<?>, Octuple<R, S, T, U, V, W, X, Y>>() {
             @Override public Octuple<R, S, T, U, V, W, X, Y> map(Iterable<?> iterable) {
+                Iterator<?> elements = iterable.iterator();
                 return tuple(
-                        (R) first(iterable).get(),
-                        (S) first(rest(iterable)).get(),
-                        (T) first(rest(rest(iterable))).get(),
-                        (U) first(rest(rest(rest(iterable)))).get(),
-                        (V) first(rest(rest(rest(rest(iterable))))).get(),
-                        (W) first(rest(rest(rest(rest(rest(iterable)))))).get(),
-                        (X) first(rest(rest(rest(rest(rest(rest(iterable))))))).get(),
-                        (Y) first(rest(rest(rest(rest(rest(rest(rest(iterable)))))))).get());
+                        (R) elements.next(),
+                        (S) elements.next(),
+                        (T) elements.next(),
+                        (U) elements.next(),
+                        (V) elements.next(),
+                        (W) elements.next(),
+                        (X) elements.next(),
+                        (Y) elements.next());
             }
         };
     }
@@ -129,16 +134,17 @@ public class Mappers {
     public static <R, S, T, U, V, W, X, Y, Z> Mapper<? super Iterable<?>, Nonuple<R, S, T, U, V, W, X, Y, Z>> toNonuple() {
         return new Mapper<Iterable<?>, Nonuple<R, S, T, U, V, W, X, Y, Z>>() {
             @Override public Nonuple<R, S, T, U, V, W, X, Y, Z> map(Iterable<?> iterable) {
+                Iterator<?> elements = iterable.iterator();
                 return tuple(
-                        (R) first(iterable).get(),
-                        (S) first(rest(iterable)).get(),
-                        (T) first(rest(rest(iterable))).get(),
-                        (U) first(rest(rest(rest(iterable)))).get(),
-                        (V) first(rest(rest(rest(rest(iterable))))).get(),
-                        (W) first(rest(rest(rest(rest(rest(iterable)))))).get(),
-                        (X) first(rest(rest(rest(rest(rest(rest(iterable))))))).get(),
-                        (Y) first(rest(rest(rest(rest(rest(rest(rest(iterable)))))))).get(),
-                        (Z) first(rest(rest(rest(rest(rest(rest(rest(rest(iterable))))))))).get());
+                        (R) elements.next(),
+                        (S) elements.next(),
+                        (T) elements.next(),
+                        (U) elements.next(),
+                        (V) elements.next(),
+                        (W) elements.next(),
+                        (X) elements.next(),
+                        (Y) elements.next(),
+                        (Z) elements.next());
             }
         };
     }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static java.lang.String.format;
+
+/**
+ * An {@code Iterable} which evaluates an underlying {@code Iterable} at most
+ * once, on demand, and replays the evaluated elements to every iterator it
+ * hands out. Evaluation is guarded by a lock so that iterators may be consumed
+ * concurrently, each element being pulled from the underlying iterator by
+ * whichever iterator first reaches it.
+ *
+ * <p>Evaluated elements are either all retained, being kept in an array that
+ * is trimmed to size and the underlying {@code Iterable} released once it is
+ * exhausted, or only the most recent elements in a window of fixed size are
+ * retained, in which case an iterator that falls more than the window behind
+ * the furthest evaluated element fails with an
+ * {@code IllegalStateException}.</p>
+ */
+class MemoizedIterable<T> implements Iterable<T> {
+    private static final int INITIAL_STORAGE = 16;
+
+    private final Object lock = new Object();
+    private final int windowSize;
+    private final RingBuffer<T> window;
+    private Object[] elements;
+    private Iterable<? extends T> iterable;
+    private Iterator<? extends T> source;
+    private long evaluated = 0;
+    private boolean exhausted = false;
+
+    private MemoizedIterable(Iterable<? extends T> iterable, int windowSize, RingBuffer<T> window) {
+        this.iterable = iterable;
+        this.windowSize = windowSize;
+        this.window = window;
+        this.elements = window == null ? new Object[INITIAL_STORAGE] : null;
+    }
+
+    static <T> MemoizedIterable<T> unbounded(Iterable<? extends T> iterable) {
+        return new MemoizedIterable<T>(iterable, Integer.MAX_VALUE, null);
+    }
+
+    static <T> MemoizedIterable<T> windowed(Iterable<? extends T> iterable, int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be greater than zero.");
+        }
+        return new MemoizedIterable<T>(iterable, windowSize, new RingBuffer<T>(windowSize));
+    }
+
+    @Override public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private long position = 0;
+
+            @Override public boolean hasNext() {
+                return isAvailable(position);
+            }
+
+            @Override public T next() {
+                return elementAt(position++);
+            }
+
+            @Override public void remove() {
+                throw new UnsupportedOperationException("Cannot remove elements from a memoized Iterable.");
+            }
+        };
+    }
+
+    private boolean isAvailable(long index) {
+        synchronized (lock) {
+            while (index >= evaluated) {
+                if (!evaluateNext()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(long index) {
+        synchronized (lock) {
+            if (!isAvailable(index)) {
+                throw new NoSuchElementException();
+            }
+            if (window == null) {
+                return (T) elements[(int) index];
+            }
+            long windowStart = evaluated - window.size();
+            if (index < windowStart) {
+                throw new IllegalStateException(format(
+                        "Element %d is no longer memoized as it is more than %d elements behind the furthest evaluated element.",
+                        index, windowSize));
+            }
+            return window.get(index - windowStart);
+        }
+    }
+
+    private boolean evaluateNext() {
+        if (exhausted) {
+            return false;
+        }
+        if (source == null) {
+            source = iterable.iterator();
+        }
+        if (!source.hasNext()) {
+            release();
+            return false;
+        }
+        store(source.next());
+        return true;
+    }
+
+    private void store(T element) {
+        if (window == null) {
+            if (evaluated == elements.length) {
+                elements = Arrays.copyOf(elements, (int) Math.min(Integer.MAX_VALUE - 8, 2L * elements.length));
+            }
+            elements[(int) evaluated] = element;
+        } else {
+            window.add(element);
+        }
+        evaluated++;
+    }
+
+    private void release() {
+        exhausted = true;
+        source = null;
+        iterable = null;
+        if (elements != null && elements.length != evaluated) {
+            elements = Arrays.copyOf(elements, (int) evaluated);
+        }
+    }
+}
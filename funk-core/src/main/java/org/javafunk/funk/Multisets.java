@@ -8,58 +8,73 @@
  */
 package org.javafunk.funk;
 
-import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
+import org.javafunk.funk.datastructures.CompactMultiset;
+
+import java.util.Iterator;
 
 import static java.util.Arrays.asList;
-import static org.javafunk.funk.Eagerly.first;
-import static org.javafunk.funk.Eagerly.rest;
-import static org.javafunk.funk.Literals.collectionFrom;
 import static org.javafunk.funk.Literals.iterableBuilderWith;
 
+/**
+ * Multiset algebra over {@code Iterable}s. Results are
+ * {@link CompactMultiset}s, built by merging the counts of each input into the
+ * counts of the first in place. Inputs which are already {@code Multiset}s are
+ * read without being counted again; the others are counted into a single table
+ * which is cleared and reused for each of them.
+ */
 public class Multisets {
     private Multisets() {}
 
+    @SuppressWarnings("unchecked")
     public static <T> Multiset<T> concatenate(Iterable<? extends Iterable<? extends T>> iterables) {
-        Multiset<T> concatenatedMultiset = HashMultiset.create(first(iterables).get());
-        for (Iterable<? extends T> iterable : rest(iterables)) {
-            concatenatedMultiset.addAll(collectionFrom(iterable));
+        CompactMultiset<T> concatenatedMultiset = new CompactMultiset<T>();
+        for (Iterable<? extends T> iterable : iterables) {
+            if (iterable instanceof Multiset) {
+                concatenatedMultiset.sumWith((Multiset<? extends T>) iterable);
+            } else {
+                for (T element : iterable) {
+                    concatenatedMultiset.add(element, 1);
+                }
+            }
         }
         return concatenatedMultiset;
     }
 
     public static <T> Multiset<T> union(Iterable<? extends Iterable<? extends T>> iterables) {
-        Multiset<T> unionMultiset = HashMultiset.create(first(iterables).get());
-        for (Iterable<? extends T> iterable : rest(iterables)) {
-            Multiset<T> currentMultiset = HashMultiset.create(iterable);
-            for (T element : currentMultiset.elementSet()) {
-                int numberInUnionMultiset = unionMultiset.count(element);
-                int numberInCurrentMultiset = currentMultiset.count(element);
-                if (numberInUnionMultiset < numberInCurrentMultiset) {
-                    unionMultiset.setCount(element, numberInCurrentMultiset);
-                }
-            }
+        Iterator<? extends Iterable<? extends T>> operands = iterables.iterator();
+        CompactMultiset<T> unionMultiset = firstOf(operands);
+        CompactMultiset<T> counts = new CompactMultiset<T>();
+        while (operands.hasNext()) {
+            unionMultiset.unionWith(countsOf(operands.next(), counts));
         }
         return unionMultiset;
     }
 
     public static <T> Multiset<T> intersection(Iterable<? extends Iterable<? extends T>> iterables) {
-        Multiset<T> intersectionMultiset = HashMultiset.create(first(iterables).get());
-        for (Iterable<? extends T> iterable : rest(iterables)) {
-            intersectionMultiset = com.google.common.collect.Multisets.intersection(
-                    intersectionMultiset, HashMultiset.create(iterable));
+        Iterator<? extends Iterable<? extends T>> operands = iterables.iterator();
+        CompactMultiset<T> intersectionMultiset = firstOf(operands);
+        CompactMultiset<T> counts = new CompactMultiset<T>();
+        while (operands.hasNext() && !intersectionMultiset.isEmpty()) {
+            intersectionMultiset.intersectWith(countsOf(operands.next(), counts));
         }
         return intersectionMultiset;
     }
 
     public static <T> Multiset<T> difference(Iterable<? extends Iterable<? extends T>> iterables) {
-        Multiset<T> differences = HashMultiset.create(first(iterables).get());
-        for (Iterable<? extends T> iterable : rest(iterables)) {
-            for (T item : iterable) {
-                differences.remove(item);
+        Iterator<? extends Iterable<? extends T>> operands = iterables.iterator();
+        CompactMultiset<T> differenceMultiset = firstOf(operands);
+        while (operands.hasNext() && !differenceMultiset.isEmpty()) {
+            Iterable<? extends T> operand = operands.next();
+            if (operand instanceof Multiset) {
+                differenceMultiset.subtract((Multiset<?>) operand);
+            } else {
+                for (T element : operand) {
+                    differenceMultiset.remove(element, 1);
+                }
             }
         }
-        return differences;
+        return differenceMultiset;
     }
 
     @SuppressWarnings("unchecked")
@@ -217,4 +232,20 @@ public class Multisets {
             Iterable<? extends T> i5, Iterable<? extends T> i6, Iterable<? extends T>... i7on) {
         return difference(iterableBuilderWith(i1, i2, i3, i4, i5, i6).and(i7on).build());
     }
+
+    private static <T> CompactMultiset<T> firstOf(Iterator<? extends Iterable<? extends T>> operands) {
+        return operands.hasNext() ? new CompactMultiset<T>(operands.next()) : new CompactMultiset<T>();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Multiset<? extends T> countsOf(Iterable<? extends T> iterable, CompactMultiset<T> counts) {
+        if (iterable instanceof Multiset) {
+            return (Multiset<? extends T>) iterable;
+        }
+        counts.clear();
+        for (T element : iterable) {
+            counts.add(element, 1);
+        }
+        return counts;
+    }
 }
@@ -1,5 +1,9 @@
 package org.javafunk.funk;
 
+import org.javafunk.funk.functors.primitives.DoubleReducer;
+import org.javafunk.funk.functors.primitives.IntReducer;
+import org.javafunk.funk.functors.primitives.LongReducer;
+
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
@@ -8,34 +12,62 @@ import static org.javafunk.funk.Accumulators.bigDecimalAdditionAccumulator;
 import static org.javafunk.funk.Accumulators.bigDecimalMultiplicationAccumulator;
 import static org.javafunk.funk.Accumulators.bigIntegerAdditionAccumulator;
 import static org.javafunk.funk.Accumulators.bigIntegerMultiplicationAccumulator;
-import static org.javafunk.funk.Accumulators.doubleAdditionAccumulator;
-import static org.javafunk.funk.Accumulators.doubleMultiplicationAccumulator;
 import static org.javafunk.funk.Accumulators.floatAdditionAccumulator;
 import static org.javafunk.funk.Accumulators.floatMultiplicationAccumulator;
-import static org.javafunk.funk.Accumulators.integerAdditionAccumulator;
-import static org.javafunk.funk.Accumulators.integerMultiplicationAccumulator;
-import static org.javafunk.funk.Accumulators.longAdditionAccumulator;
-import static org.javafunk.funk.Accumulators.longMultiplicationAccumulator;
+import static org.javafunk.funk.Primitives.doubles;
+import static org.javafunk.funk.Primitives.ints;
+import static org.javafunk.funk.Primitives.longs;
 
 public class Numbers {
+    private static final IntReducer INT_ADDITION = new IntReducer() {
+        @Override public int accumulate(int accumulator, int element) {
+            return accumulator + element;
+        }
+    };
+    private static final LongReducer LONG_ADDITION = new LongReducer() {
+        @Override public long accumulate(long accumulator, long element) {
+            return accumulator + element;
+        }
+    };
+    private static final DoubleReducer DOUBLE_ADDITION = new DoubleReducer() {
+        @Override public double accumulate(double accumulator, double element) {
+            return accumulator + element;
+        }
+    };
+    private static final IntReducer INT_MULTIPLICATION = new IntReducer() {
+        @Override public int accumulate(int accumulator, int element) {
+            return accumulator * element;
+        }
+    };
+    private static final LongReducer LONG_MULTIPLICATION = new LongReducer() {
+        @Override public long accumulate(long accumulator, long element) {
+            return accumulator * element;
+        }
+    };
+    private static final DoubleReducer DOUBLE_MULTIPLICATION = new DoubleReducer() {
+        @Override public double accumulate(double accumulator, double element) {
+            return accumulator * element;
+        }
+    };
+
     @SuppressWarnings("unchecked")
     public static <T extends Number> T sum(Iterable<T> iterable, Class<T> numberClass) {
-        if (numberClass == Integer.class)    return (T) Eagerly.reduce((Iterable<Integer>)    iterable, integerAdditionAccumulator());
-        if (numberClass == Long.class)       return (T) Eagerly.reduce((Iterable<Long>)       iterable, longAdditionAccumulator());
+        if (numberClass == Integer.class)    return (T) Integer.valueOf(Primitives.reduce(ints((Iterable<Integer>) iterable), INT_ADDITION));
+        if (numberClass == Long.class)       return (T) Long.valueOf(Primitives.reduce(longs((Iterable<Long>) iterable), LONG_ADDITION));
         if (numberClass == BigInteger.class) return (T) Eagerly.reduce((Iterable<BigInteger>) iterable, bigIntegerAdditionAccumulator());
         if (numberClass == Float.class)      return (T) Eagerly.reduce((Iterable<Float>)      iterable, floatAdditionAccumulator());
-        if (numberClass == Double.class)     return (T) Eagerly.reduce((Iterable<Double>)     iterable, doubleAdditionAccumulator());
+        if (numberClass == Double.class)     return (T) Double.valueOf(Primitives.reduce(doubles((Iterable<Double>) iterable), DOUBLE_ADDITION));
         if (numberClass == BigDecimal.class) return (T) Eagerly.reduce((Iterable<BigDecimal>) iterable, bigDecimalAdditionAccumulator());
         throw new UnsupportedOperationException(format("Cannot sum numbers of type: %s", numberClass.getSimpleName()));
     }
 
     @SuppressWarnings("unchecked")
     public static <T extends Number> T multiply(Iterable<T> iterable, Class<T> numberClass) {
-        if (numberClass == Integer.class)    return (T) Eagerly.reduce((Iterable<Integer>)    iterable, integerMultiplicationAccumulator());
-        if (numberClass == Long.class)       return (T) Eagerly.reduce((Iterable<Long>)       iterable, longMultiplicationAccumulator());
+        if (numberClass == Integer.class)    return (T) Integer.valueOf(Primitives.reduce(ints((Iterable<Integer>) iterable), INT_MULTIPLICATION));
+        if (numberClass == Long.class)       return (T) Long.valueOf(Primitives.reduce(longs((Iterable<Long>) iterable), LONG_MULTIPLICATION));
         if (numberClass == BigInteger.class) return (T) Eagerly.reduce((Iterable<BigInteger>) iterable, bigIntegerMultiplicationAccumulator());
         if (numberClass == Float.class)      return (T) Eagerly.reduce((Iterable<Float>)      iterable, floatMultiplicationAccumulator());
-        if (numberClass == Double.class)     return (T) Eagerly.reduce((Iterable<Double>)     iterable, doubleMultiplicationAccumulator());
+        if (numberClass == Double.class)     return (T) Double.valueOf(Primitives.reduce(doubles((Iterable<Double>) iterable), DOUBLE_MULTIPLICATION));
         if (numberClass == BigDecimal.class) return (T) Eagerly.reduce((Iterable<BigDecimal>) iterable, bigDecimalMultiplicationAccumulator());
         throw new UnsupportedOperationException(format("Cannot multiply numbers of type: %s", numberClass.getSimpleName()));
     }
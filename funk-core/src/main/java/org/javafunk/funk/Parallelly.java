@@ -0,0 +1,1328 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.datastructures.AbstractRange;
+import org.javafunk.funk.functors.Indexer;
+import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.Reducer;
+import org.javafunk.funk.functors.functions.BinaryFunction;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.javafunk.funk.functors.adapters.IndexerUnaryFunctionAdapter.indexerUnaryFunction;
+import static org.javafunk.funk.functors.adapters.MapperUnaryFunctionAdapter.mapperUnaryFunction;
+import static org.javafunk.funk.functors.adapters.ReducerBinaryFunctionAdapter.reducerBinaryFunction;
+
+/**
+ * A parallel counterpart to {@link Eagerly} for the {@code map}, {@code filter},
+ * {@code reduce} and {@code group} higher order functions. Work is split into
+ * fork/join tasks and executed on a {@code ForkJoinPool}.
+ *
+ * <p>{@code RandomAccess} lists and {@code AbstractRange} instances are split
+ * in place by index. Any other {@code Iterable} is first copied into a list
+ * since it can only be traversed sequentially. Inputs containing no more
+ * elements than the sequential threshold are processed on the calling thread
+ * without touching the pool at all.</p>
+ *
+ * <p>{@code map} and {@code filter} preserve the encounter order of the
+ * input. The functions supplied to any of these methods may be called
+ * concurrently from multiple threads and so must be thread safe and free of
+ * side effects that depend on ordering.</p>
+ *
+ * <p>Unless a {@code ForkJoinPool} is supplied explicitly, a shared pool with
+ * parallelism equal to the number of available processors is used.</p>
+ *
+ * @since 1.0
+ */
+public class Parallelly {
+    /**
+     * The number of elements at or below which work is carried out
+     * sequentially when no threshold is supplied explicitly.
+     */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1024;
+
+    private Parallelly() {
+    }
+
+    /**
+     * Maps an {@code Iterable} of elements of type {@code S} into a {@code Collection}
+     * of elements of type {@code T} using the supplied {@code UnaryFunction}, calling
+     * the function from multiple threads in the shared {@code ForkJoinPool}. The
+     * returned {@code Collection} contains the mapped elements in the order in
+     * which the corresponding input elements are yielded.
+     *
+     * <p>For further documentation, see {@link Eagerly#map(Iterable, UnaryFunction)}
+     * and {@link #map(Iterable, UnaryFunction, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable The {@code Iterable} of elements to be mapped.
+     * @param function A thread safe {@code UnaryFunction} which, given an element from
+     *                 the input iterable, returns that element mapped to a new value.
+     * @param <S>      The type of the input elements, i.e., the elements to map.
+     * @param <T>      The type of the output elements, i.e., the mapped elements.
+     * @return A {@code Collection} containing each instance of {@code S} from the input
+     *         {@code Iterable} mapped to an instance of {@code T}.
+     */
+    public static <S, T> Collection<T> map(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, T> function) {
+        return map(iterable, function, defaultPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Maps an {@code Iterable} of elements of type {@code S} into a {@code Collection}
+     * of elements of type {@code T} using the supplied {@code Mapper}, calling the
+     * {@code Mapper} from multiple threads in the shared {@code ForkJoinPool}.
+     *
+     * <p>For example usage and further documentation, see
+     * {@link #map(Iterable, UnaryFunction, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable The {@code Iterable} of elements to be mapped.
+     * @param mapper   A thread safe {@code Mapper} which, given an element from the
+     *                 input iterable, returns that element mapped to a new value.
+     * @param <S>      The type of the input elements, i.e., the elements to map.
+     * @param <T>      The type of the output elements, i.e., the mapped elements.
+     * @return A {@code Collection} containing each instance of {@code S} from the input
+     *         {@code Iterable} mapped to an instance of {@code T}.
+     */
+    public static <S, T> Collection<T> map(Iterable<S> iterable, Mapper<? super S, T> mapper) {
+        return map(iterable, mapperUnaryFunction(mapper));
+    }
+
+    /**
+     * Maps an {@code Iterable} of elements of type {@code S} into a {@code Collection}
+     * of elements of type {@code T} using the supplied {@code UnaryFunction}, splitting
+     * the work into tasks executed on the supplied {@code ForkJoinPool}. Each task
+     * maps at most {@code sequentialThreshold} elements and an input of no more than
+     * {@code sequentialThreshold} elements is mapped on the calling thread.
+     *
+     * <p>The returned {@code Collection} contains the mapped elements in the order
+     * in which the corresponding input elements are yielded from the supplied
+     * {@code Iterable}, regardless of the order in which the tasks complete.</p>
+     *
+     * <h4>Example Usage:</h4>
+     *
+     * Given a large list of image identifiers and a thread safe, expensive
+     * {@code Mapper} that loads the thumbnail for an identifier:
+     * <blockquote>
+     * <pre>
+     *   List&lt;Long&gt; identifiers = imageRepository.allIdentifiers();
+     *   ForkJoinPool pool = new ForkJoinPool(4);
+     *   Collection&lt;Thumbnail&gt; thumbnails = Parallelly.map(identifiers, new Mapper&lt;Long, Thumbnail&gt;() {
+     *       &#64;Override public Thumbnail map(Long identifier) {
+     *           return thumbnailLoader.load(identifier);
+     *       }
+     *   }, pool, 64);
+     * </pre>
+     * </blockquote>
+     * the thumbnails are loaded by four threads, in tasks of at most sixty four
+     * identifiers, and are returned in the same order as the identifiers.
+     *
+     * @param iterable            The {@code Iterable} of elements to be mapped.
+     * @param function            A thread safe {@code UnaryFunction} which, given an element
+     *                            from the input iterable, returns that element mapped to a
+     *                            new value.
+     * @param pool                The {@code ForkJoinPool} on which to execute the tasks.
+     * @param sequentialThreshold The maximum number of elements to map in a single task;
+     *                            must be greater than zero.
+     * @param <S>                 The type of the input elements, i.e., the elements to map.
+     * @param <T>                 The type of the output elements, i.e., the mapped elements.
+     * @return A {@code Collection} containing each instance of {@code S} from the input
+     *         {@code Iterable} mapped to an instance of {@code T}.
+     * @throws IllegalArgumentException if the supplied {@code sequentialThreshold} is
+     *                                  not greater than zero.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> Collection<T> map(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, T> function,
+            ForkJoinPool pool,
+            int sequentialThreshold) {
+        checkNotNull(function);
+        checkArguments(pool, sequentialThreshold);
+        IndexedElements<S> elements = indexedElementsFrom(iterable);
+        Object[] outputs = new Object[arrayLengthFor(elements)];
+        MapAction<S> action = new MapAction<S>(elements, function, outputs, 0, elements.size(), sequentialThreshold);
+        execute(action, pool, elements, sequentialThreshold);
+        return Collections.unmodifiableList((List<T>) Arrays.asList(outputs));
+    }
+
+    /**
+     * Maps an {@code Iterable} of elements of type {@code S} into a {@code Collection}
+     * of elements of type {@code T} using the supplied {@code Mapper}, splitting the
+     * work into tasks executed on the supplied {@code ForkJoinPool}.
+     *
+     * <p>For example usage and further documentation, see
+     * {@link #map(Iterable, UnaryFunction, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable            The {@code Iterable} of elements to be mapped.
+     * @param mapper              A thread safe {@code Mapper} which, given an element from
+     *                            the input iterable, returns that element mapped to a new
+     *                            value.
+     * @param pool                The {@code ForkJoinPool} on which to execute the tasks.
+     * @param sequentialThreshold The maximum number of elements to map in a single task;
+     *                            must be greater than zero.
+     * @param <S>                 The type of the input elements, i.e., the elements to map.
+     * @param <T>                 The type of the output elements, i.e., the mapped elements.
+     * @return A {@code Collection} containing each instance of {@code S} from the input
+     *         {@code Iterable} mapped to an instance of {@code T}.
+     */
+    public static <S, T> Collection<T> map(
+            Iterable<S> iterable,
+            Mapper<? super S, T> mapper,
+            ForkJoinPool pool,
+            int sequentialThreshold) {
+        return map(iterable, mapperUnaryFunction(mapper), pool, sequentialThreshold);
+    }
+
+    /**
+     * Filters those elements from the input {@code Iterable} that satisfy the
+     * supplied {@code UnaryPredicate}, evaluating the predicate from multiple
+     * threads in the shared {@code ForkJoinPool}.
+     *
+     * <p>For further documentation, see {@link Eagerly#filter(Iterable, UnaryPredicate)}
+     * and {@link #filter(Iterable, UnaryPredicate, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable  The {@code Iterable} of elements to be filtered.
+     * @param predicate A thread safe {@code UnaryPredicate} which returns {@code true}
+     *                  for those elements that should be retained.
+     * @param <T>       The type of the elements to be filtered.
+     * @return A {@code Collection} containing those elements from the input
+     *         {@code Iterable} that satisfy the supplied {@code UnaryPredicate}.
+     */
+    public static <T> Collection<T> filter(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate) {
+        return filter(iterable, predicate, defaultPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Filters those elements from the input {@code Iterable} that satisfy the
+     * supplied {@code UnaryPredicate}, splitting the evaluation of the predicate into
+     * tasks executed on the supplied {@code ForkJoinPool}. The retained elements are
+     * returned in the order in which they are yielded from the supplied {@code Iterable}.
+     *
+     * <p>Only the evaluation of the predicate is performed in parallel; the
+     * retained elements are gathered into the returned {@code Collection} in a
+     * single pass on the calling thread once all tasks have completed.</p>
+     *
+     * @param iterable            The {@code Iterable} of elements to be filtered.
+     * @param predicate           A thread safe {@code UnaryPredicate} which returns
+     *                            {@code true} for those elements that should be retained.
+     * @param pool                The {@code ForkJoinPool} on which to execute the tasks.
+     * @param sequentialThreshold The maximum number of elements to test in a single task;
+     *                            must be greater than zero.
+     * @param <T>                 The type of the elements to be filtered.
+     * @return A {@code Collection} containing those elements from the input
+     *         {@code Iterable} that satisfy the supplied {@code UnaryPredicate}.
+     * @throws IllegalArgumentException if the supplied {@code sequentialThreshold} is
+     *                                  not greater than zero.
+     */
+    public static <T> Collection<T> filter(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate,
+            ForkJoinPool pool,
+            int sequentialThreshold) {
+        checkNotNull(predicate);
+        checkArguments(pool, sequentialThreshold);
+        IndexedElements<T> elements = indexedElementsFrom(iterable);
+        boolean[] retained = new boolean[arrayLengthFor(elements)];
+        FilterAction<T> action = new FilterAction<T>(elements, predicate, retained, 0, elements.size(), sequentialThreshold);
+        execute(action, pool, elements, sequentialThreshold);
+        List<T> outputs = new ArrayList<T>();
+        for (int index = 0; index < retained.length; index++) {
+            if (retained[index]) {
+                outputs.add(elements.get(index));
+            }
+        }
+        return Collections.unmodifiableList(outputs);
+    }
+
+    /**
+     * Reduces the supplied {@code Iterable} to a single value in parallel using the
+     * shared {@code ForkJoinPool}.
+     *
+     * <p>For further documentation, see
+     * {@link #reduce(Iterable, Object, BinaryFunction, BinaryFunction, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable     The {@code Iterable} to be reduced.
+     * @param initialValue The identity value of the supplied combiner.
+     * @param accumulator  A thread safe {@code BinaryFunction} folding an element into
+     *                     a partial result.
+     * @param combiner     A thread safe, associative {@code BinaryFunction} combining
+     *                     two partial results.
+     * @param <S>          The type of the elements in the supplied {@code Iterable}.
+     * @param <T>          The type of the result.
+     * @return The result of reducing all elements of the supplied {@code Iterable}.
+     */
+    public static <S, T> T reduce(
+            Iterable<? extends S> iterable,
+            T initialValue,
+            BinaryFunction<T, ? super S, T> accumulator,
+            BinaryFunction<T, T, T> combiner) {
+        return reduce(iterable, initialValue, accumulator, combiner, defaultPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Reduces the supplied {@code Iterable} to a single value by splitting it into
+     * contiguous chunks, folding each chunk with the supplied accumulator starting
+     * from {@code initialValue} and combining the partial results of adjacent chunks,
+     * left to right, with the supplied combiner. The tasks are executed on the
+     * supplied {@code ForkJoinPool}.
+     *
+     * <p>For the result to be the same as that of
+     * {@link Eagerly#reduce(Iterable, Object, BinaryFunction)}, the combiner must be
+     * associative, {@code initialValue} must be an identity for the combiner and
+     * {@code combiner.call(t, accumulator.call(initialValue, s))} must equal
+     * {@code accumulator.call(t, s)}.</p>
+     *
+     * <h4>Example Usage:</h4>
+     *
+     * Given a large list of words, the total number of characters can be computed
+     * in parallel as follows:
+     * <blockquote>
+     * <pre>
+     *   Long characters = Parallelly.reduce(words, 0L,
+     *       new BinaryFunction&lt;Long, String, Long&gt;() {
+     *           &#64;Override public Long call(Long total, String word) {
+     *               return total + word.length();
+     *           }
+     *       },
+     *       new BinaryFunction&lt;Long, Long, Long&gt;() {
+     *           &#64;Override public Long call(Long first, Long second) {
+     *               return first + second;
+     *           }
+     *       }, pool, 1000);
+     * </pre>
+     * </blockquote>
+     *
+     * @param iterable            The {@code Iterable} to be reduced.
+     * @param initialValue        The identity value of the supplied combiner, used as
+     *                            the starting value for each chunk.
+     * @param accumulator         A thread safe {@code BinaryFunction} folding an element
+     *                            into a partial result.
+     * @param combiner            A thread safe, associative {@code BinaryFunction}
+     *                            combining two partial results.
+     * @param pool                The {@code ForkJoinPool} on which to execute the tasks.
+     * @param sequentialThreshold The maximum number of elements to fold in a single task;
+     *                            must be greater than zero.
+     * @param <S>                 The type of the elements in the supplied {@code Iterable}.
+     * @param <T>                 The type of the result.
+     * @return The result of reducing all elements of the supplied {@code Iterable}.
+     * @throws IllegalArgumentException if the supplied {@code sequentialThreshold} is
+     *                                  not greater than zero.
+     */
+    public static <S, T> T reduce(
+            Iterable<? extends S> iterable,
+            T initialValue,
+            BinaryFunction<T, ? super S, T> accumulator,
+            BinaryFunction<T, T, T> combiner,
+            ForkJoinPool pool,
+            int sequentialThreshold) {
+        checkNotNull(accumulator);
+        checkNotNull(combiner);
+        checkArguments(pool, sequentialThreshold);
+        IndexedElements<? extends S> elements = indexedElementsFrom(iterable);
+        ReduceTask<S, T> task = new ReduceTask<S, T>(
+                elements, initialValue, accumulator, combiner, 0, elements.size(), sequentialThreshold);
+        return execute(task, pool, elements, sequentialThreshold);
+    }
+
+    /**
+     * Reduces the supplied {@code Iterable} to a single value in parallel using the
+     * supplied {@code Reducer} as accumulator and the supplied combining
+     * {@code Reducer}, executing on the shared {@code ForkJoinPool}.
+     *
+     * <p>For further documentation, see
+     * {@link #reduce(Iterable, Object, BinaryFunction, BinaryFunction, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable     The {@code Iterable} to be reduced.
+     * @param initialValue The identity value of the supplied combiner.
+     * @param reducer      A thread safe {@code Reducer} folding an element into a
+     *                     partial result.
+     * @param combiner     A thread safe, associative {@code Reducer} combining two
+     *                     partial results.
+     * @param <S>          The type of the elements in the supplied {@code Iterable}.
+     * @param <T>          The type of the result.
+     * @return The result of reducing all elements of the supplied {@code Iterable}.
+     */
+    public static <S, T> T reduce(
+            Iterable<? extends S> iterable,
+            T initialValue,
+            Reducer<? super S, T> reducer,
+            Reducer<T, T> combiner) {
+        return reduce(iterable, initialValue, reducer, combiner, defaultPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Reduces the supplied {@code Iterable} to a single value in parallel using the
+     * supplied {@code Reducer} as accumulator and the supplied combining
+     * {@code Reducer}, executing on the supplied {@code ForkJoinPool}.
+     *
+     * <p>For further documentation, see
+     * {@link #reduce(Iterable, Object, BinaryFunction, BinaryFunction, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable            The {@code Iterable} to be reduced.
+     * @param initialValue        The identity value of the supplied combiner.
+     * @param reducer             A thread safe {@code Reducer} folding an element into a
+     *                            partial result.
+     * @param combiner            A thread safe, associative {@code Reducer} combining two
+     *                            partial results.
+     * @param pool                The {@code ForkJoinPool} on which to execute the tasks.
+     * @param sequentialThreshold The maximum number of elements to fold in a single task;
+     *                            must be greater than zero.
+     * @param <S>                 The type of the elements in the supplied {@code Iterable}.
+     * @param <T>                 The type of the result.
+     * @return The result of reducing all elements of the supplied {@code Iterable}.
+     */
+    public static <S, T> T reduce(
+            Iterable<? extends S> iterable,
+            T initialValue,
+            Reducer<? super S, T> reducer,
+            Reducer<T, T> combiner,
+            ForkJoinPool pool,
+            int sequentialThreshold) {
+        return reduce(iterable, initialValue,
+                reducerBinaryFunction(reducer), reducerBinaryFunction(combiner),
+                pool, sequentialThreshold);
+    }
+
+    /**
+     * Reduces the supplied {@code Iterable} using the supplied associative
+     * {@code BinaryFunction}, executing on the shared {@code ForkJoinPool}.
+     *
+     * <p>For further documentation, see
+     * {@link #reduce(Iterable, BinaryFunction, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable The {@code Iterable} to be reduced.
+     * @param function A thread safe, associative {@code BinaryFunction}.
+     * @param <T>      The type of the elements in the supplied {@code Iterable}.
+     * @return The result of reducing all elements of the supplied {@code Iterable}.
+     * @throws NoSuchElementException if the supplied {@code Iterable} is empty.
+     */
+    public static <T> T reduce(
+            Iterable<T> iterable,
+            BinaryFunction<T, ? super T, T> function) {
+        return reduce(iterable, function, defaultPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Reduces the supplied {@code Iterable} using the supplied associative
+     * {@code BinaryFunction} both to fold the elements of each chunk, starting from
+     * the first element of the chunk, and to combine the partial results of
+     * adjacent chunks. The tasks are executed on the supplied {@code ForkJoinPool}.
+     *
+     * <p>Provided the function is associative, the result is the same as that of
+     * {@link Eagerly#reduce(Iterable, BinaryFunction)}.</p>
+     *
+     * @param iterable            The {@code Iterable} to be reduced.
+     * @param function            A thread safe, associative {@code BinaryFunction}.
+     * @param pool                The {@code ForkJoinPool} on which to execute the tasks.
+     * @param sequentialThreshold The maximum number of elements to fold in a single task;
+     *                            must be greater than zero.
+     * @param <T>                 The type of the elements in the supplied {@code Iterable}.
+     * @return The result of reducing all elements of the supplied {@code Iterable}.
+     * @throws NoSuchElementException   if the supplied {@code Iterable} is empty.
+     * @throws IllegalArgumentException if the supplied {@code sequentialThreshold} is
+     *                                  not greater than zero.
+     */
+    public static <T> T reduce(
+            Iterable<T> iterable,
+            BinaryFunction<T, ? super T, T> function,
+            ForkJoinPool pool,
+            int sequentialThreshold) {
+        checkNotNull(function);
+        checkArguments(pool, sequentialThreshold);
+        IndexedElements<T> elements = indexedElementsFrom(iterable);
+        if (elements.size() == 0) {
+            throw new NoSuchElementException();
+        }
+        AssociativeReduceTask<T> task = new AssociativeReduceTask<T>(
+                elements, function, 0, elements.size(), sequentialThreshold);
+        return execute(task, pool, elements, sequentialThreshold);
+    }
+
+    /**
+     * Reduces the supplied {@code Iterable} using the supplied associative
+     * {@code Reducer}, executing on the shared {@code ForkJoinPool}.
+     *
+     * <p>For further documentation, see
+     * {@link #reduce(Iterable, BinaryFunction, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable The {@code Iterable} to be reduced.
+     * @param reducer  A thread safe, associative {@code Reducer}.
+     * @param <T>      The type of the elements in the supplied {@code Iterable}.
+     * @return The result of reducing all elements of the supplied {@code Iterable}.
+     * @throws NoSuchElementException if the supplied {@code Iterable} is empty.
+     */
+    public static <T> T reduce(Iterable<T> iterable, Reducer<T, T> reducer) {
+        return reduce(iterable, reducerBinaryFunction(reducer));
+    }
+
+    /**
+     * Reduces the supplied {@code Iterable} using the supplied associative
+     * {@code Reducer}, executing on the supplied {@code ForkJoinPool}.
+     *
+     * <p>For further documentation, see
+     * {@link #reduce(Iterable, BinaryFunction, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable            The {@code Iterable} to be reduced.
+     * @param reducer             A thread safe, associative {@code Reducer}.
+     * @param pool                The {@code ForkJoinPool} on which to execute the tasks.
+     * @param sequentialThreshold The maximum number of elements to fold in a single task;
+     *                            must be greater than zero.
+     * @param <T>                 The type of the elements in the supplied {@code Iterable}.
+     * @return The result of reducing all elements of the supplied {@code Iterable}.
+     * @throws NoSuchElementException if the supplied {@code Iterable} is empty.
+     */
+    public static <T> T reduce(
+            Iterable<T> iterable,
+            Reducer<T, T> reducer,
+            ForkJoinPool pool,
+            int sequentialThreshold) {
+        return reduce(iterable, reducerBinaryFunction(reducer), pool, sequentialThreshold);
+    }
+
+    /**
+     * Groups the elements of the supplied {@code Iterable} by the value returned by
+     * the supplied indexing function, executing on the shared {@code ForkJoinPool}.
+     *
+     * <p>For further documentation, see
+     * {@link #group(Iterable, UnaryFunction, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable The {@code Iterable} to be grouped.
+     * @param indexer  A thread safe {@code UnaryFunction} returning the group of an element.
+     * @param <S>      The type of the elements in the supplied {@code Iterable}.
+     * @param <T>      The type of the group values.
+     * @return A {@code Map} from each group value to the elements in that group.
+     */
+    public static <S, T> Map<T, Collection<S>> group(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, T> indexer) {
+        return group(iterable, indexer, defaultPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Groups the elements of the supplied {@code Iterable} by the value returned by
+     * the supplied {@code Indexer}, executing on the shared {@code ForkJoinPool}.
+     *
+     * <p>For further documentation, see
+     * {@link #group(Iterable, UnaryFunction, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable The {@code Iterable} to be grouped.
+     * @param indexer  A thread safe {@code Indexer} returning the group of an element.
+     * @param <S>      The type of the elements in the supplied {@code Iterable}.
+     * @param <T>      The type of the group values.
+     * @return A {@code Map} from each group value to the elements in that group.
+     */
+    public static <S, T> Map<T, Collection<S>> group(
+            Iterable<S> iterable,
+            Indexer<? super S, T> indexer) {
+        return group(iterable, indexerUnaryFunction(indexer));
+    }
+
+    /**
+     * Groups the elements of the supplied {@code Iterable} by the value returned by
+     * the supplied indexing function. Each task groups a contiguous chunk of the
+     * input into its own {@code Map} and the maps of adjacent chunks are merged left
+     * to right, so that the elements within each group retain the order in which
+     * they are yielded from the supplied {@code Iterable}, as with
+     * {@link Eagerly#group(Iterable, UnaryFunction)}.
+     *
+     * @param iterable            The {@code Iterable} to be grouped.
+     * @param indexer             A thread safe {@code UnaryFunction} returning the group
+     *                            of an element.
+     * @param pool                The {@code ForkJoinPool} on which to execute the tasks.
+     * @param sequentialThreshold The maximum number of elements to group in a single task;
+     *                            must be greater than zero.
+     * @param <S>                 The type of the elements in the supplied {@code Iterable}.
+     * @param <T>                 The type of the group values.
+     * @return A {@code Map} from each group value to the elements in that group.
+     * @throws IllegalArgumentException if the supplied {@code sequentialThreshold} is
+     *                                  not greater than zero.
+     */
+    public static <S, T> Map<T, Collection<S>> group(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, T> indexer,
+            ForkJoinPool pool,
+            int sequentialThreshold) {
+        checkNotNull(indexer);
+        checkArguments(pool, sequentialThreshold);
+        IndexedElements<S> elements = indexedElementsFrom(iterable);
+        GroupTask<S, T> task = new GroupTask<S, T>(elements, indexer, 0, elements.size(), sequentialThreshold);
+        return execute(task, pool, elements, sequentialThreshold);
+    }
+
+    /**
+     * Groups the elements of the supplied {@code Iterable} by the value returned by
+     * the supplied {@code Indexer}, executing on the supplied {@code ForkJoinPool}.
+     *
+     * <p>For further documentation, see
+     * {@link #group(Iterable, UnaryFunction, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable            The {@code Iterable} to be grouped.
+     * @param indexer             A thread safe {@code Indexer} returning the group of an
+     *                            element.
+     * @param pool                The {@code ForkJoinPool} on which to execute the tasks.
+     * @param sequentialThreshold The maximum number of elements to group in a single task;
+     *                            must be greater than zero.
+     * @param <S>                 The type of the elements in the supplied {@code Iterable}.
+     * @param <T>                 The type of the group values.
+     * @return A {@code Map} from each group value to the elements in that group.
+     */
+    public static <S, T> Map<T, Collection<S>> group(
+            Iterable<S> iterable,
+            Indexer<? super S, T> indexer,
+            ForkJoinPool pool,
+            int sequentialThreshold) {
+        return group(iterable, indexerUnaryFunction(indexer), pool, sequentialThreshold);
+    }
+
+    /**
+     * Groups the elements of the supplied {@code Iterable} by the value returned by
+     * the supplied indexing function and reduces the elements of each group in
+     * parallel, executing on the shared {@code ForkJoinPool}.
+     *
+     * <p>For further documentation, see
+     * {@link #groupReduce(Iterable, UnaryFunction, Object, BinaryFunction, BinaryFunction, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable     The {@code Iterable} to be grouped and reduced.
+     * @param indexer      A thread safe {@code UnaryFunction} returning the group of an
+     *                     element.
+     * @param initialValue The identity value of the supplied combiner.
+     * @param accumulator  A thread safe {@code BinaryFunction} folding an element into
+     *                     a partial reduction of its group.
+     * @param combiner     A thread safe, associative {@code BinaryFunction} combining
+     *                     two partial reductions of the same group.
+     * @param <S>          The type of the elements in the supplied {@code Iterable}.
+     * @param <K>          The type of the group values.
+     * @param <V>          The type of the reductions.
+     * @return A {@code Map} from each group value to the reduction of the elements in
+     *         that group.
+     */
+    public static <S, K, V> Map<K, V> groupReduce(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, K> indexer,
+            V initialValue,
+            BinaryFunction<V, ? super S, V> accumulator,
+            BinaryFunction<V, V, V> combiner) {
+        return groupReduce(iterable, indexer, initialValue, accumulator, combiner,
+                defaultPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Groups the elements of the supplied {@code Iterable} by the value returned by
+     * the supplied indexing function and reduces the elements of each group. Each
+     * task groups and reduces a contiguous chunk of the input into its own
+     * {@code Map} and the maps of adjacent chunks are merged left to right,
+     * combining the partial reductions of any group present in both with the
+     * supplied combiner.
+     *
+     * <p>For the result to be the same as that of
+     * {@link Eagerly#groupReduce(Iterable, UnaryFunction, Object, BinaryFunction)},
+     * the combiner must be associative, {@code initialValue} must be an identity
+     * for the combiner and {@code combiner.call(v, accumulator.call(initialValue, s))}
+     * must equal {@code accumulator.call(v, s)}.</p>
+     *
+     * @param iterable            The {@code Iterable} to be grouped and reduced.
+     * @param indexer             A thread safe {@code UnaryFunction} returning the group
+     *                            of an element.
+     * @param initialValue        The identity value of the supplied combiner, used as
+     *                            the starting value for each group in each chunk.
+     * @param accumulator         A thread safe {@code BinaryFunction} folding an element
+     *                            into a partial reduction of its group.
+     * @param combiner            A thread safe, associative {@code BinaryFunction}
+     *                            combining two partial reductions of the same group.
+     * @param pool                The {@code ForkJoinPool} on which to execute the tasks.
+     * @param sequentialThreshold The maximum number of elements to group in a single task;
+     *                            must be greater than zero.
+     * @param <S>                 The type of the elements in the supplied {@code Iterable}.
+     * @param <K>                 The type of the group values.
+     * @param <V>                 The type of the reductions.
+     * @return A {@code Map} from each group value to the reduction of the elements in
+     *         that group.
+     * @throws IllegalArgumentException if the supplied {@code sequentialThreshold} is
+     *                                  not greater than zero.
+     */
+    public static <S, K, V> Map<K, V> groupReduce(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, K> indexer,
+            V initialValue,
+            BinaryFunction<V, ? super S, V> accumulator,
+            BinaryFunction<V, V, V> combiner,
+            ForkJoinPool pool,
+            int sequentialThreshold) {
+        checkNotNull(indexer);
+        checkNotNull(accumulator);
+        checkNotNull(combiner);
+        checkArguments(pool, sequentialThreshold);
+        IndexedElements<S> elements = indexedElementsFrom(iterable);
+        GroupReduceTask<S, K, V> task = new GroupReduceTask<S, K, V>(
+                elements, indexer, initialValue, accumulator, combiner, 0, elements.size(), sequentialThreshold);
+        return execute(task, pool, elements, sequentialThreshold);
+    }
+
+    /**
+     * Groups the elements of the supplied {@code Iterable} by the value returned by
+     * the supplied {@code Indexer} and reduces the elements of each group in
+     * parallel using the supplied {@code Reducer} instances, executing on the
+     * shared {@code ForkJoinPool}.
+     *
+     * <p>For further documentation, see
+     * {@link #groupReduce(Iterable, UnaryFunction, Object, BinaryFunction, BinaryFunction, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable     The {@code Iterable} to be grouped and reduced.
+     * @param indexer      A thread safe {@code Indexer} returning the group of an element.
+     * @param initialValue The identity value of the supplied combiner.
+     * @param reducer      A thread safe {@code Reducer} folding an element into a
+     *                     partial reduction of its group.
+     * @param combiner     A thread safe, associative {@code Reducer} combining two
+     *                     partial reductions of the same group.
+     * @param <S>          The type of the elements in the supplied {@code Iterable}.
+     * @param <K>          The type of the group values.
+     * @param <V>          The type of the reductions.
+     * @return A {@code Map} from each group value to the reduction of the elements in
+     *         that group.
+     */
+    public static <S, K, V> Map<K, V> groupReduce(
+            Iterable<S> iterable,
+            Indexer<? super S, K> indexer,
+            V initialValue,
+            Reducer<? super S, V> reducer,
+            Reducer<V, V> combiner) {
+        return groupReduce(iterable, indexerUnaryFunction(indexer), initialValue,
+                reducerBinaryFunction(reducer), reducerBinaryFunction(combiner));
+    }
+
+    /**
+     * Groups the elements of the supplied {@code Iterable} by the value returned by
+     * the supplied {@code Indexer} and reduces the elements of each group in
+     * parallel using the supplied {@code Reducer} instances, executing on the
+     * supplied {@code ForkJoinPool}.
+     *
+     * <p>For further documentation, see
+     * {@link #groupReduce(Iterable, UnaryFunction, Object, BinaryFunction, BinaryFunction, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable            The {@code Iterable} to be grouped and reduced.
+     * @param indexer             A thread safe {@code Indexer} returning the group of an
+     *                            element.
+     * @param initialValue        The identity value of the supplied combiner.
+     * @param reducer             A thread safe {@code Reducer} folding an element into a
+     *                            partial reduction of its group.
+     * @param combiner            A thread safe, associative {@code Reducer} combining two
+     *                            partial reductions of the same group.
+     * @param pool                The {@code ForkJoinPool} on which to execute the tasks.
+     * @param sequentialThreshold The maximum number of elements to group in a single task;
+     *                            must be greater than zero.
+     * @param <S>                 The type of the elements in the supplied {@code Iterable}.
+     * @param <K>                 The type of the group values.
+     * @param <V>                 The type of the reductions.
+     * @return A {@code Map} from each group value to the reduction of the elements in
+     *         that group.
+     */
+    public static <S, K, V> Map<K, V> groupReduce(
+            Iterable<S> iterable,
+            Indexer<? super S, K> indexer,
+            V initialValue,
+            Reducer<? super S, V> reducer,
+            Reducer<V, V> combiner,
+            ForkJoinPool pool,
+            int sequentialThreshold) {
+        return groupReduce(iterable, indexerUnaryFunction(indexer), initialValue,
+                reducerBinaryFunction(reducer), reducerBinaryFunction(combiner), pool, sequentialThreshold);
+    }
+
+    /**
+     * Returns the greatest {@code n} elements of the supplied {@code Iterable},
+     * according to the supplied {@code Comparator}, greatest first, selecting
+     * them in parallel on the shared {@code ForkJoinPool}.
+     *
+     * <p>For further documentation, see
+     * {@link #top(Iterable, int, Comparator, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable   The {@code Iterable} from which to select elements.
+     * @param n          The number of elements to select; must not be negative.
+     * @param comparator A thread safe {@code Comparator} defining the order of the
+     *                   elements.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code List} of at most {@code n} elements, greatest first.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public static <T> List<T> top(Iterable<T> iterable, int n, Comparator<? super T> comparator) {
+        return top(iterable, n, comparator, defaultPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Returns the greatest {@code n} elements of the supplied {@code Iterable},
+     * according to the supplied {@code Comparator}, greatest first. Each task
+     * selects the greatest {@code n} elements of a contiguous chunk of the input
+     * into a binary heap bounded to {@code n} elements and the heaps of adjacent
+     * chunks are merged by offering the elements of one to the other, so that no
+     * more than {@code n} elements per task are ever retained.
+     *
+     * <p>The result is the same as that of
+     * {@link Eagerly#top(Iterable, int, Comparator)} apart from which of several
+     * equal elements competing for the last places are returned.</p>
+     *
+     * @param iterable            The {@code Iterable} from which to select elements.
+     * @param n                   The number of elements to select; must not be
+     *                            negative.
+     * @param comparator          A thread safe {@code Comparator} defining the order
+     *                            of the elements.
+     * @param pool                The {@code ForkJoinPool} on which to execute the tasks.
+     * @param sequentialThreshold The maximum number of elements to select from in a
+     *                            single task; must be greater than zero.
+     * @param <T>                 The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code List} of at most {@code n} elements, greatest first.
+     * @throws IllegalArgumentException if {@code n} is negative or the supplied
+     *                                  {@code sequentialThreshold} is not greater
+     *                                  than zero.
+     */
+    public static <T> List<T> top(
+            Iterable<T> iterable,
+            int n,
+            Comparator<? super T> comparator,
+            ForkJoinPool pool,
+            int sequentialThreshold) {
+        checkNotNull(comparator);
+        checkArguments(pool, sequentialThreshold);
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of elements must not be negative.");
+        }
+        IndexedElements<T> elements = indexedElementsFrom(iterable);
+        TopTask<T> task = new TopTask<T>(elements, n, comparator, 0, elements.size(), sequentialThreshold);
+        return Collections.unmodifiableList(execute(task, pool, elements, sequentialThreshold).toList());
+    }
+
+    /**
+     * Returns the least {@code n} elements of the supplied {@code Iterable},
+     * according to the supplied {@code Comparator}, least first, selecting them
+     * in parallel on the shared {@code ForkJoinPool}.
+     *
+     * <p>For further documentation, see
+     * {@link #top(Iterable, int, Comparator, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable   The {@code Iterable} from which to select elements.
+     * @param n          The number of elements to select; must not be negative.
+     * @param comparator A thread safe {@code Comparator} defining the order of the
+     *                   elements.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code List} of at most {@code n} elements, least first.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public static <T> List<T> bottom(Iterable<T> iterable, int n, Comparator<? super T> comparator) {
+        return bottom(iterable, n, comparator, defaultPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Returns the least {@code n} elements of the supplied {@code Iterable},
+     * according to the supplied {@code Comparator}, least first, selecting them
+     * in parallel on the supplied {@code ForkJoinPool}.
+     *
+     * <p>For further documentation, see
+     * {@link #top(Iterable, int, Comparator, ForkJoinPool, int)}.</p>
+     *
+     * @param iterable            The {@code Iterable} from which to select elements.
+     * @param n                   The number of elements to select; must not be
+     *                            negative.
+     * @param comparator          A thread safe {@code Comparator} defining the order
+     *                            of the elements.
+     * @param pool                The {@code ForkJoinPool} on which to execute the tasks.
+     * @param sequentialThreshold The maximum number of elements to select from in a
+     *                            single task; must be greater than zero.
+     * @param <T>                 The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code List} of at most {@code n} elements, least first.
+     * @throws IllegalArgumentException if {@code n} is negative or the supplied
+     *                                  {@code sequentialThreshold} is not greater
+     *                                  than zero.
+     */
+    public static <T> List<T> bottom(
+            Iterable<T> iterable,
+            int n,
+            Comparator<? super T> comparator,
+            ForkJoinPool pool,
+            int sequentialThreshold) {
+        return top(iterable, n, Collections.reverseOrder(checkNotNull(comparator)), pool, sequentialThreshold);
+    }
+
+    private static ForkJoinPool defaultPool() {
+        return DefaultPoolHolder.POOL;
+    }
+
+    private static void checkArguments(ForkJoinPool pool, int sequentialThreshold) {
+        checkNotNull(pool);
+        if (sequentialThreshold <= 0) {
+            throw new IllegalArgumentException("Sequential threshold must be greater than zero.");
+        }
+    }
+
+    private static void execute(
+            RecursiveAction action,
+            ForkJoinPool pool,
+            IndexedElements<?> elements,
+            int sequentialThreshold) {
+        if (elements.size() <= sequentialThreshold) {
+            action.invoke();
+        } else {
+            pool.invoke(action);
+        }
+    }
+
+    private static <T> T execute(
+            RecursiveTask<T> task,
+            ForkJoinPool pool,
+            IndexedElements<?> elements,
+            int sequentialThreshold) {
+        if (elements.size() <= sequentialThreshold) {
+            return task.invoke();
+        } else {
+            return pool.invoke(task);
+        }
+    }
+
+    private static int arrayLengthFor(IndexedElements<?> elements) {
+        long size = elements.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Cannot collect more than Integer.MAX_VALUE elements.");
+        }
+        return (int) size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> IndexedElements<T> indexedElementsFrom(Iterable<T> iterable) {
+        checkNotNull(iterable);
+        if (iterable instanceof AbstractRange) {
+            return new RangeElements<T>((AbstractRange<T>) iterable);
+        }
+        if (iterable instanceof List && iterable instanceof RandomAccess) {
+            return new ListElements<T>((List<T>) iterable);
+        }
+        return new ListElements<T>(new ArrayList<T>(Iterables.materialize(iterable)));
+    }
+
+    private static class DefaultPoolHolder {
+        private static final ForkJoinPool POOL = new ForkJoinPool();
+    }
+
+    private static abstract class IndexedElements<T> {
+        abstract long size();
+
+        abstract T get(long index);
+    }
+
+    private static class ListElements<T> extends IndexedElements<T> {
+        private final List<T> list;
+
+        ListElements(List<T> list) {
+            this.list = list;
+        }
+
+        @Override
+        long size() {
+            return list.size();
+        }
+
+        @Override
+        T get(long index) {
+            return list.get((int) index);
+        }
+    }
+
+    private static class RangeElements<T> extends IndexedElements<T> {
+        private final AbstractRange<T> range;
+
+        RangeElements(AbstractRange<T> range) {
+            this.range = range;
+        }
+
+        @Override
+        long size() {
+            return range.size();
+        }
+
+        @Override
+        T get(long index) {
+            return range.get(index);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class MapAction<S> extends RecursiveAction {
+        private final IndexedElements<S> elements;
+        private final UnaryFunction<? super S, ?> function;
+        private final Object[] outputs;
+        private final long from;
+        private final long to;
+        private final int sequentialThreshold;
+
+        MapAction(
+                IndexedElements<S> elements,
+                UnaryFunction<? super S, ?> function,
+                Object[] outputs,
+                long from,
+                long to,
+                int sequentialThreshold) {
+            this.elements = elements;
+            this.function = function;
+            this.outputs = outputs;
+            this.from = from;
+            this.to = to;
+            this.sequentialThreshold = sequentialThreshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= sequentialThreshold) {
+                for (long index = from; index < to; index++) {
+                    outputs[(int) index] = function.call(elements.get(index));
+                }
+            } else {
+                long middle = from + (to - from) / 2;
+                invokeAll(
+                        new MapAction<S>(elements, function, outputs, from, middle, sequentialThreshold),
+                        new MapAction<S>(elements, function, outputs, middle, to, sequentialThreshold));
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class FilterAction<T> extends RecursiveAction {
+        private final IndexedElements<T> elements;
+        private final UnaryPredicate<? super T> predicate;
+        private final boolean[] retained;
+        private final long from;
+        private final long to;
+        private final int sequentialThreshold;
+
+        FilterAction(
+                IndexedElements<T> elements,
+                UnaryPredicate<? super T> predicate,
+                boolean[] retained,
+                long from,
+                long to,
+                int sequentialThreshold) {
+            this.elements = elements;
+            this.predicate = predicate;
+            this.retained = retained;
+            this.from = from;
+            this.to = to;
+            this.sequentialThreshold = sequentialThreshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= sequentialThreshold) {
+                for (long index = from; index < to; index++) {
+                    retained[(int) index] = predicate.evaluate(elements.get(index));
+                }
+            } else {
+                long middle = from + (to - from) / 2;
+                invokeAll(
+                        new FilterAction<T>(elements, predicate, retained, from, middle, sequentialThreshold),
+                        new FilterAction<T>(elements, predicate, retained, middle, to, sequentialThreshold));
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class ReduceTask<S, T> extends RecursiveTask<T> {
+        private final IndexedElements<? extends S> elements;
+        private final T initialValue;
+        private final BinaryFunction<T, ? super S, T> accumulator;
+        private final BinaryFunction<T, T, T> combiner;
+        private final long from;
+        private final long to;
+        private final int sequentialThreshold;
+
+        ReduceTask(
+                IndexedElements<? extends S> elements,
+                T initialValue,
+                BinaryFunction<T, ? super S, T> accumulator,
+                BinaryFunction<T, T, T> combiner,
+                long from,
+                long to,
+                int sequentialThreshold) {
+            this.elements = elements;
+            this.initialValue = initialValue;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+            this.from = from;
+            this.to = to;
+            this.sequentialThreshold = sequentialThreshold;
+        }
+
+        @Override
+        protected T compute() {
+            if (to - from <= sequentialThreshold) {
+                T result = initialValue;
+                for (long index = from; index < to; index++) {
+                    result = accumulator.call(result, elements.get(index));
+                }
+                return result;
+            }
+            long middle = from + (to - from) / 2;
+            ReduceTask<S, T> left = new ReduceTask<S, T>(
+                    elements, initialValue, accumulator, combiner, from, middle, sequentialThreshold);
+            ReduceTask<S, T> right = new ReduceTask<S, T>(
+                    elements, initialValue, accumulator, combiner, middle, to, sequentialThreshold);
+            right.fork();
+            T leftResult = left.compute();
+            return combiner.call(leftResult, right.join());
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class AssociativeReduceTask<T> extends RecursiveTask<T> {
+        private final IndexedElements<T> elements;
+        private final BinaryFunction<T, ? super T, T> function;
+        private final long from;
+        private final long to;
+        private final int sequentialThreshold;
+
+        AssociativeReduceTask(
+                IndexedElements<T> elements,
+                BinaryFunction<T, ? super T, T> function,
+                long from,
+                long to,
+                int sequentialThreshold) {
+            this.elements = elements;
+            this.function = function;
+            this.from = from;
+            this.to = to;
+            this.sequentialThreshold = sequentialThreshold;
+        }
+
+        @Override
+        protected T compute() {
+            if (to - from <= sequentialThreshold) {
+                T result = elements.get(from);
+                for (long index = from + 1; index < to; index++) {
+                    result = function.call(result, elements.get(index));
+                }
+                return result;
+            }
+            long middle = from + (to - from) / 2;
+            AssociativeReduceTask<T> left = new AssociativeReduceTask<T>(
+                    elements, function, from, middle, sequentialThreshold);
+            AssociativeReduceTask<T> right = new AssociativeReduceTask<T>(
+                    elements, function, middle, to, sequentialThreshold);
+            right.fork();
+            T leftResult = left.compute();
+            return function.call(leftResult, right.join());
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class GroupTask<S, T> extends RecursiveTask<Map<T, Collection<S>>> {
+        private final IndexedElements<S> elements;
+        private final UnaryFunction<? super S, T> indexer;
+        private final long from;
+        private final long to;
+        private final int sequentialThreshold;
+
+        GroupTask(
+                IndexedElements<S> elements,
+                UnaryFunction<? super S, T> indexer,
+                long from,
+                long to,
+                int sequentialThreshold) {
+            this.elements = elements;
+            this.indexer = indexer;
+            this.from = from;
+            this.to = to;
+            this.sequentialThreshold = sequentialThreshold;
+        }
+
+        @Override
+        protected Map<T, Collection<S>> compute() {
+            if (to - from <= sequentialThreshold) {
+                Map<T, Collection<S>> groupedElements = new HashMap<T, Collection<S>>();
+                for (long index = from; index < to; index++) {
+                    S element = elements.get(index);
+                    T group = indexer.call(element);
+                    Collection<S> groupElements = groupedElements.get(group);
+                    if (groupElements == null) {
+                        groupElements = new ArrayList<S>();
+                        groupedElements.put(group, groupElements);
+                    }
+                    groupElements.add(element);
+                }
+                return groupedElements;
+            }
+            long middle = from + (to - from) / 2;
+            GroupTask<S, T> left = new GroupTask<S, T>(elements, indexer, from, middle, sequentialThreshold);
+            GroupTask<S, T> right = new GroupTask<S, T>(elements, indexer, middle, to, sequentialThreshold);
+            right.fork();
+            Map<T, Collection<S>> leftGroups = left.compute();
+            Map<T, Collection<S>> rightGroups = right.join();
+            for (Map.Entry<T, Collection<S>> entry : rightGroups.entrySet()) {
+                Collection<S> groupElements = leftGroups.get(entry.getKey());
+                if (groupElements == null) {
+                    leftGroups.put(entry.getKey(), entry.getValue());
+                } else {
+                    groupElements.addAll(entry.getValue());
+                }
+            }
+            return leftGroups;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class GroupReduceTask<S, K, V> extends RecursiveTask<Map<K, V>> {
+        private final IndexedElements<S> elements;
+        private final UnaryFunction<? super S, K> indexer;
+        private final V initialValue;
+        private final BinaryFunction<V, ? super S, V> accumulator;
+        private final BinaryFunction<V, V, V> combiner;
+        private final long from;
+        private final long to;
+        private final int sequentialThreshold;
+
+        GroupReduceTask(
+                IndexedElements<S> elements,
+                UnaryFunction<? super S, K> indexer,
+                V initialValue,
+                BinaryFunction<V, ? super S, V> accumulator,
+                BinaryFunction<V, V, V> combiner,
+                long from,
+                long to,
+                int sequentialThreshold) {
+            this.elements = elements;
+            this.indexer = indexer;
+            this.initialValue = initialValue;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+            this.from = from;
+            this.to = to;
+            this.sequentialThreshold = sequentialThreshold;
+        }
+
+        @Override
+        protected Map<K, V> compute() {
+            if (to - from <= sequentialThreshold) {
+                return Eagerly.groupReduce(
+                        new ElementsIterable<S>(elements, from, to), indexer, initialValue, accumulator);
+            }
+            long middle = from + (to - from) / 2;
+            GroupReduceTask<S, K, V> left = new GroupReduceTask<S, K, V>(
+                    elements, indexer, initialValue, accumulator, combiner, from, middle, sequentialThreshold);
+            GroupReduceTask<S, K, V> right = new GroupReduceTask<S, K, V>(
+                    elements, indexer, initialValue, accumulator, combiner, middle, to, sequentialThreshold);
+            right.fork();
+            Map<K, V> leftReductions = left.compute();
+            Map<K, V> rightReductions = right.join();
+            for (Map.Entry<K, V> entry : rightReductions.entrySet()) {
+                K group = entry.getKey();
+                if (leftReductions.containsKey(group)) {
+                    leftReductions.put(group, combiner.call(leftReductions.get(group), entry.getValue()));
+                } else {
+                    leftReductions.put(group, entry.getValue());
+                }
+            }
+            return leftReductions;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class TopTask<T> extends RecursiveTask<BoundedHeap<T>> {
+        // A chunk only a few times larger than the selection discards too few of
+        // its elements to repay merging its heap, so such chunks are not split.
+        private static final int MINIMUM_CHUNK_TO_SELECTION_RATIO = 8;
+
+        private final IndexedElements<T> elements;
+        private final int n;
+        private final Comparator<? super T> comparator;
+        private final long from;
+        private final long to;
+        private final int sequentialThreshold;
+
+        TopTask(
+                IndexedElements<T> elements,
+                int n,
+                Comparator<? super T> comparator,
+                long from,
+                long to,
+                int sequentialThreshold) {
+            this.elements = elements;
+            this.n = n;
+            this.comparator = comparator;
+            this.from = from;
+            this.to = to;
+            this.sequentialThreshold = sequentialThreshold;
+        }
+
+        @Override
+        protected BoundedHeap<T> compute() {
+            if (to - from <= sequentialThreshold || to - from <= MINIMUM_CHUNK_TO_SELECTION_RATIO * (long) n) {
+                BoundedHeap<T> heap = new BoundedHeap<T>(n, comparator);
+                for (long index = from; index < to; index++) {
+                    heap.offer(elements.get(index));
+                }
+                return heap;
+            }
+            long middle = from + (to - from) / 2;
+            TopTask<T> left = new TopTask<T>(elements, n, comparator, from, middle, sequentialThreshold);
+            TopTask<T> right = new TopTask<T>(elements, n, comparator, middle, to, sequentialThreshold);
+            right.fork();
+            BoundedHeap<T> leftHeap = left.compute();
+            leftHeap.offerAll(right.join());
+            return leftHeap;
+        }
+    }
+
+    private static class ElementsIterable<T> implements Iterable<T> {
+        private final IndexedElements<T> elements;
+        private final long from;
+        private final long to;
+
+        ElementsIterable(IndexedElements<T> elements, long from, long to) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private long index = from;
+
+                @Override public boolean hasNext() {
+                    return index < to;
+                }
+
+                @Override public T next() {
+                    if (index >= to) {
+                        throw new NoSuchElementException();
+                    }
+                    return elements.get(index++);
+                }
+
+                @Override public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+    }
+}
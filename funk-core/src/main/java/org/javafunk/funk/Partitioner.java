@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+import org.javafunk.funk.iterators.FilteredIterator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.lang.String.format;
+
+/**
+ * Routes the elements of an {@code Iterable} into a fixed number of lazy
+ * partitions. The first iterator of each partition is fed from a single
+ * traversal shared by all of the partitions: whenever it needs an element that
+ * has not yet been routed, elements are pulled from the underlying iterator and
+ * appended to the buffers of the partitions they are routed to until one
+ * arrives for the requesting partition. Buffered elements are dropped as soon
+ * as the first iterator of their partition has yielded them, so the buffers
+ * only ever hold elements which have been routed to a partition but not yet
+ * read from it. Any further iterator of a partition traverses the underlying
+ * {@code Iterable} afresh, routing each element again and keeping those for its
+ * partition. The shared traversal is guarded by a lock so that partitions may
+ * be consumed concurrently.
+ */
+class Partitioner<T> {
+    private final Object lock = new Object();
+    private final Iterable<T> iterable;
+    private final UnaryFunction<? super T, Integer> router;
+    private final List<LinkedList<T>> buffers;
+    private final boolean[] started;
+    private Iterator<T> source;
+    private boolean exhausted = false;
+
+    Partitioner(Iterable<T> iterable, UnaryFunction<? super T, Integer> router, int numberOfPartitions) {
+        if (numberOfPartitions <= 0) {
+            throw new IllegalArgumentException("Number of partitions must be greater than zero.");
+        }
+        this.iterable = iterable;
+        this.router = router;
+        this.buffers = new ArrayList<LinkedList<T>>(numberOfPartitions);
+        for (int i = 0; i < numberOfPartitions; i++) {
+            buffers.add(new LinkedList<T>());
+        }
+        this.started = new boolean[numberOfPartitions];
+    }
+
+    List<Iterable<T>> partitions() {
+        List<Iterable<T>> partitions = new ArrayList<Iterable<T>>(buffers.size());
+        for (int i = 0; i < buffers.size(); i++) {
+            partitions.add(partition(i));
+        }
+        return Collections.unmodifiableList(partitions);
+    }
+
+    private Iterable<T> partition(final int partition) {
+        return new Iterable<T>() {
+            @Override public Iterator<T> iterator() {
+                synchronized (lock) {
+                    if (started[partition]) {
+                        return refiltered(partition);
+                    }
+                    started[partition] = true;
+                }
+                return new Iterator<T>() {
+                    @Override public boolean hasNext() {
+                        return isAvailable(partition);
+                    }
+
+                    @Override public T next() {
+                        synchronized (lock) {
+                            if (!isAvailable(partition)) {
+                                throw new NoSuchElementException();
+                            }
+                            return buffers.get(partition).removeFirst();
+                        }
+                    }
+
+                    @Override public void remove() {
+                        throw new UnsupportedOperationException("Cannot remove elements from a partition.");
+                    }
+                };
+            }
+        };
+    }
+
+    private Iterator<T> refiltered(final int partition) {
+        final Iterator<T> filtered = new FilteredIterator<T>(iterable.iterator(), new UnaryPredicate<T>() {
+            @Override public boolean evaluate(T element) {
+                return route(element) == partition;
+            }
+        });
+        return new Iterator<T>() {
+            @Override public boolean hasNext() {
+                return filtered.hasNext();
+            }
+
+            @Override public T next() {
+                return filtered.next();
+            }
+
+            @Override public void remove() {
+                throw new UnsupportedOperationException("Cannot remove elements from a partition.");
+            }
+        };
+    }
+
+    private boolean isAvailable(int partition) {
+        synchronized (lock) {
+            List<T> buffer = buffers.get(partition);
+            while (buffer.isEmpty()) {
+                if (!routeNext()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private boolean routeNext() {
+        if (exhausted) {
+            return false;
+        }
+        if (source == null) {
+            source = iterable.iterator();
+        }
+        if (!source.hasNext()) {
+            exhausted = true;
+            source = null;
+            return false;
+        }
+        T element = source.next();
+        buffers.get(route(element)).add(element);
+        return true;
+    }
+
+    private int route(T element) {
+        Integer partition = router.call(element);
+        if (partition == null || partition < 0 || partition >= buffers.size()) {
+            throw new IllegalArgumentException(format(
+                    "Partition index %s is outside of the range [0, %d).", partition, buffers.size()));
+        }
+        return partition;
+    }
+}
@@ -0,0 +1,489 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.Action;
+import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.Reducer;
+import org.javafunk.funk.functors.functions.BinaryFunction;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+import org.javafunk.funk.functors.procedures.UnaryProcedure;
+import org.javafunk.funk.monads.Option;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.javafunk.funk.functors.adapters.ActionUnaryProcedureAdapter.actionUnaryProcedure;
+import static org.javafunk.funk.functors.adapters.MapperUnaryFunctionAdapter.mapperUnaryFunction;
+import static org.javafunk.funk.functors.adapters.ReducerBinaryFunctionAdapter.reducerBinaryFunction;
+
+/**
+ * A lazy sequence of operations over an {@code Iterable} that is executed as a
+ * single fused loop. Where chaining {@link Lazily#map(Iterable, UnaryFunction)},
+ * {@link Lazily#filter(Iterable, UnaryPredicate)} and friends wraps one
+ * {@code Iterator} per stage, each with its own look-ahead, a {@code Pipeline}
+ * records its stages and, when a terminal operation is invoked, pushes each
+ * element of the source through all of them with a single call per stage.
+ * Stages such as {@code take} and {@code takeWhile} and terminal operations
+ * such as {@code first} stop pulling from the source as soon as they are
+ * satisfied.
+ *
+ * <p>A {@code Pipeline} is immutable; each intermediate operation returns a
+ * new {@code Pipeline} and the same {@code Pipeline} can be executed any
+ * number of times, each execution iterating the source afresh. Since a
+ * {@code Pipeline} is itself an {@code Iterable}, it can be passed back to
+ * any method in {@link Lazily} or {@link Eagerly}.</p>
+ *
+ * <h4>Example Usage:</h4>
+ *
+ * Given an {@code Iterable} of {@code Order} instances, the identifiers of the
+ * first ten high value orders can be found as follows:
+ * <blockquote>
+ * <pre>
+ *   Collection&lt;Long&gt; identifiers = Pipeline.from(orders)
+ *       .filter(new Predicate&lt;Order&gt;() {
+ *           &#64;Override public boolean evaluate(Order order) {
+ *               return order.getValue() &gt; 1000;
+ *           }
+ *       })
+ *       .map(new Mapper&lt;Order, Long&gt;() {
+ *           &#64;Override public Long map(Order order) {
+ *               return order.getIdentifier();
+ *           }
+ *       })
+ *       .take(10)
+ *       .materialize();
+ * </pre>
+ * </blockquote>
+ * No orders are retrieved from {@code orders} once ten matching orders have
+ * been found.
+ *
+ * @param <T> The type of the elements yielded by this {@code Pipeline}.
+ * @since 1.0
+ */
+public class Pipeline<T> implements Iterable<T> {
+    private final Source<?, T> source;
+
+    private Pipeline(Source<?, T> source) {
+        this.source = source;
+    }
+
+    /**
+     * Returns a {@code Pipeline} with no stages over the supplied {@code Iterable}.
+     *
+     * @param iterable The {@code Iterable} whose elements enter the pipeline.
+     * @param <T>      The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code Pipeline} yielding the elements of the supplied {@code Iterable}.
+     */
+    public static <T> Pipeline<T> from(Iterable<T> iterable) {
+        return new Pipeline<T>(new Source<T, T>(checkNotNull(iterable), Pipeline.<T>identity()));
+    }
+
+    /**
+     * Adds a stage mapping each element using the supplied {@code UnaryFunction}.
+     *
+     * @param function The {@code UnaryFunction} to apply to each element.
+     * @param <R>      The type of the mapped elements.
+     * @return A new {@code Pipeline} yielding the mapped elements.
+     */
+    public <R> Pipeline<R> map(final UnaryFunction<? super T, R> function) {
+        checkNotNull(function);
+        return then(new Stage<T, R>() {
+            public Sink<T> wrap(final Sink<? super R> downstream) {
+                return new Sink<T>() {
+                    public boolean accept(T element) {
+                        return downstream.accept(function.call(element));
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Adds a stage mapping each element using the supplied {@code Mapper}.
+     *
+     * @param mapper The {@code Mapper} to apply to each element.
+     * @param <R>    The type of the mapped elements.
+     * @return A new {@code Pipeline} yielding the mapped elements.
+     */
+    public <R> Pipeline<R> map(Mapper<? super T, R> mapper) {
+        return map(mapperUnaryFunction(mapper));
+    }
+
+    /**
+     * Adds a stage retaining only those elements that satisfy the supplied
+     * {@code UnaryPredicate}.
+     *
+     * @param predicate The {@code UnaryPredicate} deciding which elements to retain.
+     * @return A new {@code Pipeline} yielding the retained elements.
+     */
+    public Pipeline<T> filter(final UnaryPredicate<? super T> predicate) {
+        checkNotNull(predicate);
+        return then(new Stage<T, T>() {
+            public Sink<T> wrap(final Sink<? super T> downstream) {
+                return new Sink<T>() {
+                    public boolean accept(T element) {
+                        return !predicate.evaluate(element) || downstream.accept(element);
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Adds a stage discarding those elements that satisfy the supplied
+     * {@code UnaryPredicate}.
+     *
+     * @param predicate The {@code UnaryPredicate} deciding which elements to discard.
+     * @return A new {@code Pipeline} yielding the remaining elements.
+     */
+    public Pipeline<T> reject(final UnaryPredicate<? super T> predicate) {
+        checkNotNull(predicate);
+        return filter(new UnaryPredicate<T>() {
+            public boolean evaluate(T element) {
+                return !predicate.evaluate(element);
+            }
+        });
+    }
+
+    /**
+     * Adds a stage yielding at most the first {@code numberToTake} elements.
+     * Once that many elements have been yielded, no further elements are
+     * retrieved from the source.
+     *
+     * @param numberToTake The maximum number of elements to yield.
+     * @return A new {@code Pipeline} yielding at most the required number of elements.
+     * @throws IllegalArgumentException if the supplied number to take is negative.
+     */
+    public Pipeline<T> take(final int numberToTake) {
+        if (numberToTake < 0) {
+            throw new IllegalArgumentException("Cannot take a negative number of elements.");
+        }
+        if (numberToTake == 0) {
+            return from(Iterables.<T>empty());
+        }
+        return then(new Stage<T, T>() {
+            public Sink<T> wrap(final Sink<? super T> downstream) {
+                return new Sink<T>() {
+                    private int numberTaken = 0;
+
+                    public boolean accept(T element) {
+                        numberTaken++;
+                        return downstream.accept(element) && numberTaken < numberToTake;
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Adds a stage yielding elements for as long as they satisfy the supplied
+     * {@code UnaryPredicate}. No further elements are retrieved from the source
+     * once an element fails to satisfy it.
+     *
+     * @param predicate The {@code UnaryPredicate} elements must satisfy to be yielded.
+     * @return A new {@code Pipeline} yielding the leading satisfying elements.
+     */
+    public Pipeline<T> takeWhile(final UnaryPredicate<? super T> predicate) {
+        checkNotNull(predicate);
+        return then(new Stage<T, T>() {
+            public Sink<T> wrap(final Sink<? super T> downstream) {
+                return new Sink<T>() {
+                    public boolean accept(T element) {
+                        return predicate.evaluate(element) && downstream.accept(element);
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Adds a stage discarding the first {@code numberToDrop} elements.
+     *
+     * @param numberToDrop The number of elements to discard.
+     * @return A new {@code Pipeline} yielding all but the first {@code numberToDrop} elements.
+     * @throws IllegalArgumentException if the supplied number to drop is negative.
+     */
+    public Pipeline<T> drop(final int numberToDrop) {
+        if (numberToDrop < 0) {
+            throw new IllegalArgumentException("Cannot drop a negative number of elements.");
+        }
+        return then(new Stage<T, T>() {
+            public Sink<T> wrap(final Sink<? super T> downstream) {
+                return new Sink<T>() {
+                    private int numberDropped = 0;
+
+                    public boolean accept(T element) {
+                        if (numberDropped < numberToDrop) {
+                            numberDropped++;
+                            return true;
+                        }
+                        return downstream.accept(element);
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Adds a stage discarding elements for as long as they satisfy the supplied
+     * {@code UnaryPredicate}.
+     *
+     * @param predicate The {@code UnaryPredicate} leading elements must satisfy to
+     *                  be discarded.
+     * @return A new {@code Pipeline} yielding all elements from the first that
+     *         fails to satisfy the supplied {@code UnaryPredicate}.
+     */
+    public Pipeline<T> dropWhile(final UnaryPredicate<? super T> predicate) {
+        checkNotNull(predicate);
+        return then(new Stage<T, T>() {
+            public Sink<T> wrap(final Sink<? super T> downstream) {
+                return new Sink<T>() {
+                    private boolean dropping = true;
+
+                    public boolean accept(T element) {
+                        if (dropping && predicate.evaluate(element)) {
+                            return true;
+                        }
+                        dropping = false;
+                        return downstream.accept(element);
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Executes this {@code Pipeline}, returning the first element it yields.
+     * At most as many elements are retrieved from the source as are needed
+     * to produce that element.
+     *
+     * @return An {@code Option} over the first element, or {@code None} if
+     *         this {@code Pipeline} yields no elements.
+     */
+    public Option<T> first() {
+        FirstSink<T> sink = new FirstSink<T>();
+        run(source, sink);
+        return sink.found ? Option.some(sink.element) : Option.<T>none();
+    }
+
+    /**
+     * Executes this {@code Pipeline}, returning all of the elements it yields.
+     *
+     * @return An immutable {@code Collection} of the yielded elements in order.
+     */
+    public Collection<T> materialize() {
+        final List<T> elements = new ArrayList<T>();
+        run(source, new Sink<T>() {
+            public boolean accept(T element) {
+                elements.add(element);
+                return true;
+            }
+        });
+        return Collections.unmodifiableList(elements);
+    }
+
+    /**
+     * Executes this {@code Pipeline}, accumulating each yielded element into
+     * a single value using the supplied {@code BinaryFunction}.
+     *
+     * @param initialValue The value with which to start accumulating.
+     * @param function     The {@code BinaryFunction} used to accumulate each element.
+     * @param <R>          The type of the accumulated value.
+     * @return The accumulated value, or the initial value if no elements are yielded.
+     */
+    public <R> R reduce(R initialValue, BinaryFunction<R, ? super T, R> function) {
+        checkNotNull(function);
+        ReducingSink<T, R> sink = new ReducingSink<T, R>(initialValue, function);
+        run(source, sink);
+        return sink.accumulator;
+    }
+
+    /**
+     * Executes this {@code Pipeline}, accumulating each yielded element into
+     * a single value using the supplied {@code Reducer}.
+     *
+     * @param initialValue The value with which to start accumulating.
+     * @param reducer      The {@code Reducer} used to accumulate each element.
+     * @param <R>          The type of the accumulated value.
+     * @return The accumulated value, or the initial value if no elements are yielded.
+     */
+    public <R> R reduce(R initialValue, Reducer<? super T, R> reducer) {
+        return reduce(initialValue, reducerBinaryFunction(reducer));
+    }
+
+    /**
+     * Executes this {@code Pipeline}, passing each yielded element to the
+     * supplied {@code UnaryProcedure}.
+     *
+     * @param procedure The {@code UnaryProcedure} to execute for each element.
+     */
+    public void each(final UnaryProcedure<? super T> procedure) {
+        checkNotNull(procedure);
+        run(source, new Sink<T>() {
+            public boolean accept(T element) {
+                procedure.execute(element);
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Executes this {@code Pipeline}, passing each yielded element to the
+     * supplied {@code Action}.
+     *
+     * @param action The {@code Action} to perform on each element.
+     */
+    public void each(Action<? super T> action) {
+        each(actionUnaryProcedure(action));
+    }
+
+    /**
+     * Returns an {@code Iterator} over the elements yielded by this
+     * {@code Pipeline}. Elements are retrieved from the source only as the
+     * returned {@code Iterator} is advanced, making it suitable for passing
+     * to the methods in {@link Lazily}.
+     *
+     * @return An {@code Iterator} over the elements yielded by this {@code Pipeline}.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return iteratorFor(source);
+    }
+
+    private <R> Pipeline<R> then(Stage<T, R> stage) {
+        return new Pipeline<R>(source.then(stage));
+    }
+
+    private static <S, T> void run(Source<S, T> source, Sink<? super T> terminal) {
+        Sink<S> sink = source.stage.wrap(terminal);
+        for (S element : source.elements) {
+            if (!sink.accept(element)) {
+                return;
+            }
+        }
+    }
+
+    private static <S, T> Iterator<T> iteratorFor(Source<S, T> source) {
+        return new PipelineIterator<S, T>(source);
+    }
+
+    private static <T> Stage<T, T> identity() {
+        return new Stage<T, T>() {
+            @SuppressWarnings("unchecked")
+            public Sink<T> wrap(Sink<? super T> downstream) {
+                return (Sink<T>) downstream;
+            }
+        };
+    }
+
+    private interface Sink<T> {
+        boolean accept(T element);
+    }
+
+    private interface Stage<S, T> {
+        Sink<S> wrap(Sink<? super T> downstream);
+    }
+
+    private static class Source<S, T> {
+        private final Iterable<S> elements;
+        private final Stage<S, T> stage;
+
+        Source(Iterable<S> elements, Stage<S, T> stage) {
+            this.elements = elements;
+            this.stage = stage;
+        }
+
+        <R> Source<S, R> then(final Stage<T, R> next) {
+            return new Source<S, R>(elements, new Stage<S, R>() {
+                public Sink<S> wrap(Sink<? super R> downstream) {
+                    return stage.wrap(next.wrap(downstream));
+                }
+            });
+        }
+    }
+
+    private static class FirstSink<T> implements Sink<T> {
+        private boolean found = false;
+        private T element;
+
+        public boolean accept(T element) {
+            this.element = element;
+            this.found = true;
+            return false;
+        }
+    }
+
+    private static class ReducingSink<T, R> implements Sink<T> {
+        private final BinaryFunction<R, ? super T, R> function;
+        private R accumulator;
+
+        ReducingSink(R initialValue, BinaryFunction<R, ? super T, R> function) {
+            this.accumulator = initialValue;
+            this.function = function;
+        }
+
+        public boolean accept(T element) {
+            accumulator = function.call(accumulator, element);
+            return true;
+        }
+    }
+
+    // Every stage yields at most one element per element it accepts, so a
+    // single slot is enough to hand elements from the sink to the iterator.
+    private static class PipelineIterator<S, T> implements Iterator<T>, Sink<T> {
+        private final Iterator<S> iterator;
+        private final Sink<S> sink;
+        private boolean hasBufferedElement = false;
+        private boolean finished = false;
+        private T bufferedElement;
+
+        PipelineIterator(Source<S, T> source) {
+            this.iterator = source.elements.iterator();
+            this.sink = source.stage.wrap(this);
+        }
+
+        public boolean accept(T element) {
+            bufferedElement = element;
+            hasBufferedElement = true;
+            return true;
+        }
+
+        public boolean hasNext() {
+            while (!hasBufferedElement && !finished) {
+                if (iterator.hasNext()) {
+                    finished = !sink.accept(iterator.next());
+                } else {
+                    finished = true;
+                }
+            }
+            return hasBufferedElement;
+        }
+
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T element = bufferedElement;
+            bufferedElement = null;
+            hasBufferedElement = false;
+            return element;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,1039 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.primitives.DoublePredicate;
+import org.javafunk.funk.functors.primitives.DoubleReducer;
+import org.javafunk.funk.functors.primitives.DoubleUnaryFunction;
+import org.javafunk.funk.functors.primitives.IntPredicate;
+import org.javafunk.funk.functors.primitives.IntReducer;
+import org.javafunk.funk.functors.primitives.IntUnaryFunction;
+import org.javafunk.funk.functors.primitives.LongPredicate;
+import org.javafunk.funk.functors.primitives.LongReducer;
+import org.javafunk.funk.functors.primitives.LongUnaryFunction;
+import org.javafunk.funk.primitives.DoubleIterable;
+import org.javafunk.funk.primitives.DoubleIterator;
+import org.javafunk.funk.primitives.IntIterable;
+import org.javafunk.funk.primitives.IntIterator;
+import org.javafunk.funk.primitives.LongIterable;
+import org.javafunk.funk.primitives.LongIterator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Operations over the primitive {@code IntIterable}, {@code LongIterable} and
+ * {@code DoubleIterable} sources. Unlike their counterparts in {@link Lazily} and
+ * {@link Eagerly}, {@code map}, {@code filter}, {@code reduce}, {@code sum},
+ * {@code min} and {@code max} here never box values, so a pipeline over a large
+ * number of values allocates only a handful of iterator objects regardless of
+ * how many values flow through it.
+ *
+ * <p>{@code IntegerRange} implements {@code IntIterable} and so can be used
+ * directly. Boxed {@code Iterable} instances can be bridged in using
+ * {@link #ints(Iterable)}, {@link #longs(Iterable)} and {@link #doubles(Iterable)}
+ * and primitive sources bridged back out using the {@code boxed} methods.</p>
+ *
+ * <h4>Example Usage:</h4>
+ *
+ * Summing the squares of the even numbers below one million without creating
+ * a single {@code Integer}:
+ * <blockquote>
+ * <pre>
+ *   LongIterable squares = Primitives.map(Primitives.asLongs(
+ *       Primitives.filter(new IntegerRange(0, 1000000), new IntPredicate() {
+ *           &#64;Override public boolean evaluate(int input) {
+ *               return input % 2 == 0;
+ *           }
+ *       })), new LongUnaryFunction() {
+ *           &#64;Override public long call(long argument) {
+ *               return argument * argument;
+ *           }
+ *       });
+ *   long total = Primitives.sum(squares);
+ * </pre>
+ * </blockquote>
+ *
+ * @since 1.0
+ */
+public class Primitives {
+    private Primitives() {
+    }
+
+    /**
+     * Returns an {@code IntIterable} over the supplied {@code int} values. The
+     * array is not copied so changes to it are visible through the returned
+     * {@code IntIterable}.
+     *
+     * @param values The {@code int} values to iterate over.
+     * @return An {@code IntIterable} over the supplied values in order.
+     */
+    public static IntIterable ints(final int... values) {
+        checkNotNull(values);
+        return new IntIterable() {
+            public IntIterator intIterator() {
+                return new IntArrayIterator(values);
+            }
+        };
+    }
+
+    /**
+     * Bridges an {@code Iterable} of {@code Integer} instances to an {@code IntIterable},
+     * unboxing each element as it is yielded. If the supplied {@code Iterable} is
+     * already an {@code IntIterable}, such as an {@code IntegerRange}, it is returned
+     * as is and no unboxing takes place.
+     *
+     * @param iterable The {@code Iterable} of {@code Integer} instances to unbox.
+     * @return An {@code IntIterable} over the unboxed elements of the supplied
+     *         {@code Iterable}.
+     * @throws NullPointerException during iteration if the supplied {@code Iterable}
+     *                              contains {@code null}.
+     */
+    public static IntIterable ints(final Iterable<Integer> iterable) {
+        checkNotNull(iterable);
+        if (iterable instanceof IntIterable) {
+            return (IntIterable) iterable;
+        }
+        return new IntIterable() {
+            public IntIterator intIterator() {
+                return new UnboxingIntIterator(iterable.iterator());
+            }
+        };
+    }
+
+    /**
+     * Bridges an {@code IntIterable} back to the boxed {@code Iterable} API so that
+     * it can be used with {@link Lazily}, {@link Eagerly} and friends. Each value is
+     * boxed as it is yielded.
+     *
+     * @param iterable The {@code IntIterable} to box.
+     * @return An {@code Iterable} of {@code Integer} instances over the values of the
+     *         supplied {@code IntIterable}.
+     */
+    public static Iterable<Integer> boxed(final IntIterable iterable) {
+        checkNotNull(iterable);
+        return new Iterable<Integer>() {
+            public Iterator<Integer> iterator() {
+                return new BoxingIntIterator(iterable.intIterator());
+            }
+        };
+    }
+
+    /**
+     * Lazily maps each value of the supplied {@code IntIterable} using the supplied
+     * {@code IntUnaryFunction}. No intermediate values are boxed or stored.
+     *
+     * @param iterable The {@code IntIterable} of values to be mapped.
+     * @param function The {@code IntUnaryFunction} to apply to each value.
+     * @return An {@code IntIterable} over the mapped values.
+     */
+    public static IntIterable map(final IntIterable iterable, final IntUnaryFunction function) {
+        checkNotNull(iterable);
+        checkNotNull(function);
+        return new IntIterable() {
+            public IntIterator intIterator() {
+                return new MappedIntIterator(iterable.intIterator(), function);
+            }
+        };
+    }
+
+    /**
+     * Lazily filters the values of the supplied {@code IntIterable}, retaining only
+     * those for which the supplied {@code IntPredicate} returns {@code true}.
+     *
+     * @param iterable  The {@code IntIterable} of values to be filtered.
+     * @param predicate The {@code IntPredicate} deciding which values to retain.
+     * @return An {@code IntIterable} over the retained values.
+     */
+    public static IntIterable filter(final IntIterable iterable, final IntPredicate predicate) {
+        checkNotNull(iterable);
+        checkNotNull(predicate);
+        return new IntIterable() {
+            public IntIterator intIterator() {
+                return new FilteredIntIterator(iterable.intIterator(), predicate);
+            }
+        };
+    }
+
+    /**
+     * Reduces the supplied {@code IntIterable} to a single {@code int} value by
+     * accumulating each value, starting from the supplied initial value, using the
+     * supplied {@code IntReducer}.
+     *
+     * @param iterable     The {@code IntIterable} to be reduced.
+     * @param initialValue The value with which to start accumulating.
+     * @param reducer      The {@code IntReducer} used to accumulate each value.
+     * @return The accumulated value, or the initial value if the supplied
+     *         {@code IntIterable} is empty.
+     */
+    public static int reduce(IntIterable iterable, int initialValue, IntReducer reducer) {
+        checkNotNull(reducer);
+        IntIterator iterator = iterable.intIterator();
+        int accumulator = initialValue;
+        while (iterator.hasNext()) {
+            accumulator = reducer.accumulate(accumulator, iterator.nextInt());
+        }
+        return accumulator;
+    }
+
+    /**
+     * Reduces the supplied {@code IntIterable} to a single {@code int} value by
+     * accumulating each value after the first, starting from the first, using the
+     * supplied {@code IntReducer}.
+     *
+     * @param iterable The {@code IntIterable} to be reduced.
+     * @param reducer  The {@code IntReducer} used to accumulate each value.
+     * @return The accumulated value.
+     * @throws NoSuchElementException if the supplied {@code IntIterable} is empty.
+     */
+    public static int reduce(IntIterable iterable, IntReducer reducer) {
+        checkNotNull(reducer);
+        IntIterator iterator = iterable.intIterator();
+        if (!iterator.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int accumulator = iterator.nextInt();
+        while (iterator.hasNext()) {
+            accumulator = reducer.accumulate(accumulator, iterator.nextInt());
+        }
+        return accumulator;
+    }
+
+    /**
+     * Sums the values of the supplied {@code IntIterable} using {@code int} arithmetic, so the result overflows in the same way as {@link Accumulators#integerAdditionAccumulator()}.
+     *
+     * @param iterable The {@code IntIterable} to sum.
+     * @return The sum of the values, or zero if the supplied {@code IntIterable} is empty.
+     */
+    public static int sum(IntIterable iterable) {
+        IntIterator iterator = iterable.intIterator();
+        int total = 0;
+        while (iterator.hasNext()) {
+            total += iterator.nextInt();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the smallest value in the supplied {@code IntIterable}.
+     *
+     * @param iterable The {@code IntIterable} from which to find the minimum.
+     * @return The smallest value.
+     * @throws NoSuchElementException if the supplied {@code IntIterable} is empty.
+     */
+    public static int min(IntIterable iterable) {
+        IntIterator iterator = iterable.intIterator();
+        if (!iterator.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int currentMin = iterator.nextInt();
+        while (iterator.hasNext()) {
+            int element = iterator.nextInt();
+            currentMin = element < currentMin ? element : currentMin;
+        }
+        return currentMin;
+    }
+
+    /**
+     * Returns the largest value in the supplied {@code IntIterable}.
+     *
+     * @param iterable The {@code IntIterable} from which to find the maximum.
+     * @return The largest value.
+     * @throws NoSuchElementException if the supplied {@code IntIterable} is empty.
+     */
+    public static int max(IntIterable iterable) {
+        IntIterator iterator = iterable.intIterator();
+        if (!iterator.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int currentMax = iterator.nextInt();
+        while (iterator.hasNext()) {
+            int element = iterator.nextInt();
+            currentMax = element > currentMax ? element : currentMax;
+        }
+        return currentMax;
+    }
+
+    /**
+     * Returns an {@code LongIterable} over the supplied {@code long} values. The
+     * array is not copied so changes to it are visible through the returned
+     * {@code LongIterable}.
+     *
+     * @param values The {@code long} values to iterate over.
+     * @return An {@code LongIterable} over the supplied values in order.
+     */
+    public static LongIterable longs(final long... values) {
+        checkNotNull(values);
+        return new LongIterable() {
+            public LongIterator longIterator() {
+                return new LongArrayIterator(values);
+            }
+        };
+    }
+
+    /**
+     * Bridges an {@code Iterable} of {@code Long} instances to an {@code LongIterable},
+     * unboxing each element as it is yielded. If the supplied {@code Iterable} is
+     * already a {@code LongIterable}, such as a {@code LongRange}, it is returned
+     * as is and no unboxing takes place.
+     *
+     * @param iterable The {@code Iterable} of {@code Long} instances to unbox.
+     * @return An {@code LongIterable} over the unboxed elements of the supplied
+     *         {@code Iterable}.
+     * @throws NullPointerException during iteration if the supplied {@code Iterable}
+     *                              contains {@code null}.
+     */
+    public static LongIterable longs(final Iterable<Long> iterable) {
+        checkNotNull(iterable);
+        if (iterable instanceof LongIterable) {
+            return (LongIterable) iterable;
+        }
+        return new LongIterable() {
+            public LongIterator longIterator() {
+                return new UnboxingLongIterator(iterable.iterator());
+            }
+        };
+    }
+
+    /**
+     * Bridges an {@code LongIterable} back to the boxed {@code Iterable} API so that
+     * it can be used with {@link Lazily}, {@link Eagerly} and friends. Each value is
+     * boxed as it is yielded.
+     *
+     * @param iterable The {@code LongIterable} to box.
+     * @return An {@code Iterable} of {@code Long} instances over the values of the
+     *         supplied {@code LongIterable}.
+     */
+    public static Iterable<Long> boxed(final LongIterable iterable) {
+        checkNotNull(iterable);
+        return new Iterable<Long>() {
+            public Iterator<Long> iterator() {
+                return new BoxingLongIterator(iterable.longIterator());
+            }
+        };
+    }
+
+    /**
+     * Lazily maps each value of the supplied {@code LongIterable} using the supplied
+     * {@code LongUnaryFunction}. No intermediate values are boxed or stored.
+     *
+     * @param iterable The {@code LongIterable} of values to be mapped.
+     * @param function The {@code LongUnaryFunction} to apply to each value.
+     * @return An {@code LongIterable} over the mapped values.
+     */
+    public static LongIterable map(final LongIterable iterable, final LongUnaryFunction function) {
+        checkNotNull(iterable);
+        checkNotNull(function);
+        return new LongIterable() {
+            public LongIterator longIterator() {
+                return new MappedLongIterator(iterable.longIterator(), function);
+            }
+        };
+    }
+
+    /**
+     * Lazily filters the values of the supplied {@code LongIterable}, retaining only
+     * those for which the supplied {@code LongPredicate} returns {@code true}.
+     *
+     * @param iterable  The {@code LongIterable} of values to be filtered.
+     * @param predicate The {@code LongPredicate} deciding which values to retain.
+     * @return An {@code LongIterable} over the retained values.
+     */
+    public static LongIterable filter(final LongIterable iterable, final LongPredicate predicate) {
+        checkNotNull(iterable);
+        checkNotNull(predicate);
+        return new LongIterable() {
+            public LongIterator longIterator() {
+                return new FilteredLongIterator(iterable.longIterator(), predicate);
+            }
+        };
+    }
+
+    /**
+     * Reduces the supplied {@code LongIterable} to a single {@code long} value by
+     * accumulating each value, starting from the supplied initial value, using the
+     * supplied {@code LongReducer}.
+     *
+     * @param iterable     The {@code LongIterable} to be reduced.
+     * @param initialValue The value with which to start accumulating.
+     * @param reducer      The {@code LongReducer} used to accumulate each value.
+     * @return The accumulated value, or the initial value if the supplied
+     *         {@code LongIterable} is empty.
+     */
+    public static long reduce(LongIterable iterable, long initialValue, LongReducer reducer) {
+        checkNotNull(reducer);
+        LongIterator iterator = iterable.longIterator();
+        long accumulator = initialValue;
+        while (iterator.hasNext()) {
+            accumulator = reducer.accumulate(accumulator, iterator.nextLong());
+        }
+        return accumulator;
+    }
+
+    /**
+     * Reduces the supplied {@code LongIterable} to a single {@code long} value by
+     * accumulating each value after the first, starting from the first, using the
+     * supplied {@code LongReducer}.
+     *
+     * @param iterable The {@code LongIterable} to be reduced.
+     * @param reducer  The {@code LongReducer} used to accumulate each value.
+     * @return The accumulated value.
+     * @throws NoSuchElementException if the supplied {@code LongIterable} is empty.
+     */
+    public static long reduce(LongIterable iterable, LongReducer reducer) {
+        checkNotNull(reducer);
+        LongIterator iterator = iterable.longIterator();
+        if (!iterator.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        long accumulator = iterator.nextLong();
+        while (iterator.hasNext()) {
+            accumulator = reducer.accumulate(accumulator, iterator.nextLong());
+        }
+        return accumulator;
+    }
+
+    /**
+     * Sums the values of the supplied {@code LongIterable}.
+     *
+     * @param iterable The {@code LongIterable} to sum.
+     * @return The sum of the values, or zero if the supplied {@code LongIterable} is empty.
+     */
+    public static long sum(LongIterable iterable) {
+        LongIterator iterator = iterable.longIterator();
+        long total = 0L;
+        while (iterator.hasNext()) {
+            total += iterator.nextLong();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the smallest value in the supplied {@code LongIterable}.
+     *
+     * @param iterable The {@code LongIterable} from which to find the minimum.
+     * @return The smallest value.
+     * @throws NoSuchElementException if the supplied {@code LongIterable} is empty.
+     */
+    public static long min(LongIterable iterable) {
+        LongIterator iterator = iterable.longIterator();
+        if (!iterator.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        long currentMin = iterator.nextLong();
+        while (iterator.hasNext()) {
+            long element = iterator.nextLong();
+            currentMin = element < currentMin ? element : currentMin;
+        }
+        return currentMin;
+    }
+
+    /**
+     * Returns the largest value in the supplied {@code LongIterable}.
+     *
+     * @param iterable The {@code LongIterable} from which to find the maximum.
+     * @return The largest value.
+     * @throws NoSuchElementException if the supplied {@code LongIterable} is empty.
+     */
+    public static long max(LongIterable iterable) {
+        LongIterator iterator = iterable.longIterator();
+        if (!iterator.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        long currentMax = iterator.nextLong();
+        while (iterator.hasNext()) {
+            long element = iterator.nextLong();
+            currentMax = element > currentMax ? element : currentMax;
+        }
+        return currentMax;
+    }
+
+    /**
+     * Returns an {@code DoubleIterable} over the supplied {@code double} values. The
+     * array is not copied so changes to it are visible through the returned
+     * {@code DoubleIterable}.
+     *
+     * @param values The {@code double} values to iterate over.
+     * @return An {@code DoubleIterable} over the supplied values in order.
+     */
+    public static DoubleIterable doubles(final double... values) {
+        checkNotNull(values);
+        return new DoubleIterable() {
+            public DoubleIterator doubleIterator() {
+                return new DoubleArrayIterator(values);
+            }
+        };
+    }
+
+    /**
+     * Bridges an {@code Iterable} of {@code Double} instances to an {@code DoubleIterable},
+     * unboxing each element as it is yielded. If the supplied {@code Iterable} is
+     * already a {@code DoubleIterable} it is returned
+     * as is and no unboxing takes place.
+     *
+     * @param iterable The {@code Iterable} of {@code Double} instances to unbox.
+     * @return An {@code DoubleIterable} over the unboxed elements of the supplied
+     *         {@code Iterable}.
+     * @throws NullPointerException during iteration if the supplied {@code Iterable}
+     *                              contains {@code null}.
+     */
+    public static DoubleIterable doubles(final Iterable<Double> iterable) {
+        checkNotNull(iterable);
+        if (iterable instanceof DoubleIterable) {
+            return (DoubleIterable) iterable;
+        }
+        return new DoubleIterable() {
+            public DoubleIterator doubleIterator() {
+                return new UnboxingDoubleIterator(iterable.iterator());
+            }
+        };
+    }
+
+    /**
+     * Bridges an {@code DoubleIterable} back to the boxed {@code Iterable} API so that
+     * it can be used with {@link Lazily}, {@link Eagerly} and friends. Each value is
+     * boxed as it is yielded.
+     *
+     * @param iterable The {@code DoubleIterable} to box.
+     * @return An {@code Iterable} of {@code Double} instances over the values of the
+     *         supplied {@code DoubleIterable}.
+     */
+    public static Iterable<Double> boxed(final DoubleIterable iterable) {
+        checkNotNull(iterable);
+        return new Iterable<Double>() {
+            public Iterator<Double> iterator() {
+                return new BoxingDoubleIterator(iterable.doubleIterator());
+            }
+        };
+    }
+
+    /**
+     * Lazily maps each value of the supplied {@code DoubleIterable} using the supplied
+     * {@code DoubleUnaryFunction}. No intermediate values are boxed or stored.
+     *
+     * @param iterable The {@code DoubleIterable} of values to be mapped.
+     * @param function The {@code DoubleUnaryFunction} to apply to each value.
+     * @return An {@code DoubleIterable} over the mapped values.
+     */
+    public static DoubleIterable map(final DoubleIterable iterable, final DoubleUnaryFunction function) {
+        checkNotNull(iterable);
+        checkNotNull(function);
+        return new DoubleIterable() {
+            public DoubleIterator doubleIterator() {
+                return new MappedDoubleIterator(iterable.doubleIterator(), function);
+            }
+        };
+    }
+
+    /**
+     * Lazily filters the values of the supplied {@code DoubleIterable}, retaining only
+     * those for which the supplied {@code DoublePredicate} returns {@code true}.
+     *
+     * @param iterable  The {@code DoubleIterable} of values to be filtered.
+     * @param predicate The {@code DoublePredicate} deciding which values to retain.
+     * @return An {@code DoubleIterable} over the retained values.
+     */
+    public static DoubleIterable filter(final DoubleIterable iterable, final DoublePredicate predicate) {
+        checkNotNull(iterable);
+        checkNotNull(predicate);
+        return new DoubleIterable() {
+            public DoubleIterator doubleIterator() {
+                return new FilteredDoubleIterator(iterable.doubleIterator(), predicate);
+            }
+        };
+    }
+
+    /**
+     * Reduces the supplied {@code DoubleIterable} to a single {@code double} value by
+     * accumulating each value, starting from the supplied initial value, using the
+     * supplied {@code DoubleReducer}.
+     *
+     * @param iterable     The {@code DoubleIterable} to be reduced.
+     * @param initialValue The value with which to start accumulating.
+     * @param reducer      The {@code DoubleReducer} used to accumulate each value.
+     * @return The accumulated value, or the initial value if the supplied
+     *         {@code DoubleIterable} is empty.
+     */
+    public static double reduce(DoubleIterable iterable, double initialValue, DoubleReducer reducer) {
+        checkNotNull(reducer);
+        DoubleIterator iterator = iterable.doubleIterator();
+        double accumulator = initialValue;
+        while (iterator.hasNext()) {
+            accumulator = reducer.accumulate(accumulator, iterator.nextDouble());
+        }
+        return accumulator;
+    }
+
+    /**
+     * Reduces the supplied {@code DoubleIterable} to a single {@code double} value by
+     * accumulating each value after the first, starting from the first, using the
+     * supplied {@code DoubleReducer}.
+     *
+     * @param iterable The {@code DoubleIterable} to be reduced.
+     * @param reducer  The {@code DoubleReducer} used to accumulate each value.
+     * @return The accumulated value.
+     * @throws NoSuchElementException if the supplied {@code DoubleIterable} is empty.
+     */
+    public static double reduce(DoubleIterable iterable, DoubleReducer reducer) {
+        checkNotNull(reducer);
+        DoubleIterator iterator = iterable.doubleIterator();
+        if (!iterator.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        double accumulator = iterator.nextDouble();
+        while (iterator.hasNext()) {
+            accumulator = reducer.accumulate(accumulator, iterator.nextDouble());
+        }
+        return accumulator;
+    }
+
+    /**
+     * Sums the values of the supplied {@code DoubleIterable}.
+     *
+     * @param iterable The {@code DoubleIterable} to sum.
+     * @return The sum of the values, or zero if the supplied {@code DoubleIterable} is empty.
+     */
+    public static double sum(DoubleIterable iterable) {
+        DoubleIterator iterator = iterable.doubleIterator();
+        double total = 0D;
+        while (iterator.hasNext()) {
+            total += iterator.nextDouble();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the smallest value in the supplied {@code DoubleIterable}.
+     *
+     * @param iterable The {@code DoubleIterable} from which to find the minimum.
+     * @return The smallest value.
+     * @throws NoSuchElementException if the supplied {@code DoubleIterable} is empty.
+     */
+    public static double min(DoubleIterable iterable) {
+        DoubleIterator iterator = iterable.doubleIterator();
+        if (!iterator.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        double currentMin = iterator.nextDouble();
+        while (iterator.hasNext()) {
+            double element = iterator.nextDouble();
+            currentMin = Math.min(currentMin, element);
+        }
+        return currentMin;
+    }
+
+    /**
+     * Returns the largest value in the supplied {@code DoubleIterable}.
+     *
+     * @param iterable The {@code DoubleIterable} from which to find the maximum.
+     * @return The largest value.
+     * @throws NoSuchElementException if the supplied {@code DoubleIterable} is empty.
+     */
+    public static double max(DoubleIterable iterable) {
+        DoubleIterator iterator = iterable.doubleIterator();
+        if (!iterator.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        double currentMax = iterator.nextDouble();
+        while (iterator.hasNext()) {
+            double element = iterator.nextDouble();
+            currentMax = Math.max(currentMax, element);
+        }
+        return currentMax;
+    }
+
+    /**
+     * Widens each value of the supplied {@code IntIterable} to a {@code long}.
+     *
+     * @param iterable The {@code IntIterable} to widen.
+     * @return A {@code LongIterable} over the widened values.
+     */
+    public static LongIterable asLongs(final IntIterable iterable) {
+        checkNotNull(iterable);
+        return new LongIterable() {
+            public LongIterator longIterator() {
+                final IntIterator iterator = iterable.intIterator();
+                return new LongIterator() {
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    public long nextLong() {
+                        return iterator.nextInt();
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Widens each value of the supplied {@code IntIterable} to a {@code double}.
+     *
+     * @param iterable The {@code IntIterable} to widen.
+     * @return A {@code DoubleIterable} over the widened values.
+     */
+    public static DoubleIterable asDoubles(final IntIterable iterable) {
+        checkNotNull(iterable);
+        return new DoubleIterable() {
+            public DoubleIterator doubleIterator() {
+                final IntIterator iterator = iterable.intIterator();
+                return new DoubleIterator() {
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    public double nextDouble() {
+                        return iterator.nextInt();
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Widens each value of the supplied {@code LongIterable} to a {@code double}.
+     *
+     * @param iterable The {@code LongIterable} to widen.
+     * @return A {@code DoubleIterable} over the widened values.
+     */
+    public static DoubleIterable asDoubles(final LongIterable iterable) {
+        checkNotNull(iterable);
+        return new DoubleIterable() {
+            public DoubleIterator doubleIterator() {
+                final LongIterator iterator = iterable.longIterator();
+                return new DoubleIterator() {
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    public double nextDouble() {
+                        return iterator.nextLong();
+                    }
+                };
+            }
+        };
+    }
+
+    private static class IntArrayIterator implements IntIterator {
+        private final int[] values;
+        private int index = 0;
+
+        IntArrayIterator(int[] values) {
+            this.values = values;
+        }
+
+        public boolean hasNext() {
+            return index < values.length;
+        }
+
+        public int nextInt() {
+            if (index >= values.length) {
+                throw new NoSuchElementException();
+            }
+            return values[index++];
+        }
+    }
+
+    private static class UnboxingIntIterator implements IntIterator {
+        private final Iterator<Integer> iterator;
+
+        UnboxingIntIterator(Iterator<Integer> iterator) {
+            this.iterator = iterator;
+        }
+
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        public int nextInt() {
+            return iterator.next();
+        }
+    }
+
+    private static class BoxingIntIterator implements Iterator<Integer> {
+        private final IntIterator iterator;
+
+        BoxingIntIterator(IntIterator iterator) {
+            this.iterator = iterator;
+        }
+
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        public Integer next() {
+            return iterator.nextInt();
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class MappedIntIterator implements IntIterator {
+        private final IntIterator iterator;
+        private final IntUnaryFunction function;
+
+        MappedIntIterator(IntIterator iterator, IntUnaryFunction function) {
+            this.iterator = iterator;
+            this.function = function;
+        }
+
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        public int nextInt() {
+            return function.call(iterator.nextInt());
+        }
+    }
+
+    private static class FilteredIntIterator implements IntIterator {
+        private final IntIterator iterator;
+        private final IntPredicate predicate;
+        private boolean hasCachedValue = false;
+        private int cachedValue;
+
+        FilteredIntIterator(IntIterator iterator, IntPredicate predicate) {
+            this.iterator = iterator;
+            this.predicate = predicate;
+        }
+
+        public boolean hasNext() {
+            while (!hasCachedValue && iterator.hasNext()) {
+                int candidate = iterator.nextInt();
+                if (predicate.evaluate(candidate)) {
+                    cachedValue = candidate;
+                    hasCachedValue = true;
+                }
+            }
+            return hasCachedValue;
+        }
+
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasCachedValue = false;
+            return cachedValue;
+        }
+    }
+
+    private static class LongArrayIterator implements LongIterator {
+        private final long[] values;
+        private int index = 0;
+
+        LongArrayIterator(long[] values) {
+            this.values = values;
+        }
+
+        public boolean hasNext() {
+            return index < values.length;
+        }
+
+        public long nextLong() {
+            if (index >= values.length) {
+                throw new NoSuchElementException();
+            }
+            return values[index++];
+        }
+    }
+
+    private static class UnboxingLongIterator implements LongIterator {
+        private final Iterator<Long> iterator;
+
+        UnboxingLongIterator(Iterator<Long> iterator) {
+            this.iterator = iterator;
+        }
+
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        public long nextLong() {
+            return iterator.next();
+        }
+    }
+
+    private static class BoxingLongIterator implements Iterator<Long> {
+        private final LongIterator iterator;
+
+        BoxingLongIterator(LongIterator iterator) {
+            this.iterator = iterator;
+        }
+
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        public Long next() {
+            return iterator.nextLong();
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class MappedLongIterator implements LongIterator {
+        private final LongIterator iterator;
+        private final LongUnaryFunction function;
+
+        MappedLongIterator(LongIterator iterator, LongUnaryFunction function) {
+            this.iterator = iterator;
+            this.function = function;
+        }
+
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        public long nextLong() {
+            return function.call(iterator.nextLong());
+        }
+    }
+
+    private static class FilteredLongIterator implements LongIterator {
+        private final LongIterator iterator;
+        private final LongPredicate predicate;
+        private boolean hasCachedValue = false;
+        private long cachedValue;
+
+        FilteredLongIterator(LongIterator iterator, LongPredicate predicate) {
+            this.iterator = iterator;
+            this.predicate = predicate;
+        }
+
+        public boolean hasNext() {
+            while (!hasCachedValue && iterator.hasNext()) {
+                long candidate = iterator.nextLong();
+                if (predicate.evaluate(candidate)) {
+                    cachedValue = candidate;
+                    hasCachedValue = true;
+                }
+            }
+            return hasCachedValue;
+        }
+
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasCachedValue = false;
+            return cachedValue;
+        }
+    }
+
+    private static class DoubleArrayIterator implements DoubleIterator {
+        private final double[] values;
+        private int index = 0;
+
+        DoubleArrayIterator(double[] values) {
+            this.values = values;
+        }
+
+        public boolean hasNext() {
+            return index < values.length;
+        }
+
+        public double nextDouble() {
+            if (index >= values.length) {
+                throw new NoSuchElementException();
+            }
+            return values[index++];
+        }
+    }
+
+    private static class UnboxingDoubleIterator implements DoubleIterator {
+        private final Iterator<Double> iterator;
+
+        UnboxingDoubleIterator(Iterator<Double> iterator) {
+            this.iterator = iterator;
+        }
+
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        public double nextDouble() {
+            return iterator.next();
+        }
+    }
+
+    private static class BoxingDoubleIterator implements Iterator<Double> {
+        private final DoubleIterator iterator;
+
+        BoxingDoubleIterator(DoubleIterator iterator) {
+            this.iterator = iterator;
+        }
+
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        public Double next() {
+            return iterator.nextDouble();
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class MappedDoubleIterator implements DoubleIterator {
+        private final DoubleIterator iterator;
+        private final DoubleUnaryFunction function;
+
+        MappedDoubleIterator(DoubleIterator iterator, DoubleUnaryFunction function) {
+            this.iterator = iterator;
+            this.function = function;
+        }
+
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        public double nextDouble() {
+            return function.call(iterator.nextDouble());
+        }
+    }
+
+    private static class FilteredDoubleIterator implements DoubleIterator {
+        private final DoubleIterator iterator;
+        private final DoublePredicate predicate;
+        private boolean hasCachedValue = false;
+        private double cachedValue;
+
+        FilteredDoubleIterator(DoubleIterator iterator, DoublePredicate predicate) {
+            this.iterator = iterator;
+            this.predicate = predicate;
+        }
+
+        public boolean hasNext() {
+            while (!hasCachedValue && iterator.hasNext()) {
+                double candidate = iterator.nextDouble();
+                if (predicate.evaluate(candidate)) {
+                    cachedValue = candidate;
+                    hasCachedValue = true;
+                }
+            }
+            return hasCachedValue;
+        }
+
+        public double nextDouble() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasCachedValue = false;
+            return cachedValue;
+        }
+    }
+}
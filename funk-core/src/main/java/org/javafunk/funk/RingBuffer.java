@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+/**
+ * A buffer retaining at most a fixed number of the most recently added
+ * elements, evicting the oldest element when full. Storage grows on demand
+ * up to the capacity so a large capacity costs nothing until it is used.
+ * Elements are addressed by age with the oldest retained element at index
+ * zero.
+ */
+class RingBuffer<T> {
+    private static final int INITIAL_STORAGE = 16;
+
+    private final int capacity;
+    private Object[] elements;
+    private int oldest = 0;
+    private int size = 0;
+
+    RingBuffer(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        this.capacity = capacity;
+        this.elements = new Object[Math.min(capacity, INITIAL_STORAGE)];
+    }
+
+    void add(T element) {
+        if (capacity == 0) {
+            return;
+        }
+        if (size < capacity) {
+            if (size == elements.length) {
+                grow();
+            }
+            long position = (long) oldest + size;
+            elements[(int) (position >= elements.length ? position - elements.length : position)] = element;
+            size++;
+        } else {
+            elements[oldest] = element;
+            oldest = oldest + 1 == elements.length ? 0 : oldest + 1;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    T get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        long position = oldest + index;
+        if (position >= elements.length) {
+            position -= elements.length;
+        }
+        return (T) elements[(int) position];
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        int newLength = (int) Math.min(capacity, Math.max(INITIAL_STORAGE, 2L * elements.length));
+        Object[] grown = new Object[newLength];
+        for (int i = 0; i < size; i++) {
+            grown[i] = elements[(oldest + i) % elements.length];
+        }
+        elements = grown;
+        oldest = 0;
+    }
+}
@@ -8,65 +8,108 @@
  */
 package org.javafunk.funk;
 
-import com.google.common.collect.Multiset;
+import org.javafunk.funk.datastructures.AbstractRange;
+import org.javafunk.funk.datastructures.Range;
 import org.javafunk.funk.functors.Predicate;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 import static java.util.Arrays.asList;
-import static org.javafunk.funk.Eagerly.first;
-import static org.javafunk.funk.Eagerly.rest;
-import static org.javafunk.funk.Iterables.asSet;
-import static org.javafunk.funk.Lazily.filter;
-import static org.javafunk.funk.Literals.collectionFrom;
 import static org.javafunk.funk.Literals.iterableBuilderWith;
 import static org.javafunk.funk.Literals.iterableWith;
 import static org.javafunk.funk.Literals.listFrom;
-import static org.javafunk.funk.Literals.setBuilderFrom;
 
+/**
+ * Set algebra over {@code Iterable}s. Each operation picks its strategy from
+ * its inputs: when every input is a {@code SortedSet} ordered the same way, the
+ * inputs are combined by linear merges and the result is a {@code TreeSet} with
+ * that ordering; otherwise inputs which are {@code HashSet}s or {@code Range}s
+ * are probed in place and only the remaining inputs that need to be probed are
+ * copied. Other {@code Set}s are copied too since they may decide membership
+ * by something other than {@code equals}, such as a comparator. Results that
+ * consist of small, non-negative {@code Integer}s are stored as bits rather
+ * than as hashed entries.
+ */
 public class Sets {
     private Sets() {}
 
     public static <T> Set<T> union(Iterable<? extends Iterable<? extends T>> iterables) {
-        Set<T> unionSet = new HashSet<T>();
-        for (Iterable<? extends T> iterable : iterables) {
-            unionSet.addAll(collectionFrom(iterable));
+        List<Iterable<? extends T>> operands = listFrom(iterables);
+        if (areOrderedTheSameWay(operands)) {
+            return merge(operands, Merge.UNION);
+        }
+        Set<T> unionSet = new CompactSet<T>();
+        for (Iterable<? extends T> operand : operands) {
+            for (T element : operand) {
+                unionSet.add(element);
+            }
         }
         return unionSet;
     }
 
     public static <T> Set<T> intersection(Iterable<? extends Iterable<? extends T>> iterables) {
-        Set<T> intersectionSet = new HashSet<T>(collectionFrom(first(iterables).get()));
-        for (Iterable<? extends T> iterable : rest(iterables)) {
-            intersectionSet.retainAll(collectionFrom(iterable));
+        List<Iterable<? extends T>> operands = smallestFirst(iterables);
+        if (operands.isEmpty()) {
+            return new CompactSet<T>();
+        }
+        if (areOrderedTheSameWay(operands)) {
+            return merge(operands, Merge.INTERSECTION);
+        }
+        Set<T> intersectionSet = new CompactSet<T>();
+        if (sizeOf(operands.get(0)) == 0) {
+            return intersectionSet;
+        }
+        List<Predicate<Object>> memberships = membershipsOf(operands.subList(1, operands.size()));
+        for (T element : operands.get(0)) {
+            if (isMemberOfAll(memberships, element)) {
+                intersectionSet.add(element);
+            }
         }
         return intersectionSet;
     }
 
     public static <T> Set<T> difference(Iterable<? extends Iterable<? extends T>> iterables) {
-        List<Iterable<? extends T>> arguments = listFrom(iterables);
-        if (arguments.isEmpty()) {
-            return new HashSet<T>();
-        } else {
-            Set<T> differenceSet = setBuilderFrom(first(arguments).get()).build(HashSet.class);
-            differenceSet.removeAll(union(rest(arguments)));
-            return differenceSet;
+        List<Iterable<? extends T>> operands = listFrom(iterables);
+        if (operands.isEmpty()) {
+            return new CompactSet<T>();
+        }
+        if (areOrderedTheSameWay(operands)) {
+            return merge(operands, Merge.DIFFERENCE);
+        }
+        Set<T> differenceSet = new CompactSet<T>();
+        List<Predicate<Object>> memberships = membershipsOf(operands.subList(1, operands.size()));
+        for (T element : operands.get(0)) {
+            if (!isMemberOfAny(memberships, element)) {
+                differenceSet.add(element);
+            }
         }
+        return differenceSet;
     }
 
     public static <T> Set<T> symmetricDifference(Iterable<? extends Iterable<? extends T>> iterables) {
-        final Multiset<T> unionMultiset = Multisets.concatenate(iterables);
-        return asSet(filter(unionMultiset, new Predicate<T>() {
-            public boolean evaluate(T element) {
-                return isOdd(unionMultiset.count(element));
-            }
-
-            private boolean isOdd(Integer value) {
-                return value % 2 == 1;
+        List<Iterable<? extends T>> operands = listFrom(iterables);
+        if (areOrderedTheSameWay(operands)) {
+            return merge(operands, Merge.SYMMETRIC_DIFFERENCE);
+        }
+        Set<T> symmetricDifferenceSet = new CompactSet<T>();
+        for (Iterable<? extends T> operand : operands) {
+            for (T element : operand) {
+                if (!symmetricDifferenceSet.remove(element)) {
+                    symmetricDifferenceSet.add(element);
+                }
             }
-        }));
+        }
+        return symmetricDifferenceSet;
     }
 
     public static <T> Set<T> union(
@@ -245,4 +288,212 @@ public class Sets {
             Iterable<? extends T> i5, Iterable<? extends T> i6, Iterable<? extends T>... i7on) {
         return symmetricDifference(iterableBuilderWith(i1, i2, i3, i4, i5, i6).and(asList(i7on)).build());
     }
+
+    private static <T> List<Iterable<? extends T>> smallestFirst(Iterable<? extends Iterable<? extends T>> iterables) {
+        List<Iterable<? extends T>> operands = new ArrayList<Iterable<? extends T>>();
+        for (Iterable<? extends T> iterable : iterables) {
+            operands.add(isSized(iterable) ? iterable : listFrom(iterable));
+        }
+        Collections.sort(operands, new Comparator<Iterable<?>>() {
+            @Override public int compare(Iterable<?> first, Iterable<?> second) {
+                long firstSize = sizeOf(first);
+                long secondSize = sizeOf(second);
+                return firstSize < secondSize ? -1 : (firstSize == secondSize ? 0 : 1);
+            }
+        });
+        return operands;
+    }
+
+    private static boolean isSized(Iterable<?> iterable) {
+        return iterable instanceof Collection || iterable instanceof AbstractRange;
+    }
+
+    private static long sizeOf(Iterable<?> iterable) {
+        return iterable instanceof AbstractRange ? ((AbstractRange<?>) iterable).size() : ((Collection<?>) iterable).size();
+    }
+
+    private static List<Predicate<Object>> membershipsOf(List<? extends Iterable<?>> iterables) {
+        List<Predicate<Object>> memberships = new ArrayList<Predicate<Object>>(iterables.size());
+        for (Iterable<?> iterable : iterables) {
+            memberships.add(membershipOf(iterable));
+        }
+        return memberships;
+    }
+
+    private static Predicate<Object> membershipOf(Iterable<?> iterable) {
+        if (iterable instanceof Range) {
+            final Range<?> range = (Range<?>) iterable;
+            return new Predicate<Object>() {
+                @Override public boolean evaluate(Object element) {
+                    return range.contains(element);
+                }
+            };
+        }
+        final Set<?> set = isProbedInPlace(iterable) ? (Set<?>) iterable : new HashSet<Object>(listFrom(iterable));
+        return new Predicate<Object>() {
+            @Override public boolean evaluate(Object element) {
+                return set.contains(element);
+            }
+        };
+    }
+
+    private static boolean isProbedInPlace(Iterable<?> iterable) {
+        return iterable instanceof HashSet || iterable instanceof CompactSet;
+    }
+
+    private static boolean isMemberOfAll(List<Predicate<Object>> memberships, Object element) {
+        for (Predicate<Object> membership : memberships) {
+            if (!membership.evaluate(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMemberOfAny(List<Predicate<Object>> memberships, Object element) {
+        for (Predicate<Object> membership : memberships) {
+            if (membership.evaluate(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean areOrderedTheSameWay(List<? extends Iterable<?>> operands) {
+        if (operands.isEmpty() || !(operands.get(0) instanceof SortedSet)) {
+            return false;
+        }
+        Comparator<?> comparator = ((SortedSet<?>) operands.get(0)).comparator();
+        for (Iterable<?> operand : operands) {
+            if (!(operand instanceof SortedSet)) {
+                return false;
+            }
+            Comparator<?> operandComparator = ((SortedSet<?>) operand).comparator();
+            if (comparator == null ? operandComparator != null : !comparator.equals(operandComparator)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Set<T> merge(List<Iterable<? extends T>> operands, Merge merge) {
+        Comparator<? super T> comparator = ((SortedSet<T>) operands.get(0)).comparator();
+        List<T> merged = new ArrayList<T>((SortedSet<T>) operands.get(0));
+        for (Iterable<? extends T> operand : operands.subList(1, operands.size())) {
+            if (merged.isEmpty() && !merge.keepsRightOnly) {
+                break;
+            }
+            merged = merge.apply(merged, operand.iterator(), comparator);
+        }
+        return new TreeSet<T>(new MergedElements<T>(merged, comparator));
+    }
+
+    /**
+     * The already sorted result of a merge, presented as a {@code SortedSet} so
+     * that a {@code TreeSet} can be built from it in linear time. Only the
+     * operations that the {@code TreeSet} needs are supported.
+     */
+    private static class MergedElements<T> extends AbstractSet<T> implements SortedSet<T> {
+        private final List<T> elements;
+        private final Comparator<? super T> comparator;
+
+        MergedElements(List<T> elements, Comparator<? super T> comparator) {
+            this.elements = elements;
+            this.comparator = comparator;
+        }
+
+        @Override public Iterator<T> iterator() {
+            return elements.iterator();
+        }
+
+        @Override public int size() {
+            return elements.size();
+        }
+
+        @Override public Comparator<? super T> comparator() {
+            return comparator;
+        }
+
+        @Override public T first() {
+            return elements.get(0);
+        }
+
+        @Override public T last() {
+            return elements.get(elements.size() - 1);
+        }
+
+        @Override public SortedSet<T> subSet(T fromElement, T toElement) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override public SortedSet<T> headSet(T toElement) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override public SortedSet<T> tailSet(T fromElement) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private enum Merge {
+        UNION(true, true, true),
+        INTERSECTION(false, true, false),
+        DIFFERENCE(true, false, false),
+        SYMMETRIC_DIFFERENCE(true, false, true);
+
+        private final boolean keepsLeftOnly;
+        private final boolean keepsBoth;
+        private final boolean keepsRightOnly;
+
+        Merge(boolean keepsLeftOnly, boolean keepsBoth, boolean keepsRightOnly) {
+            this.keepsLeftOnly = keepsLeftOnly;
+            this.keepsBoth = keepsBoth;
+            this.keepsRightOnly = keepsRightOnly;
+        }
+
+        <T> List<T> apply(List<T> left, Iterator<? extends T> rights, Comparator<? super T> comparator) {
+            List<T> merged = new ArrayList<T>();
+            Iterator<T> lefts = left.iterator();
+            boolean hasLeft = lefts.hasNext();
+            boolean hasRight = rights.hasNext();
+            T leftElement = hasLeft ? lefts.next() : null;
+            T rightElement = hasRight ? rights.next() : null;
+            while (hasLeft && hasRight) {
+                int comparison = compare(comparator, leftElement, rightElement);
+                if (comparison <= 0) {
+                    if (comparison < 0 ? keepsLeftOnly : keepsBoth) {
+                        merged.add(leftElement);
+                    }
+                    hasLeft = lefts.hasNext();
+                    leftElement = hasLeft ? lefts.next() : null;
+                }
+                if (comparison >= 0) {
+                    if (comparison > 0 && keepsRightOnly) {
+                        merged.add(rightElement);
+                    }
+                    hasRight = rights.hasNext();
+                    rightElement = hasRight ? rights.next() : null;
+                }
+            }
+            while (hasLeft && keepsLeftOnly) {
+                merged.add(leftElement);
+                hasLeft = lefts.hasNext();
+                leftElement = hasLeft ? lefts.next() : null;
+            }
+            while (hasRight && keepsRightOnly) {
+                merged.add(rightElement);
+                hasRight = rights.hasNext();
+                rightElement = hasRight ? rights.next() : null;
+            }
+            return merged;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> int compare(Comparator<? super T> comparator, T first, T second) {
+            return comparator == null
+                    ? ((Comparable<Object>) first).compareTo(second)
+                    : comparator.compare(first, second);
+        }
+    }
 }
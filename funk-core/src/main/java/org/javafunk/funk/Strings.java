@@ -8,16 +8,13 @@
  */
 package org.javafunk.funk;
 
-import org.apache.commons.lang.StringUtils;
-
 import static java.util.Arrays.asList;
-import static org.javafunk.funk.Iterables.materialize;
 
 public class Strings {
     private Strings() {}
 
     public static <T> String join(Iterable<? extends T> iterable, String separator) {
-        return StringUtils.join(materialize(iterable), separator);
+        return joining(separator).join(iterable);
     }
 
     public static <T> String join(Iterable<? extends T> collection) {
@@ -27,4 +24,18 @@ public class Strings {
     public static <T> String join(T... objects) {
         return join(asList(objects));
     }
+
+    /**
+     * Returns a {@code Joining} which separates elements with the specified
+     * separator and which can be given a prefix, a suffix, a formatter and a
+     * maximum length before joining an {@code Iterable} into a {@code String}
+     * or writing it straight into an {@code Appendable}.
+     */
+    public static Joining<Object> joining(String separator) {
+        return new Joining<Object>(separator);
+    }
+
+    public static Joining<Object> joining() {
+        return joining("");
+    }
 }
@@ -18,6 +18,8 @@ import org.javafunk.funk.behaviours.ordinals.Seventh;
 import org.javafunk.funk.behaviours.ordinals.Sixth;
 import org.javafunk.funk.behaviours.ordinals.Third;
 import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.datastructures.tuples.PairColumns;
+import org.javafunk.funk.datastructures.tuples.TripleColumns;
 import org.javafunk.funk.functors.Mapper;
 
 import java.util.Map;
@@ -33,15 +35,33 @@ public class Tuples {
         };
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> Iterable<T> firsts(Iterable<? extends First<T>> firstables) {
+        if (firstables instanceof PairColumns) {
+            return ((PairColumns<T, ?>) firstables).getFirsts();
+        }
+        if (firstables instanceof TripleColumns) {
+            return ((TripleColumns<T, ?, ?>) firstables).getFirsts();
+        }
         return Lazily.map(firstables, Tuples.<T>toFirst());
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> Iterable<T> seconds(Iterable<? extends Second<T>> secondables) {
+        if (secondables instanceof PairColumns) {
+            return ((PairColumns<?, T>) secondables).getSeconds();
+        }
+        if (secondables instanceof TripleColumns) {
+            return ((TripleColumns<?, T, ?>) secondables).getSeconds();
+        }
         return Lazily.map(secondables, Tuples.<T>toSecond());
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> Iterable<T> thirds(Iterable<? extends Third<T>> thirdables) {
+        if (thirdables instanceof TripleColumns) {
+            return ((TripleColumns<?, ?, T>) thirdables).getThirds();
+        }
         return Lazily.map(thirdables, Tuples.<T>toThird());
     }
 
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * An iterator over the full windows of a fixed number of elements of an
+ * underlying iterator, each starting a fixed number of elements after the
+ * last. Elements are read into a single {@code RingBuffer} with room for one
+ * window and the elements by which the next one advances, so that the next
+ * window can be read without disturbing the one before it. Elements
+ * falling in the gaps between windows that are further apart than their size
+ * are skipped without being buffered.
+ *
+ * <p>Unless copies are requested, each window is a read-only view over the
+ * buffer which reads the elements it covers for as long as the buffer
+ * retains them. That is until the iterator reads on from the following
+ * window, so that a window and the one before it can be used together,
+ * after which a stale view fails with an {@code IllegalStateException}
+ * rather than showing later elements.</p>
+ */
+class WindowedIterator<T> implements Iterator<List<T>> {
+    private final Iterator<? extends T> iterator;
+    private final int size;
+    private final int step;
+    private final boolean copying;
+    private final RingBuffer<T> buffer;
+    private long read = 0;
+    private long stored = 0;
+    private long nextStart = 0;
+    private long nextStoredStart = 0;
+    private boolean nextAvailable;
+    private boolean advancePending = true;
+
+    WindowedIterator(Iterator<? extends T> iterator, int size, int step, boolean copying) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Window size must be greater than zero.");
+        }
+        if (step <= 0) {
+            throw new IllegalArgumentException("Step must be greater than zero.");
+        }
+        this.iterator = iterator;
+        this.size = size;
+        this.step = step;
+        this.copying = copying;
+        this.buffer = new RingBuffer<T>((int) Math.min(Integer.MAX_VALUE, (long) size + Math.min(size, step)));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (advancePending) {
+            nextAvailable = readUntil(nextStart + size);
+            advancePending = false;
+        }
+        return nextAvailable;
+    }
+
+    @Override
+    public List<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<T> window = new WindowView(nextStoredStart);
+        if (copying) {
+            window = copyOf(window);
+        }
+        nextStart += step;
+        nextStoredStart += Math.min(size, step);
+        advancePending = true;
+        return window;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> copyOf(List<T> window) {
+        Object[] copy = new Object[size];
+        for (int index = 0; index < size; index++) {
+            copy[index] = window.get(index);
+        }
+        return unmodifiableList((List<T>) Arrays.asList(copy));
+    }
+
+    private boolean readUntil(long end) {
+        while (read < end) {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            T element = iterator.next();
+            if (read >= end - size) {
+                buffer.add(element);
+                stored++;
+            }
+            read++;
+        }
+        return true;
+    }
+
+    private class WindowView extends AbstractList<T> implements RandomAccess {
+        private final long start;
+
+        WindowView(long start) {
+            this.start = start;
+        }
+
+        @Override public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            long oldestRetained = stored - buffer.size();
+            if (start < oldestRetained) {
+                throw new IllegalStateException(
+                        "Window is no longer available as the underlying buffer has advanced past it.");
+            }
+            return buffer.get(start - oldestRetained + index);
+        }
+
+        @Override public int size() {
+            return size;
+        }
+    }
+}
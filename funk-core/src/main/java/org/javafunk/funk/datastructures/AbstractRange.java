@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+/**
+ * A base for ranges whose elements can each be computed from their position,
+ * so that membership, size and positional access are all constant time
+ * operations which do not iterate over the range.
+ *
+ * @param <T> The type of the values in the range.
+ */
+public abstract class AbstractRange<T> implements Range<T> {
+    /**
+     * Returns the number of values in this range.
+     */
+    public abstract long size();
+
+    /**
+     * Returns the value at the specified position in this range.
+     *
+     * @throws IndexOutOfBoundsException if the index is negative or not
+     *                                   less than the size of the range.
+     */
+    public abstract T get(long index);
+
+    /**
+     * Returns the position of the specified value in this range or
+     * {@code -1} if the range does not contain it.
+     */
+    public abstract long indexOf(Object other);
+
+    /**
+     * Returns a range containing the values in this range in the opposite
+     * order.
+     */
+    public abstract AbstractRange<T> reverse();
+
+    /**
+     * Returns a range containing the values in this range between the
+     * specified positions, from {@code fromIndex}, inclusive, to
+     * {@code toIndex}, exclusive, in the same order and with the same step.
+     *
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative,
+     *                                   {@code toIndex} is greater than the
+     *                                   size of the range or
+     *                                   {@code fromIndex} is greater than
+     *                                   {@code toIndex}.
+     */
+    public abstract AbstractRange<T> subRange(long fromIndex, long toIndex);
+}
@@ -0,0 +1,542 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import com.google.common.collect.Multiset;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static com.google.common.collect.Multisets.immutableEntry;
+import static java.lang.String.format;
+
+/**
+ * A {@code Multiset} which keeps its elements in a single open addressing
+ * hash table with the hash and the count of each element stored alongside it
+ * as {@code int}s, rather than in a map of entries holding boxed or mutable
+ * counts. A distinct element therefore costs one reference and two
+ * {@code int}s in a table that is kept at most three quarters full.
+ *
+ * <p>Besides the {@code Multiset} operations, counts can be merged in place
+ * from another multiset by taking the maximum ({@link #unionWith}), the
+ * minimum ({@link #intersectWith}), the difference ({@link #subtract}) or
+ * the sum ({@link #sumWith}) of the counts of each element.</p>
+ *
+ * <p>When the count of an element falls to zero its slot, and the reference
+ * to the element, is retained until the table is next rebuilt so that
+ * removals never need to move other elements. Iteration order is
+ * unspecified. This class is not thread safe. Like {@code HashMultiset}, it
+ * is serializable and its iterators fail fast with a
+ * {@code ConcurrentModificationException} when the multiset is modified other
+ * than through the iterator.</p>
+ *
+ * @param <E> The type of the elements in the multiset.
+ */
+@SuppressWarnings("serial")
+public class CompactMultiset<E> extends AbstractCollection<E> implements Multiset<E>, Serializable {
+    private static final Object NULL_ELEMENT = new Object();
+    private static final int MINIMUM_CAPACITY = 8;
+
+    private transient Object[] elements;
+    private transient int[] hashes;
+    private transient int shift;
+    private transient int[] counts;
+    private transient int usedSlots = 0;
+    private transient int distinctElements = 0;
+    private transient long occurrences = 0;
+    private transient int modifications = 0;
+
+    public CompactMultiset() {
+        this(0);
+    }
+
+    public CompactMultiset(int expectedDistinctElements) {
+        if (expectedDistinctElements < 0) {
+            throw new IllegalArgumentException("Expected distinct elements must not be negative.");
+        }
+        allocate(capacityFor(expectedDistinctElements));
+    }
+
+    @SuppressWarnings("unchecked")
+    public CompactMultiset(Iterable<? extends E> elements) {
+        this(elements instanceof Multiset ? ((Multiset<?>) elements).elementSet().size() : 0);
+        if (elements instanceof Multiset) {
+            sumWith((Multiset<? extends E>) elements);
+        } else {
+            for (E element : elements) {
+                add(element, 1);
+            }
+        }
+    }
+
+    @Override public int count(Object element) {
+        int slot = slotOf(element);
+        return slot < 0 ? 0 : counts[slot];
+    }
+
+    @Override public int add(E element, int occurrences) {
+        checkOccurrences(occurrences);
+        int slot = claimSlotOf(element);
+        int count = counts[slot];
+        if (occurrences > Integer.MAX_VALUE - count) {
+            throw new IllegalArgumentException(format(
+                    "Adding %d occurrences to a count of %d would exceed %d.", occurrences, count, Integer.MAX_VALUE));
+        }
+        updateCount(slot, count + occurrences);
+        return count;
+    }
+
+    @Override public int remove(Object element, int occurrences) {
+        checkOccurrences(occurrences);
+        int slot = slotOf(element);
+        if (slot < 0) {
+            return 0;
+        }
+        int count = counts[slot];
+        updateCount(slot, Math.max(0, count - occurrences));
+        return count;
+    }
+
+    @Override public int setCount(E element, int count) {
+        checkCount(count);
+        int slot = count == 0 ? slotOf(element) : claimSlotOf(element);
+        if (slot < 0) {
+            return 0;
+        }
+        int previousCount = counts[slot];
+        updateCount(slot, count);
+        return previousCount;
+    }
+
+    @Override public boolean setCount(E element, int oldCount, int newCount) {
+        checkCount(oldCount);
+        checkCount(newCount);
+        if (count(element) != oldCount) {
+            return false;
+        }
+        setCount(element, newCount);
+        return true;
+    }
+
+    /**
+     * Raises the count of each element of this multiset to its count in the
+     * specified multiset where that is greater.
+     */
+    public void unionWith(Multiset<? extends E> other) {
+        for (Entry<? extends E> entry : entriesOf(other)) {
+            if (count(entry.getElement()) < entry.getCount()) {
+                setCount(entry.getElement(), entry.getCount());
+            }
+        }
+    }
+
+    /**
+     * Lowers the count of each element of this multiset to its count in the
+     * specified multiset where that is smaller.
+     */
+    public void intersectWith(Multiset<?> other) {
+        for (int slot = 0; slot < elements.length; slot++) {
+            if (counts[slot] > 0) {
+                int otherCount = other.count(unmaskNull(elements[slot]));
+                if (otherCount < counts[slot]) {
+                    updateCount(slot, otherCount);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lowers the count of each element of this multiset by its count in the
+     * specified multiset, to no lower than zero.
+     */
+    public void subtract(Multiset<?> other) {
+        for (Entry<?> entry : entriesOf(other)) {
+            remove(entry.getElement(), entry.getCount());
+        }
+    }
+
+    /**
+     * Raises the count of each element of this multiset by its count in the
+     * specified multiset.
+     */
+    public void sumWith(Multiset<? extends E> other) {
+        for (Entry<? extends E> entry : entriesOf(other)) {
+            add(entry.getElement(), entry.getCount());
+        }
+    }
+
+    @Override public int size() {
+        return (int) Math.min(occurrences, Integer.MAX_VALUE);
+    }
+
+    @Override public boolean isEmpty() {
+        return occurrences == 0;
+    }
+
+    @Override public boolean contains(Object element) {
+        return count(element) > 0;
+    }
+
+    @Override public boolean add(E element) {
+        add(element, 1);
+        return true;
+    }
+
+    @Override public boolean remove(Object element) {
+        return remove(element, 1) > 0;
+    }
+
+    @Override public boolean removeAll(Collection<?> elementsToRemove) {
+        return elementSet().removeAll(elementsToRemove);
+    }
+
+    @Override public boolean retainAll(Collection<?> elementsToRetain) {
+        return elementSet().retainAll(elementsToRetain);
+    }
+
+    @Override public void clear() {
+        Arrays.fill(elements, null);
+        Arrays.fill(counts, 0);
+        usedSlots = 0;
+        distinctElements = 0;
+        occurrences = 0;
+        modifications++;
+    }
+
+    @Override public Iterator<E> iterator() {
+        return new SlotIterator<E>() {
+            private int remaining = 0;
+
+            @Override public boolean hasNext() {
+                return remaining > 0 || super.hasNext();
+            }
+
+            @Override public E next() {
+                checkForComodification();
+                if (remaining == 0) {
+                    remaining = counts[nextSlot()];
+                } else {
+                    removable = true;
+                }
+                remaining--;
+                return elementAt(currentSlot);
+            }
+
+            @Override protected void removeCurrent() {
+                updateCount(currentSlot, counts[currentSlot] - 1);
+            }
+        };
+    }
+
+    @Override public Set<E> elementSet() {
+        return new AbstractSet<E>() {
+            @Override public Iterator<E> iterator() {
+                return new SlotIterator<E>() {
+                    @Override public E next() {
+                        return elementAt(nextSlot());
+                    }
+                };
+            }
+
+            @Override public int size() {
+                return distinctElements;
+            }
+
+            @Override public boolean contains(Object element) {
+                return CompactMultiset.this.contains(element);
+            }
+
+            @Override public boolean remove(Object element) {
+                int slot = slotOf(element);
+                if (slot < 0 || counts[slot] == 0) {
+                    return false;
+                }
+                updateCount(slot, 0);
+                return true;
+            }
+
+            @Override public void clear() {
+                CompactMultiset.this.clear();
+            }
+        };
+    }
+
+    @Override public Set<Entry<E>> entrySet() {
+        return new AbstractSet<Entry<E>>() {
+            @Override public Iterator<Entry<E>> iterator() {
+                return new SlotIterator<Entry<E>>() {
+                    @Override public Entry<E> next() {
+                        int slot = nextSlot();
+                        return immutableEntry(CompactMultiset.this.<E>elementAt(slot), counts[slot]);
+                    }
+                };
+            }
+
+            @Override public int size() {
+                return distinctElements;
+            }
+
+            @Override public boolean contains(Object object) {
+                if (!(object instanceof Entry)) {
+                    return false;
+                }
+                Entry<?> entry = (Entry<?>) object;
+                return entry.getCount() > 0 && count(entry.getElement()) == entry.getCount();
+            }
+
+            @Override public void clear() {
+                CompactMultiset.this.clear();
+            }
+        };
+    }
+
+    @Override public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof Multiset)) {
+            return false;
+        }
+        Multiset<?> other = (Multiset<?>) object;
+        if (size() != other.size() || distinctElements != other.entrySet().size()) {
+            return false;
+        }
+        for (int slot = 0; slot < elements.length; slot++) {
+            if (counts[slot] > 0 && other.count(unmaskNull(elements[slot])) != counts[slot]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override public int hashCode() {
+        int hashCode = 0;
+        for (int slot = 0; slot < elements.length; slot++) {
+            if (counts[slot] > 0) {
+                Object element = unmaskNull(elements[slot]);
+                hashCode += (element == null ? 0 : element.hashCode()) ^ counts[slot];
+            }
+        }
+        return hashCode;
+    }
+
+    @Override public String toString() {
+        return entrySet().toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Iterable<Entry<T>> entriesOf(Multiset<? extends T> multiset) {
+        return (Iterable<Entry<T>>) (Iterable<?>) multiset.entrySet();
+    }
+
+    private int slotOf(Object element) {
+        int slot = probe(maskNull(element));
+        return slot < 0 ? -1 : slot;
+    }
+
+    private int claimSlotOf(E element) {
+        Object key = maskNull(element);
+        int slot = probe(key);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (usedSlots + 1 > maximumUsedSlots(elements.length)) {
+            rebuild(capacityFor(distinctElements + 1));
+            slot = probe(key);
+        }
+        slot = -slot - 1;
+        elements[slot] = key;
+        hashes[slot] = hash(key);
+        usedSlots++;
+        return slot;
+    }
+
+    /**
+     * Returns the slot holding the specified key or, if there is none,
+     * {@code -(slot + 1)} for the empty slot at which it would be inserted.
+     * Stored hashes are compared first so that most mismatched keys are
+     * rejected without calling {@code equals}.
+     */
+    private int probe(Object key) {
+        int hash = hash(key);
+        int mask = elements.length - 1;
+        for (int slot = hash >>> shift; ; slot = (slot + 1) & mask) {
+            Object candidate = elements[slot];
+            if (candidate == null) {
+                return -slot - 1;
+            }
+            if (candidate == key || (hashes[slot] == hash && candidate.equals(key))) {
+                return slot;
+            }
+        }
+    }
+
+    private void updateCount(int slot, int count) {
+        int previousCount = counts[slot];
+        if (previousCount == 0 && count > 0) {
+            distinctElements++;
+        } else if (previousCount > 0 && count == 0) {
+            distinctElements--;
+        }
+        counts[slot] = count;
+        occurrences += count - previousCount;
+        modifications++;
+    }
+
+    private void rebuild(int capacity) {
+        Object[] previousElements = elements;
+        int[] previousHashes = hashes;
+        int[] previousCounts = counts;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int previousSlot = 0; previousSlot < previousElements.length; previousSlot++) {
+            if (previousCounts[previousSlot] > 0) {
+                int slot = previousHashes[previousSlot] >>> shift;
+                while (elements[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                elements[slot] = previousElements[previousSlot];
+                hashes[slot] = previousHashes[previousSlot];
+                counts[slot] = previousCounts[previousSlot];
+            }
+        }
+        usedSlots = distinctElements;
+        modifications++;
+    }
+
+    private void allocate(int capacity) {
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        elements = new Object[capacity];
+        hashes = new int[capacity];
+        counts = new int[capacity];
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T elementAt(int slot) {
+        return (T) unmaskNull(elements[slot]);
+    }
+
+    private static int hash(Object key) {
+        return key.hashCode() * 0x9E3779B9;
+    }
+
+    private static int capacityFor(int distinctElements) {
+        int capacity = MINIMUM_CAPACITY;
+        while (maximumUsedSlots(capacity) < distinctElements) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int maximumUsedSlots(int capacity) {
+        return capacity - (capacity >>> 2);
+    }
+
+    private static Object maskNull(Object element) {
+        return element == null ? NULL_ELEMENT : element;
+    }
+
+    private static Object unmaskNull(Object key) {
+        return key == NULL_ELEMENT ? null : key;
+    }
+
+    private static void checkOccurrences(int occurrences) {
+        if (occurrences < 0) {
+            throw new IllegalArgumentException("Occurrences must not be negative.");
+        }
+    }
+
+    private static void checkCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative.");
+        }
+    }
+
+    private void writeObject(ObjectOutputStream output) throws IOException {
+        output.defaultWriteObject();
+        output.writeInt(distinctElements);
+        for (int slot = 0; slot < elements.length; slot++) {
+            if (counts[slot] > 0) {
+                output.writeObject(unmaskNull(elements[slot]));
+                output.writeInt(counts[slot]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream input) throws IOException, ClassNotFoundException {
+        input.defaultReadObject();
+        int distinctElements = input.readInt();
+        allocate(capacityFor(distinctElements));
+        for (int i = 0; i < distinctElements; i++) {
+            add((E) input.readObject(), input.readInt());
+        }
+    }
+
+    private abstract class SlotIterator<T> implements Iterator<T> {
+        private int nextSlot = liveSlotFrom(0);
+        private int expectedModifications = modifications;
+        protected int currentSlot = -1;
+        protected boolean removable = false;
+
+        @Override public boolean hasNext() {
+            return nextSlot >= 0;
+        }
+
+        protected int nextSlot() {
+            checkForComodification();
+            if (nextSlot < 0) {
+                throw new NoSuchElementException();
+            }
+            currentSlot = nextSlot;
+            nextSlot = liveSlotFrom(nextSlot + 1);
+            removable = true;
+            return currentSlot;
+        }
+
+        @Override public void remove() {
+            checkForComodification();
+            if (!removable || counts[currentSlot] == 0) {
+                throw new IllegalStateException();
+            }
+            removable = false;
+            removeCurrent();
+            expectedModifications = modifications;
+        }
+
+        protected void removeCurrent() {
+            updateCount(currentSlot, 0);
+        }
+
+        protected void checkForComodification() {
+            if (modifications != expectedModifications) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        private int liveSlotFrom(int slot) {
+            for (; slot < counts.length; slot++) {
+                if (counts[slot] > 0) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+    }
+}
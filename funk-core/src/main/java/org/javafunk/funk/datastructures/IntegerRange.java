@@ -8,15 +8,17 @@
  */
 package org.javafunk.funk.datastructures;
 
-import org.javafunk.funk.Iterators;
+import org.javafunk.funk.primitives.IntIterable;
+import org.javafunk.funk.primitives.IntIterator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
-public class IntegerRange implements Range<Integer> {
-    private final Integer start;
-    private final Integer end;
-    private final Integer step;
+public class IntegerRange extends AbstractRange<Integer> implements IntIterable {
+    private final int start;
+    private final int end;
+    private final int step;
+    private final long size;
 
     public IntegerRange(Integer start, Integer end) {
         this(start, end, null);
@@ -29,19 +31,19 @@ public class IntegerRange implements Range<Integer> {
         }
         this.start = (start == null) ? 0 : start;
         this.end = (end == null) ? ((this.step > 0) ? Integer.MAX_VALUE : Integer.MIN_VALUE) : end;
+        this.size = sizeOf(this.start, this.end, this.step);
+    }
+
+    private IntegerRange(int start, int step, long size) {
+        this.start = start;
+        this.step = step;
+        this.size = size;
+        this.end = clamp(start + size * step);
     }
 
     @Override
     public boolean contains(Object other) {
-        if (other instanceof Integer) {
-            int valueToFind = (Integer) other;
-            for (int valueInRange : this) {
-                if (valueInRange == valueToFind) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return indexOf(other) >= 0;
     }
 
     @Override
@@ -60,20 +62,94 @@ public class IntegerRange implements Range<Integer> {
     }
 
     @Override
-    public Iterator<Integer> iterator() {
-        if (start < end && step < 0 || start > end && step > 0) {
-            return Iterators.emptyIterator();
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public Integer get(long index) {
+        checkIndex(index, size);
+        return valueAt(index);
+    }
+
+    @Override
+    public long indexOf(Object other) {
+        if (!(other instanceof Integer)) {
+            return -1;
+        }
+        long offset = (long) (Integer) other - start;
+        if ((step > 0) ? offset < 0 : offset > 0) {
+            return -1;
+        }
+        if (offset % step != 0) {
+            return -1;
+        }
+        long index = offset / step;
+        return (index < size) ? index : -1;
+    }
+
+    @Override
+    public IntegerRange reverse() {
+        if (size <= 1) {
+            return this;
+        }
+        if (step == Integer.MIN_VALUE) {
+            throw new UnsupportedOperationException("Cannot reverse a range with a step size of Integer.MIN_VALUE");
         }
+        return new IntegerRange(valueAt(size - 1), -step, size);
+    }
+
+    @Override
+    public IntegerRange subRange(long fromIndex, long toIndex) {
+        checkSubRange(fromIndex, toIndex, size);
+        return new IntegerRange(clamp(start + fromIndex * step), step, toIndex - fromIndex);
+    }
 
+    @Override
+    public Iterator<Integer> iterator() {
         return new IntegerRangeIterator();
     }
 
+    @Override
+    public IntIterator intIterator() {
+        return new IntegerRangeIntIterator();
+    }
+
+    private int valueAt(long index) {
+        return (int) (start + index * step);
+    }
+
+    private static long sizeOf(long start, long end, long step) {
+        if (step > 0) {
+            return (start < end) ? (end - start - 1) / step + 1 : 0;
+        }
+        return (start > end) ? (start - end - 1) / -step + 1 : 0;
+    }
+
+    private static int clamp(long value) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+    }
+
+    static void checkIndex(long index, long size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    static void checkSubRange(long fromIndex, long toIndex, long size) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "From index: " + fromIndex + ", To index: " + toIndex + ", Size: " + size);
+        }
+    }
+
     private class IntegerRangeIterator implements Iterator<Integer> {
+        private long remaining = size;
         private int currentValue = start;
 
         @Override
         public boolean hasNext() {
-            return (step < 0) ? (currentValue > end) : (currentValue < end);
+            return remaining > 0;
         }
 
         @Override
@@ -81,6 +157,7 @@ public class IntegerRange implements Range<Integer> {
             if (hasNext()) {
                 int next = currentValue;
                 currentValue += step;
+                remaining--;
                 return next;
             } else {
                 throw new NoSuchElementException();
@@ -92,4 +169,27 @@ public class IntegerRange implements Range<Integer> {
             throw new UnsupportedOperationException();
         }
     }
+
+    private class IntegerRangeIntIterator implements IntIterator {
+        private final int stepSize = step;
+        private long remaining = size;
+        private int currentValue = start;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public int nextInt() {
+            if (hasNext()) {
+                int next = currentValue;
+                currentValue += stepSize;
+                remaining--;
+                return next;
+            } else {
+                throw new NoSuchElementException();
+            }
+        }
+    }
 }
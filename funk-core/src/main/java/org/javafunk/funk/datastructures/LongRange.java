@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.primitives.LongIterable;
+import org.javafunk.funk.primitives.LongIterator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.primitives.UnsignedLongs.divide;
+import static com.google.common.primitives.UnsignedLongs.remainder;
+import static org.javafunk.funk.datastructures.IntegerRange.checkIndex;
+import static org.javafunk.funk.datastructures.IntegerRange.checkSubRange;
+
+public class LongRange extends AbstractRange<Long> implements LongIterable {
+    private final long start;
+    private final long end;
+    private final long step;
+    private final long size;
+
+    public LongRange(Long start, Long end) {
+        this(start, end, null);
+    }
+
+    public LongRange(Long start, Long end, Long step) {
+        this.step = (step == null) ? 1L : step;
+        if (this.step == 0) {
+            throw new IllegalArgumentException("Step size cannot be zero");
+        }
+        this.start = (start == null) ? 0L : start;
+        this.end = (end == null) ? ((this.step > 0) ? Long.MAX_VALUE : Long.MIN_VALUE) : end;
+        this.size = sizeOf(this.start, this.end, this.step);
+    }
+
+    private LongRange(long start, long end, long step, long size) {
+        this.start = start;
+        this.end = end;
+        this.step = step;
+        this.size = size;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return indexOf(other) >= 0;
+    }
+
+    @Override
+    public Long getStart() {
+        return start;
+    }
+
+    @Override
+    public Long getEnd() {
+        return end;
+    }
+
+    @Override
+    public Long getStep() {
+        return step;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public Long get(long index) {
+        checkIndex(index, size);
+        return valueAt(index);
+    }
+
+    @Override
+    public long indexOf(Object other) {
+        if (!(other instanceof Long)) {
+            return -1;
+        }
+        long value = (Long) other;
+        if ((step > 0) ? value < start : value > start) {
+            return -1;
+        }
+        long distance = (step > 0) ? value - start : start - value;
+        long magnitude = (step > 0) ? step : -step;
+        if (remainder(distance, magnitude) != 0) {
+            return -1;
+        }
+        long index = divide(distance, magnitude);
+        return (index >= 0 && index < size) ? index : -1;
+    }
+
+    @Override
+    public LongRange reverse() {
+        if (size <= 1) {
+            return this;
+        }
+        if (step == Long.MIN_VALUE) {
+            throw new UnsupportedOperationException("Cannot reverse a range with a step size of Long.MIN_VALUE");
+        }
+        long first = valueAt(size - 1);
+        return new LongRange(first, endOf(first, -step, size), -step, size);
+    }
+
+    @Override
+    public LongRange subRange(long fromIndex, long toIndex) {
+        checkSubRange(fromIndex, toIndex, size);
+        long length = toIndex - fromIndex;
+        long first = (fromIndex < size) ? valueAt(fromIndex) : end;
+        return new LongRange(first, endOf(first, step, length), step, length);
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        return new LongRangeIterator();
+    }
+
+    @Override
+    public LongIterator longIterator() {
+        return new LongRangeLongIterator();
+    }
+
+    private long valueAt(long index) {
+        return start + index * step;
+    }
+
+    private static long sizeOf(long start, long end, long step) {
+        if ((step > 0) ? start >= end : start <= end) {
+            return 0;
+        }
+        long distance = (step > 0) ? end - start : start - end;
+        long magnitude = (step > 0) ? step : -step;
+        long size = divide(distance - 1, magnitude) + 1;
+        if (size <= 0) {
+            throw new IllegalArgumentException("Range cannot contain more than Long.MAX_VALUE values");
+        }
+        return size;
+    }
+
+    private static long endOf(long first, long step, long size) {
+        if (size == 0) {
+            return first;
+        }
+        long last = first + (size - 1) * step;
+        long end = last + step;
+        boolean overflowed = (step > 0) ? end < last : end > last;
+        if (overflowed) {
+            return (step > 0) ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+        return end;
+    }
+
+    private class LongRangeIterator implements Iterator<Long> {
+        private long remaining = size;
+        private long currentValue = start;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public Long next() {
+            if (hasNext()) {
+                long next = currentValue;
+                currentValue += step;
+                remaining--;
+                return next;
+            } else {
+                throw new NoSuchElementException();
+            }
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class LongRangeLongIterator implements LongIterator {
+        private final long stepSize = step;
+        private long remaining = size;
+        private long currentValue = start;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public long nextLong() {
+            if (hasNext()) {
+                long next = currentValue;
+                currentValue += stepSize;
+                remaining--;
+                return next;
+            } else {
+                throw new NoSuchElementException();
+            }
+        }
+    }
+}
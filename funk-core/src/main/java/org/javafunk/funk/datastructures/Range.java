@@ -8,6 +8,12 @@
  */
 package org.javafunk.funk.datastructures;
 
+/**
+ * An arithmetic progression of values from a start, inclusive, towards an
+ * end, exclusive, in increments of a step.
+ *
+ * @param <T> The type of the values in the range.
+ */
 public interface Range<T> extends Iterable<T> {
     boolean contains(Object other);
     T getStart();
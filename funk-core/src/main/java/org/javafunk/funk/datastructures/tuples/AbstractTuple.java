@@ -61,4 +61,31 @@ public abstract class AbstractTuple implements Iterable<Object> {
         return getValues().iterator();
     }
 
+    static boolean sameClass(Object first, Object second) {
+        return second != null && first.getClass() == second.getClass();
+    }
+
+    static boolean valuesEqual(Object first, Object second) {
+        if (first == second) {
+            return true;
+        }
+        if (first == null || second == null) {
+            return false;
+        }
+        if (first.getClass().isArray()) {
+            return new EqualsBuilder().append(first, second).isEquals();
+        }
+        return first.equals(second);
+    }
+
+    static int combineHash(int hash, Object value) {
+        if (value == null) {
+            return hash * 37;
+        }
+        if (value.getClass().isArray()) {
+            return hash * 37 + new HashCodeBuilder().append(value).toHashCode();
+        }
+        return hash * 37 + value.hashCode();
+    }
+
 }
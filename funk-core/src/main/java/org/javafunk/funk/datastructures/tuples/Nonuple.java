@@ -108,6 +108,14 @@ public class Nonuple<R, S, T, U, V, W, X, Y, Z>
         return mapNinth(mapperUnaryFunction(mapper));
     }
 
+    @Override public boolean equals(Object other) {
+        return super.equals(other) && valuesEqual(ninth, ((Nonuple<?, ?, ?, ?, ?, ?, ?, ?, ?>) other).ninth);
+    }
+
+    @Override public int hashCode() {
+        return combineHash(super.hashCode(), ninth);
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getNinth()).build();
     }
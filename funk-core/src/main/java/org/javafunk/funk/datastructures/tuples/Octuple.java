@@ -92,6 +92,14 @@ public class Octuple<R, S, T, U, V, W, X, Y>
         return mapSeventh(mapperUnaryFunction(mapper));
     }
 
+    @Override public boolean equals(Object other) {
+        return super.equals(other) && valuesEqual(eighth, ((Octuple<?, ?, ?, ?, ?, ?, ?, ?>) other).eighth);
+    }
+
+    @Override public int hashCode() {
+        return combineHash(super.hashCode(), eighth);
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getEighth()).build();
     }
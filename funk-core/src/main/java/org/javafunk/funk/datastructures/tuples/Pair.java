@@ -51,6 +51,14 @@ public class Pair<R, S>
         return mapSecond(mapperUnaryFunction(mapper));
     }
 
+    @Override public boolean equals(Object other) {
+        return super.equals(other) && valuesEqual(second, ((Pair<?, ?>) other).second);
+    }
+
+    @Override public int hashCode() {
+        return combineHash(super.hashCode(), second);
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getSecond()).build();
     }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures.tuples;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * An unmodifiable list of {@code Pair} instances stored as two columns, one
+ * holding the first slot of every pair and the other holding the second.
+ * Storing the columns rather than the pairs avoids an object per pair; each
+ * {@code Pair} is only created when it is retrieved. The columns themselves are
+ * available through {@link #getFirsts()} and {@link #getSeconds()} for
+ * processing a whole slot at a time without creating any pairs.
+ *
+ * @param <R> The type of the first slot of the pairs.
+ * @param <S> The type of the second slot of the pairs.
+ */
+public class PairColumns<R, S> extends AbstractList<Pair<R, S>> implements RandomAccess {
+    private final List<R> firsts;
+    private final List<S> seconds;
+
+    public PairColumns(List<R> firsts, List<S> seconds) {
+        checkNotNull(firsts);
+        checkNotNull(seconds);
+        if (firsts.size() != seconds.size()) {
+            throw new IllegalArgumentException("Columns must all be of the same size.");
+        }
+        this.firsts = unmodifiableList(firsts);
+        this.seconds = unmodifiableList(seconds);
+    }
+
+    @Override public Pair<R, S> get(int index) {
+        return new Pair<R, S>(firsts.get(index), seconds.get(index));
+    }
+
+    @Override public int size() {
+        return firsts.size();
+    }
+
+    public List<R> getFirsts() {
+        return firsts;
+    }
+
+    public List<S> getSeconds() {
+        return seconds;
+    }
+}
@@ -67,6 +67,14 @@ public class Quadruple<R, S, T, U>
         return mapFourth(mapperUnaryFunction(mapper));
     }
 
+    @Override public boolean equals(Object other) {
+        return super.equals(other) && valuesEqual(fourth, ((Quadruple<?, ?, ?, ?>) other).fourth);
+    }
+
+    @Override public int hashCode() {
+        return combineHash(super.hashCode(), fourth);
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getFourth()).build();
     }
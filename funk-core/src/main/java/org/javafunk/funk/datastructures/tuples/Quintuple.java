@@ -75,6 +75,14 @@ public class Quintuple<R, S, T, U, V>
         return mapFifth(mapperUnaryFunction(mapper));
     }
 
+    @Override public boolean equals(Object other) {
+        return super.equals(other) && valuesEqual(fifth, ((Quintuple<?, ?, ?, ?, ?>) other).fifth);
+    }
+
+    @Override public int hashCode() {
+        return combineHash(super.hashCode(), fifth);
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getFifth()).build();
     }
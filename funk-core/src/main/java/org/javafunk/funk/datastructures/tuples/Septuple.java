@@ -91,6 +91,14 @@ public class Septuple<R, S, T, U, V, W, X>
         return mapSeventh(mapperUnaryFunction(function));
     }
 
+    @Override public boolean equals(Object other) {
+        return super.equals(other) && valuesEqual(seventh, ((Septuple<?, ?, ?, ?, ?, ?, ?>) other).seventh);
+    }
+
+    @Override public int hashCode() {
+        return combineHash(super.hashCode(), seventh);
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getSeventh()).build();
     }
@@ -83,6 +83,14 @@ public class Sextuple<R, S, T, U, V, W>
         return mapSixth(mapperUnaryFunction(mapper));
     }
 
+    @Override public boolean equals(Object other) {
+        return super.equals(other) && valuesEqual(sixth, ((Sextuple<?, ?, ?, ?, ?, ?>) other).sixth);
+    }
+
+    @Override public int hashCode() {
+        return combineHash(super.hashCode(), sixth);
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getSixth()).build();
     }
@@ -42,6 +42,17 @@ public class Single<R>
         return mapFirst(mapperUnaryFunction(mapper));
     }
 
+    @Override public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        return sameClass(this, other) && valuesEqual(first, ((Single<?>) other).first);
+    }
+
+    @Override public int hashCode() {
+        return combineHash(17, first);
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderOf(Object.class).with(first).build();
     }
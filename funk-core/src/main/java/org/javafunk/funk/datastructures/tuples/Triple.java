@@ -59,6 +59,14 @@ public class Triple<R, S, T>
         return mapThird(mapperUnaryFunction(mapper));
     }
 
+    @Override public boolean equals(Object other) {
+        return super.equals(other) && valuesEqual(third, ((Triple<?, ?, ?>) other).third);
+    }
+
+    @Override public int hashCode() {
+        return combineHash(super.hashCode(), third);
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getThird()).build();
     }
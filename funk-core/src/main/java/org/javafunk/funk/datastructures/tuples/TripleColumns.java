@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures.tuples;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * An unmodifiable list of {@code Triple} instances stored as three columns,
+ * one per slot. Each {@code Triple} is only created when it is retrieved and
+ * the columns themselves are available through {@link #getFirsts()},
+ * {@link #getSeconds()} and {@link #getThirds()}.
+ *
+ * @param <R> The type of the first slot of the triples.
+ * @param <S> The type of the second slot of the triples.
+ * @param <T> The type of the third slot of the triples.
+ * @see PairColumns
+ */
+public class TripleColumns<R, S, T> extends AbstractList<Triple<R, S, T>> implements RandomAccess {
+    private final List<R> firsts;
+    private final List<S> seconds;
+    private final List<T> thirds;
+
+    public TripleColumns(List<R> firsts, List<S> seconds, List<T> thirds) {
+        checkNotNull(firsts);
+        checkNotNull(seconds);
+        checkNotNull(thirds);
+        if (firsts.size() != seconds.size() || firsts.size() != thirds.size()) {
+            throw new IllegalArgumentException("Columns must all be of the same size.");
+        }
+        this.firsts = unmodifiableList(firsts);
+        this.seconds = unmodifiableList(seconds);
+        this.thirds = unmodifiableList(thirds);
+    }
+
+    @Override public Triple<R, S, T> get(int index) {
+        return new Triple<R, S, T>(firsts.get(index), seconds.get(index), thirds.get(index));
+    }
+
+    @Override public int size() {
+        return firsts.size();
+    }
+
+    public List<R> getFirsts() {
+        return firsts;
+    }
+
+    public List<S> getSeconds() {
+        return seconds;
+    }
+
+    public List<T> getThirds() {
+        return thirds;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Advances a fixed set of iterators in lock step, passing the current element
+ * of each to {@link #combine(Object[])} to produce each element of the zip.
+ * Iteration completes as soon as any one of the iterators is exhausted.
+ *
+ * <p>The array passed to {@code combine} is reused for every element so
+ * implementations must copy out anything they need to retain.</p>
+ *
+ * @param <T> The type of the elements produced by combining each set of
+ *            zipped elements.
+ */
+public abstract class AbstractZippedIterator<T> implements Iterator<T> {
+    private final Iterator<?>[] iterators;
+    private final Object[] elements;
+
+    protected AbstractZippedIterator(Iterable<? extends Iterator<?>> iterators) {
+        List<Iterator<?>> supplied = new ArrayList<Iterator<?>>();
+        for (Iterator<?> iterator : iterators) {
+            supplied.add(iterator);
+        }
+        this.iterators = supplied.toArray(new Iterator<?>[supplied.size()]);
+        this.elements = new Object[supplied.size()];
+    }
+
+    protected abstract T combine(Object[] elements);
+
+    public boolean hasNext() {
+        for (Iterator<?> iterator : iterators) {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        for (int position = 0; position < iterators.length; position++) {
+            elements[position] = iterators[position].next();
+        }
+        return combine(elements);
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+}
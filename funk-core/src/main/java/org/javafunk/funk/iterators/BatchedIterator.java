@@ -16,6 +16,8 @@ import java.util.NoSuchElementException;
 import static java.util.Collections.unmodifiableList;
 
 public class BatchedIterator<T> implements Iterator<Iterable<T>> {
+    private static final int MAXIMUM_PRESIZED_BATCH = 1024;
+
     private Iterator<? extends T> iterator;
     private int batchSize;
 
@@ -35,11 +37,9 @@ public class BatchedIterator<T> implements Iterator<Iterable<T>> {
     @Override
     public Iterable<T> next() {
         if (hasNext()) {
-            List<T> nextBatch = new ArrayList<T>();
-            for(int i = 0; i < batchSize; i++) {
-                if(iterator.hasNext()) {
-                    nextBatch.add(iterator.next());
-                }
+            List<T> nextBatch = new ArrayList<T>(Math.min(batchSize, MAXIMUM_PRESIZED_BATCH));
+            for (int i = 0; i < batchSize && iterator.hasNext(); i++) {
+                nextBatch.add(iterator.next());
             }
             return unmodifiableList(nextBatch);
         } else {
@@ -12,6 +12,8 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 abstract class CachingIterator<T> implements Iterator<T> {
+    private static final Object END_OF_ELEMENTS = new Object();
+
     private IteratorCache<T> matchCache = new IteratorCache<T>();
     private IteratorRemovalFlag removalFlag = new IteratorRemovalFlag();
 
@@ -20,13 +22,13 @@ abstract class CachingIterator<T> implements Iterator<T> {
         if (matchCache.isPopulated()) {
             return true;
         } else {
-            try {
-                matchCache.store(findNext());
-                removalFlag.disable();
-                return true;
-            } catch (NoSuchElementException exception) {
+            T next = findNext();
+            if (next == END_OF_ELEMENTS) {
                 return false;
             }
+            matchCache.store(next);
+            removalFlag.disable();
+            return true;
         }
     }
 
@@ -37,6 +39,9 @@ abstract class CachingIterator<T> implements Iterator<T> {
             return matchCache.fetch();
         } else {
             T next = findNext();
+            if (next == END_OF_ELEMENTS) {
+                throw new NoSuchElementException();
+            }
             removalFlag.enable();
             return next;
         }
@@ -52,8 +57,25 @@ abstract class CachingIterator<T> implements Iterator<T> {
         }
     }
 
+    /**
+     * Finds the next element to be yielded by this iterator.
+     *
+     * @return The next element or, if there are no more elements, the value
+     *         returned by {@link #endOfElements()}.
+     */
     protected abstract T findNext();
 
+    /**
+     * Returns the sentinel that {@link #findNext()} should return to signal
+     * that there are no more elements. Signalling the end this way rather than
+     * by throwing {@code NoSuchElementException} keeps exhaustion free of the
+     * cost of creating and filling in an exception.
+     */
+    @SuppressWarnings("unchecked")
+    protected final T endOfElements() {
+        return (T) END_OF_ELEMENTS;
+    }
+
     protected abstract void removeLast();
 
     private static class IteratorCache<T> {
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Yields the cartesian product of a list of {@code Iterable} instances by
+ * advancing an odometer over their iterators: the last {@code Iterable}
+ * varies fastest and, whenever it is exhausted, is restarted from a fresh
+ * iterator while the one before it is advanced by a single element, and so
+ * on back to the first. Only the current selection of elements is held, so
+ * each tuple costs a constant number of allocations however many
+ * {@code Iterable} instances there are and none of them needs to be
+ * buffered, allowing any of them to be infinite.
+ */
+public class CartesianProductIterator implements Iterator<Iterable<?>> {
+    private final List<? extends Iterable<?>> iterables;
+    private final Iterator<?>[] iterators;
+    private final Object[] elements;
+    private boolean started = false;
+    private boolean prepared = false;
+    private boolean exhausted = false;
+
+    public CartesianProductIterator(List<? extends Iterable<?>> iterables) {
+        this.iterables = iterables;
+        this.iterators = new Iterator<?>[iterables.size()];
+        this.elements = new Object[iterables.size()];
+    }
+
+    public boolean hasNext() {
+        if (!prepared && !exhausted) {
+            prepared = started ? advance() : start();
+        }
+        return prepared;
+    }
+
+    public Iterable<?> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        prepared = false;
+        return Collections.unmodifiableList(Arrays.asList(elements.clone()));
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private boolean start() {
+        started = true;
+        for (int position = 0; position < iterators.length; position++) {
+            if (!restart(position)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean advance() {
+        for (int position = iterators.length - 1; position >= 0; position--) {
+            if (iterators[position].hasNext()) {
+                elements[position] = iterators[position].next();
+                return true;
+            }
+            if (position == 0 || !restart(position)) {
+                break;
+            }
+        }
+        exhausted = true;
+        return false;
+    }
+
+    private boolean restart(int position) {
+        iterators[position] = iterables.get(position).iterator();
+        if (!iterators[position].hasNext()) {
+            exhausted = true;
+            return false;
+        }
+        elements[position] = iterators[position].next();
+        return true;
+    }
+}
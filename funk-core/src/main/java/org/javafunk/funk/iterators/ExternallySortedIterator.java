@@ -0,0 +1,311 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.javafunk.funk.behaviours.Cancellable;
+import org.javafunk.funk.behaviours.Codec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@code Iterator} yielding the elements of another {@code Iterator} in the
+ * order defined by a {@code Comparator}, holding no more than a fixed number
+ * of them in memory at once. The sort is stable.
+ *
+ * <p>Nothing is read until an element is first requested. The underlying
+ * {@code Iterator} is then read in runs of at most the run size, each of which
+ * is sorted in memory and, unless it is the last, spilled to a temporary file
+ * in the supplied directory, or the default temporary directory if none is
+ * supplied. The runs are then merged lazily, the last one straight from
+ * memory. Input that fits in a single run never touches the disk. Where there
+ * are more run files than can sensibly be open at once, consecutive groups of
+ * them are merged into longer runs first.</p>
+ *
+ * <p>Each run file is deleted as soon as it has been read to the end. If
+ * reading, sorting, spilling or merging fails, every run file written so far
+ * is deleted before the failure is rethrown, with {@code IOException}s wrapped
+ * in {@code RuntimeException}s. A {@link SubSequenceIterator}, as used by
+ * {@code take} and {@code slice}, calls {@link #cancel()} itself once it has
+ * reached its bound. A consumer that otherwise stops before exhausting this
+ * iterator must call {@link #cancel()} to close and delete the run files that
+ * have not been read to the end.</p>
+ */
+public class ExternallySortedIterator<T> implements Iterator<T>, Cancellable {
+    /**
+     * The greatest number of run files that are merged at once.
+     */
+    public static final int MAXIMUM_MERGE_WIDTH = 64;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Iterator<? extends T> elements;
+    private final Comparator<? super T> comparator;
+    private final Codec<T> codec;
+    private final int runSize;
+    private final File directory;
+    private final List<RunFileIterator> openRuns = new ArrayList<RunFileIterator>();
+    private Iterator<T> sorted;
+    private boolean cancelled = false;
+
+    public ExternallySortedIterator(
+            Iterator<? extends T> elements,
+            Comparator<? super T> comparator,
+            Codec<T> codec,
+            int runSize,
+            File directory) {
+        if (runSize <= 0) {
+            throw new IllegalArgumentException("Run size must be greater than zero.");
+        }
+        this.elements = elements;
+        this.comparator = comparator;
+        this.codec = codec;
+        this.runSize = runSize;
+        this.directory = directory;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (cancelled) {
+            return false;
+        }
+        boolean succeeded = false;
+        try {
+            boolean hasNext = sorted().hasNext();
+            succeeded = true;
+            return hasNext;
+        } finally {
+            if (!succeeded) {
+                cancel();
+            }
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        boolean succeeded = false;
+        try {
+            T element = sorted.next();
+            succeeded = true;
+            return element;
+        } finally {
+            if (!succeeded) {
+                cancel();
+            }
+        }
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Stops the sort, closing and deleting every run file that has not yet
+     * been read to the end. No further elements are yielded.
+     */
+    @Override
+    public void cancel() {
+        cancelled = true;
+        sorted = null;
+        closeAll(openRuns);
+        openRuns.clear();
+    }
+
+    private Iterator<T> sorted() {
+        if (sorted == null) {
+            sorted = sort();
+        }
+        return sorted;
+    }
+
+    private Iterator<T> sort() {
+        List<File> runFiles = new ArrayList<File>();
+        boolean succeeded = false;
+        try {
+            List<T> run = nextRun();
+            while (elements.hasNext()) {
+                runFiles.add(spill(run.iterator(), run.size()));
+                run = nextRun();
+            }
+            while (runFiles.size() > MAXIMUM_MERGE_WIDTH) {
+                runFiles = mergeRunFiles(runFiles);
+            }
+            if (runFiles.isEmpty()) {
+                succeeded = true;
+                return run.iterator();
+            }
+            List<Iterator<? extends T>> runs = new ArrayList<Iterator<? extends T>>();
+            for (File runFile : runFiles) {
+                RunFileIterator runFileIterator = new RunFileIterator(runFile);
+                openRuns.add(runFileIterator);
+                runs.add(runFileIterator);
+            }
+            runs.add(run.iterator());
+            succeeded = true;
+            return new MergedIterator<T>(runs, comparator);
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        } finally {
+            if (!succeeded) {
+                closeAll(openRuns);
+                openRuns.clear();
+                deleteAll(runFiles);
+            }
+        }
+    }
+
+    private List<T> nextRun() {
+        List<T> run = new ArrayList<T>();
+        while (run.size() < runSize && elements.hasNext()) {
+            run.add(elements.next());
+        }
+        Collections.sort(run, comparator);
+        return run;
+    }
+
+    private List<File> mergeRunFiles(List<File> runFiles) throws IOException {
+        List<File> mergedRunFiles = new ArrayList<File>();
+        List<RunFileIterator> group = new ArrayList<RunFileIterator>();
+        boolean succeeded = false;
+        try {
+            for (int from = 0; from < runFiles.size(); from += MAXIMUM_MERGE_WIDTH) {
+                group.clear();
+                long size = 0;
+                for (File runFile : runFiles.subList(from, Math.min(from + MAXIMUM_MERGE_WIDTH, runFiles.size()))) {
+                    RunFileIterator run = new RunFileIterator(runFile);
+                    group.add(run);
+                    size += run.remaining;
+                }
+                mergedRunFiles.add(spill(new MergedIterator<T>(group, comparator), size));
+            }
+            succeeded = true;
+            return mergedRunFiles;
+        } finally {
+            if (!succeeded) {
+                closeAll(group);
+                deleteAll(mergedRunFiles);
+            }
+        }
+    }
+
+    private File spill(Iterator<? extends T> run, long size) throws IOException {
+        File runFile = File.createTempFile("funk-sort-", ".run", directory);
+        boolean succeeded = false;
+        try {
+            DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(runFile), BUFFER_SIZE));
+            try {
+                output.writeLong(size);
+                while (run.hasNext()) {
+                    codec.encode(run.next(), output);
+                }
+            } finally {
+                output.close();
+            }
+            succeeded = true;
+            return runFile;
+        } finally {
+            if (!succeeded) {
+                runFile.delete();
+            }
+        }
+    }
+
+    private void closeAll(List<RunFileIterator> runs) {
+        for (RunFileIterator run : runs) {
+            run.close();
+        }
+    }
+
+    private static void deleteAll(List<File> files) {
+        for (File file : files) {
+            file.delete();
+        }
+    }
+
+    private class RunFileIterator implements Iterator<T> {
+        private final File runFile;
+        private final DataInputStream input;
+        private long remaining;
+
+        RunFileIterator(File runFile) {
+            this.runFile = runFile;
+            try {
+                this.input = new DataInputStream(
+                        new BufferedInputStream(new FileInputStream(runFile), BUFFER_SIZE));
+            } catch (IOException exception) {
+                runFile.delete();
+                throw new RuntimeException(exception);
+            }
+            try {
+                this.remaining = input.readLong();
+            } catch (IOException exception) {
+                closeIfExhausted();
+                throw new RuntimeException(exception);
+            }
+            closeIfExhausted();
+        }
+
+        @Override public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override public T next() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            try {
+                T element = codec.decode(input);
+                remaining--;
+                closeIfExhausted();
+                return element;
+            } catch (IOException exception) {
+                close();
+                throw new RuntimeException(exception);
+            }
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        void close() {
+            remaining = 0;
+            closeIfExhausted();
+        }
+
+        private void closeIfExhausted() {
+            if (remaining == 0) {
+                try {
+                    input.close();
+                } catch (IOException ignored) {
+                    // the run is finished with so there is nothing left to lose
+                } finally {
+                    runFile.delete();
+                }
+            }
+        }
+    }
+}
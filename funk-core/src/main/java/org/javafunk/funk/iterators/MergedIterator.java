@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Merges iterators which each yield their elements in the order defined by a
+ * {@code Comparator} into a single iterator yielding all of their elements in
+ * that order. The next element of each iterator is held in a binary heap of
+ * iterator heads, so that each element yielded costs {@code O(log k)}
+ * comparisons for {@code k} iterators. Equal elements are yielded in the
+ * order of the iterators that supplied them, making the merge stable. No
+ * iterator is advanced until an element is first requested.
+ */
+public class MergedIterator<T> implements Iterator<T> {
+    private final Iterable<? extends Iterator<? extends T>> iteratorCollection;
+    private final Comparator<? super T> comparator;
+    private List<Iterator<? extends T>> sources;
+    private Object[] heads;
+    private int[] heap;
+    private int size;
+
+    public MergedIterator(Iterable<? extends Iterator<? extends T>> iteratorCollection, Comparator<? super T> comparator) {
+        this.iteratorCollection = checkNotNull(iteratorCollection);
+        this.comparator = checkNotNull(comparator);
+    }
+
+    @Override
+    public boolean hasNext() {
+        initialiseIfNecessary();
+        return size > 0;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int source = heap[0];
+        T element = headOf(source);
+        Iterator<? extends T> iterator = sources.get(source);
+        if (iterator.hasNext()) {
+            heads[source] = iterator.next();
+        } else {
+            heads[source] = null;
+            sources.set(source, null);
+            heap[0] = heap[--size];
+        }
+        if (size > 0) {
+            siftDown(0);
+        }
+        return element;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private void initialiseIfNecessary() {
+        if (sources != null) {
+            return;
+        }
+        sources = new ArrayList<Iterator<? extends T>>();
+        for (Iterator<? extends T> iterator : iteratorCollection) {
+            sources.add(iterator);
+        }
+        heads = new Object[sources.size()];
+        heap = new int[sources.size()];
+        for (int source = 0; source < sources.size(); source++) {
+            Iterator<? extends T> iterator = sources.get(source);
+            if (iterator.hasNext()) {
+                heads[source] = iterator.next();
+                heap[size++] = source;
+            } else {
+                sources.set(source, null);
+            }
+        }
+        for (int index = size / 2 - 1; index >= 0; index--) {
+            siftDown(index);
+        }
+    }
+
+    private void siftDown(int index) {
+        int source = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && precedes(heap[right], heap[child])) {
+                child = right;
+            }
+            if (!precedes(heap[child], source)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = source;
+    }
+
+    private boolean precedes(int source, int otherSource) {
+        int comparison = comparator.compare(headOf(source), headOf(otherSource));
+        return comparison < 0 || (comparison == 0 && source < otherSource);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T headOf(int source) {
+        return (T) heads[source];
+    }
+}
@@ -11,7 +11,6 @@ package org.javafunk.funk.iterators;
 import org.javafunk.funk.functors.predicates.UnaryPredicate;
 
 import java.util.Iterator;
-import java.util.NoSuchElementException;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -32,7 +31,7 @@ public class PredicatedIterator<T> extends CachingIterator<T> {
                 return next;
             }
         }
-        throw new NoSuchElementException();
+        return endOfElements();
     }
 
     @Override
@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.javafunk.funk.behaviours.Cancellable;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An {@code Iterator} which drains another {@code Iterator} on a background
+ * thread into a bounded buffer, so that retrieving elements from a slow source
+ * overlaps with whatever work the consumer does with them.
+ *
+ * <p>The buffer is a single producer, single consumer ring whose positions are
+ * published through atomic counters, so neither side takes a lock. A side
+ * finding the ring full or empty parks until the other side makes progress;
+ * the number of times each side has had to do so is available through
+ * {@link #getProducerStalls()} and {@link #getConsumerStalls()}. Mostly
+ * stalled producers suggest the consumer is the bottleneck and mostly stalled
+ * consumers suggest the source is.</p>
+ *
+ * <p>An exception thrown by the underlying {@code Iterator} is rethrown to the
+ * consumer once the elements retrieved before it have been consumed. The
+ * background task stops when the underlying {@code Iterator} is exhausted or
+ * when {@link #cancel()} is called. A {@link SubSequenceIterator}, as used by
+ * {@code take} and {@code slice}, calls {@link #cancel()} itself once it has
+ * reached its bound. A consumer that otherwise stops before exhausting this
+ * iterator should call {@link #cancel()} to release the background task
+ * promptly. Failing that, the task only notices that this iterator has been
+ * garbage collected while it is waiting for room in the buffer, so it can hold
+ * on to its thread and the underlying {@code Iterator} indefinitely.</p>
+ */
+public class PrefetchingIterator<T> implements Iterator<T>, Cancellable {
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Ring<T> ring;
+
+    public PrefetchingIterator(Iterator<? extends T> iterator, int bufferSize, Executor executor) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be greater than zero.");
+        }
+        this.ring = new Ring<T>(bufferSize);
+        executor.execute(new Producer<T>(iterator, ring, new WeakReference<Object>(this)));
+    }
+
+    @Override
+    public boolean hasNext() {
+        return ring.awaitElement();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return ring.take();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Stops the background retrieval of elements. Elements already buffered
+     * remain available to this iterator.
+     */
+    @Override
+    public void cancel() {
+        ring.cancel();
+    }
+
+    /**
+     * @return The number of times the background task has found the buffer full.
+     */
+    public long getProducerStalls() {
+        return ring.producerStalls;
+    }
+
+    /**
+     * @return The number of times this iterator has found the buffer empty.
+     */
+    public long getConsumerStalls() {
+        return ring.consumerStalls;
+    }
+
+    private static class Ring<T> {
+        private final Object[] elements;
+        private final AtomicLong head = new AtomicLong();
+        private final AtomicLong tail = new AtomicLong();
+        private volatile boolean finished = false;
+        private volatile boolean cancelled = false;
+        private volatile Throwable failure;
+        private volatile Thread producer;
+        private volatile Thread consumer;
+        private volatile long producerStalls = 0;
+        private volatile long consumerStalls = 0;
+
+        Ring(int capacity) {
+            this.elements = new Object[capacity];
+        }
+
+        boolean awaitSpace(WeakReference<Object> owner) {
+            long position = tail.get();
+            if (position - head.get() < elements.length) {
+                return true;
+            }
+            producerStalls++;
+            while (position - head.get() >= elements.length) {
+                if (cancelled || owner.get() == null || Thread.interrupted()) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+            return true;
+        }
+
+        void put(T element) {
+            long position = tail.get();
+            elements[(int) (position % elements.length)] = element;
+            tail.set(position + 1);
+            LockSupport.unpark(consumer);
+        }
+
+        void finish(Throwable failure) {
+            this.failure = failure;
+            this.finished = true;
+            LockSupport.unpark(consumer);
+        }
+
+        boolean awaitElement() {
+            if (head.get() < tail.get()) {
+                return true;
+            }
+            if (!finished) {
+                consumerStalls++;
+                consumer = Thread.currentThread();
+                while (head.get() >= tail.get() && !finished) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+            }
+            if (head.get() < tail.get()) {
+                return true;
+            }
+            rethrowFailure();
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        T take() {
+            long position = head.get();
+            int index = (int) (position % elements.length);
+            T element = (T) elements[index];
+            elements[index] = null;
+            head.set(position + 1);
+            LockSupport.unpark(producer);
+            return element;
+        }
+
+        void cancel() {
+            cancelled = true;
+            LockSupport.unpark(producer);
+        }
+
+        private void rethrowFailure() {
+            Throwable failure = this.failure;
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            if (failure != null) {
+                throw new RuntimeException(failure);
+            }
+        }
+    }
+
+    private static class Producer<T> implements Runnable {
+        private final Iterator<? extends T> iterator;
+        private final Ring<T> ring;
+        private final WeakReference<Object> consumer;
+
+        Producer(Iterator<? extends T> iterator, Ring<T> ring, WeakReference<Object> consumer) {
+            this.iterator = iterator;
+            this.ring = ring;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void run() {
+            ring.producer = Thread.currentThread();
+            try {
+                while (!ring.cancelled && consumer.get() != null && iterator.hasNext()) {
+                    T element = iterator.next();
+                    if (!ring.awaitSpace(consumer)) {
+                        break;
+                    }
+                    ring.put(element);
+                }
+                ring.finish(null);
+            } catch (Throwable failure) {
+                ring.finish(failure);
+            } finally {
+                ring.producer = null;
+            }
+        }
+    }
+}
@@ -8,19 +8,16 @@
  */
 package org.javafunk.funk.iterators;
 
-import org.javafunk.funk.functors.Action;
+import org.javafunk.funk.behaviours.Cancellable;
 
 import java.util.Iterator;
-import java.util.NoSuchElementException;
-
-import static org.javafunk.funk.Eagerly.times;
 
 public class SubSequenceIterator<T> extends CachingIterator<T> {
     private Iterator<? extends T> iterator;
-    private Integer cursor = 0;
-    private Integer start;
-    private Integer stop;
-    private Integer step;
+    private int cursor = 0;
+    private int start;
+    private int stop;
+    private int step;
 
     public SubSequenceIterator(Iterator<? extends T> iterator, Integer start, Integer stop, Integer step) {
         validateBounds(start, stop, step);
@@ -31,6 +28,7 @@ public class SubSequenceIterator<T> extends CachingIterator<T> {
         this.step = step == null ? 1 : step;
         
         progressToStart();
+        cancelIfStopped();
     }
 
     public SubSequenceIterator(Iterator<? extends T> iterator, Integer start, Integer stop) {
@@ -40,14 +38,16 @@ public class SubSequenceIterator<T> extends CachingIterator<T> {
     @Override
     protected T findNext() {
         if (shouldStop()) {
-            throw new NoSuchElementException();
+            return endOfElements();
         } else {
             progressToNext();
             incrementCursor();
             if (iterator.hasNext()) {
-                return iterator.next();
+                T next = iterator.next();
+                cancelIfStopped();
+                return next;
             } else {
-                throw new NoSuchElementException();
+                return endOfElements();
             }
         }
     }
@@ -57,7 +57,7 @@ public class SubSequenceIterator<T> extends CachingIterator<T> {
         iterator.remove();
     }
 
-    private void validateBounds(Integer start, Integer stop, Integer step) {
+    private static void validateBounds(Integer start, Integer stop, Integer step) {
         if (start != null && start < 0) {
             throw new IllegalArgumentException("Start must not be less than zero.");
         }
@@ -83,17 +83,12 @@ public class SubSequenceIterator<T> extends CachingIterator<T> {
     }
 
     private void progressBy(int numberOfElements) {
-        if (numberOfElements <= 0) {
-            return;
-        }
-        times(numberOfElements, new Action<Integer>() {
-            public void on(Integer input) {
-                incrementCursor();
-                if (iterator.hasNext()) {
-                    iterator.next();
-                }
+        for (int i = 0; i < numberOfElements; i++) {
+            incrementCursor();
+            if (iterator.hasNext()) {
+                iterator.next();
             }
-        });
+        }
     }
 
     private void incrementCursor() {
@@ -103,4 +98,10 @@ public class SubSequenceIterator<T> extends CachingIterator<T> {
     private boolean shouldStop() {
         return cursor + step > stop;
     }
+
+    private void cancelIfStopped() {
+        if (shouldStop() && iterator instanceof Cancellable) {
+            ((Cancellable) iterator).cancel();
+        }
+    }
 }
@@ -1,40 +1,24 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
 package org.javafunk.funk.iterators;
 
-import org.javafunk.funk.Eagerly;
-import org.javafunk.funk.functors.Mapper;
-import org.javafunk.funk.functors.Predicate;
-
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.NoSuchElementException;
-
-public class ZippedIterator implements Iterator<Iterable<?>> {
-    private final Iterable<? extends Iterator<?>> iterators;
 
+public class ZippedIterator extends AbstractZippedIterator<Iterable<?>> {
     public ZippedIterator(Iterable<? extends Iterator<?>> iterators) {
-        this.iterators = iterators;
-    }
-
-    public boolean hasNext() {
-        return Eagerly.all(iterators, new Predicate<Iterator<?>>() {
-            public boolean evaluate(Iterator<?> iterator) {
-                return iterator.hasNext();
-            }
-        });
-    }
-
-    public Iterable<?> next() {
-        if (hasNext()) {
-            return Eagerly.map(iterators, new Mapper<Iterator<?>, Object>() {
-                public Object map(Iterator<?> iterator) {
-                    return iterator.next();
-                }
-            });
-        } else {
-            throw new NoSuchElementException();
-        }
+        super(iterators);
     }
 
-    public void remove() {
-        throw new UnsupportedOperationException();
+    @Override
+    protected Iterable<?> combine(Object[] elements) {
+        return Collections.unmodifiableList(Arrays.asList(elements.clone()));
     }
 }
@@ -0,0 +1,21 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.primitives;
+
+/**
+ * An iterator over a sequence of {@code double} values which, unlike an
+ * {@code Iterator<Double>}, yields each value without boxing it.
+ *
+ * @since 1.0
+ */
+public interface DoubleIterator {
+    boolean hasNext();
+
+    double nextDouble();
+}
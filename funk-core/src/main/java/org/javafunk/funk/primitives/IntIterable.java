@@ -0,0 +1,20 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.primitives;
+
+/**
+ * A source of {@code int} values that can be traversed any number of times
+ * without boxing. See {@link org.javafunk.funk.Primitives} for the
+ * operations available over {@code IntIterable} instances.
+ *
+ * @since 1.0
+ */
+public interface IntIterable {
+    IntIterator intIterator();
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.primitives;
+
+/**
+ * An iterator over a sequence of {@code long} values which, unlike an
+ * {@code Iterator<Long>}, yields each value without boxing it.
+ *
+ * @since 1.0
+ */
+public interface LongIterator {
+    boolean hasNext();
+
+    long nextLong();
+}
@@ -162,4 +162,52 @@ public class AccumulatorsTest {
         // Then
         assertThat(result, is(new BigDecimal("5.6088")));
     }
+
+    @Test
+    public void shouldReturnAnAccumulatorThatCountsElementsAsAnInteger() throws Exception {
+        // Given
+        Reducer<String, Integer> integerCountingAccumulator = Accumulators.integerCountingAccumulator();
+
+        // When
+        Integer result = integerCountingAccumulator.accumulate(41, "anything");
+
+        // Then
+        assertThat(result, is(42));
+    }
+
+    @Test
+    public void shouldReturnAnAccumulatorThatCountsElementsAsALong() throws Exception {
+        // Given
+        Reducer<String, Long> longCountingAccumulator = Accumulators.longCountingAccumulator();
+
+        // When
+        Long result = longCountingAccumulator.accumulate(41L, "anything");
+
+        // Then
+        assertThat(result, is(42L));
+    }
+
+    @Test
+    public void shouldReturnAnAccumulatorThatRetainsTheMaximumElementTreatingANullAccumulatorAsNoElement() throws Exception {
+        // Given
+        Reducer<Integer, Integer> maximumAccumulator = Accumulators.maximumAccumulator();
+
+        // When
+        Integer result = maximumAccumulator.accumulate(maximumAccumulator.accumulate(maximumAccumulator.accumulate(null, 3), 7), 5);
+
+        // Then
+        assertThat(result, is(7));
+    }
+
+    @Test
+    public void shouldReturnAnAccumulatorThatRetainsTheMinimumElementUsingTheSuppliedComparator() throws Exception {
+        // Given
+        Reducer<String, String> minimumAccumulator = Accumulators.minimumAccumulator(String.CASE_INSENSITIVE_ORDER);
+
+        // When
+        String result = minimumAccumulator.accumulate(minimumAccumulator.accumulate(minimumAccumulator.accumulate(null, "b"), "A"), "c");
+
+        // Then
+        assertThat(result, is("A"));
+    }
 }
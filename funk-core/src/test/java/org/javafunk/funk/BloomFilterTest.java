@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+public class BloomFilterTest {
+    @Test
+    public void shouldReportEveryAddedObjectAsProbablyPresent() throws Exception {
+        // Given
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.add("element-" + i);
+        }
+
+        // When
+        int reportedAbsent = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (!filter.mightContain("element-" + i)) {
+                reportedAbsent++;
+            }
+        }
+
+        // Then
+        assertThat(reportedAbsent, is(0));
+    }
+
+    @Test
+    public void shouldMistakeAboutTheSpecifiedProportionOfUnaddedObjectsOnceFull() throws Exception {
+        // Given
+        BloomFilter filter = new BloomFilter(10000, 0.01);
+        for (int i = 0; i < 10000; i++) {
+            filter.add("element-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 10000; i < 110000; i++) {
+            if (filter.mightContain("element-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(falsePositives, lessThan(1500));
+    }
+
+    @Test
+    public void shouldSizeTheFilterForTheExpectedElementsAndFalsePositiveRate() throws Exception {
+        // When
+        BloomFilter filter = new BloomFilter(1000000, 0.01);
+
+        // Then
+        assertThat(filter.bitCount(), is(9585088L));
+        assertThat(filter.hashCount(), is(7));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheExpectedNumberOfElementsIsNotPositive() throws Exception {
+        // When
+        new BloomFilter(0, 0.01);
+
+        // Then an IllegalArgumentException is thrown
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.behaviours.Codec;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class CodecsTest {
+    @Test
+    public void shouldRoundTripStringsIncludingThoseLongerThanModifiedUtf8Allows() throws Exception {
+        // Given
+        StringBuilder longString = new StringBuilder();
+        for (int i = 0; i < 70000; i++) {
+            longString.append('\u00e9');
+        }
+        Codec<String> codec = Codecs.stringCodec();
+
+        // When
+        String shortResult = roundTrip(codec, "funk \u2603");
+        String longResult = roundTrip(codec, longString.toString());
+
+        // Then
+        assertThat(shortResult, is("funk \u2603"));
+        assertThat(longResult, is(longString.toString()));
+    }
+
+    @Test
+    public void shouldRoundTripNumbers() throws Exception {
+        // Given
+        Integer integer = -42;
+        Long aLong = Long.MAX_VALUE;
+        Double aDouble = 0.1;
+
+        // When
+        Integer integerResult = roundTrip(Codecs.integerCodec(), integer);
+        Long longResult = roundTrip(Codecs.longCodec(), aLong);
+        Double doubleResult = roundTrip(Codecs.doubleCodec(), aDouble);
+
+        // Then
+        assertThat(integerResult, is(integer));
+        assertThat(longResult, is(aLong));
+        assertThat(doubleResult, is(aDouble));
+    }
+
+    private static <T> T roundTrip(Codec<T> codec, T element) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.encode(element, new DataOutputStream(bytes));
+        return codec.decode(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
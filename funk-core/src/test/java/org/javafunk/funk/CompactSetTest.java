@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.listFrom;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.funk.Literals.setWith;
+
+public class CompactSetTest {
+    @Test
+    public void shouldStoreSmallNonNegativeIntegersAsBitsInAscendingOrder() throws Exception {
+        // Given
+        CompactSet<Integer> set = new CompactSet<Integer>();
+
+        // When
+        set.add(5);
+        set.add(0);
+        set.add(900);
+        set.add(5);
+
+        // Then
+        assertThat(set.isStoredAsBits(), is(true));
+        assertThat(set.size(), is(3));
+        assertThat(set.contains(900), is(true));
+        assertThat(set.contains(6), is(false));
+        assertThat(set.contains(-1), is(false));
+        assertThat(listFrom(set), is(listWith(0, 5, 900)));
+    }
+
+    @Test
+    public void shouldMoveElementsToAHashSetWhenANegativeIntegerIsAdded() throws Exception {
+        // Given
+        CompactSet<Integer> set = new CompactSet<Integer>();
+        set.add(1);
+        set.add(2);
+
+        // When
+        set.add(-1);
+
+        // Then
+        assertThat(set.isStoredAsBits(), is(false));
+        assertThat(set, is((Set<Integer>) setWith(-1, 1, 2)));
+    }
+
+    @Test
+    public void shouldMoveElementsToAHashSetWhenTheBitsWouldBeMostlyEmpty() throws Exception {
+        // Given
+        CompactSet<Integer> set = new CompactSet<Integer>();
+        set.add(1);
+
+        // When
+        set.add(Integer.MAX_VALUE);
+
+        // Then
+        assertThat(set.isStoredAsBits(), is(false));
+        assertThat(set, is((Set<Integer>) setWith(1, Integer.MAX_VALUE)));
+    }
+
+    @Test
+    public void shouldMoveElementsToAHashSetWhenANonIntegerIsAdded() throws Exception {
+        // Given
+        CompactSet<Object> set = new CompactSet<Object>();
+        set.add(1);
+
+        // When
+        set.add("one");
+        set.add(null);
+
+        // Then
+        assertThat(set.isStoredAsBits(), is(false));
+        assertThat(set.size(), is(3));
+        assertThat(set.contains(null), is(true));
+        assertThat(set.contains(1), is(true));
+    }
+
+    @Test
+    public void shouldAllowElementsStoredAsBitsToBeRemoved() throws Exception {
+        // Given
+        CompactSet<Integer> set = new CompactSet<Integer>();
+        set.addAll(listWith(1, 2, 3, 4));
+
+        // When
+        boolean removedThree = set.remove(3);
+        boolean removedFive = set.remove(5);
+        Iterator<Integer> iterator = set.iterator();
+        iterator.next();
+        iterator.remove();
+
+        // Then
+        assertThat(removedThree, is(true));
+        assertThat(removedFive, is(false));
+        assertThat(set, is((Set<Integer>) setWith(2, 4)));
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void shouldFailFastWhenModifiedWhilstBeingIterated() throws Exception {
+        // Given
+        CompactSet<Object> set = new CompactSet<Object>();
+        set.addAll(listWith(1, 2, 3));
+        Iterator<Object> iterator = set.iterator();
+        iterator.next();
+
+        // When
+        set.add("four");
+        iterator.next();
+
+        // Then a ConcurrentModificationException is thrown
+    }
+
+    @Test
+    public void shouldBeSerializable() throws Exception {
+        // Given
+        CompactSet<Integer> set = new CompactSet<Integer>();
+        set.addAll(listWith(1, 2, 3));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // When
+        ObjectOutputStream output = new ObjectOutputStream(bytes);
+        output.writeObject(set);
+        output.close();
+        Object deserialized = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+
+        // Then
+        assertThat(deserialized, is((Object) setWith(1, 2, 3)));
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.javafunk.funk.monads.Either;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listFrom;
+import static org.javafunk.funk.Sequences.increasing;
+import static org.javafunk.funk.Sequences.integers;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class ConcurrentlyTest {
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldYieldMappedElementsInInputOrderRegardlessOfCompletionOrder() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(5, 4, 3, 2, 1);
+
+        // When
+        Iterable<Either<Throwable, Integer>> outcomes = Concurrently.map(input, new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                sleep(input * 10);
+                return input * 2;
+            }
+        }, 5, executor);
+
+        // Then
+        assertThat(Eithers.rights(listFrom(outcomes)), hasOnlyItemsInOrder(10, 8, 6, 4, 2));
+    }
+
+    @Test
+    public void shouldRunUpToTheMaximumInFlightCallsAtATime() throws Exception {
+        // Given
+        final CyclicBarrier barrier = new CyclicBarrier(3);
+
+        // When
+        Iterable<Either<Throwable, Integer>> outcomes = Concurrently.map(iterableWith(1, 2, 3, 4, 5, 6), new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                try {
+                    barrier.await(5, TimeUnit.SECONDS);
+                } catch (Exception exception) {
+                    throw new IllegalStateException(exception);
+                }
+                return input;
+            }
+        }, 3, executor);
+
+        // Then
+        assertThat(Eithers.rights(listFrom(outcomes)), hasOnlyItemsInOrder(1, 2, 3, 4, 5, 6));
+    }
+
+    @Test
+    public void shouldNeverRunMoreThanTheMaximumInFlightCallsAtATime() throws Exception {
+        // Given
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger mostRunning = new AtomicInteger();
+
+        // When
+        materialize(Concurrently.map(Lazily.take(integers(increasing()), 50), new UnaryFunction<Integer, Integer>() {
+            @Override public Integer call(Integer input) {
+                int nowRunning = running.incrementAndGet();
+                synchronized (mostRunning) {
+                    mostRunning.set(Math.max(mostRunning.get(), nowRunning));
+                }
+                sleep(1);
+                running.decrementAndGet();
+                return input;
+            }
+        }, 4, executor));
+
+        // Then
+        assertThat(mostRunning.get(), is(lessThanOrEqualTo(4)));
+    }
+
+    @Test
+    public void shouldYieldFailuresAsLeftsWithoutAbortingTheRemainingElements() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4);
+
+        // When
+        List<Either<Throwable, Integer>> outcomes = listFrom(Concurrently.map(input, new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                if (input == 2) {
+                    throw new IllegalArgumentException("Two is not allowed.");
+                }
+                return input;
+            }
+        }, 2, executor));
+
+        // Then
+        assertThat(outcomes.get(1).isLeft(), is(true));
+        assertThat(outcomes.get(1).getLeft(), is(instanceOf(IllegalArgumentException.class)));
+        assertThat(Eithers.rights(outcomes), hasOnlyItemsInOrder(1, 3, 4));
+    }
+
+    @Test
+    public void shouldYieldMappedElementsInCompletionOrder() throws Exception {
+        // Given
+        final CountDownLatch firstMayComplete = new CountDownLatch(1);
+        Iterator<Either<Throwable, String>> outcomes = Concurrently.mapInCompletionOrder(iterableWith("first", "second"),
+                new Mapper<String, String>() {
+                    @Override public String map(String input) {
+                        if (input.equals("first")) {
+                            try {
+                                firstMayComplete.await(5, TimeUnit.SECONDS);
+                            } catch (InterruptedException exception) {
+                                throw new IllegalStateException(exception);
+                            }
+                        }
+                        return input;
+                    }
+                }, 2, executor).iterator();
+
+        // When
+        String firstYielded = outcomes.next().getRight();
+        firstMayComplete.countDown();
+        String secondYielded = outcomes.next().getRight();
+
+        // Then
+        assertThat(firstYielded, is("second"));
+        assertThat(secondYielded, is("first"));
+        assertThat(outcomes.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldOnlySubmitCallsAsTheResultsAreIterated() throws Exception {
+        // Given
+        final AtomicInteger calls = new AtomicInteger();
+
+        // When
+        Iterable<Either<Throwable, Integer>> outcomes = Concurrently.map(integers(increasing()), new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                calls.incrementAndGet();
+                return input;
+            }
+        }, 3);
+        Collection<Integer> firstFive = materialize(Lazily.take(Eithers.rights(outcomes), 5));
+
+        // Then
+        assertThat(firstFive, hasOnlyItemsInOrder(0, 1, 2, 3, 4));
+        assertThat(calls.get(), is(lessThanOrEqualTo(8)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfMaximumInFlightIsNotPositive() throws Exception {
+        // When
+        Concurrently.map(iterableWith(1, 2, 3), new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                return input;
+            }
+        }, 0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    private static void sleep(int milliseconds) {
+        try {
+            Thread.sleep(milliseconds);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -8,17 +8,22 @@ import org.javafunk.funk.datastructures.tuples.Quintuple;
 import org.javafunk.funk.datastructures.tuples.Septuple;
 import org.javafunk.funk.datastructures.tuples.Sextuple;
 import org.javafunk.funk.datastructures.tuples.Triple;
+import org.javafunk.funk.datastructures.tuples.TripleColumns;
 import org.javafunk.funk.testclasses.Age;
 import org.javafunk.funk.testclasses.Colour;
 import org.javafunk.funk.testclasses.Name;
 import org.junit.Test;
 
 import java.util.Collection;
+import java.util.LinkedList;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterables.materialize;
 import static org.javafunk.funk.Literals.collectionBuilderOf;
 import static org.javafunk.funk.Literals.collectionWith;
 import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.funk.Literals.tuple;
 import static org.javafunk.funk.testclasses.Age.age;
 import static org.javafunk.funk.testclasses.Colour.colour;
@@ -331,4 +336,19 @@ public class EagerlyCartesianProductTest {
         // Then
         assertThat(actualOutput, hasOnlyItemsInOrder(expectedOutput));
     }
+
+    @Test
+    public void shouldTakeTheSameCartesianProductOfThreeIterablesAsLazilyWithoutStoringEachTriple() throws Exception {
+        // Given
+        Iterable<Integer> input1 = new LinkedList<Integer>(listWith(1, 2, 3, 4));
+        Iterable<String> input2 = listWith("a", "b", "c");
+        Iterable<Boolean> input3 = iterableWith(true, false);
+
+        // When
+        Collection<Triple<Integer, String, Boolean>> actualCartesianProduct = Eagerly.cartesianProduct(input1, input2, input3);
+
+        // Then
+        assertThat(actualCartesianProduct, hasOnlyItemsInOrder(materialize(Lazily.cartesianProduct(input1, input2, input3))));
+        assertThat(((TripleColumns<Integer, String, Boolean>) actualCartesianProduct).getThirds().get(23), is(false));
+    }
 }
@@ -9,12 +9,15 @@
 package org.javafunk.funk;
 
 import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.functors.Indexer;
 import org.javafunk.funk.functors.Predicate;
 import org.junit.Test;
 
 import java.util.Collection;
+import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Literals.collectionWith;
 import static org.javafunk.funk.Literals.iterableWith;
 import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
@@ -122,4 +125,84 @@ public class EagerlyFilterRejectPartitionTest {
 
         // Then a NullPointerException is thrown.
     }
+
+    @Test
+    public void shouldRouteEachElementToThePartitionAtTheIndexReturnedByTheIndexer() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+        // When
+        List<Collection<Integer>> partitions = Eagerly.partitionBy(input, new Indexer<Integer, Integer>() {
+            public Integer index(Integer item) {
+                return item % 3;
+            }
+        }, 4);
+
+        // Then
+        assertThat(partitions.size(), is(4));
+        assertThat(partitions.get(0), hasOnlyItemsInOrder(3, 6, 9));
+        assertThat(partitions.get(1), hasOnlyItemsInOrder(1, 4, 7, 10));
+        assertThat(partitions.get(2), hasOnlyItemsInOrder(2, 5, 8));
+        assertThat(partitions.get(3).isEmpty(), is(true));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldReturnUnmodifiablePartitions() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4);
+        Pair<Collection<Integer>, Collection<Integer>> partitionResults = Eagerly.partition(input,
+                new Predicate<Integer>() {
+                    public boolean evaluate(Integer item) {
+                        return item % 2 == 0;
+                    }
+                });
+
+        // When
+        partitionResults.getFirst().add(6);
+
+        // Then an UnsupportedOperationException is thrown.
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldReturnUnmodifiablePartitionsWhenPartitioningByIndex() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4);
+        List<Collection<Integer>> partitions = Eagerly.partitionBy(input, new Indexer<Integer, Integer>() {
+            public Integer index(Integer item) {
+                return item % 2;
+            }
+        }, 2);
+
+        // When
+        partitions.get(0).add(6);
+
+        // Then an UnsupportedOperationException is thrown.
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfAnElementIsRoutedOutsideOfThePartitions() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3);
+
+        // When
+        Eagerly.partitionBy(input, new Indexer<Integer, Integer>() {
+            public Integer index(Integer item) {
+                return item;
+            }
+        }, 3);
+
+        // Then an IllegalArgumentException is thrown.
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheNumberOfPartitionsIsNotPositive() throws Exception {
+        // When
+        Eagerly.partitionBy(iterableWith(1, 2, 3), new Indexer<Integer, Integer>() {
+            public Integer index(Integer item) {
+                return 0;
+            }
+        }, 0);
+
+        // Then an IllegalArgumentException is thrown.
+    }
 }
@@ -350,6 +350,18 @@ public class EagerlyFirstSecondRestLastTest {
         assertThat(output, is(Option.<Integer>none()));
     }
 
+    @Test
+    public void shouldReturnAnOptionOfTheLastElementFromAnIterableThatIsNotAList() throws Exception {
+        // Given
+        Iterable<Integer> input = Iterators.asIterable(listWith(10, 9, 8, 7).iterator());
+
+        // When
+        Option<Integer> output = Eagerly.last(input);
+
+        // Then
+        assertThat(output, is(some(7)));
+    }
+
     @Test
     public void shouldReturnAnOptionOfTheLastElementInTheSuppliedIterableMatchingTheSuppliedPredicate() throws Exception {
         // Given
@@ -10,10 +10,12 @@ package org.javafunk.funk;
 
 import org.javafunk.funk.datastructures.tuples.Pair;
 import org.javafunk.funk.functors.Indexer;
+import org.javafunk.funk.functors.Reducer;
 import org.junit.Test;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.TreeMap;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -99,4 +101,97 @@ public class EagerlyGroupIndexTest {
 
         // Then a NullPointerException is thrown
     }
+
+    @Test
+    public void shouldReduceTheElementsOfEachGroupWithoutCollectingThem() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("apple", "pear", "lemon", "apricot", "orange", "papaya", "banana");
+        Map<Integer, Integer> expectedOutput = mapBuilderWithKeyValuePair(4, 1)
+                .andKeyValuePair(5, 2)
+                .andKeyValuePair(6, 3)
+                .andKeyValuePair(7, 1)
+                .build();
+
+        // When
+        Map<Integer, Integer> actualOutput = Eagerly.groupReduce(input, new Indexer<String, Integer>() {
+            public Integer index(String item) {
+                return item.length();
+            }
+        }, 0, Accumulators.<String>integerCountingAccumulator());
+
+        // Then
+        assertThat(actualOutput, is(expectedOutput));
+    }
+
+    @Test
+    public void shouldPutTheReductionOfEachGroupIntoTheSuppliedMap() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("apple", "pear", "lemon", "apricot", "orange", "papaya", "banana");
+
+        // When
+        TreeMap<Character, String> actualOutput = Eagerly.groupReduce(input, new Indexer<String, Character>() {
+            public Character index(String item) {
+                return item.charAt(0);
+            }
+        }, "", new Reducer<String, String>() {
+            public String accumulate(String accumulator, String element) {
+                return accumulator + element.charAt(1);
+            }
+        }, new TreeMap<Character, String>());
+
+        // Then
+        assertThat(actualOutput.keySet(), hasOnlyItemsInOrder('a', 'b', 'l', 'o', 'p'));
+        assertThat(actualOutput.get('a'), is("pp"));
+        assertThat(actualOutput.get('p'), is("ea"));
+    }
+
+    @Test
+    public void shouldIdentifyGroupsAsTheSuppliedMapIdentifiesItsKeys() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("Apple", "apple", "PEAR", "pear", "Pear");
+
+        // When
+        TreeMap<String, Integer> actualOutput = Eagerly.groupReduce(input, new Indexer<String, String>() {
+            public String index(String item) {
+                return item;
+            }
+        }, 0, Accumulators.<String>integerCountingAccumulator(),
+                new TreeMap<String, Integer>(String.CASE_INSENSITIVE_ORDER));
+
+        // Then
+        assertThat(actualOutput.size(), is(2));
+        assertThat(actualOutput.get("APPLE"), is(2));
+        assertThat(actualOutput.get("pear"), is(3));
+    }
+
+    @Test
+    public void shouldContinueReducingGroupsAlreadyInTheSuppliedMap() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("apple", "pear", "lemon");
+        Map<Integer, Integer> result = new TreeMap<Integer, Integer>();
+        result.put(5, 10);
+
+        // When
+        Map<Integer, Integer> actualOutput = Eagerly.groupReduce(input, new Indexer<String, Integer>() {
+            public Integer index(String item) {
+                return item.length();
+            }
+        }, 0, Accumulators.<String>integerCountingAccumulator(), result);
+
+        // Then
+        assertThat(actualOutput.get(4), is(1));
+        assertThat(actualOutput.get(5), is(12));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfTheIndexerSuppliedToGroupReduceIsNull() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("apple", "pear");
+        Indexer<String, Integer> indexer = null;
+
+        // When
+        Eagerly.groupReduce(input, indexer, 0, Accumulators.<String>integerCountingAccumulator());
+
+        // Then a NullPointerException is thrown
+    }
 }
@@ -48,6 +48,23 @@ public class EagerlyMapReduceTest {
         assertThat(actualOutputs, hasOnlyItemsInOrder(expectedOutputs));
     }
 
+    @Test
+    public void shouldMapIterablesThatAreNotCollections() throws Exception {
+        // Given
+        Iterable<Integer> inputs = Iterators.asIterable(listWith(1, 2, 3).iterator());
+
+        // When
+        Collection<String> actualOutputs = Eagerly.map(inputs, new Mapper<Integer, String>() {
+            @Override
+            public String map(Integer input) {
+                return String.valueOf(input);
+            }
+        });
+
+        // Then
+        assertThat(actualOutputs, hasOnlyItemsInOrder("1", "2", "3"));
+    }
+
     @Test(expected = NullPointerException.class)
     public void shouldThrowNullPointerExceptionIfMapperSuppliedToMapIsNull() {
         // Given
@@ -15,9 +15,11 @@ import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.javafunk.funk.datastructures.tuples.Pair;
 import org.junit.Test;
 
 import java.util.Comparator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -25,6 +27,8 @@ import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.EagerlyMinMaxTest.NonComparableObject.nonComparableObject;
 import static org.javafunk.funk.Literals.iterable;
 import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.funk.Literals.tuple;
 
 public class EagerlyMinMaxTest {
     @Test
@@ -253,6 +257,128 @@ public class EagerlyMinMaxTest {
         assertThat(passedObjects.contains(null), is(true));
     }
 
+    @Test
+    public void shouldReturnTheMinimumAndMaximumValuesInASinglePass() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(5, 3, null, 9, 1, 7);
+
+        // When
+        Pair<Integer, Integer> minMax = Eagerly.minMax(iterable);
+
+        // Then
+        assertThat(minMax, is(tuple(1, 9)));
+    }
+
+    @Test
+    public void shouldReturnTheFirstOfEquallyMinimalAndMaximalElementsAccordingToTheSuppliedComparator() throws Exception {
+        // Given
+        Iterable<String> iterable = iterableWith("bb", "a", "cc", "d", "eee", "fff");
+        Comparator<String> byLength = new Comparator<String>() {
+            @Override public int compare(String first, String second) {
+                return first.length() - second.length();
+            }
+        };
+
+        // When
+        Pair<String, String> minMax = Eagerly.minMax(iterable, byLength);
+
+        // Then
+        assertThat(minMax, is(tuple("a", "eee")));
+    }
+
+    @Test
+    public void shouldReturnTheSameElementAsMinimumAndMaximumForASingleElementIterable() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(4);
+
+        // When
+        Pair<Integer, Integer> minMax = Eagerly.minMax(iterable);
+
+        // Then
+        assertThat(minMax, is(tuple(4, 4)));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionIfAnEmptyIterableIsSuppliedToMinMax() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterable();
+
+        // When
+        Eagerly.minMax(iterable);
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test
+    public void shouldReturnTheGreatestElementsGreatestFirst() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(4, 9, 1, 7, 3, 8, 2);
+
+        // When
+        List<Integer> top = Eagerly.top(iterable, 3);
+
+        // Then
+        assertThat(top, is(listWith(9, 8, 7)));
+    }
+
+    @Test
+    public void shouldReturnTheLeastElementsLeastFirst() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(4, 9, 1, 7, 3, 8, 2);
+
+        // When
+        List<Integer> bottom = Eagerly.bottom(iterable, 3);
+
+        // Then
+        assertThat(bottom, is(listWith(1, 2, 3)));
+    }
+
+    @Test
+    public void shouldReturnAllElementsInOrderIfFewerThanTheRequestedNumberArePresent() throws Exception {
+        // Given
+        Iterable<String> iterable = iterableWith("b", "c", "a");
+
+        // When
+        List<String> top = Eagerly.top(iterable, 5, String.CASE_INSENSITIVE_ORDER);
+
+        // Then
+        assertThat(top, is(listWith("c", "b", "a")));
+    }
+
+    @Test
+    public void shouldReturnAnEmptyListIfNoElementsAreRequested() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(1, 2, 3);
+
+        // When
+        List<Integer> top = Eagerly.top(iterable, 0);
+
+        // Then
+        assertThat(top.isEmpty(), is(true));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldReturnAnUnmodifiableListOfTheGreatestElements() throws Exception {
+        // Given
+        List<Integer> top = Eagerly.top(iterableWith(4, 9, 1, 7), 2);
+
+        // When
+        top.add(10);
+
+        // Then an UnsupportedOperationException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfANegativeNumberOfElementsIsRequested() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(1, 2, 3);
+
+        // When
+        Eagerly.top(iterable, -1);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
     static class NonComparableObject {
         private String field;
 
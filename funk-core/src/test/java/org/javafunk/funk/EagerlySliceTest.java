@@ -8,14 +8,21 @@
  */
 package org.javafunk.funk;
 
+import org.javafunk.funk.functors.Mapper;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Literals.collectionWith;
 import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
 
 public class EagerlySliceTest {
@@ -406,4 +413,85 @@ public class EagerlySliceTest {
         // Then
         assertThat(actualCompleteSlice, hasOnlyItemsInOrder(expectedCompleteSlice));
     }
+
+    @Test
+    public void shouldSliceIterablesWithoutRandomAccessInTheSameWayAsRandomAccessLists() throws Exception {
+        // Given
+        Iterable<String> randomAccessInput = iterableWith("a", "b", "c", "d", "e", "f", "g");
+        Iterable<String> sequentialInput = new LinkedList<String>(listWith("a", "b", "c", "d", "e", "f", "g"));
+
+        // When
+        Collection<String> randomAccessOutput = Eagerly.slice(randomAccessInput, -2, 0, -2);
+        Collection<String> sequentialOutput = Eagerly.slice(sequentialInput, -2, 0, -2);
+
+        // Then
+        assertThat(randomAccessOutput, hasOnlyItemsInOrder(collectionWith("f", "d", "b")));
+        assertThat(sequentialOutput, hasOnlyItemsInOrder(collectionWith("f", "d", "b")));
+    }
+
+    @Test
+    public void shouldNotOverflowWhenStepSizeIsVeryLarge() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("a", "b", "c", "d", "e");
+        Collection<String> expectedOutput = collectionWith("b");
+
+        // When
+        Collection<String> actualOutput = Eagerly.slice(input, 1, null, Integer.MAX_VALUE);
+
+        // Then
+        assertThat(actualOutput, hasOnlyItemsInOrder(expectedOutput));
+    }
+
+    @Test
+    public void shouldSliceListsAndSequentialIterablesTheSameWayAsRandomAccessListsForAllIndices() throws Exception {
+        for (int size = 0; size <= 6; size++) {
+            // Given
+            List<Integer> randomAccessInput = new ArrayList<Integer>();
+            for (int i = 0; i < size; i++) {
+                randomAccessInput.add(i);
+            }
+            List<Integer> linkedInput = new LinkedList<Integer>(randomAccessInput);
+            Iterable<Integer> sequentialInput = Lazily.map(linkedInput, new Mapper<Integer, Integer>() {
+                @Override public Integer map(Integer input) {
+                    return input;
+                }
+            });
+
+            for (Integer start : Arrays.asList(null, -8, -3, -1, 0, 1, 2, 5, 6, 7, 9)) {
+                for (Integer stop : Arrays.asList(null, -8, -3, -1, 0, 1, 2, 5, 6, 7, 9)) {
+                    for (Integer step : Arrays.asList(null, -7, -2, -1, 1, 2, 3, 7)) {
+                        // When
+                        String expected = describeSlice(randomAccessInput, start, stop, step);
+                        String linked = describeSlice(linkedInput, start, stop, step);
+                        String sequential = describeSlice(sequentialInput, start, stop, step);
+
+                        // Then
+                        String description = "slice(" + randomAccessInput + ", " + start + ", " + stop + ", " + step + ")";
+                        assertThat(description, linked, is(expected));
+                        assertThat(description, sequential, is(expected));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldStopIteratingOnceAPositiveStopIndexIsReached() throws Exception {
+        // Given
+        Iterable<Integer> input = Lazily.cycle(iterableWith(1, 2, 3));
+
+        // When
+        Collection<Integer> actualOutput = Eagerly.slice(input, 2, 7, 2);
+
+        // Then
+        assertThat(actualOutput, hasOnlyItemsInOrder(3, 2, 1));
+    }
+
+    private static String describeSlice(Iterable<Integer> input, Integer start, Integer stop, Integer step) {
+        try {
+            return String.valueOf(Eagerly.slice(input, start, stop, step));
+        } catch (RuntimeException exception) {
+            return exception.getClass().getSimpleName();
+        }
+    }
 }
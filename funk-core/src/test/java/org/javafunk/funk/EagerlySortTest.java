@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
+
+public class EagerlySortTest {
+    @Test
+    public void shouldReturnTheElementsInNaturalOrder() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(3, 1, 4, 1, 5, 9, 2, 6);
+
+        // When
+        List<Integer> sorted = Eagerly.sort(iterable);
+
+        // Then
+        assertThat(sorted, is(listWith(1, 1, 2, 3, 4, 5, 6, 9)));
+    }
+
+    @Test
+    public void shouldRetainTheRelativeOrderOfEqualElements() throws Exception {
+        // Given
+        Iterable<String> iterable = iterableWith("b", "A", "a", "B");
+
+        // When
+        List<String> sorted = Eagerly.sort(iterable, String.CASE_INSENSITIVE_ORDER);
+
+        // Then
+        assertThat(sorted, is(listWith("A", "a", "b", "B")));
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.Test;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -127,6 +128,20 @@ public class EagerlyTakeDropTest {
         // Then an IllegalArgumentException is thrown
     }
 
+    @Test
+    public void shouldTakeAndDropFromIterablesThatAreNotLists() throws Exception {
+        // Given
+        Iterable<Integer> input = new LinkedHashSet<Integer>(collectionWith(1, 2, 3, 4, 5));
+
+        // When
+        Collection<Integer> taken = Eagerly.take(input, 3);
+        Collection<Integer> dropped = Eagerly.drop(input, 3);
+
+        // Then
+        assertThat(taken, hasOnlyItemsInOrder(collectionWith(1, 2, 3)));
+        assertThat(dropped, hasOnlyItemsInOrder(collectionWith(4, 5)));
+    }
+
     @Test
     public void shouldTakeElementsWhileTheSuppliedPredicateIsTrue() throws Exception {
         // Given
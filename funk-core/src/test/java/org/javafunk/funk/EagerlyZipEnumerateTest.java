@@ -16,6 +16,7 @@ import org.javafunk.funk.datastructures.tuples.Quintuple;
 import org.javafunk.funk.datastructures.tuples.Septuple;
 import org.javafunk.funk.datastructures.tuples.Sextuple;
 import org.javafunk.funk.datastructures.tuples.Triple;
+import org.javafunk.funk.functors.functions.BinaryFunction;
 import org.javafunk.funk.testclasses.Age;
 import org.javafunk.funk.testclasses.Colour;
 import org.javafunk.funk.testclasses.Name;
@@ -270,4 +271,24 @@ public class EagerlyZipEnumerateTest {
         // Then
         assertThat(actualOutput, hasOnlyItemsInOrder(expectedOutput));
     }
+
+    @Test
+    public void shouldZipTwoIterablesCombiningElementsWithTheSuppliedFunction() {
+        // Given
+        Iterable<Integer> iterable1 = iterableWith(1, 2, 3);
+        Iterable<Integer> iterable2 = iterableWith(4, 5, 6, 7);
+
+        // When
+        Collection<Integer> actualOutput = Eagerly.zipWith(
+                iterable1,
+                iterable2,
+                new BinaryFunction<Integer, Integer, Integer>() {
+                    @Override public Integer call(Integer first, Integer second) {
+                        return first * second;
+                    }
+                });
+
+        // Then
+        assertThat(actualOutput, hasOnlyItemsInOrder(4, 10, 18));
+    }
 }
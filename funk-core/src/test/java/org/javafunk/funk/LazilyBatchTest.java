@@ -10,13 +10,18 @@ package org.javafunk.funk;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Iterables.materialize;
 import static org.javafunk.funk.Literals.collectionWith;
 import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
 import static org.junit.Assert.assertThat;
 
@@ -93,4 +98,21 @@ public class LazilyBatchTest {
         assertThat(firstBatchIterator2.next(), is(3));
         assertThat(firstBatchIterator2.hasNext(), is(false));
     }
+
+    @Test
+    public void shouldReturnReadOnlySubListViewsForARandomAccessList() {
+        // Given
+        List<Integer> input = new ArrayList<Integer>(listWith(1, 2, 3, 4, 5, 6, 7));
+
+        // When
+        Iterable<Iterable<Integer>> batches = Lazily.batch(input, 3);
+        input.set(0, 10);
+
+        // Then
+        assertThat(batches, is(instanceOf(RandomAccess.class)));
+        assertThat(batches, hasOnlyItemsInOrder(
+                (Iterable<Integer>) listWith(10, 2, 3),
+                listWith(4, 5, 6),
+                listWith(7)));
+    }
 }
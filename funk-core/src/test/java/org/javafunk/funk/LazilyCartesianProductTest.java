@@ -25,11 +25,18 @@ import org.javafunk.funk.testclasses.Name;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Eagerly.first;
+import static org.javafunk.funk.Eagerly.last;
+import static org.javafunk.funk.Eagerly.second;
 import static org.javafunk.funk.Eagerly.times;
 import static org.javafunk.funk.Iterables.materialize;
 import static org.javafunk.funk.Lazily.cartesianProduct;
@@ -37,6 +44,7 @@ import static org.javafunk.funk.Lazily.cycle;
 import static org.javafunk.funk.Literals.collectionWith;
 import static org.javafunk.funk.Literals.iterable;
 import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.funk.Literals.tuple;
 import static org.javafunk.funk.testclasses.Age.age;
 import static org.javafunk.funk.testclasses.Colour.colour;
@@ -100,6 +108,25 @@ public class LazilyCartesianProductTest {
         assertThat(materialize(actualCartesianProduct), hasOnlyItemsInAnyOrder(expectedCartesianProduct));
     }
 
+    @Test
+    public void shouldTakeTheProductOfTheCurrentContentsOfSourceListsThatChangeAfterTheProductIsCreated() throws Exception {
+        // Given
+        List<Integer> list1 = new ArrayList<Integer>(listWith(1, 2));
+        List<String> list2 = new ArrayList<String>(listWith("a"));
+        Iterable<Pair<Integer, String>> product = cartesianProduct(list1, list2);
+        Collection<Pair<Integer, String>> expected = collectionWith(
+                tuple(2, "a"),
+                tuple(2, "b"));
+
+        // When
+        list1.remove(0);
+        list2.add("b");
+        Collection<Pair<Integer, String>> actual = materialize(product);
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder(expected));
+    }
+
     @Test
     public void shouldAllowNextToBeCalledWithoutCallingHasNext() throws Exception {
         // Given
@@ -509,4 +536,37 @@ public class LazilyCartesianProductTest {
         // Then
         assertThat(actualCartesianProduct, hasOnlyItemsInAnyOrder(expectedCartesianProduct));
     }
+
+    @Test
+    public void shouldReturnARandomAccessListWhenTakingTheCartesianProductOfRandomAccessLists() throws Exception {
+        // Given
+        List<Integer> first = listWith(1, 2);
+        List<String> second = listWith("a", "b", "c");
+
+        // When
+        Iterable<Pair<Integer, String>> product = cartesianProduct(first, second);
+
+        // Then
+        assertThat(product instanceof RandomAccess, is(true));
+        assertThat(((List<Pair<Integer, String>>) product).size(), is(6));
+        assertThat(((List<Pair<Integer, String>>) product).get(4), is(tuple(2, "b")));
+    }
+
+    @Test
+    public void shouldTakeTheCartesianProductOfManySequentialIterablesInOrder() throws Exception {
+        // Given
+        List<Iterable<?>> inputs = new ArrayList<Iterable<?>>();
+        for (int i = 0; i < 12; i++) {
+            inputs.add(new LinkedList<Integer>(listWith(0, 1)));
+        }
+
+        // When
+        Collection<Iterable<?>> product = materialize(Lazily.cartesianProduct(inputs));
+
+        // Then
+        assertThat(product.size(), is(4096));
+        assertThat(first(product).get(), is((Object) listWith(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0)));
+        assertThat(second(product).get(), is((Object) listWith(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1)));
+        assertThat(last(product).get(), is((Object) listWith(1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1)));
+    }
 }
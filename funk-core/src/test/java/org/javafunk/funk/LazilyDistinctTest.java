@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.Equivalence;
+import org.javafunk.funk.functors.Indexer;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class LazilyDistinctTest {
+    @Test
+    public void shouldYieldEachDistinctElementOnceInOrderOfFirstOccurrence() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(3, 1, 3, null, 2, 1, null);
+
+        // When
+        Iterable<Integer> distinct = Lazily.distinct(iterable);
+
+        // Then
+        assertThat(distinct, hasOnlyItemsInOrder(3, 1, null, 2));
+        assertThat(distinct, hasOnlyItemsInOrder(3, 1, null, 2));
+    }
+
+    @Test
+    public void shouldYieldAnElementAgainOnceItHasFallenOutOfTheRecentlySeenWindow() throws Exception {
+        // Given
+        Iterable<String> iterable = iterableWith("a", "b", "a", "c", "d", "a", "b");
+
+        // When
+        Iterable<String> distinct = Lazily.distinct(iterable, Distinctness.withinLast(2));
+
+        // Then
+        assertThat(distinct, hasOnlyItemsInOrder("a", "b", "c", "d", "a", "b"));
+    }
+
+    @Test
+    public void shouldRefreshAnElementInTheRecentlySeenWindowEachTimeItIsSeen() throws Exception {
+        // Given
+        Iterable<String> iterable = iterableWith("a", "b", "a", "c", "a", "d", "a");
+
+        // When
+        Iterable<String> distinct = Lazily.distinct(iterable, Distinctness.withinLast(2));
+
+        // Then
+        assertThat(distinct, hasOnlyItemsInOrder("a", "b", "c", "d"));
+    }
+
+    @Test
+    public void shouldNeverYieldAnElementTwiceAndRarelyDropOneWhenRememberingElementsApproximately() throws Exception {
+        // Given
+        List<Integer> input = new ArrayList<Integer>();
+        for (int i = 0; i < 20000; i++) {
+            input.add(i % 10000);
+        }
+
+        // When
+        List<Integer> distinct = new ArrayList<Integer>(
+                materialize(Lazily.distinct(input, Distinctness.approximate(10000, 0.01))));
+
+        // Then
+        assertThat(new HashSet<Integer>(distinct).size(), is(distinct.size()));
+        assertThat(distinct.size(), greaterThan(9800));
+    }
+
+    @Test
+    public void shouldYieldTheFirstElementWithEachDistinctKey() throws Exception {
+        // Given
+        Iterable<String> iterable = iterableWith("apple", "avocado", "banana", "cherry", "blueberry");
+
+        // When
+        Iterable<String> distinct = Lazily.distinctBy(iterable, new Indexer<String, Character>() {
+            @Override public Character index(String fruit) {
+                return fruit.charAt(0);
+            }
+        });
+
+        // Then
+        assertThat(distinct, hasOnlyItemsInOrder("apple", "banana", "cherry"));
+    }
+
+    @Test
+    public void shouldApplyTheSuppliedStrategyToTheKeysOfTheElements() throws Exception {
+        // Given
+        Iterable<String> iterable = iterableWith("one", "two", "three", "four", "five", "six");
+
+        // When
+        Iterable<String> distinct = Lazily.distinctBy(iterable, new UnaryFunction<String, Integer>() {
+            @Override public Integer call(String word) {
+                return word.length();
+            }
+        }, Distinctness.withinLast(1));
+
+        // Then
+        assertThat(distinct, hasOnlyItemsInOrder("one", "three", "four", "six"));
+    }
+
+    @Test
+    public void shouldCollapseRunsOfEqualElementsToTheirFirstElement() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(1, 1, 2, null, null, 3, 3, 3, 1);
+
+        // When
+        Iterable<Integer> distinct = Lazily.distinctAdjacent(iterable);
+
+        // Then
+        assertThat(distinct, hasOnlyItemsInOrder(1, 2, null, 3, 1));
+        assertThat(distinct, hasOnlyItemsInOrder(1, 2, null, 3, 1));
+    }
+
+    @Test
+    public void shouldCollapseRunsOfElementsEquivalentAccordingToTheSuppliedEquivalence() throws Exception {
+        // Given
+        Iterable<String> iterable = iterableWith("a", "A", "b", "B", "b", "a");
+
+        // When
+        Iterable<String> distinct = Lazily.distinctAdjacent(iterable, new Equivalence<String>() {
+            @Override public boolean equal(String first, String second) {
+                return first.equalsIgnoreCase(second);
+            }
+        });
+
+        // Then
+        assertThat(distinct, hasOnlyItemsInOrder("a", "b", "a"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheRecentlySeenWindowIsNotPositive() throws Exception {
+        // When
+        Distinctness.withinLast(0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheFalsePositiveRateIsNotBetweenZeroAndOne() throws Exception {
+        // When
+        Distinctness.approximate(1000, 1.0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+}
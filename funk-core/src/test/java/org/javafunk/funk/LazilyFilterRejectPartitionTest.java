@@ -9,6 +9,7 @@
 package org.javafunk.funk;
 
 import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.functors.Indexer;
 import org.javafunk.funk.functors.Predicate;
 import org.junit.Test;
 
@@ -195,6 +196,55 @@ public class LazilyFilterRejectPartitionTest {
         assertThat(nonMatchingIterator2.next(), is(3));
     }
 
+    @Test
+    public void shouldEvaluateThePredicateOnlyOncePerElementWhenFirstIteratingBothSidesOfThePartition() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4, 5, 6, 7, 8);
+        final int[] evaluations = new int[1];
+
+        // When
+        Pair<Iterable<Integer>, Iterable<Integer>> partitionResult = Lazily.partition(input,
+                new Predicate<Integer>() {
+                    public boolean evaluate(Integer item) {
+                        evaluations[0]++;
+                        return item % 2 == 0;
+                    }
+                });
+        materialize(partitionResult.getFirst());
+        materialize(partitionResult.getSecond());
+
+        // Then
+        assertThat(evaluations[0], is(8));
+    }
+
+    @Test
+    public void shouldTraverseTheInputAgainWhenASideOfThePartitionIsIteratedMoreThanOnce() throws Exception {
+        // Given
+        final int[] traversals = new int[1];
+        Iterable<Integer> input = new Iterable<Integer>() {
+            public Iterator<Integer> iterator() {
+                traversals[0]++;
+                return listWith(1, 2, 3, 4, 5, 6, 7, 8).iterator();
+            }
+        };
+        Pair<Iterable<Integer>, Iterable<Integer>> partitionResult = Lazily.partition(input,
+                new Predicate<Integer>() {
+                    public boolean evaluate(Integer item) {
+                        return item % 2 == 0;
+                    }
+                });
+        materialize(partitionResult.getFirst());
+
+        // When
+        Collection<Integer> matchingAgain = materialize(partitionResult.getFirst());
+        Collection<Integer> nonMatching = materialize(partitionResult.getSecond());
+
+        // Then
+        assertThat(matchingAgain, hasOnlyItemsInOrder(2, 4, 6, 8));
+        assertThat(nonMatching, hasOnlyItemsInOrder(1, 3, 5, 7));
+        assertThat(traversals[0], is(2));
+    }
+
     @Test(expected = NullPointerException.class)
     public void shouldThrowNullPointerExceptionIfNullPredicateSuppliedToPartition() throws Exception {
         // Given
@@ -206,4 +256,63 @@ public class LazilyFilterRejectPartitionTest {
 
         // Then a NullPointerException is thrown.
     }
+
+    @Test
+    public void shouldLazilyRouteEachElementToThePartitionAtTheIndexReturnedByTheIndexerInASinglePass() throws Exception {
+        // Given
+        final int[] traversals = new int[1];
+        final int[] evaluations = new int[1];
+        Iterable<Integer> input = new Iterable<Integer>() {
+            public Iterator<Integer> iterator() {
+                traversals[0]++;
+                return listWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).iterator();
+            }
+        };
+
+        // When
+        List<Iterable<Integer>> partitions = Lazily.partitionBy(input, new Indexer<Integer, Integer>() {
+            public Integer index(Integer item) {
+                evaluations[0]++;
+                return item % 3;
+            }
+        }, 3);
+
+        // Then
+        assertThat(evaluations[0], is(0));
+        assertThat(materialize(partitions.get(2)), hasOnlyItemsInOrder(2, 5, 8));
+        assertThat(materialize(partitions.get(0)), hasOnlyItemsInOrder(3, 6, 9));
+        assertThat(materialize(partitions.get(1)), hasOnlyItemsInOrder(1, 4, 7, 10));
+        assertThat(traversals[0], is(1));
+        assertThat(evaluations[0], is(10));
+    }
+
+    @Test
+    public void shouldOnlyConsumeAsMuchOfTheInputAsIsNeededToYieldTheRequestedPartitionElements() throws Exception {
+        // Given
+        Iterable<Integer> input = Sequences.integers(Sequences.increasing());
+
+        // When
+        Pair<Iterable<Integer>, Iterable<Integer>> partitionResult = Lazily.partition(input,
+                new Predicate<Integer>() {
+                    public boolean evaluate(Integer item) {
+                        return item % 10 == 0;
+                    }
+                });
+
+        // Then
+        assertThat(materialize(Lazily.take(partitionResult.getFirst(), 3)), hasOnlyItemsInOrder(0, 10, 20));
+        assertThat(materialize(Lazily.take(partitionResult.getSecond(), 3)), hasOnlyItemsInOrder(1, 2, 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheNumberOfLazyPartitionsIsNotPositive() throws Exception {
+        // When
+        Lazily.partitionBy(iterableWith(1, 2, 3), new Indexer<Integer, Integer>() {
+            public Integer index(Integer item) {
+                return 0;
+            }
+        }, 0);
+
+        // Then an IllegalArgumentException is thrown.
+    }
 }
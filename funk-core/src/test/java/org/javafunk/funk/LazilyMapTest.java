@@ -12,12 +12,17 @@ import org.javafunk.funk.functors.Mapper;
 import org.javafunk.funk.functors.functions.UnaryFunction;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.core.IsCollectionContaining.hasItems;
 import static org.javafunk.funk.Iterables.asList;
 import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
 import static org.junit.Assert.assertThat;
 
 public class LazilyMapTest {
@@ -84,4 +89,44 @@ public class LazilyMapTest {
 
         // Then a NullPointerException is thrown.
     }
+
+    @Test
+    public void shouldReturnALazyRandomAccessListWhenMappingARandomAccessList() throws Exception {
+        // Given
+        List<Integer> input = listWith(1, 2, 3, 4);
+        final List<Integer> mappedElements = new ArrayList<Integer>();
+
+        // When
+        Iterable<Integer> output = Lazily.map(input, new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                mappedElements.add(input);
+                return input * 10;
+            }
+        });
+
+        // Then
+        assertThat(output instanceof RandomAccess, is(true));
+        List<Integer> outputList = (List<Integer>) output;
+        assertThat(outputList.size(), is(4));
+        assertThat(outputList.get(2), is(30));
+        assertThat(mappedElements, hasOnlyItemsInOrder(3));
+    }
+
+    @Test
+    public void shouldRemoveElementsFromTheUnderlyingRandomAccessListThroughTheIterator() throws Exception {
+        // Given
+        List<Integer> input = new ArrayList<Integer>(listWith(1, 2, 3));
+        Iterator<Integer> iterator = Lazily.map(input, new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                return input * 10;
+            }
+        }).iterator();
+
+        // When
+        iterator.next();
+        iterator.remove();
+
+        // Then
+        assertThat(input, is(listWith(2, 3)));
+    }
 }
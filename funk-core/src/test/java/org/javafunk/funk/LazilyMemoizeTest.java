@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.Mapper;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Sequences.increasing;
+import static org.javafunk.funk.Sequences.integers;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+import static org.junit.Assert.assertThat;
+
+public class LazilyMemoizeTest {
+    @Test
+    public void shouldEvaluateTheSuppliedIterableAtMostOnceAcrossRepeatedIterations() throws Exception {
+        // Given
+        CountingMapper counter = new CountingMapper();
+        Iterable<Integer> input = Lazily.map(Lazily.take(integers(increasing()), 5), counter);
+
+        // When
+        Iterable<Integer> memoized = Lazily.memoize(input);
+        Collection<Integer> firstPass = materialize(memoized);
+        Collection<Integer> secondPass = materialize(memoized);
+
+        // Then
+        assertThat(firstPass, hasOnlyItemsInOrder(0, 1, 2, 3, 4));
+        assertThat(secondPass, hasOnlyItemsInOrder(0, 1, 2, 3, 4));
+        assertThat(counter.count(), is(5));
+    }
+
+    @Test
+    public void shouldNotEvaluateElementsUntilTheyAreFirstReached() throws Exception {
+        // Given
+        CountingMapper counter = new CountingMapper();
+        Iterable<Integer> input = Lazily.map(integers(increasing()), counter);
+
+        // When
+        Iterable<Integer> memoized = Lazily.memoize(input);
+        Iterator<Integer> first = memoized.iterator();
+        Iterator<Integer> second = memoized.iterator();
+        first.next();
+        first.next();
+        second.next();
+        first.next();
+
+        // Then
+        assertThat(second.next(), is(1));
+        assertThat(counter.count(), is(3));
+    }
+
+    @Test
+    public void shouldShareEvaluatedElementsBetweenConcurrentIterations() throws Exception {
+        // Given
+        CountingMapper counter = new CountingMapper();
+        final Iterable<Integer> memoized = Lazily.memoize(Lazily.map(Lazily.take(integers(increasing()), 10000), counter));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Collection<Integer>>> results = new ArrayList<Future<Collection<Integer>>>();
+
+        // When
+        try {
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(new Callable<Collection<Integer>>() {
+                    @Override public Collection<Integer> call() throws Exception {
+                        return materialize(memoized);
+                    }
+                }));
+            }
+            for (Future<Collection<Integer>> result : results) {
+                // Then
+                assertThat(result.get(), is(materialize(Lazily.take(integers(increasing()), 10000))));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(counter.count(), is(10000));
+    }
+
+    @Test
+    public void shouldAllowIteratorsWithinTheWindowToShareElementsOfAnInfiniteIterable() throws Exception {
+        // Given
+        CountingMapper counter = new CountingMapper();
+        Iterable<Integer> memoized = Lazily.memoize(Lazily.map(integers(increasing()), counter), 3);
+
+        // When
+        Iterator<Integer> leader = memoized.iterator();
+        Iterator<Integer> follower = memoized.iterator();
+        for (int i = 0; i < 1000; i++) {
+            leader.next();
+            leader.next();
+            follower.next();
+            follower.next();
+        }
+
+        // Then
+        assertThat(follower.next(), is(2000));
+        assertThat(counter.count(), is(2001));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldThrowIllegalStateExceptionIfAnIteratorFallsBehindTheWindow() throws Exception {
+        // Given
+        Iterable<Integer> memoized = Lazily.memoize(iterableWith(1, 2, 3, 4, 5), 2);
+        Iterator<Integer> leader = memoized.iterator();
+        Iterator<Integer> follower = memoized.iterator();
+
+        // When
+        leader.next();
+        leader.next();
+        leader.next();
+        follower.next();
+
+        // Then an IllegalStateException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheWindowSizeIsNotPositive() throws Exception {
+        // When
+        Lazily.memoize(iterableWith(1, 2, 3), 0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowElementsToBeRemoved() throws Exception {
+        // Given
+        Iterator<Integer> iterator = Lazily.memoize(iterableWith(1, 2, 3)).iterator();
+        iterator.next();
+
+        // When
+        iterator.remove();
+
+        // Then an UnsupportedOperationException is thrown
+    }
+
+    private static class CountingMapper implements Mapper<Integer, Integer> {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override public Integer map(Integer input) {
+            count.incrementAndGet();
+            return input;
+        }
+
+        int count() {
+            return count.get();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.iterators.PrefetchingIterator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Sequences.increasing;
+import static org.javafunk.funk.Sequences.integers;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class LazilyPrefetchTest {
+    @Test
+    public void shouldYieldAllElementsOfTheSuppliedIterableInOrder() throws Exception {
+        // Given
+        List<Integer> input = new ArrayList<Integer>();
+        for (int i = 0; i < 10000; i++) {
+            input.add(i);
+        }
+
+        // When
+        Collection<Integer> output = materialize(Lazily.prefetch(input, 16));
+
+        // Then
+        assertThat(new ArrayList<Integer>(output), is(input));
+    }
+
+    @Test
+    public void shouldRetrieveElementsOnABackgroundThread() throws Exception {
+        // Given
+        final List<String> retrievingThreads = new ArrayList<String>();
+        Iterable<Integer> input = Lazily.map(iterableWith(1, 2, 3), new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                synchronized (retrievingThreads) {
+                    retrievingThreads.add(Thread.currentThread().getName());
+                }
+                return input;
+            }
+        });
+
+        // When
+        Collection<Integer> output = materialize(Lazily.prefetch(input, 2));
+
+        // Then
+        assertThat(output, hasOnlyItemsInOrder(1, 2, 3));
+        for (String retrievingThread : retrievingThreads) {
+            assertThat(retrievingThread, is(not(Thread.currentThread().getName())));
+        }
+    }
+
+    @Test
+    public void shouldRethrowExceptionsThrownWhilstRetrievingElementsAfterTheElementsRetrievedBeforeThem() throws Exception {
+        // Given
+        Iterable<Integer> input = Lazily.map(iterableWith(1, 2, 3), new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                if (input == 3) {
+                    throw new IllegalStateException("Three is not allowed.");
+                }
+                return input;
+            }
+        });
+        Iterator<Integer> iterator = Lazily.prefetch(input, 8).iterator();
+        List<Integer> retrieved = new ArrayList<Integer>();
+
+        // When
+        IllegalStateException thrown = null;
+        try {
+            while (iterator.hasNext()) {
+                retrieved.add(iterator.next());
+            }
+        } catch (IllegalStateException exception) {
+            thrown = exception;
+        }
+
+        // Then
+        assertThat(retrieved, hasOnlyItemsInOrder(1, 2));
+        assertThat(thrown.getMessage(), is("Three is not allowed."));
+    }
+
+    @Test
+    public void shouldStopRetrievingElementsOnceCancelled() throws Exception {
+        // Given
+        final AtomicInteger retrieved = new AtomicInteger();
+        final CountDownLatch producerFinished = new CountDownLatch(1);
+        Iterable<Integer> input = Lazily.map(integers(increasing()), new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                retrieved.incrementAndGet();
+                return input;
+            }
+        });
+        Executor executor = new Executor() {
+            @Override public void execute(final Runnable task) {
+                Thread thread = new Thread(new Runnable() {
+                    @Override public void run() {
+                        try {
+                            task.run();
+                        } finally {
+                            producerFinished.countDown();
+                        }
+                    }
+                });
+                thread.setDaemon(true);
+                thread.start();
+            }
+        };
+        PrefetchingIterator<Integer> iterator =
+                (PrefetchingIterator<Integer>) Lazily.prefetch(input, 4, executor).iterator();
+
+        // When
+        iterator.next();
+        iterator.next();
+        iterator.cancel();
+        boolean finished = producerFinished.await(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(finished, is(true));
+        assertThat(retrieved.get(), is(lessThanOrEqualTo(2 + 4 + 1)));
+    }
+
+    @Test
+    public void shouldStopRetrievingElementsOnceTakeReachesItsBound() throws Exception {
+        // Given
+        final AtomicInteger retrieved = new AtomicInteger();
+        final CountDownLatch producerFinished = new CountDownLatch(1);
+        Iterable<Integer> input = Lazily.map(integers(increasing()), new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                retrieved.incrementAndGet();
+                return input;
+            }
+        });
+        Executor executor = new Executor() {
+            @Override public void execute(final Runnable task) {
+                Thread thread = new Thread(new Runnable() {
+                    @Override public void run() {
+                        try {
+                            task.run();
+                        } finally {
+                            producerFinished.countDown();
+                        }
+                    }
+                });
+                thread.setDaemon(true);
+                thread.start();
+            }
+        };
+        Iterator<Integer> iterator = Lazily.take(Lazily.prefetch(input, 4, executor), 3).iterator();
+
+        // When
+        iterator.next();
+        iterator.next();
+        iterator.next();
+        boolean finished = producerFinished.await(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(finished, is(true));
+        assertThat(iterator.hasNext(), is(false));
+        assertThat(retrieved.get(), is(lessThanOrEqualTo(3 + 4 + 1)));
+    }
+
+    @Test
+    public void shouldCountTheTimesTheProducerFindsTheBufferFull() throws Exception {
+        // Given
+        PrefetchingIterator<Integer> iterator =
+                (PrefetchingIterator<Integer>) Lazily.prefetch(Lazily.take(integers(increasing()), 100), 4).iterator();
+
+        // When
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (iterator.getProducerStalls() == 0 && System.nanoTime() < deadline) {
+            Thread.yield();
+        }
+        Collection<Integer> output = materialize(Iterators.asIterable(iterator));
+
+        // Then
+        assertThat(output.size(), is(100));
+        assertThat(iterator.getProducerStalls(), is(greaterThan(0L)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheBufferSizeIsNotPositive() throws Exception {
+        // When
+        Lazily.prefetch(iterableWith(1, 2, 3), 0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+}
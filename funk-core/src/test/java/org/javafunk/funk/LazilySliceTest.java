@@ -10,13 +10,18 @@ package org.javafunk.funk;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
 
 import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Iterables.materialize;
 import static org.javafunk.funk.Literals.collectionWith;
 import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
 import static org.junit.Assert.assertThat;
 
@@ -65,4 +70,36 @@ public class LazilySliceTest {
         assertThat(iterator2.next(), is(5));
         assertThat(iterator2.next(), is(7));
     }
+
+    @Test
+    public void shouldSliceRandomAccessListsTheSameWayAsOtherIterables() throws Exception {
+        // Given
+        List<Integer> randomAccessInput = listWith(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        Iterable<Integer> sequentialInput = new LinkedList<Integer>(randomAccessInput);
+
+        // When
+        Iterable<Integer> randomAccessOutput = Lazily.slice(randomAccessInput, 1, 8, 3);
+        Iterable<Integer> sequentialOutput = Lazily.slice(sequentialInput, 1, 8, 3);
+        Iterable<Integer> shortRandomAccessOutput = Lazily.slice(randomAccessInput, 0, 2, 3);
+        Iterable<Integer> shortSequentialOutput = Lazily.slice(sequentialInput, 0, 2, 3);
+
+        // Then
+        assertThat(randomAccessOutput instanceof RandomAccess, is(true));
+        assertThat(materialize(randomAccessOutput), hasOnlyItemsInOrder(materialize(sequentialOutput)));
+        assertThat(materialize(shortRandomAccessOutput), hasOnlyItemsInOrder(materialize(shortSequentialOutput)));
+    }
+
+    @Test
+    public void shouldRemoveElementsFromTheUnderlyingRandomAccessListThroughTheIterator() throws Exception {
+        // Given
+        List<Integer> input = new ArrayList<Integer>(listWith(0, 1, 2, 3, 4));
+        Iterator<Integer> iterator = Lazily.slice(input, 1, 4, 2).iterator();
+
+        // When
+        iterator.next();
+        iterator.remove();
+
+        // Then
+        assertThat(input, is(listWith(0, 2, 3, 4)));
+    }
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import com.google.common.collect.Ordering;
+import org.javafunk.funk.behaviours.Codec;
+import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.iterators.ExternallySortedIterator;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Codecs.integerCodec;
+import static org.javafunk.funk.Codecs.stringCodec;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class LazilySortTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldMergeSortedIterablesIntoASingleSortedIterable() throws Exception {
+        // Given
+        Iterable<Iterable<Integer>> iterables = iterableWith(
+                iterableWith(1, 4, 7),
+                Literals.<Integer>iterable(),
+                iterableWith(2, 5),
+                iterableWith(3, 6, 8));
+
+        // When
+        Iterable<Integer> merged = Lazily.mergeSorted(iterables);
+
+        // Then
+        assertThat(merged, hasOnlyItemsInOrder(1, 2, 3, 4, 5, 6, 7, 8));
+        assertThat(merged, hasOnlyItemsInOrder(1, 2, 3, 4, 5, 6, 7, 8));
+    }
+
+    @Test
+    public void shouldSortElementsInMemoryIfTheyFitInASingleRun() throws Exception {
+        // Given
+        Iterable<String> iterable = iterableWith("c", "a", "d", "b");
+
+        // When
+        Iterator<String> sorted = Lazily.externalSort(
+                iterable, Ordering.<String>natural(), stringCodec(), 4, temporaryFolder.getRoot()).iterator();
+
+        // Then
+        assertThat(sorted.next(), is("a"));
+        assertThat(temporaryFolder.getRoot().list().length, is(0));
+        assertThat(sorted.next(), is("b"));
+        assertThat(sorted.next(), is("c"));
+        assertThat(sorted.next(), is("d"));
+        assertThat(sorted.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldSortElementsBeyondTheRunSizeBySpillingRunsToDiskAndRemoveTheRunFilesOnceRead() throws Exception {
+        // Given
+        List<Integer> input = shuffledIntegers(1000);
+
+        // When
+        Iterator<Integer> sorted = Lazily.externalSort(
+                input, Ordering.<Integer>natural(), integerCodec(), 100, temporaryFolder.getRoot()).iterator();
+
+        // Then
+        assertThat(sorted.next(), is(0));
+        assertThat(temporaryFolder.getRoot().list().length, is(9));
+        List<Integer> rest = new ArrayList<Integer>();
+        while (sorted.hasNext()) {
+            rest.add(sorted.next());
+        }
+        assertThat(rest, is(Eagerly.sort(input).subList(1, 1000)));
+        assertThat(temporaryFolder.getRoot().list().length, is(0));
+    }
+
+    @Test
+    public void shouldMergeGroupsOfRunsFirstWhenThereAreTooManyToMergeAtOnce() throws Exception {
+        // Given
+        List<Integer> input = shuffledIntegers(ExternallySortedIterator.MAXIMUM_MERGE_WIDTH * 3 * 5 + 2);
+
+        // When
+        Iterable<Integer> sorted = Lazily.externalSort(
+                input, Ordering.<Integer>natural(), integerCodec(), 5, temporaryFolder.getRoot());
+
+        // Then
+        assertThat(new ArrayList<Integer>(materialize(sorted)), is(Eagerly.sort(input)));
+        assertThat(temporaryFolder.getRoot().list().length, is(0));
+    }
+
+    @Test
+    public void shouldCloseAndDeleteTheRemainingRunFilesWhenCancelled() throws Exception {
+        // Given
+        List<Integer> input = shuffledIntegers(1000);
+        ExternallySortedIterator<Integer> sorted = (ExternallySortedIterator<Integer>) Lazily.externalSort(
+                input, Ordering.<Integer>natural(), integerCodec(), 100, temporaryFolder.getRoot()).iterator();
+        sorted.next();
+
+        // When
+        sorted.cancel();
+
+        // Then
+        assertThat(temporaryFolder.getRoot().list().length, is(0));
+        assertThat(sorted.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldDeleteTheRunFilesWrittenSoFarIfReadingTheInputFails() throws Exception {
+        // Given
+        Iterable<Integer> input = Lazily.map(shuffledIntegers(1000), new Mapper<Integer, Integer>() {
+            private int mapped = 0;
+
+            @Override public Integer map(Integer input) {
+                if (++mapped == 350) {
+                    throw new IllegalStateException("Input failed.");
+                }
+                return input;
+            }
+        });
+        Iterator<Integer> sorted = Lazily.externalSort(
+                input, Ordering.<Integer>natural(), integerCodec(), 100, temporaryFolder.getRoot()).iterator();
+
+        // When
+        IllegalStateException thrown = null;
+        try {
+            sorted.next();
+        } catch (IllegalStateException exception) {
+            thrown = exception;
+        }
+
+        // Then
+        assertThat(thrown.getMessage(), is("Input failed."));
+        assertThat(temporaryFolder.getRoot().list().length, is(0));
+    }
+
+    @Test
+    public void shouldDeleteAPartlyWrittenRunFileIfEncodingFails() throws Exception {
+        // Given
+        final Codec<Integer> integerCodec = integerCodec();
+        Codec<Integer> failingCodec = new Codec<Integer>() {
+            private int encoded = 0;
+
+            @Override public void encode(Integer element, DataOutput output) throws IOException {
+                if (++encoded == 150) {
+                    throw new IOException("Disk full.");
+                }
+                integerCodec.encode(element, output);
+            }
+
+            @Override public Integer decode(DataInput input) throws IOException {
+                return integerCodec.decode(input);
+            }
+        };
+        Iterator<Integer> sorted = Lazily.externalSort(
+                shuffledIntegers(1000), Ordering.<Integer>natural(), failingCodec, 100, temporaryFolder.getRoot())
+                .iterator();
+
+        // When
+        RuntimeException thrown = null;
+        try {
+            sorted.next();
+        } catch (RuntimeException exception) {
+            thrown = exception;
+        }
+
+        // Then
+        assertThat(thrown.getCause().getMessage(), is("Disk full."));
+        assertThat(temporaryFolder.getRoot().list().length, is(0));
+    }
+
+    @Test
+    public void shouldSortStably() throws Exception {
+        // Given
+        Iterable<String> iterable = iterableWith("b", "A", "c", "a", "B", "C", "b", "a");
+        Comparator<String> ignoringCase = String.CASE_INSENSITIVE_ORDER;
+
+        // When
+        Iterable<String> sorted = Lazily.externalSort(
+                iterable, ignoringCase, stringCodec(), 2, temporaryFolder.getRoot());
+
+        // Then
+        assertThat(sorted, hasOnlyItemsInOrder("A", "a", "a", "b", "B", "b", "c", "C"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheRunSizeIsNotPositive() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(1, 2, 3);
+
+        // When
+        Lazily.externalSort(iterable, Ordering.<Integer>natural(), integerCodec(), 0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    private static List<Integer> shuffledIntegers(int count) {
+        List<Integer> integers = new ArrayList<Integer>();
+        for (int i = 0; i < count; i++) {
+            integers.add(i);
+        }
+        Collections.shuffle(integers, new Random(23));
+        return integers;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.Mapper;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class LazilySortedTopTest {
+    @Test
+    public void shouldYieldTheGreatestElementsGreatestFirst() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(4, 9, 1, 7, 3, 8, 2);
+
+        // When
+        Iterable<Integer> top = Lazily.sortedTop(iterable, 4);
+
+        // Then
+        assertThat(top, hasOnlyItemsInOrder(9, 8, 7, 4));
+    }
+
+    @Test
+    public void shouldNotTraverseTheSuppliedIterableUntilAnElementIsRequested() throws Exception {
+        // Given
+        final AtomicInteger traversed = new AtomicInteger();
+        Iterable<Integer> iterable = Lazily.map(iterableWith(3, 1, 2), new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                traversed.incrementAndGet();
+                return input;
+            }
+        });
+
+        // When
+        Iterator<Integer> iterator = Lazily.sortedTop(iterable, 2).iterator();
+
+        // Then
+        assertThat(traversed.get(), is(0));
+        assertThat(iterator.next(), is(3));
+        assertThat(traversed.get(), is(3));
+    }
+
+    @Test
+    public void shouldAllowTheReturnedIterableToBeIteratedMoreThanOnce() throws Exception {
+        // Given
+        Iterable<String> iterable = iterableWith("b", "d", "a", "c");
+
+        // When
+        Iterable<String> top = Lazily.sortedTop(iterable, 2);
+
+        // Then
+        assertThat(top, hasOnlyItemsInOrder("d", "c"));
+        assertThat(top, hasOnlyItemsInOrder("d", "c"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfANegativeNumberOfElementsIsRequested() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(1, 2, 3);
+
+        // When
+        Lazily.sortedTop(iterable, -1);
+
+        // Then an IllegalArgumentException is thrown
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class LazilyWindowTest {
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldYieldOverlappingWindowsWhenTheStepIsSmallerThanTheSize() throws Exception {
+        // Given
+        Iterable<Integer> iterable = streamOf(1, 2, 3, 4, 5, 6);
+
+        // When
+        Iterable<List<Integer>> windows = Lazily.window(iterable, 3, 2);
+
+        // Then
+        assertThat(copiesOf(windows), hasOnlyItemsInOrder(listWith(1, 2, 3), listWith(3, 4, 5)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldYieldAdjacentWindowsWhenTheStepEqualsTheSize() throws Exception {
+        // Given
+        Iterable<Integer> iterable = streamOf(1, 2, 3, 4, 5, 6, 7);
+
+        // When
+        Iterable<List<Integer>> windows = Lazily.window(iterable, 2, 2);
+
+        // Then
+        assertThat(copiesOf(windows), hasOnlyItemsInOrder(listWith(1, 2), listWith(3, 4), listWith(5, 6)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldSkipElementsBetweenWindowsWhenTheStepIsLargerThanTheSize() throws Exception {
+        // Given
+        Iterable<Integer> iterable = streamOf(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11);
+
+        // When
+        Iterable<List<Integer>> windows = Lazily.window(iterable, 2, 4);
+
+        // Then
+        assertThat(copiesOf(windows), hasOnlyItemsInOrder(listWith(1, 2), listWith(5, 6), listWith(9, 10)));
+    }
+
+    @Test
+    public void shouldYieldNoWindowsIfThereAreTooFewElementsToFillOne() throws Exception {
+        // Given
+        Iterable<Integer> iterable = streamOf(1, 2);
+
+        // When
+        Iterable<List<Integer>> windows = Lazily.window(iterable, 3, 1);
+
+        // Then
+        assertThat(windows.iterator().hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldKeepAWindowValidWhileTheFollowingWindowIsInUse() throws Exception {
+        // Given
+        Iterable<Integer> iterable = streamOf(1, 2, 3, 4, 5);
+        Iterator<List<Integer>> windows = Lazily.window(iterable, 3, 1).iterator();
+
+        // When
+        List<Integer> first = windows.next();
+        List<Integer> second = windows.next();
+
+        // Then
+        assertThat(new ArrayList<Integer>(first), is(listWith(1, 2, 3)));
+        assertThat(new ArrayList<Integer>(second), is(listWith(2, 3, 4)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldThrowIllegalStateExceptionOnAccessToAWindowTheBufferHasAdvancedPast() throws Exception {
+        // Given
+        Iterator<List<Integer>> windows = Lazily.window(streamOf(1, 2, 3, 4, 5, 6), 2, 2).iterator();
+        List<Integer> first = windows.next();
+        windows.next();
+        windows.next();
+
+        // When
+        first.get(0);
+
+        // Then an IllegalStateException is thrown
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldYieldWindowsThatCanBeKeptWhenCopiesAreRequested() throws Exception {
+        // Given
+        Iterable<Integer> iterable = streamOf(1, 2, 3, 4, 5);
+
+        // When
+        List<List<Integer>> windows = new ArrayList<List<Integer>>(
+                materialize(Lazily.windowCopies(iterable, 2, 1)));
+
+        // Then
+        assertThat(windows, hasOnlyItemsInOrder(listWith(1, 2), listWith(2, 3), listWith(3, 4), listWith(4, 5)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldReturnSubListViewsAsWindowsOfARandomAccessList() throws Exception {
+        // Given
+        List<Integer> list = new ArrayList<Integer>(listWith(1, 2, 3, 4, 5));
+
+        // When
+        Iterable<List<Integer>> windows = Lazily.window(list, 3, 1);
+        list.set(2, 30);
+
+        // Then
+        assertThat(windows, hasOnlyItemsInOrder(listWith(1, 2, 30), listWith(2, 30, 4), listWith(30, 4, 5)));
+    }
+
+    @Test
+    public void shouldCopyWindowsOfARandomAccessListWhenCopiesAreRequested() throws Exception {
+        // Given
+        List<Integer> list = new ArrayList<Integer>(listWith(1, 2, 3, 4, 5));
+        List<Integer> window = Lazily.windowCopies(list, 2, 1).iterator().next();
+
+        // When
+        list.set(0, 99);
+        list.add(6);
+
+        // Then
+        assertThat(window, is(listWith(1, 2)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowWindowsToBeModified() throws Exception {
+        // Given
+        List<Integer> window = Lazily.window(streamOf(1, 2, 3), 2, 1).iterator().next();
+
+        // When
+        window.set(0, 10);
+
+        // Then an UnsupportedOperationException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheStepIsNotPositive() throws Exception {
+        // When
+        Lazily.window(streamOf(1, 2, 3), 2, 0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    private static <T> Iterable<T> streamOf(T... elements) {
+        final List<T> list = Arrays.asList(elements);
+        return new Iterable<T>() {
+            public Iterator<T> iterator() {
+                return list.iterator();
+            }
+        };
+    }
+
+    private static List<List<Integer>> copiesOf(Iterable<List<Integer>> windows) {
+        List<List<Integer>> copies = new ArrayList<List<Integer>>();
+        for (List<Integer> window : windows) {
+            copies.add(new ArrayList<Integer>(window));
+        }
+        return copies;
+    }
+}
@@ -16,25 +16,32 @@ import org.javafunk.funk.datastructures.tuples.Quintuple;
 import org.javafunk.funk.datastructures.tuples.Septuple;
 import org.javafunk.funk.datastructures.tuples.Sextuple;
 import org.javafunk.funk.datastructures.tuples.Triple;
+import org.javafunk.funk.functors.functions.BinaryFunction;
 import org.javafunk.funk.testclasses.Age;
 import org.javafunk.funk.testclasses.Colour;
 import org.javafunk.funk.testclasses.Name;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 
 import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Iterables.asList;
 import static org.javafunk.funk.Iterables.materialize;
 import static org.javafunk.funk.Literals.collectionWith;
 import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.funk.Literals.tuple;
 import static org.javafunk.funk.testclasses.Age.age;
 import static org.javafunk.funk.testclasses.Colour.colour;
 import static org.javafunk.funk.testclasses.Name.name;
 import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 public class LazilyZipEnumerateTest {
     @Test
@@ -124,6 +131,67 @@ public class LazilyZipEnumerateTest {
         assertThat(asList(actual), hasOnlyItemsInOrder(expected));
     }
 
+    @Test
+    public void shouldNotConsumeAnElementFromAnyIterableWhenTheZipIsExhausted() throws Exception {
+        // Given
+        final Iterator<String> iterator1 = iterableWith("A", "B").iterator();
+        Iterable<String> iterable1 = new Iterable<String>() {
+            @Override public Iterator<String> iterator() {
+                return iterator1;
+            }
+        };
+        Iterable<Integer> iterable2 = iterableWith(1);
+        Iterator<Pair<String, Integer>> zipped = Lazily.zip(iterable1, iterable2).iterator();
+        zipped.next();
+
+        // When
+        try {
+            zipped.next();
+            fail("Expected a NoSuchElementException");
+        } catch (NoSuchElementException exception) {
+            // continue
+        }
+
+        // Then
+        assertThat(iterator1.next(), is("B"));
+    }
+
+    @Test
+    public void shouldZipTheCurrentContentsOfSourceListsThatGrowAfterTheZipIsCreated() throws Exception {
+        // Given
+        List<Integer> list1 = new ArrayList<Integer>(listWith(1, 2, 3));
+        List<String> list2 = new ArrayList<String>(listWith("x", "y"));
+        Iterable<Pair<Integer, String>> zipped = Lazily.zip(list1, list2);
+        Collection<Pair<Integer, String>> expected = collectionWith(
+                tuple(1, "x"),
+                tuple(2, "y"),
+                tuple(3, "z"));
+
+        // When
+        list2.add("z");
+        Collection<Pair<Integer, String>> actual = asList(zipped);
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder(expected));
+    }
+
+    @Test
+    public void shouldZipTheCurrentContentsOfSourceListsThatShrinkAfterTheZipIsCreated() throws Exception {
+        // Given
+        List<Integer> list1 = new ArrayList<Integer>(listWith(9, 8, 7));
+        List<String> list2 = new ArrayList<String>(listWith("x", "y", "z"));
+        Iterable<Pair<Integer, String>> zipped = Lazily.zip(list1, list2);
+        Collection<Pair<Integer, String>> expected = collectionWith(tuple(9, "y"));
+
+        // When
+        list1.subList(1, 3).clear();
+        list2.remove("x");
+        Collection<Pair<Integer, String>> actual = asList(zipped);
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder(expected));
+    }
+
     @Test
     public void shouldReturnDistinctIteratorsEachTimeIteratorIsCalledOnTheReturnedTwoZippedIterable() throws Exception {
         // Given
@@ -795,4 +863,71 @@ public class LazilyZipEnumerateTest {
         assertThat(secondIterator.next(), is((Object) iterableWith("C", 3, true)));
         assertThat(firstIterator.next(), is((Object) iterableWith("B", 2, false)));
     }
+
+    @Test
+    public void shouldReturnRandomAccessListsWhenZippingOrEnumeratingRandomAccessLists() throws Exception {
+        // Given
+        List<Integer> first = listWith(1, 2, 3);
+        List<String> second = listWith("a", "b", "c", "d");
+
+        // When
+        Iterable<Pair<Integer, String>> zipped = Lazily.zip(first, second);
+        Iterable<Pair<Integer, String>> enumerated = Lazily.enumerate(second);
+
+        // Then
+        assertThat(zipped instanceof RandomAccess, is(true));
+        assertThat(((List<Pair<Integer, String>>) zipped).size(), is(3));
+        assertThat(((List<Pair<Integer, String>>) zipped).get(1), is(tuple(2, "b")));
+        assertThat(enumerated instanceof RandomAccess, is(true));
+        assertThat(materialize(enumerated), hasOnlyItemsInOrder(
+                tuple(0, "a"), tuple(1, "b"), tuple(2, "c"), tuple(3, "d")));
+    }
+
+    @Test
+    public void shouldZipTwoIterablesCombiningElementsWithTheSuppliedFunction() throws Exception {
+        // Given
+        Iterable<Integer> iterable1 = iterableWith(1, 2, 3);
+        Iterable<String> iterable2 = iterableWith("A", "B");
+
+        // When
+        Iterable<String> actual = Lazily.zipWith(iterable1, iterable2, new BinaryFunction<Integer, String, String>() {
+            @Override public String call(Integer number, String letter) {
+                return letter + number;
+            }
+        });
+
+        // Then
+        assertThat(materialize(actual), hasOnlyItemsInOrder("A1", "B2"));
+        assertThat(materialize(actual), hasOnlyItemsInOrder("A1", "B2"));
+    }
+
+    @Test
+    public void shouldReturnARandomAccessListWhenZippingRandomAccessListsWithAFunction() throws Exception {
+        // Given
+        List<Integer> first = listWith(1, 2, 3);
+        List<Integer> second = listWith(10, 20, 30, 40);
+
+        // When
+        Iterable<Integer> sums = Lazily.zipWith(first, second, new BinaryFunction<Integer, Integer, Integer>() {
+            @Override public Integer call(Integer a, Integer b) {
+                return a + b;
+            }
+        });
+
+        // Then
+        assertThat(sums instanceof RandomAccess, is(true));
+        assertThat(((List<Integer>) sums).size(), is(3));
+        assertThat(((List<Integer>) sums).get(2), is(33));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfTheFunctionSuppliedToZipWithIsNull() throws Exception {
+        // Given
+        BinaryFunction<Integer, Integer, Integer> function = null;
+
+        // When
+        Lazily.zipWith(iterableWith(1), iterableWith(2), function);
+
+        // Then a NullPointerException is thrown
+    }
 }
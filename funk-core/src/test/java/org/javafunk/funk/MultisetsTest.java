@@ -14,6 +14,8 @@ import org.javafunk.funk.testclasses.Cat;
 import org.javafunk.funk.testclasses.Dog;
 import org.junit.Test;
 
+import java.util.Collections;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Literals.iterableWith;
@@ -193,4 +195,34 @@ public class MultisetsTest {
         // Then
         assertThat(actualDifference, is(expectedDifference));
     }
+
+    @Test
+    public void shouldReturnAnEmptyMultisetForTheMultisetUnionOfNoIterables() throws Exception {
+        // Given
+        Iterable<Iterable<String>> iterables = Collections.emptyList();
+
+        // When
+        Multiset<String> actualUnionMultiset = Multisets.union(iterables);
+
+        // Then
+        assertThat(actualUnionMultiset.isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldGiveTheSameMultisetIntersectionForMultisetsAsForOtherIterables() throws Exception {
+        // Given
+        Iterable<String> firstList = listWith("a", "b", "a", "c", "a");
+        Iterable<String> secondList = listWith("a", "a", "c", "c", "d");
+        Iterable<String> firstMultiset = multisetWith("a", "b", "a", "c", "a");
+        Iterable<String> secondMultiset = multisetWith("a", "a", "c", "c", "d");
+        Multiset<String> expectedIntersectionMultiset = multisetWith("a", "a", "c");
+
+        // When
+        Multiset<String> intersectionOfLists = Multisets.intersection(firstList, secondList);
+        Multiset<String> intersectionOfMultisets = Multisets.intersection(firstMultiset, secondMultiset);
+
+        // Then
+        assertThat(intersectionOfLists, is(expectedIntersectionMultiset));
+        assertThat(intersectionOfMultisets, is(expectedIntersectionMultiset));
+    }
 }
@@ -0,0 +1,328 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import com.google.common.collect.Ordering;
+import org.javafunk.funk.datastructures.IntegerRange;
+import org.javafunk.funk.functors.Indexer;
+import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.Predicate;
+import org.javafunk.funk.functors.functions.BinaryFunction;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Accumulators.integerAdditionAccumulator;
+import static org.javafunk.funk.Literals.collectionWith;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class ParallellyTest {
+    private ForkJoinPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void shouldMapRandomAccessListInParallelPreservingOrder() throws Exception {
+        // Given
+        List<Integer> inputs = new ArrayList<Integer>();
+        List<Integer> expectedOutputs = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            inputs.add(i);
+            expectedOutputs.add(i * 2);
+        }
+
+        // When
+        Collection<Integer> actualOutputs = Parallelly.map(inputs, new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                return input * 2;
+            }
+        }, pool, 10);
+
+        // Then
+        assertThat(actualOutputs, hasOnlyItemsInOrder(expectedOutputs));
+    }
+
+    @Test
+    public void shouldMapIntegerRangeInParallelPreservingOrder() throws Exception {
+        // Given
+        IntegerRange range = new IntegerRange(10, -10, -3);
+
+        // When
+        Collection<String> actualOutputs = Parallelly.map(range, new Mapper<Integer, String>() {
+            @Override public String map(Integer input) {
+                return String.valueOf(input);
+            }
+        }, pool, 2);
+
+        // Then
+        assertThat(actualOutputs, hasOnlyItemsInOrder("10", "7", "4", "1", "-2", "-5", "-8"));
+    }
+
+    @Test
+    public void shouldMapSequentialIterablesByCopyingThemFirst() throws Exception {
+        // Given
+        LinkedList<Integer> inputs = new LinkedList<Integer>(listWith(1, 2, 3, 4, 5, 6, 7));
+
+        // When
+        Collection<Integer> actualOutputs = Parallelly.map(inputs, new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                return input * input;
+            }
+        }, pool, 2);
+
+        // Then
+        assertThat(actualOutputs, hasOnlyItemsInOrder(1, 4, 9, 16, 25, 36, 49));
+    }
+
+    @Test
+    public void shouldExecuteTasksOnTheSuppliedPool() throws Exception {
+        // Given
+        final Map<String, Boolean> threadsUsed = new ConcurrentHashMap<String, Boolean>();
+        Iterable<Integer> inputs = new IntegerRange(0, 100);
+
+        // When
+        Parallelly.map(inputs, new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                Thread thread = Thread.currentThread();
+                threadsUsed.put(thread.getName(), thread instanceof ForkJoinWorkerThread
+                        && ((ForkJoinWorkerThread) thread).getPool() == pool);
+                return input;
+            }
+        }, pool, 10);
+
+        // Then
+        assertThat(threadsUsed.values().contains(false), is(false));
+    }
+
+    @Test
+    public void shouldMapOnCallingThreadWhenInputIsNoLargerThanSequentialThreshold() throws Exception {
+        // Given
+        final Thread callingThread = Thread.currentThread();
+        final Map<String, Boolean> threadsUsed = new ConcurrentHashMap<String, Boolean>();
+        Iterable<Integer> inputs = iterableWith(1, 2, 3, 4);
+
+        // When
+        Parallelly.map(inputs, new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                threadsUsed.put(Thread.currentThread().getName(), Thread.currentThread() == callingThread);
+                return input;
+            }
+        }, pool, 4);
+
+        // Then
+        assertThat(threadsUsed.values(), hasOnlyItemsInOrder(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfSequentialThresholdIsNotPositive() throws Exception {
+        // Given
+        Iterable<Integer> inputs = iterableWith(1, 2, 3);
+
+        // When
+        Parallelly.map(inputs, new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                return input;
+            }
+        }, pool, 0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfUnaryFunctionSuppliedToMapIsNull() throws Exception {
+        // Given
+        Iterable<Integer> inputs = iterableWith(1, 2, 3);
+        UnaryFunction<Integer, String> function = null;
+
+        // When
+        Parallelly.map(inputs, function);
+
+        // Then a NullPointerException is thrown
+    }
+
+    @Test
+    public void shouldFilterInParallelPreservingOrder() throws Exception {
+        // Given
+        Iterable<Integer> inputs = new IntegerRange(0, 100);
+        List<Integer> expectedOutputs = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i += 3) {
+            expectedOutputs.add(i);
+        }
+
+        // When
+        Collection<Integer> actualOutputs = Parallelly.filter(inputs, new Predicate<Integer>() {
+            @Override public boolean evaluate(Integer input) {
+                return input % 3 == 0;
+            }
+        }, pool, 7);
+
+        // Then
+        assertThat(actualOutputs, hasOnlyItemsInOrder(expectedOutputs));
+    }
+
+    @Test
+    public void shouldReduceInParallelUsingAccumulatorAndCombiner() throws Exception {
+        // Given
+        Iterable<String> inputs = Eagerly.map(new IntegerRange(0, 500), new Mapper<Integer, String>() {
+            @Override public String map(Integer input) {
+                return String.valueOf(input);
+            }
+        });
+        Long expectedLength = 0L;
+        for (String input : inputs) {
+            expectedLength += input.length();
+        }
+
+        // When
+        Long actualLength = Parallelly.reduce(inputs, 0L,
+                new BinaryFunction<Long, String, Long>() {
+                    @Override public Long call(Long total, String input) {
+                        return total + input.length();
+                    }
+                },
+                new BinaryFunction<Long, Long, Long>() {
+                    @Override public Long call(Long first, Long second) {
+                        return first + second;
+                    }
+                }, pool, 16);
+
+        // Then
+        assertThat(actualLength, is(expectedLength));
+    }
+
+    @Test
+    public void shouldReduceInParallelUsingAssociativeReducerRespectingEncounterOrder() throws Exception {
+        // Given
+        Iterable<Integer> inputs = new IntegerRange(1, 101);
+
+        // When
+        Integer sum = Parallelly.reduce(inputs, integerAdditionAccumulator(), pool, 8);
+        String concatenation = Parallelly.reduce(
+                listWith("a", "b", "c", "d", "e", "f", "g"),
+                new BinaryFunction<String, String, String>() {
+                    @Override public String call(String first, String second) {
+                        return first + second;
+                    }
+                }, pool, 2);
+
+        // Then
+        assertThat(sum, is(5050));
+        assertThat(concatenation, is("abcdefg"));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionIfReducingEmptyIterableWithoutInitialValue() throws Exception {
+        // Given
+        Iterable<Integer> inputs = new ArrayList<Integer>();
+
+        // When
+        Parallelly.reduce(inputs, integerAdditionAccumulator());
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test
+    public void shouldGroupInParallelPreservingOrderWithinEachGroup() throws Exception {
+        // Given
+        Iterable<Integer> inputs = new IntegerRange(0, 20);
+
+        // When
+        Map<Integer, Collection<Integer>> groups = Parallelly.group(inputs, new Indexer<Integer, Integer>() {
+            @Override public Integer index(Integer input) {
+                return input % 3;
+            }
+        }, pool, 3);
+
+        // Then
+        assertThat(groups.size(), is(3));
+        assertThat(groups.get(0), hasOnlyItemsInOrder(collectionWith(0, 3, 6, 9, 12, 15, 18)));
+        assertThat(groups.get(1), hasOnlyItemsInOrder(collectionWith(1, 4, 7, 10, 13, 16, 19)));
+        assertThat(groups.get(2), hasOnlyItemsInOrder(collectionWith(2, 5, 8, 11, 14, 17)));
+    }
+
+    @Test
+    public void shouldGiveSameResultsAsEagerlyForTheDefaultPoolAndThreshold() throws Exception {
+        // Given
+        Iterable<Integer> inputs = new IntegerRange(0, 5000);
+        Mapper<Integer, Integer> mapper = new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                return input / 7;
+            }
+        };
+
+        // When
+        Collection<Integer> parallelOutputs = Parallelly.map(inputs, mapper);
+        Collection<Integer> eagerOutputs = Eagerly.map(inputs, mapper);
+
+        // Then
+        assertThat(new ArrayList<Integer>(parallelOutputs), equalTo(new ArrayList<Integer>(eagerOutputs)));
+    }
+
+    @Test
+    public void shouldGroupAndReduceInParallelCombiningPartialReductionsOfEachGroup() throws Exception {
+        // Given
+        Iterable<Integer> inputs = new IntegerRange(0, 1000);
+
+        // When
+        Map<Integer, Integer> sums = Parallelly.groupReduce(inputs, new Indexer<Integer, Integer>() {
+            @Override public Integer index(Integer input) {
+                return input % 3;
+            }
+        }, 0, integerAdditionAccumulator(), integerAdditionAccumulator(), pool, 10);
+
+        // Then
+        assertThat(sums, is(Eagerly.groupReduce(inputs, new Indexer<Integer, Integer>() {
+            @Override public Integer index(Integer input) {
+                return input % 3;
+            }
+        }, 0, integerAdditionAccumulator())));
+        assertThat(sums.get(0), is(166833));
+    }
+
+    @Test
+    public void shouldSelectTheGreatestElementsInParallelByMergingTheHeapsOfEachChunk() throws Exception {
+        // Given
+        List<Integer> inputs = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            inputs.add((i * 7919) % 1000);
+        }
+
+        // When
+        List<Integer> top = Parallelly.top(inputs, 5, Ordering.<Integer>natural(), pool, 10);
+        List<Integer> bottom = Parallelly.bottom(inputs, 5, Ordering.<Integer>natural(), pool, 10);
+
+        // Then
+        assertThat(top, is(listWith(999, 998, 997, 996, 995)));
+        assertThat(bottom, is(listWith(0, 1, 2, 3, 4)));
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.datastructures.IntegerRange;
+import org.javafunk.funk.functors.Action;
+import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.Predicate;
+import org.javafunk.funk.monads.Option;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Accumulators.integerAdditionAccumulator;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.monads.Option.some;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class PipelineTest {
+    private static final Mapper<Integer, Integer> DOUBLE = new Mapper<Integer, Integer>() {
+        @Override public Integer map(Integer input) {
+            return input * 2;
+        }
+    };
+
+    private static final Predicate<Integer> EVEN = new Predicate<Integer>() {
+        @Override public boolean evaluate(Integer input) {
+            return input % 2 == 0;
+        }
+    };
+
+    @Test
+    public void shouldApplyAllStagesInOrderWhenMaterialized() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4, 5, 6, 7, 8);
+
+        // When
+        Collection<String> output = Pipeline.from(input)
+                .filter(EVEN)
+                .map(DOUBLE)
+                .drop(1)
+                .map(new Mapper<Integer, String>() {
+                    @Override public String map(Integer input) {
+                        return "#" + input;
+                    }
+                })
+                .materialize();
+
+        // Then
+        assertThat(output, hasOnlyItemsInOrder("#8", "#12", "#16"));
+    }
+
+    @Test
+    public void shouldGiveTheSameResultsAsTheEquivalentLazilyChain() throws Exception {
+        // Given
+        Iterable<Integer> input = new IntegerRange(0, 100);
+
+        // When
+        Collection<Integer> pipelined = Pipeline.from(input).reject(EVEN).map(DOUBLE).take(7).materialize();
+        Collection<Integer> chained = Eagerly.take(Lazily.map(Lazily.reject(input, EVEN), DOUBLE), 7);
+
+        // Then
+        assertThat(pipelined, hasOnlyItemsInOrder(chained));
+    }
+
+    @Test
+    public void shouldStopRetrievingElementsFromTheSourceOnceTakeIsSatisfied() throws Exception {
+        // Given
+        RecordingIterable<Integer> input = new RecordingIterable<Integer>(new IntegerRange(0, 1000));
+
+        // When
+        Collection<Integer> output = Pipeline.from(input).filter(EVEN).take(3).materialize();
+
+        // Then
+        assertThat(output, hasOnlyItemsInOrder(0, 2, 4));
+        assertThat(input.retrieved, hasOnlyItemsInOrder(0, 1, 2, 3, 4));
+    }
+
+    @Test
+    public void shouldNotRetrieveAnyElementsWhenTakingZeroElements() throws Exception {
+        // Given
+        RecordingIterable<Integer> input = new RecordingIterable<Integer>(iterableWith(1, 2, 3));
+
+        // When
+        Collection<Integer> output = Pipeline.from(input).take(0).materialize();
+
+        // Then
+        assertThat(output.isEmpty(), is(true));
+        assertThat(input.retrieved.isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldTakeAndDropWhileThePredicateIsSatisfied() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(2, 4, 5, 6, 7);
+
+        // When
+        Collection<Integer> taken = Pipeline.from(input).takeWhile(EVEN).materialize();
+        Collection<Integer> dropped = Pipeline.from(input).dropWhile(EVEN).materialize();
+
+        // Then
+        assertThat(taken, hasOnlyItemsInOrder(2, 4));
+        assertThat(dropped, hasOnlyItemsInOrder(5, 6, 7));
+    }
+
+    @Test
+    public void shouldReturnTheFirstYieldedElementRetrievingOnlyAsManyElementsAsNeeded() throws Exception {
+        // Given
+        RecordingIterable<Integer> input = new RecordingIterable<Integer>(iterableWith(1, 3, 4, 5, 6));
+
+        // When
+        Option<Integer> first = Pipeline.from(input).filter(EVEN).first();
+        Option<Integer> none = Pipeline.from(iterableWith(1, 3)).filter(EVEN).first();
+
+        // Then
+        assertThat(first, is(some(4)));
+        assertThat(input.retrieved, hasOnlyItemsInOrder(1, 3, 4));
+        assertThat(none, is(Option.<Integer>none()));
+    }
+
+    @Test
+    public void shouldReduceAndEachOverTheYieldedElements() throws Exception {
+        // Given
+        Pipeline<Integer> pipeline = Pipeline.from(new IntegerRange(1, 11)).filter(EVEN);
+        final List<Integer> visited = new ArrayList<Integer>();
+
+        // When
+        Integer sum = pipeline.reduce(0, integerAdditionAccumulator());
+        pipeline.each(new Action<Integer>() {
+            @Override public void on(Integer input) {
+                visited.add(input);
+            }
+        });
+
+        // Then
+        assertThat(sum, is(30));
+        assertThat(visited, hasOnlyItemsInOrder(2, 4, 6, 8, 10));
+    }
+
+    @Test
+    public void shouldLazilyYieldElementsThroughItsIterator() throws Exception {
+        // Given
+        RecordingIterable<Integer> input = new RecordingIterable<Integer>(iterableWith(1, 2, 3, 4, 5, 6));
+        Pipeline<Integer> pipeline = Pipeline.from(input).filter(EVEN).map(DOUBLE).take(2);
+
+        // When
+        Iterator<Integer> iterator = pipeline.iterator();
+
+        // Then
+        assertThat(iterator.hasNext(), is(true));
+        assertThat(iterator.hasNext(), is(true));
+        assertThat(iterator.next(), is(4));
+        assertThat(input.retrieved, hasOnlyItemsInOrder(1, 2));
+        assertThat(iterator.next(), is(8));
+        assertThat(iterator.hasNext(), is(false));
+        assertThat(input.retrieved, hasOnlyItemsInOrder(1, 2, 3, 4));
+    }
+
+    @Test
+    public void shouldAllowPipelineToBeUsedAsAnIterableWithLazily() throws Exception {
+        // Given
+        Pipeline<Integer> pipeline = Pipeline.from(Lazily.map(iterableWith(1, 2, 3, 4), DOUBLE)).filter(EVEN);
+
+        // When
+        Collection<Integer> output = Eagerly.map(Lazily.take(pipeline, 3), DOUBLE);
+
+        // Then
+        assertThat(output, hasOnlyItemsInOrder(4, 8, 12));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfNumberToTakeIsNegative() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3);
+
+        // When
+        Pipeline.from(input).take(-1);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    private static class RecordingIterable<T> implements Iterable<T> {
+        private final Iterable<T> delegate;
+        private final List<T> retrieved = new ArrayList<T>();
+
+        RecordingIterable(Iterable<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override public Iterator<T> iterator() {
+            final Iterator<T> iterator = delegate.iterator();
+            return new Iterator<T>() {
+                @Override public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override public T next() {
+                    T element = iterator.next();
+                    retrieved.add(element);
+                    return element;
+                }
+
+                @Override public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+    }
+}
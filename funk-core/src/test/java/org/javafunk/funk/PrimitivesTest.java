@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.datastructures.IntegerRange;
+import org.javafunk.funk.functors.primitives.DoublePredicate;
+import org.javafunk.funk.functors.primitives.IntPredicate;
+import org.javafunk.funk.functors.primitives.IntReducer;
+import org.javafunk.funk.functors.primitives.IntUnaryFunction;
+import org.javafunk.funk.functors.primitives.LongUnaryFunction;
+import org.javafunk.funk.primitives.DoubleIterable;
+import org.javafunk.funk.primitives.IntIterable;
+import org.javafunk.funk.primitives.IntIterator;
+import org.javafunk.funk.primitives.LongIterable;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.funk.Primitives.asLongs;
+import static org.javafunk.funk.Primitives.boxed;
+import static org.javafunk.funk.Primitives.doubles;
+import static org.javafunk.funk.Primitives.ints;
+import static org.javafunk.funk.Primitives.longs;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class PrimitivesTest {
+    @Test
+    public void shouldMapIntIterableUsingSuppliedFunction() throws Exception {
+        // Given
+        IntIterable input = ints(1, 2, 3);
+
+        // When
+        IntIterable output = Primitives.map(input, new IntUnaryFunction() {
+            @Override public int call(int argument) {
+                return argument * 3;
+            }
+        });
+
+        // Then
+        assertThat(boxed(output), hasOnlyItemsInOrder(3, 6, 9));
+    }
+
+    @Test
+    public void shouldFilterIntIterableUsingSuppliedPredicate() throws Exception {
+        // Given
+        IntIterable input = new IntegerRange(0, 10);
+
+        // When
+        IntIterable output = Primitives.filter(input, new IntPredicate() {
+            @Override public boolean evaluate(int input) {
+                return input % 3 == 0;
+            }
+        });
+
+        // Then
+        assertThat(boxed(output), hasOnlyItemsInOrder(0, 3, 6, 9));
+    }
+
+    @Test
+    public void shouldAllowHasNextToBeCalledMultipleTimesOnFilteredIterator() throws Exception {
+        // Given
+        IntIterable input = ints(1, 2, 3, 4);
+        IntIterable evens = Primitives.filter(input, new IntPredicate() {
+            @Override public boolean evaluate(int input) {
+                return input % 2 == 0;
+            }
+        });
+
+        // When
+        IntIterator iterator = evens.intIterator();
+
+        // Then
+        assertThat(iterator.hasNext(), is(true));
+        assertThat(iterator.hasNext(), is(true));
+        assertThat(iterator.nextInt(), is(2));
+        assertThat(iterator.nextInt(), is(4));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldReduceIntIterableFromInitialValue() throws Exception {
+        // Given
+        IntIterable input = ints(1, 2, 3, 4);
+
+        // When
+        int result = Primitives.reduce(input, 10, new IntReducer() {
+            @Override public int accumulate(int accumulator, int element) {
+                return accumulator - element;
+            }
+        });
+
+        // Then
+        assertThat(result, is(0));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionIfReducingEmptyIterableWithoutInitialValue() throws Exception {
+        // Given
+        IntIterable input = ints();
+
+        // When
+        Primitives.reduce(input, new IntReducer() {
+            @Override public int accumulate(int accumulator, int element) {
+                return accumulator + element;
+            }
+        });
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test
+    public void shouldSumMinAndMaxPrimitiveIterables() throws Exception {
+        // Given
+        IntIterable intInput = ints(4, -2, 9, 3);
+        LongIterable longInput = longs(4L, -2L, 9L, 3L);
+        DoubleIterable doubleInput = doubles(0.5, 1.5, -3.0);
+
+        // When
+        int intSum = Primitives.sum(intInput);
+        long longMin = Primitives.min(longInput);
+        double doubleMax = Primitives.max(doubleInput);
+
+        // Then
+        assertThat(intSum, is(14));
+        assertThat(longMin, is(-2L));
+        assertThat(doubleMax, is(1.5));
+    }
+
+    @Test
+    public void shouldReturnZeroForTheSumOfAnEmptyIterable() throws Exception {
+        // Given
+        LongIterable input = longs();
+
+        // When
+        long sum = Primitives.sum(input);
+
+        // Then
+        assertThat(sum, is(0L));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionForTheMaxOfAnEmptyIterable() throws Exception {
+        // Given
+        DoubleIterable input = doubles();
+
+        // When
+        Primitives.max(input);
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test
+    public void shouldReturnIntegerRangeAsIsWhenBridgingToIntIterable() throws Exception {
+        // Given
+        IntegerRange range = new IntegerRange(0, 5);
+
+        // When
+        IntIterable output = ints(range);
+
+        // Then
+        assertThat(output, is(sameInstance((IntIterable) range)));
+    }
+
+    @Test
+    public void shouldUnboxBoxedIterables() throws Exception {
+        // Given
+        Iterable<Double> input = listWith(1.0, 2.5, 3.5);
+
+        // When
+        DoubleIterable output = Primitives.filter(doubles(input), new DoublePredicate() {
+            @Override public boolean evaluate(double input) {
+                return input > 2;
+            }
+        });
+
+        // Then
+        assertThat(boxed(output), hasOnlyItemsInOrder(2.5, 3.5));
+    }
+
+    @Test
+    public void shouldWidenIntIterableToLongIterable() throws Exception {
+        // Given
+        IntIterable input = ints(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+        // When
+        LongIterable output = Primitives.map(asLongs(input), new LongUnaryFunction() {
+            @Override public long call(long argument) {
+                return argument * 2;
+            }
+        });
+
+        // Then
+        assertThat(Primitives.sum(output), is(4L * Integer.MAX_VALUE));
+    }
+}
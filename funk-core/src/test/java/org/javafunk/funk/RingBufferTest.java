@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class RingBufferTest {
+    @Test
+    public void shouldRetainOnlyTheMostRecentlyAddedElementsUpToCapacity() throws Exception {
+        // Given
+        RingBuffer<Integer> buffer = new RingBuffer<Integer>(20);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            buffer.add(i);
+        }
+
+        // Then
+        assertThat(buffer.size(), is(20));
+        for (int i = 0; i < 20; i++) {
+            assertThat(buffer.get(i), is(30 + i));
+        }
+    }
+
+    @Test
+    public void shouldRetainNothingWhenCapacityIsZero() throws Exception {
+        // Given
+        RingBuffer<Integer> buffer = new RingBuffer<Integer>(0);
+
+        // When
+        buffer.add(1);
+        buffer.add(2);
+
+        // Then
+        assertThat(buffer.size(), is(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowIndexOutOfBoundsExceptionWhenAccessingBeyondRetainedElements() throws Exception {
+        // Given
+        RingBuffer<Integer> buffer = new RingBuffer<Integer>(5);
+        buffer.add(1);
+        buffer.add(2);
+
+        // When
+        buffer.get(2);
+
+        // Then an IndexOutOfBoundsException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfCapacityIsNegative() throws Exception {
+        // When
+        new RingBuffer<Integer>(-1);
+
+        // Then an IllegalArgumentException is thrown
+    }
+}
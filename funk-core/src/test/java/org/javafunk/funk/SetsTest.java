@@ -8,17 +8,26 @@
  */
 package org.javafunk.funk;
 
+import org.javafunk.funk.datastructures.IntegerRange;
 import org.javafunk.funk.testclasses.Animal;
 import org.javafunk.funk.testclasses.Cat;
 import org.javafunk.funk.testclasses.Dog;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listFrom;
 import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.funk.Literals.multisetWith;
 import static org.javafunk.funk.Literals.setBuilderOf;
@@ -196,4 +205,116 @@ public class SetsTest {
         // Then
         assertThat(actualSymmetricDifferenceSet, is(expectedSymmetricDifferenceSet));
     }
+
+    @Test
+    public void shouldReturnAnEmptySetForTheSetIntersectionOfNoSets() throws Exception {
+        // Given
+        Iterable<Iterable<String>> iterables = Collections.emptyList();
+
+        // When
+        Set<String> actualIntersectionSet = Sets.intersection(iterables);
+
+        // Then
+        assertThat(actualIntersectionSet, is(Collections.<String>emptySet()));
+    }
+
+    @Test
+    public void shouldProbeRangesRatherThanIteratingThemForTheSetIntersection() throws Exception {
+        // Given
+        Iterable<Integer> integers = listWith(-3, 5, 10, 5);
+        Iterable<Integer> naturalNumbers = new IntegerRange(0, null);
+        Set<Integer> expectedIntersectionSet = setWith(5, 10);
+
+        // When
+        Set<Integer> actualIntersectionSet = Sets.intersection(naturalNumbers, integers);
+
+        // Then
+        assertThat(actualIntersectionSet, is(expectedIntersectionSet));
+    }
+
+    @Test
+    public void shouldUseEqualityRatherThanTheComparatorOfASortedSetOperandWhenNotAllOperandsAreSortedTheSameWay() throws Exception {
+        // Given
+        Set<String> hashSet = new HashSet<String>(listWith("A", "b"));
+        SortedSet<String> caseInsensitiveSet = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+        caseInsensitiveSet.addAll(listWith("a", "b", "c"));
+
+        // When
+        Set<String> actualIntersectionSet = Sets.intersection(hashSet, caseInsensitiveSet);
+
+        // Then
+        assertThat(actualIntersectionSet, is((Set<String>) setWith("b")));
+    }
+
+    @Test
+    public void shouldNotProbeASortedSetOperandWithElementsItCannotCompare() throws Exception {
+        // Given
+        Set<Object> mixedSet = new HashSet<Object>(listWith((Object) 1, "x"));
+        SortedSet<Integer> sortedSet = new TreeSet<Integer>(listWith(1, 2, 3));
+
+        // When
+        Set<Object> actualIntersectionSet = Sets.<Object>intersection(mixedSet, sortedSet);
+        Set<Object> actualDifferenceSet = Sets.<Object>difference(mixedSet, sortedSet);
+
+        // Then
+        assertThat(actualIntersectionSet, is((Set<Object>) setWith((Object) 1)));
+        assertThat(actualDifferenceSet, is((Set<Object>) setWith((Object) "x")));
+    }
+
+    @Test
+    public void shouldCountRepeatedElementsWithinAnIterableForTheSetSymmetricDifference() throws Exception {
+        // Given
+        Iterable<Integer> firstIterable = listWith(1, 1, 2, 2, 2);
+        Iterable<Integer> secondIterable = listWith(3);
+        Set<Integer> expectedSymmetricDifferenceSet = setWith(2, 3);
+
+        // When
+        Set<Integer> actualSymmetricDifferenceSet = Sets.symmetricDifference(firstIterable, secondIterable);
+
+        // Then
+        assertThat(actualSymmetricDifferenceSet, is(expectedSymmetricDifferenceSet));
+    }
+
+    @Test
+    public void shouldReturnASortedSetWithTheSameOrderingWhenAllSuppliedIterablesAreSortedTheSameWay() throws Exception {
+        // Given
+        SortedSet<String> firstSet = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+        firstSet.addAll(listWith("a", "B", "c", "D"));
+        SortedSet<String> secondSet = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+        secondSet.addAll(listWith("b", "C", "d", "e"));
+
+        // When
+        Set<String> actualIntersectionSet = Sets.intersection(firstSet, secondSet);
+
+        // Then
+        assertThat(actualIntersectionSet, instanceOf(SortedSet.class));
+        assertThat(((SortedSet<String>) actualIntersectionSet).comparator(), is((Object) String.CASE_INSENSITIVE_ORDER));
+        assertThat(listFrom(actualIntersectionSet), is(listWith("B", "c", "D")));
+    }
+
+    @Test
+    public void shouldGiveTheSameResultsForSortedSetsAsForOtherIterables() throws Exception {
+        // Given
+        Random random = new Random(19);
+
+        for (int trial = 0; trial < 200; trial++) {
+            List<Iterable<Integer>> lists = new ArrayList<Iterable<Integer>>();
+            List<Iterable<Integer>> sortedSets = new ArrayList<Iterable<Integer>>();
+            for (int operand = 0, operands = 1 + random.nextInt(4); operand < operands; operand++) {
+                List<Integer> elements = new ArrayList<Integer>();
+                for (int element = 0, size = random.nextInt(20); element < size; element++) {
+                    elements.add(random.nextInt(30) - 10);
+                }
+                lists.add(listFrom(new TreeSet<Integer>(elements)));
+                sortedSets.add(new TreeSet<Integer>(elements));
+            }
+
+            // When
+            // Then
+            assertThat(Sets.union(sortedSets), is(Sets.union(lists)));
+            assertThat(Sets.intersection(sortedSets), is(Sets.intersection(lists)));
+            assertThat(Sets.difference(sortedSets), is(Sets.difference(lists)));
+            assertThat(Sets.symmetricDifference(sortedSets), is(Sets.symmetricDifference(lists)));
+        }
+    }
 }
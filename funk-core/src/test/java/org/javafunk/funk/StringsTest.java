@@ -8,14 +8,20 @@
  */
 package org.javafunk.funk;
 
+import org.javafunk.funk.functors.Mapper;
 import org.junit.Test;
 
+import java.io.StringWriter;
+import java.nio.CharBuffer;
 import java.util.Collection;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Lazily.cycle;
 import static org.javafunk.funk.Literals.collectionWith;
+import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.funk.Strings.join;
+import static org.javafunk.funk.Strings.joining;
 
 public class StringsTest {
     @Test
@@ -51,4 +57,128 @@ public class StringsTest {
         // Then
         assertThat(joinedStrings, is("Goodbye"));
     }
+
+    @Test
+    public void shouldJoinNullElementsAsEmptyStrings() {
+        // Given
+        Collection<String> strings = collectionWith("First", null, "Third");
+
+        // When
+        String joinedStrings = join(strings, ",");
+
+        // Then
+        assertThat(joinedStrings, is("First,,Third"));
+    }
+
+    @Test
+    public void shouldSurroundTheJoinedElementsWithThePrefixAndSuffix() {
+        // Given
+        Iterable<Integer> integers = listWith(1, 2, 3);
+
+        // When
+        String joinedIntegers = joining(", ").withPrefix("[").withSuffix("]").join(integers);
+
+        // Then
+        assertThat(joinedIntegers, is("[1, 2, 3]"));
+    }
+
+    @Test
+    public void shouldFormatEachElementUsingTheSuppliedMapper() {
+        // Given
+        Iterable<Integer> integers = listWith(1, 2, 3);
+        Mapper<Integer, String> formatter = new Mapper<Integer, String>() {
+            @Override public String map(Integer input) {
+                return String.format("<%02d>", input);
+            }
+        };
+
+        // When
+        String joinedIntegers = joining("").formattedWith(formatter).join(integers);
+
+        // Then
+        assertThat(joinedIntegers, is("<01><02><03>"));
+    }
+
+    @Test
+    public void shouldWriteTheJoinedElementsIntoTheSuppliedAppendable() throws Exception {
+        // Given
+        Iterable<String> strings = listWith("a", "b", "c");
+        StringWriter writer = new StringWriter();
+        CharBuffer buffer = CharBuffer.allocate(16);
+
+        // When
+        joining(",").withSuffix("\n").appendTo(writer, strings);
+        joining(",").appendTo(buffer, strings);
+
+        // Then
+        assertThat(writer.toString(), is("a,b,c\n"));
+        assertThat(buffer.flip().toString(), is("a,b,c"));
+    }
+
+    @Test
+    public void shouldNotCountExistingContentOfTheSuppliedBuilderAsPartOfTheFirstElementWhenPresizing() {
+        // Given
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.append('x');
+        }
+        Iterable<String> strings = listWith("a", "b", "c", "d", "e", "f", "g", "h", "i", "j");
+
+        // When
+        joining(",").appendTo(builder, strings);
+
+        // Then
+        assertThat(builder.length(), is(1019));
+        assertThat(builder.capacity() < 4 * builder.length(), is(true));
+    }
+
+    @Test
+    public void shouldNotTruncateJoinedElementsThatFitWithinTheMaximumLength() {
+        // Given
+        Iterable<String> strings = listWith("abc", "def");
+
+        // When
+        String joinedStrings = joining(",").withPrefix("(").withSuffix(")").truncatedTo(9).join(strings);
+
+        // Then
+        assertThat(joinedStrings, is("(abc,def)"));
+    }
+
+    @Test
+    public void shouldTruncateJoinedElementsThatExceedTheMaximumLengthWithTheTruncationIndicator() {
+        // Given
+        Iterable<String> strings = listWith("abc", "def", "ghi");
+
+        // When
+        String joinedStrings = joining(",").withPrefix("(").withSuffix(")").truncatedTo(9).join(strings);
+        String joinedStringsWithIndicator = joining(",").truncatedTo(6, "~").join(strings);
+
+        // Then
+        assertThat(joinedStrings, is("(abc,...)"));
+        assertThat(joinedStrings.length() <= 9, is(true));
+        assertThat(joinedStringsWithIndicator, is("abc,d~"));
+    }
+
+    @Test
+    public void shouldStopRetrievingElementsOnceTheMaximumLengthIsExceeded() {
+        // Given
+        Iterable<String> infiniteStrings = cycle(listWith("ab", "cd"));
+
+        // When
+        String joinedStrings = joining(" ").truncatedTo(10).join(infiniteStrings);
+
+        // Then
+        assertThat(joinedStrings, is("ab cd a..."));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheMaximumLengthCannotHoldThePrefixSuffixAndTruncationIndicator() {
+        // Given
+        Iterable<String> strings = listWith("a", "b");
+
+        // When
+        joining(",").withPrefix("[").withSuffix("]").truncatedTo(4).join(strings);
+
+        // Then an IllegalArgumentException is thrown
+    }
 }
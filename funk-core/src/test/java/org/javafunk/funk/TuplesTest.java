@@ -10,6 +10,7 @@ import org.javafunk.funk.behaviours.ordinals.Seventh;
 import org.javafunk.funk.behaviours.ordinals.Sixth;
 import org.javafunk.funk.behaviours.ordinals.Third;
 import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.datastructures.tuples.PairColumns;
 import org.javafunk.funk.functors.Mapper;
 import org.javafunk.funk.testclasses.Age;
 import org.javafunk.funk.testclasses.Name;
@@ -304,4 +305,20 @@ public class TuplesTest {
         // Then
         assertThat(actual, hasOnlyItemsInOrder(expected));
     }
+
+    @Test
+    public void shouldProjectTheColumnsOfColumnarTuplesWithoutMappingEachTuple() throws Exception {
+        // Given
+        PairColumns<Integer, String> pairs = (PairColumns<Integer, String>) Eagerly.zip(
+                iterableWith(1, 2, 3), iterableWith("one", "two", "three"));
+
+        // When
+        Iterable<Integer> firsts = Tuples.firsts(pairs);
+        Iterable<String> seconds = Tuples.seconds(pairs);
+
+        // Then
+        assertThat(firsts == pairs.getFirsts(), is(true));
+        assertThat(seconds == pairs.getSeconds(), is(true));
+        assertThat(seconds, hasOnlyItemsInOrder("one", "two", "three"));
+    }
 }
@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.funk.Literals.multisetWith;
+
+public class CompactMultisetTest {
+    @Test
+    public void shouldCountOccurrencesOfEachElement() throws Exception {
+        // Given
+        CompactMultiset<String> multiset = new CompactMultiset<String>(listWith("a", "b", "a", "c", "a"));
+
+        // When
+        int countOfA = multiset.count("a");
+        int countOfB = multiset.count("b");
+        int countOfD = multiset.count("d");
+
+        // Then
+        assertThat(countOfA, is(3));
+        assertThat(countOfB, is(1));
+        assertThat(countOfD, is(0));
+        assertThat(multiset.size(), is(5));
+        assertThat(multiset.elementSet().size(), is(3));
+    }
+
+    @Test
+    public void shouldReturnThePreviousCountWhenAddingRemovingAndSettingCounts() throws Exception {
+        // Given
+        CompactMultiset<String> multiset = new CompactMultiset<String>();
+
+        // When
+        int countBeforeAdd = multiset.add("a", 4);
+        int countBeforeRemove = multiset.remove("a", 6);
+        int countBeforeSet = multiset.setCount("a", 2);
+        boolean setWhenMatching = multiset.setCount("a", 2, 5);
+        boolean setWhenNotMatching = multiset.setCount("a", 2, 7);
+
+        // Then
+        assertThat(countBeforeAdd, is(0));
+        assertThat(countBeforeRemove, is(4));
+        assertThat(countBeforeSet, is(0));
+        assertThat(setWhenMatching, is(true));
+        assertThat(setWhenNotMatching, is(false));
+        assertThat(multiset.count("a"), is(5));
+    }
+
+    @Test
+    public void shouldAllowNullElements() throws Exception {
+        // Given
+        CompactMultiset<String> multiset = new CompactMultiset<String>();
+
+        // When
+        multiset.add(null, 2);
+        multiset.add("a");
+
+        // Then
+        assertThat(multiset.count(null), is(2));
+        assertThat(multiset.contains(null), is(true));
+        assertThat(multiset, is((Multiset<String>) multisetWith(null, null, "a")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfNegativeOccurrencesAreAdded() throws Exception {
+        // Given
+        CompactMultiset<String> multiset = new CompactMultiset<String>();
+
+        // When
+        multiset.add("a", -1);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfACountWouldOverflow() throws Exception {
+        // Given
+        CompactMultiset<String> multiset = new CompactMultiset<String>();
+        multiset.add("a", Integer.MAX_VALUE);
+
+        // When
+        multiset.add("a", 1);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test
+    public void shouldRemoveOccurrencesThroughItsIterators() throws Exception {
+        // Given
+        CompactMultiset<String> multiset = new CompactMultiset<String>(listWith("a", "a", "b", "c", "c"));
+
+        // When
+        for (Iterator<String> iterator = multiset.iterator(); iterator.hasNext(); ) {
+            if (iterator.next().equals("a")) {
+                iterator.remove();
+            }
+        }
+        for (Iterator<String> iterator = multiset.elementSet().iterator(); iterator.hasNext(); ) {
+            if (iterator.next().equals("c")) {
+                iterator.remove();
+            }
+        }
+
+        // Then
+        assertThat(multiset, is((Multiset<String>) multisetWith("b")));
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void shouldFailFastWhenModifiedWhilstBeingIterated() throws Exception {
+        // Given
+        CompactMultiset<Integer> multiset = new CompactMultiset<Integer>(listWith(1, 1, 2));
+        Iterator<Integer> iterator = multiset.iterator();
+        iterator.next();
+
+        // When
+        for (int i = 3; i < 20; i++) {
+            multiset.add(i);
+        }
+        iterator.next();
+
+        // Then a ConcurrentModificationException is thrown
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void shouldFailFastWhenModifiedWhilstItsEntriesAreBeingIterated() throws Exception {
+        // Given
+        CompactMultiset<String> multiset = new CompactMultiset<String>(listWith("a", "b", "c"));
+        Iterator<Multiset.Entry<String>> iterator = multiset.entrySet().iterator();
+        iterator.next();
+
+        // When
+        multiset.remove("c");
+        iterator.next();
+
+        // Then a ConcurrentModificationException is thrown
+    }
+
+    @Test
+    public void shouldBeSerializable() throws Exception {
+        // Given
+        CompactMultiset<String> multiset = new CompactMultiset<String>(listWith("a", "a", null, "b"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // When
+        ObjectOutputStream output = new ObjectOutputStream(bytes);
+        output.writeObject(multiset);
+        output.close();
+        Object deserialized = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+
+        // Then
+        assertThat(deserialized, is((Object) multisetWith("a", "a", null, "b")));
+    }
+
+    @Test
+    public void shouldBeEqualToAndHaveTheSameHashCodeAndStringAsAHashMultisetWithTheSameCounts() throws Exception {
+        // Given
+        CompactMultiset<String> compactMultiset = new CompactMultiset<String>(listWith("a", "b", "a"));
+        Multiset<String> hashMultiset = HashMultiset.create(listWith("a", "b", "a"));
+
+        // When
+        boolean compactEqualsHash = compactMultiset.equals(hashMultiset);
+        boolean hashEqualsCompact = hashMultiset.equals(compactMultiset);
+
+        // Then
+        assertThat(compactEqualsHash, is(true));
+        assertThat(hashEqualsCompact, is(true));
+        assertThat(compactMultiset.hashCode(), is(hashMultiset.hashCode()));
+        assertThat(compactMultiset.entrySet(), is(hashMultiset.entrySet()));
+    }
+
+    @Test
+    public void shouldMergeCountsInPlace() throws Exception {
+        // Given
+        Multiset<String> other = multisetWith("a", "b", "b", "b", "d");
+        CompactMultiset<String> union = new CompactMultiset<String>(listWith("a", "a", "b", "c"));
+        CompactMultiset<String> intersection = new CompactMultiset<String>(listWith("a", "a", "b", "c"));
+        CompactMultiset<String> difference = new CompactMultiset<String>(listWith("a", "a", "b", "c"));
+        CompactMultiset<String> sum = new CompactMultiset<String>(listWith("a", "a", "b", "c"));
+
+        // When
+        union.unionWith(other);
+        intersection.intersectWith(other);
+        difference.subtract(other);
+        sum.sumWith(other);
+
+        // Then
+        assertThat(union, is((Multiset<String>) multisetWith("a", "a", "b", "b", "b", "c", "d")));
+        assertThat(intersection, is((Multiset<String>) multisetWith("a", "b")));
+        assertThat(difference, is((Multiset<String>) multisetWith("a", "c")));
+        assertThat(sum, is((Multiset<String>) multisetWith("a", "a", "a", "b", "b", "b", "b", "c", "d")));
+    }
+
+    @Test
+    public void shouldBehaveLikeAHashMultisetThroughGrowthAndRemoval() throws Exception {
+        // Given
+        Random random = new Random(20);
+        CompactMultiset<Integer> compactMultiset = new CompactMultiset<Integer>();
+        Multiset<Integer> hashMultiset = HashMultiset.create();
+
+        // When
+        for (int operation = 0; operation < 20000; operation++) {
+            Integer element = random.nextInt(500);
+            int occurrences = random.nextInt(3);
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertThat(compactMultiset.add(element, occurrences), is(hashMultiset.add(element, occurrences)));
+                    break;
+                case 1:
+                    assertThat(compactMultiset.remove(element, occurrences), is(hashMultiset.remove(element, occurrences)));
+                    break;
+                default:
+                    assertThat(compactMultiset.setCount(element, occurrences), is(hashMultiset.setCount(element, occurrences)));
+            }
+        }
+
+        // Then
+        assertThat(compactMultiset, is((Multiset<Integer>) hashMultiset));
+        assertThat(compactMultiset.elementSet(), is(hashMultiset.elementSet()));
+    }
+}
@@ -9,6 +9,7 @@
 package org.javafunk.funk.datastructures;
 
 import org.hamcrest.Matchers;
+import org.javafunk.funk.primitives.IntIterator;
 import org.junit.Test;
 
 import java.util.Collection;
@@ -337,4 +338,177 @@ public class IntegerRangeTest {
 
         // Then a NoSuchElementException is thrown.
     }
+
+    @Test
+    public void shouldYieldTheSameValuesFromThePrimitiveIteratorAsFromTheBoxedIterator() throws Exception {
+        // Given
+        IntegerRange range = new IntegerRange(10, -5, -4);
+
+        // When
+        IntIterator iterator = range.intIterator();
+
+        // Then
+        assertThat(iterator.nextInt(), is(10));
+        assertThat(iterator.nextInt(), is(6));
+        assertThat(iterator.nextInt(), is(2));
+        assertThat(iterator.nextInt(), is(-2));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldReturnAnEmptyPrimitiveIteratorIfTheStepIsInTheWrongDirection() throws Exception {
+        // Given
+        IntegerRange range = new IntegerRange(0, 10, -1);
+
+        // When
+        IntIterator iterator = range.intIterator();
+
+        // Then
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldCalculateTheSizeOfTheRangeWithoutIteratingOverIt() throws Exception {
+        // Given
+        IntegerRange stepped = new IntegerRange(0, 10, 3);
+        IntegerRange reversed = new IntegerRange(10, -10, -4);
+        IntegerRange empty = new IntegerRange(0, 10, -1);
+        IntegerRange everything = new IntegerRange(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        // When
+        long steppedSize = stepped.size();
+        long reversedSize = reversed.size();
+        long emptySize = empty.size();
+        long everythingSize = everything.size();
+
+        // Then
+        assertThat(steppedSize, is(4L));
+        assertThat(reversedSize, is(5L));
+        assertThat(emptySize, is(0L));
+        assertThat(everythingSize, is((long) Integer.MAX_VALUE - Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void shouldReturnTheValueAtTheSpecifiedIndex() throws Exception {
+        // Given
+        IntegerRange range = new IntegerRange(10, -10, -4);
+
+        // When
+        Integer first = range.get(0);
+        Integer last = range.get(4);
+
+        // Then
+        assertThat(first, is(10));
+        assertThat(last, is(-6));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowIndexOutOfBoundsExceptionIfTheIndexIsNotWithinTheRange() throws Exception {
+        // Given
+        IntegerRange range = new IntegerRange(0, 10, 3);
+
+        // When
+        range.get(4);
+
+        // Then an IndexOutOfBoundsException is thrown
+    }
+
+    @Test
+    public void shouldReturnTheIndexOfTheSpecifiedIntegerOrMinusOneIfItIsNotInTheRange() throws Exception {
+        // Given
+        IntegerRange range = new IntegerRange(10, -10, -4);
+
+        // When
+        long indexOfPresent = range.indexOf(-2);
+        long indexOfOffStep = range.indexOf(-3);
+        long indexOfEnd = range.indexOf(-10);
+        long indexOfLong = range.indexOf(-2L);
+
+        // Then
+        assertThat(indexOfPresent, is(3L));
+        assertThat(indexOfOffStep, is(-1L));
+        assertThat(indexOfEnd, is(-1L));
+        assertThat(indexOfLong, is(-1L));
+    }
+
+    @Test
+    public void shouldDetermineMembershipOfUnboundedRangesWithoutIteratingOverThem() throws Exception {
+        // Given
+        IntegerRange range = new IntegerRange(0, null, 7);
+
+        // When
+        boolean containsLargeMultiple = range.contains(Integer.MAX_VALUE - 1);
+        boolean containsLargeNonMultiple = range.contains(Integer.MAX_VALUE - 2);
+
+        // Then
+        assertThat(containsLargeMultiple, is(true));
+        assertThat(containsLargeNonMultiple, is(false));
+    }
+
+    @Test
+    public void shouldNotOverflowWhenIteratingUpToTheEndOfTheIntegerDomain() throws Exception {
+        // Given
+        IntegerRange range = new IntegerRange(Integer.MAX_VALUE - 5, null, 3);
+
+        // When
+        Collection<Integer> values = materialize(range);
+
+        // Then
+        assertThat(values, hasOnlyItemsInOrder(Integer.MAX_VALUE - 5, Integer.MAX_VALUE - 2));
+    }
+
+    @Test
+    public void shouldReturnAReversedViewOfTheRange() throws Exception {
+        // Given
+        IntegerRange range = new IntegerRange(0, 10, 3);
+
+        // When
+        IntegerRange reversed = range.reverse();
+
+        // Then
+        assertThat(reversed.getStart(), is(9));
+        assertThat(reversed.getStep(), is(-3));
+        assertThat(materialize(reversed), hasOnlyItemsInOrder(9, 6, 3, 0));
+    }
+
+    @Test
+    public void shouldReverseRangesStartingAtTheEndOfTheIntegerDomain() throws Exception {
+        // Given
+        IntegerRange range = new IntegerRange(Integer.MIN_VALUE, Integer.MIN_VALUE + 3);
+
+        // When
+        IntegerRange reversed = range.reverse();
+
+        // Then
+        assertThat(reversed.size(), is(3L));
+        assertThat(reversed.contains(Integer.MIN_VALUE), is(true));
+        assertThat(materialize(reversed), hasOnlyItemsInOrder(
+                Integer.MIN_VALUE + 2, Integer.MIN_VALUE + 1, Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void shouldReturnASubRangeBetweenTheSpecifiedIndices() throws Exception {
+        // Given
+        IntegerRange range = new IntegerRange(0, 20, 2);
+
+        // When
+        IntegerRange subRange = range.subRange(2, 5);
+
+        // Then
+        assertThat(subRange.size(), is(3L));
+        assertThat(subRange.getStart(), is(4));
+        assertThat(subRange.getEnd(), is(10));
+        assertThat(materialize(subRange), hasOnlyItemsInOrder(4, 6, 8));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowIndexOutOfBoundsExceptionIfSubRangeExtendsBeyondTheRange() throws Exception {
+        // Given
+        IntegerRange range = new IntegerRange(0, 20, 2);
+
+        // When
+        range.subRange(5, 11);
+
+        // Then an IndexOutOfBoundsException is thrown
+    }
 }
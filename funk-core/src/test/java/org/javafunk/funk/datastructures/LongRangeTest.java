@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.primitives.LongIterator;
+import org.junit.Test;
+
+import java.util.Collection;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class LongRangeTest {
+    @Test
+    public void shouldDefaultToAStartOfZeroAStepOfOneAndAnEndOfLongMax() throws Exception {
+        // Given
+        LongRange range = new LongRange(null, null);
+
+        // When
+        Long start = range.getStart();
+        Long end = range.getEnd();
+        Long step = range.getStep();
+
+        // Then
+        assertThat(start, is(0L));
+        assertThat(end, is(Long.MAX_VALUE));
+        assertThat(step, is(1L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowAnIllegalArgumentExceptionIfZeroIsSpecifiedForStepSize() throws Exception {
+        // When
+        new LongRange(0L, 10L, 0L);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowAnIllegalArgumentExceptionIfTheRangeWouldContainMoreThanLongMaxValues() throws Exception {
+        // When
+        new LongRange(Long.MIN_VALUE, Long.MAX_VALUE);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test
+    public void shouldIterateOverAllLongsInTheRangeSpacedByTheStepSize() throws Exception {
+        // Given
+        LongRange range = new LongRange(10L, -10L, -4L);
+
+        // When
+        Collection<Long> values = materialize(range);
+
+        // Then
+        assertThat(values, hasOnlyItemsInOrder(10L, 6L, 2L, -2L, -6L));
+    }
+
+    @Test
+    public void shouldYieldTheSameValuesFromThePrimitiveIteratorAsFromTheBoxedIterator() throws Exception {
+        // Given
+        LongRange range = new LongRange(Long.MAX_VALUE - 5, null, 3L);
+
+        // When
+        LongIterator iterator = range.longIterator();
+
+        // Then
+        assertThat(iterator.nextLong(), is(Long.MAX_VALUE - 5));
+        assertThat(iterator.nextLong(), is(Long.MAX_VALUE - 2));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldCalculateSizeAndPositionsAcrossTheWholeLongDomain() throws Exception {
+        // Given
+        LongRange range = new LongRange(Long.MIN_VALUE, Long.MAX_VALUE, 3L);
+
+        // When
+        long size = range.size();
+        Long last = range.get(size - 1);
+        long indexOfLast = range.indexOf(last);
+
+        // Then
+        assertThat(size, is(6148914691236517205L));
+        assertThat(last, is(Long.MAX_VALUE - 3));
+        assertThat(indexOfLast, is(size - 1));
+    }
+
+    @Test
+    public void shouldDetermineMembershipWithoutIteratingOverTheRange() throws Exception {
+        // Given
+        LongRange range = new LongRange(0L, null, 7L);
+
+        // When
+        boolean containsLargeMultiple = range.contains(7L * 1000000000000L);
+        boolean containsLargeNonMultiple = range.contains(7L * 1000000000000L + 1);
+        boolean containsInteger = range.contains(7);
+
+        // Then
+        assertThat(containsLargeMultiple, is(true));
+        assertThat(containsLargeNonMultiple, is(false));
+        assertThat(containsInteger, is(false));
+    }
+
+    @Test
+    public void shouldReturnAReversedViewOfTheRange() throws Exception {
+        // Given
+        LongRange range = new LongRange(0L, 10L, 3L);
+
+        // When
+        LongRange reversed = range.reverse();
+
+        // Then
+        assertThat(reversed.getEnd(), is(-3L));
+        assertThat(materialize(reversed), hasOnlyItemsInOrder(9L, 6L, 3L, 0L));
+    }
+
+    @Test
+    public void shouldReturnASubRangeBetweenTheSpecifiedIndices() throws Exception {
+        // Given
+        LongRange range = new LongRange(100L, 0L, -10L);
+
+        // When
+        LongRange subRange = range.subRange(1, 4);
+
+        // Then
+        assertThat(subRange.size(), is(3L));
+        assertThat(subRange.indexOf(70L), is(2L));
+        assertThat(materialize(subRange), hasOnlyItemsInOrder(90L, 80L, 70L));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowIndexOutOfBoundsExceptionIfTheIndexIsNotWithinTheRange() throws Exception {
+        // Given
+        LongRange range = new LongRange(0L, 10L);
+
+        // When
+        range.get(-1);
+
+        // Then an IndexOutOfBoundsException is thrown
+    }
+}
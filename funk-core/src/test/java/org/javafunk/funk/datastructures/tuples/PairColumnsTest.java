@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures.tuples;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.funk.Literals.tuple;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class PairColumnsTest {
+    @Test
+    public void shouldBehaveAsAListOfPairsFormedFromTheColumns() throws Exception {
+        // Given
+        List<Integer> firsts = listWith(1, 2, 3);
+        List<String> seconds = listWith("one", "two", "three");
+
+        // When
+        PairColumns<Integer, String> pairs = new PairColumns<Integer, String>(firsts, seconds);
+
+        // Then
+        assertThat(pairs.size(), is(3));
+        assertThat(pairs.get(1), is(tuple(2, "two")));
+        assertThat(pairs, hasOnlyItemsInOrder(tuple(1, "one"), tuple(2, "two"), tuple(3, "three")));
+        assertThat((List<Pair<Integer, String>>) pairs, is(listWith(tuple(1, "one"), tuple(2, "two"), tuple(3, "three"))));
+    }
+
+    @Test
+    public void shouldExposeEachColumn() throws Exception {
+        // Given
+        PairColumns<Integer, String> pairs = new PairColumns<Integer, String>(listWith(1, 2), listWith("one", "two"));
+
+        // When
+        List<Integer> firsts = pairs.getFirsts();
+        List<String> seconds = pairs.getSeconds();
+
+        // Then
+        assertThat(firsts, hasOnlyItemsInOrder(1, 2));
+        assertThat(seconds, hasOnlyItemsInOrder("one", "two"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowModification() throws Exception {
+        // Given
+        PairColumns<Integer, String> pairs = new PairColumns<Integer, String>(listWith(1), listWith("one"));
+
+        // When
+        pairs.add(tuple(2, "two"));
+
+        // Then an UnsupportedOperationException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheColumnsAreOfDifferentSizes() throws Exception {
+        // When
+        new PairColumns<Integer, String>(listWith(1, 2), listWith("one"));
+
+        // Then an IllegalArgumentException is thrown
+    }
+}
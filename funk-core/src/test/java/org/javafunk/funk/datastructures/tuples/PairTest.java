@@ -127,6 +127,66 @@ public class PairTest {
         assertThat(isEqual, is(false));
     }
 
+    @Test
+    public void shouldHaveTheSameHashCodeIfHasSameFirstAndSecond() {
+        // Given
+        Pair<Integer, String> pair1 = tuple(5, "Five");
+        Pair<Integer, String> pair2 = tuple(5, "Five");
+
+        // When
+        int hashCode1 = pair1.hashCode();
+        int hashCode2 = pair2.hashCode();
+
+        // Then
+        assertThat(hashCode1, is(hashCode2));
+    }
+
+    @Test
+    public void shouldBeEqualAndHaveTheSameHashCodeIfHasNullValuesInTheSamePositions() {
+        // Given
+        Pair<Integer, String> pair1 = tuple(null, "Five");
+        Pair<Integer, String> pair2 = tuple(null, "Five");
+
+        // When
+        Boolean isEqual = pair1.equals(pair2);
+
+        // Then
+        assertThat(isEqual, is(true));
+        assertThat(pair1.hashCode(), is(pair2.hashCode()));
+    }
+
+    @Test
+    public void shouldCompareArrayValuesByContents() {
+        // Given
+        Pair<Integer, int[]> pair1 = tuple(5, new int[]{1, 2, 3});
+        Pair<Integer, int[]> pair2 = tuple(5, new int[]{1, 2, 3});
+        Pair<Integer, int[]> pair3 = tuple(5, new int[]{1, 2, 4});
+
+        // When
+        Boolean isEqualToSameContents = pair1.equals(pair2);
+        Boolean isEqualToDifferentContents = pair1.equals(pair3);
+
+        // Then
+        assertThat(isEqualToSameContents, is(true));
+        assertThat(isEqualToDifferentContents, is(false));
+        assertThat(pair1.hashCode(), is(pair2.hashCode()));
+    }
+
+    @Test
+    public void shouldNotBeEqualToATripleWithTheSameFirstAndSecond() {
+        // Given
+        Pair<Integer, String> pair = tuple(5, "Five");
+        Triple<Integer, String, Boolean> triple = tuple(5, "Five", true);
+
+        // When
+        Boolean pairEqualsTriple = pair.equals(triple);
+        Boolean tripleEqualsPair = triple.equals(pair);
+
+        // Then
+        assertThat(pairEqualsTriple, is(false));
+        assertThat(tripleEqualsPair, is(false));
+    }
+
     @Test
     public void shouldBeIterable() {
         // Given
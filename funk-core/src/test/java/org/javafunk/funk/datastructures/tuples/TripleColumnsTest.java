@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures.tuples;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.funk.Literals.tuple;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class TripleColumnsTest {
+    @Test
+    public void shouldBehaveAsAListOfTriplesFormedFromTheColumnsAndExposeEachColumn() throws Exception {
+        // When
+        TripleColumns<Integer, String, Boolean> triples = new TripleColumns<Integer, String, Boolean>(
+                listWith(1, 2), listWith("one", "two"), listWith(true, false));
+
+        // Then
+        assertThat(triples, hasOnlyItemsInOrder(tuple(1, "one", true), tuple(2, "two", false)));
+        assertThat(triples.getFirsts(), hasOnlyItemsInOrder(1, 2));
+        assertThat(triples.getSeconds(), hasOnlyItemsInOrder("one", "two"));
+        assertThat(triples.getThirds(), hasOnlyItemsInOrder(true, false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheColumnsAreOfDifferentSizes() throws Exception {
+        // When
+        new TripleColumns<Integer, String, Boolean>(listWith(1, 2), listWith("one", "two"), listWith(true));
+
+        // Then an IllegalArgumentException is thrown
+    }
+}
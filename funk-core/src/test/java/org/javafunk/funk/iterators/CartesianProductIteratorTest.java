@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.javafunk.funk.Literals;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iterable;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
+
+public class CartesianProductIteratorTest {
+    @Test
+    public void shouldYieldEveryCombinationWithTheLastIterableVaryingFastest() throws Exception {
+        // Given
+        List<Iterable<?>> inputs = Literals.<Iterable<?>>listWith(
+                iterableWith(1, 2),
+                new LinkedList<String>(listWith("a", "b")),
+                iterableWith(true, false));
+
+        // When
+        Iterator<Iterable<?>> iterator = new CartesianProductIterator(inputs);
+
+        // Then
+        assertThat(iterator.next(), is((Object) listWith(1, "a", true)));
+        assertThat(iterator.next(), is((Object) listWith(1, "a", false)));
+        assertThat(iterator.next(), is((Object) listWith(1, "b", true)));
+        assertThat(iterator.next(), is((Object) listWith(1, "b", false)));
+        assertThat(iterator.next(), is((Object) listWith(2, "a", true)));
+        assertThat(iterator.next(), is((Object) listWith(2, "a", false)));
+        assertThat(iterator.next(), is((Object) listWith(2, "b", true)));
+        assertThat(iterator.next(), is((Object) listWith(2, "b", false)));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldNotBeAffectedByAlteringPreviouslyYieldedCombinations() throws Exception {
+        // Given
+        List<Iterable<?>> inputs = Literals.<Iterable<?>>listWith(iterableWith(1, 2), iterableWith("a"));
+        Iterator<Iterable<?>> iterator = new CartesianProductIterator(inputs);
+
+        // When
+        Iterable<?> first = iterator.next();
+        iterator.next();
+
+        // Then
+        assertThat(first, is((Object) listWith(1, "a")));
+    }
+
+    @Test
+    public void shouldHaveNoElementsIfAnyOfTheSuppliedIterablesIsEmpty() throws Exception {
+        // Given
+        List<Iterable<?>> inputs = Literals.<Iterable<?>>listWith(iterableWith(1, 2), iterableWith("a"), iterable());
+
+        // When
+        Iterator<Iterable<?>> iterator = new CartesianProductIterator(inputs);
+
+        // Then
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldYieldASingleEmptyCombinationIfNoIterablesAreSupplied() throws Exception {
+        // Given
+        List<Iterable<?>> inputs = Literals.<Iterable<?>>list();
+
+        // When
+        Iterator<Iterable<?>> iterator = new CartesianProductIterator(inputs);
+
+        // Then
+        assertThat(iterator.next().iterator().hasNext(), is(false));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionIfAllCombinationsHaveBeenYielded() throws Exception {
+        // Given
+        List<Iterable<?>> inputs = Literals.<Iterable<?>>listWith(iterableWith(1), iterableWith("a"));
+        Iterator<Iterable<?>> iterator = new CartesianProductIterator(inputs);
+        iterator.next();
+
+        // When
+        iterator.next();
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldThrowUnsupportedOperationExceptionIfRemoveIsCalled() throws Exception {
+        // Given
+        List<Iterable<?>> inputs = Literals.<Iterable<?>>listWith(iterableWith(1), iterableWith("a"));
+        Iterator<Iterable<?>> iterator = new CartesianProductIterator(inputs);
+        iterator.next();
+
+        // When
+        iterator.remove();
+
+        // Then an UnsupportedOperationException is thrown
+    }
+}
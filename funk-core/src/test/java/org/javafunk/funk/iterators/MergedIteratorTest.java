@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import com.google.common.collect.Ordering;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterators.asIterable;
+import static org.javafunk.funk.Iterators.emptyIterator;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class MergedIteratorTest {
+    @Test
+    public void shouldYieldTheElementsOfAllIteratorsInSortedOrder() throws Exception {
+        // Given
+        Iterator<Integer> firstIterator = iterableWith(1, 4, 7, 10).iterator();
+        Iterator<Integer> secondIterator = iterableWith(2, 5).iterator();
+        Iterator<Integer> thirdIterator = iterableWith(3, 6, 8, 9).iterator();
+
+        // When
+        Iterator<Integer> mergedIterator = new MergedIterator<Integer>(
+                listWith(firstIterator, secondIterator, thirdIterator), Ordering.<Integer>natural());
+
+        // Then
+        assertThat(asIterable(mergedIterator), hasOnlyItemsInOrder(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+    }
+
+    @Test
+    public void shouldYieldEqualElementsInTheOrderOfTheIteratorsThatSuppliedThem() throws Exception {
+        // Given
+        Iterator<String> firstIterator = iterableWith("a", "b", "c").iterator();
+        Iterator<String> secondIterator = iterableWith("A", "B").iterator();
+        Iterator<String> thirdIterator = iterableWith("b", "C").iterator();
+
+        // When
+        Iterator<String> mergedIterator = new MergedIterator<String>(
+                listWith(firstIterator, secondIterator, thirdIterator), String.CASE_INSENSITIVE_ORDER);
+
+        // Then
+        assertThat(asIterable(mergedIterator), hasOnlyItemsInOrder("a", "A", "b", "B", "b", "c", "C"));
+    }
+
+    @Test
+    public void shouldAllowEmptyIteratorsToBeSupplied() throws Exception {
+        // Given
+        Iterator<Integer> firstIterator = emptyIterator();
+        Iterator<Integer> secondIterator = iterableWith(2, 3).iterator();
+        Iterator<Integer> thirdIterator = emptyIterator();
+
+        // When
+        Iterator<Integer> mergedIterator = new MergedIterator<Integer>(
+                listWith(firstIterator, secondIterator, thirdIterator), Ordering.<Integer>natural());
+
+        // Then
+        assertThat(asIterable(mergedIterator), hasOnlyItemsInOrder(2, 3));
+    }
+
+    @Test
+    public void shouldNotAdvanceTheSuppliedIteratorsUntilAnElementIsRequested() throws Exception {
+        // Given
+        Iterator<Integer> firstIterator = iterableWith(1, 3).iterator();
+        Iterator<Integer> secondIterator = iterableWith(2).iterator();
+
+        // When
+        Iterator<Integer> mergedIterator = new MergedIterator<Integer>(
+                listWith(firstIterator, secondIterator), Ordering.<Integer>natural());
+
+        // Then
+        assertThat(firstIterator.next(), is(1));
+        assertThat(mergedIterator.next(), is(2));
+        assertThat(mergedIterator.next(), is(3));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionWhenAllIteratorsAreExhausted() throws Exception {
+        // Given
+        Iterator<Integer> firstIterator = iterableWith(1).iterator();
+        Iterator<Integer> secondIterator = emptyIterator();
+        Iterator<Integer> mergedIterator = new MergedIterator<Integer>(
+                listWith(firstIterator, secondIterator), Ordering.<Integer>natural());
+        mergedIterator.next();
+
+        // When
+        mergedIterator.next();
+
+        // Then a NoSuchElementException is thrown
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.streams;
+
+import org.javafunk.funk.datastructures.IntegerRange;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+class IntegerRangeSpliterator implements Spliterator.OfInt {
+    private final long start;
+    private final long step;
+    private long index;
+    private final long fence;
+
+    IntegerRangeSpliterator(IntegerRange range) {
+        this(range.getStart(), range.getStep(), 0, range.size());
+    }
+
+    private IntegerRangeSpliterator(long start, long step, long index, long fence) {
+        this.start = start;
+        this.step = step;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        checkNotNull(action);
+        if (index < fence) {
+            action.accept(valueAt(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        checkNotNull(action);
+        long current = index;
+        index = fence;
+        for (; current < fence; current++) {
+            action.accept(valueAt(current));
+        }
+    }
+
+    @Override
+    public OfInt trySplit() {
+        long remaining = fence - index;
+        if (remaining < 2) {
+            return null;
+        }
+        long middle = index + remaining / 2;
+        IntegerRangeSpliterator prefix = new IntegerRangeSpliterator(start, step, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        int characteristics = ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL | DISTINCT;
+        return (step > 0) ? characteristics | SORTED : characteristics;
+    }
+
+    @Override
+    public Comparator<? super Integer> getComparator() {
+        if (step > 0) {
+            return null;
+        }
+        throw new IllegalStateException();
+    }
+
+    private int valueAt(long position) {
+        return (int) (start + position * step);
+    }
+}
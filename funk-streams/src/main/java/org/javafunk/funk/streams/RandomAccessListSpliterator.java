@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.streams;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+class RandomAccessListSpliterator<T> implements Spliterator<T> {
+    private final List<T> list;
+    private int index;
+    private final int fence;
+
+    RandomAccessListSpliterator(List<T> list) {
+        this(list, 0, list.size());
+    }
+
+    private RandomAccessListSpliterator(List<T> list, int index, int fence) {
+        this.list = list;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        checkNotNull(action);
+        if (index < fence) {
+            action.accept(list.get(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        checkNotNull(action);
+        int current = index;
+        index = fence;
+        for (; current < fence; current++) {
+            action.accept(list.get(current));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int middle = (index + fence) >>> 1;
+        if (middle <= index) {
+            return null;
+        }
+        RandomAccessListSpliterator<T> prefix = new RandomAccessListSpliterator<T>(list, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
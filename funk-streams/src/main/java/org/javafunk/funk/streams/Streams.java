@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.streams;
+
+import org.javafunk.funk.datastructures.IntegerRange;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Bridges the lazy {@code Iterable} instances produced by Funk into the
+ * {@code java.util.stream} API.
+ *
+ * <p>Where the supplied {@code Iterable} knows its size and can address its
+ * elements by index, as is the case for an {@link IntegerRange} and for the
+ * random access lists returned by {@code Lazily.map}, {@code Lazily.zip},
+ * {@code Lazily.enumerate}, {@code Lazily.slice} and
+ * {@code Lazily.cartesianProduct} over random access lists, the resulting
+ * {@code Spliterator} is {@code SIZED} and {@code SUBSIZED} and splits evenly,
+ * allowing parallel streams to divide the work without first buffering the
+ * elements. Any other {@code Iterable} is streamed sequentially from its
+ * iterator with an unknown size.</p>
+ */
+public class Streams {
+    private Streams() {
+    }
+
+    public static <T> Stream<T> stream(Iterable<T> iterable) {
+        return StreamSupport.stream(spliterator(iterable), false);
+    }
+
+    public static <T> Stream<T> parallelStream(Iterable<T> iterable) {
+        return StreamSupport.stream(spliterator(iterable), true);
+    }
+
+    public static IntStream intStream(IntegerRange range) {
+        return StreamSupport.intStream(new IntegerRangeSpliterator(checkNotNull(range)), false);
+    }
+
+    public static IntStream parallelIntStream(IntegerRange range) {
+        return StreamSupport.intStream(new IntegerRangeSpliterator(checkNotNull(range)), true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Spliterator<T> spliterator(Iterable<T> iterable) {
+        checkNotNull(iterable);
+        if (iterable instanceof IntegerRange) {
+            return (Spliterator<T>) new IntegerRangeSpliterator((IntegerRange) iterable);
+        }
+        if (iterable instanceof List && iterable instanceof RandomAccess) {
+            return new RandomAccessListSpliterator<T>((List<T>) iterable);
+        }
+        if (iterable instanceof Collection) {
+            return ((Collection<T>) iterable).spliterator();
+        }
+        return Spliterators.spliteratorUnknownSize(iterable.iterator(), Spliterator.ORDERED);
+    }
+}
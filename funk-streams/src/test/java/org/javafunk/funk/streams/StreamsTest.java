@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.streams;
+
+import org.javafunk.funk.Lazily;
+import org.javafunk.funk.datastructures.IntegerRange;
+import org.javafunk.funk.functors.Mapper;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class StreamsTest {
+    @Test
+    public void shouldStreamIntegerRangeWithKnownSize() throws Exception {
+        // Given
+        IntegerRange range = new IntegerRange(10, -10, -3);
+
+        // When
+        Spliterator<Integer> spliterator = Streams.spliterator(range);
+        List<Integer> values = Streams.stream(range).collect(Collectors.toList());
+
+        // Then
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED), is(true));
+        assertThat(spliterator.getExactSizeIfKnown(), is(7L));
+        assertThat(values, hasOnlyItemsInOrder(10, 7, 4, 1, -2, -5, -8));
+    }
+
+    @Test
+    public void shouldStreamIntegerRangesReachingTheEndsOfTheIntegerDomain() throws Exception {
+        // Given
+        IntegerRange range = new IntegerRange(Integer.MAX_VALUE - 2, null);
+
+        // When
+        int[] values = Streams.intStream(range).toArray();
+
+        // Then
+        assertThat(values.length, is(2));
+        assertThat(values[1], is(Integer.MAX_VALUE - 1));
+    }
+
+    @Test
+    public void shouldSumIntegerRangeInParallel() throws Exception {
+        // Given
+        IntegerRange range = new IntegerRange(0, 100000, 3);
+        long expectedSum = 0;
+        for (int value : range) {
+            expectedSum += value;
+        }
+
+        // When
+        long actualSum = Streams.parallelIntStream(range).asLongStream().sum();
+
+        // Then
+        assertThat(actualSum, is(expectedSum));
+    }
+
+    @Test
+    public void shouldSplitLazilyMappedRandomAccessListsWithoutBuffering() throws Exception {
+        // Given
+        List<Integer> inputs = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            inputs.add(i);
+        }
+        Iterable<String> mapped = Lazily.map(inputs, new Mapper<Integer, String>() {
+            @Override public String map(Integer input) {
+                return String.valueOf(input);
+            }
+        });
+
+        // When
+        Spliterator<String> spliterator = Streams.spliterator(mapped);
+        Spliterator<String> prefix = spliterator.trySplit();
+        List<String> values = Streams.parallelStream(mapped).collect(Collectors.toList());
+
+        // Then
+        assertThat(prefix.getExactSizeIfKnown(), is(500L));
+        assertThat(spliterator.getExactSizeIfKnown(), is(500L));
+        assertThat(values.size(), is(1000));
+        assertThat(values.get(999), is("999"));
+    }
+
+    @Test
+    public void shouldStreamOtherIterablesInOrder() throws Exception {
+        // Given
+        Iterable<String> inputs = Lazily.repeat(iterableWith("a", "b"), 2);
+
+        // When
+        String joined = Streams.stream(inputs).collect(Collectors.joining());
+
+        // Then
+        assertThat(joined, is("abab"));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfIterableToStreamIsNull() throws Exception {
+        // Given
+        Iterable<String> inputs = null;
+
+        // When
+        Streams.stream(inputs);
+
+        // Then a NullPointerException is thrown
+    }
+}